@@ -0,0 +1,94 @@
+package fr.vulture.hostocars.configuration;
+
+import static java.util.Objects.nonNull;
+
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.repository.CarRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.ResponseCache;
+import lombok.SneakyThrows;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interceptor for the writing methods of the {@link CarRepository}, invalidating the written cars in the {@link CarCache} and all the responses of the
+ * {@link ResponseCache}.
+ * <br/>
+ * <br/>
+ * The cars are invalidated from the arguments of the methods: a {@link Car}, a {@link Car} ID or an {@link Iterable} of them. Any other writing method
+ * invalidates the whole car cache.
+ */
+@Aspect
+@Component
+public class CacheEvictionInterceptor {
+
+    private final CarCache carCache;
+    private final ResponseCache responseCache;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param responseCache
+     *     The autowired {@link ResponseCache} component
+     */
+    @Autowired
+    public CacheEvictionInterceptor(final CarCache carCache, final ResponseCache responseCache) {
+        this.carCache = carCache;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Resolves the intercepted writing method call, invalidating the written cars and the responses before it is performed.
+     *
+     * @param joinPoint
+     *     The intercepted method call
+     *
+     * @return the intercepted method result
+     */
+    @SneakyThrows
+    @Around("this(fr.vulture.hostocars.repository.CarRepository) && (execution(* save*(..)) || execution(* delete*(..)) || execution(* update*(..)))")
+    public Object invalidateCars(final ProceedingJoinPoint joinPoint) {
+        this.responseCache.invalidateAll();
+
+        final Object[] args = joinPoint.getArgs();
+        final Object target = args.length == 0 ? null : args[0];
+
+        if (target instanceof Car) {
+            this.invalidate((Car) target);
+        } else if (target instanceof Integer) {
+            this.carCache.invalidate((Integer) target);
+        } else if (target instanceof Iterable) {
+            for (final Object car : (Iterable<?>) target) {
+                if (car instanceof Car) {
+                    this.invalidate((Car) car);
+                } else if (car instanceof Integer) {
+                    this.carCache.invalidate((Integer) car);
+                } else {
+                    this.carCache.invalidateAll();
+                }
+            }
+        } else {
+            this.carCache.invalidateAll();
+        }
+
+        return joinPoint.proceed();
+    }
+
+    /**
+     * Invalidates a {@link Car}, unless it has not been inserted yet.
+     *
+     * @param car
+     *     The {@link Car} to invalidate
+     */
+    private void invalidate(final Car car) {
+        if (nonNull(car.getId())) {
+            this.carCache.invalidate(car.getId());
+        }
+    }
+
+}
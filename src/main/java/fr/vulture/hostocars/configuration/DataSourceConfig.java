@@ -0,0 +1,145 @@
+package fr.vulture.hostocars.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Configuration of the data source, routing the read-only transactions to a pool of read-only connections and everything else to a single writer
+ * connection, as SQLite only allows one writer at a time.
+ * <br/>
+ * <br/>
+ * The routed data source is wrapped in a lazy proxy, so the connection is only fetched on the first statement of a transaction, once its read-only flag is
+ * known. Both pools are configured by the {@code spring.datasource.hikari} properties and the configured {@link SqlitePreset}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+    private static final String WRITER_POOL_NAME = "writer";
+    private static final String READER_POOL_NAME = "reader";
+    private static final String READER_INIT_SQL = "PRAGMA query_only = 1";
+
+    /**
+     * Creates the data source used by the application, routing the connections between a writer and a reader pool.
+     *
+     * @param properties
+     *     The properties of the data source
+     * @param environment
+     *     The environment of the application
+     * @param preset
+     *     The value of the {@link SqlitePreset} to apply to the connections
+     * @param readerPoolSize
+     *     The maximum number of read-only connections
+     *
+     * @return the routing data source
+     */
+    @Bean
+    public ReadWriteDataSource dataSource(final DataSourceProperties properties, final Environment environment, @Value("${sqlite.preset}") final String preset,
+        @Value("${sqlite.readers.pool-size}") final int readerPoolSize) {
+        final Binder binder = Binder.get(environment);
+        final SqlitePreset sqlitePreset = SqlitePreset.fromValue(preset);
+
+        final HikariDataSource writerPool = createPool(properties, binder, WRITER_POOL_NAME, 1);
+        SqlitePragmaPostProcessor.applyPreset(writerPool, sqlitePreset);
+
+        final HikariDataSource readerPool = createPool(properties, binder, READER_POOL_NAME, readerPoolSize);
+        readerPool.setConnectionInitSql(READER_INIT_SQL);
+        SqlitePragmaPostProcessor.applyPreset(readerPool, sqlitePreset);
+
+        return new ReadWriteDataSource(writerPool, readerPool);
+    }
+
+    /**
+     * Creates a connection pool from the properties of the data source and the {@code spring.datasource.hikari} properties.
+     *
+     * @param properties
+     *     The properties of the data source
+     * @param binder
+     *     The binder of the properties of the pool
+     * @param poolName
+     *     The name of the pool
+     * @param poolSize
+     *     The maximum number of connections
+     *
+     * @return the connection pool
+     */
+    static HikariDataSource createPool(@NonNull final DataSourceProperties properties, @NonNull final Binder binder, @NonNull final String poolName,
+        final int poolSize) {
+        final HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMaximumPoolSize(poolSize);
+        return pool;
+    }
+
+    /**
+     * Lazy data source routing the connections of the read-only transactions to the reader pool, and all the others to the writer pool. Both pools are
+     * closed with it.
+     */
+    @Getter
+    public static class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private final HikariDataSource writerPool;
+        private final HikariDataSource readerPool;
+
+        /**
+         * Valued constructor.
+         *
+         * @param writerPool
+         *     The pool of the writes and of the statements run outside of a transaction
+         * @param readerPool
+         *     The pool of the read-only transactions
+         */
+        public ReadWriteDataSource(@NonNull final HikariDataSource writerPool, @NonNull final HikariDataSource readerPool) {
+            this.writerPool = writerPool;
+            this.readerPool = readerPool;
+
+            final RoutingDataSource routingDataSource = new RoutingDataSource();
+            routingDataSource.setTargetDataSources(Map.of(WRITER_POOL_NAME, writerPool, READER_POOL_NAME, readerPool));
+            routingDataSource.setDefaultTargetDataSource(writerPool);
+            routingDataSource.afterPropertiesSet();
+
+            this.setTargetDataSource(routingDataSource);
+            this.afterPropertiesSet();
+        }
+
+        /**
+         * Closes both pools.
+         */
+        @Override
+        public void close() {
+            this.readerPool.close();
+            this.writerPool.close();
+        }
+
+    }
+
+    /**
+     * Data source routing the connections by the read-only flag of the current transaction.
+     */
+    static class RoutingDataSource extends AbstractRoutingDataSource {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READER_POOL_NAME : WRITER_POOL_NAME;
+        }
+
+    }
+
+}
@@ -1,12 +1,18 @@
 package fr.vulture.hostocars.configuration;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.PAYLOAD_TOO_LARGE;
 
+import io.undertow.server.RequestTooBigException;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Interceptor for exceptions.
@@ -32,4 +38,39 @@ public class ExceptionInterceptor {
         return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(Objects.isNull(message) ? className : className + ": " + message);
     }
 
+    /**
+     * Resolves the intercepted {@link ResponseStatusException} by returning an HTTP response with its status and its reason as the body.
+     *
+     * @param exception
+     *     The intercepted exception
+     *
+     * @return an HTTP response with the exception status
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<String> resolveResponseStatus(final ResponseStatusException exception) {
+        log.warn("A request has been rejected: {}", exception.getMessage());
+
+        return ResponseEntity.status(exception.getStatus()).body(exception.getReason());
+    }
+
+    /**
+     * Resolves the intercepted {@link MultipartException} by returning a {@code 413} HTTP response if the request is too large, else a {@code 400} HTTP
+     * response.
+     *
+     * @param exception
+     *     The intercepted exception
+     *
+     * @return a {@code 413} or {@code 400} HTTP response
+     */
+    @ExceptionHandler(MultipartException.class)
+    public ResponseEntity<String> resolveMultipart(final MultipartException exception) {
+        log.warn("A multipart request has been rejected: {}", exception.getMessage());
+
+        if (exception instanceof MaxUploadSizeExceededException || exception.getMostSpecificCause() instanceof RequestTooBigException) {
+            return ResponseEntity.status(PAYLOAD_TOO_LARGE).body("Maximum upload size exceeded");
+        }
+
+        return ResponseEntity.status(BAD_REQUEST).body(exception.getMostSpecificCause().getMessage());
+    }
+
 }
@@ -1,10 +1,10 @@
 package fr.vulture.hostocars.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import fr.vulture.hostocars.service.MetricsRegistry;
 import java.lang.reflect.Method;
 import java.util.concurrent.ConcurrentHashMap;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -13,19 +13,35 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
  * Interceptor for methods annotated with the {@link Loggable} annotation.
+ * <br/>
+ * <br/>
+ * Every call is recorded in the {@link MetricsRegistry}, whether it is logged or not.
  */
 @Slf4j
 @Aspect
 @Component
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class LoggableMethodInterceptor {
 
-    private static final ConcurrentHashMap<String, Logger> loggerMap = new ConcurrentHashMap<>(0);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ConcurrentHashMap<Class<?>, Logger> loggerMap = new ConcurrentHashMap<>(0);
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new Hibernate5Module());
+
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param metricsRegistry
+     *     The autowired {@link MetricsRegistry} component
+     */
+    @Autowired
+    public LoggableMethodInterceptor(final MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
 
     /**
      * Resolves the intercepted loggable method call.
@@ -37,12 +53,11 @@ public final class LoggableMethodInterceptor {
      */
     @SneakyThrows
     @Around("@annotation(fr.vulture.hostocars.configuration.Loggable)")
-    public static Object logMethod(final ProceedingJoinPoint joinPoint) {
+    public Object logMethod(final ProceedingJoinPoint joinPoint) {
         final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
         final Loggable loggable = method.getAnnotation(Loggable.class);
-        final Class<?> methodClass = method.getDeclaringClass();
-        final String methodClassName = methodClass.getCanonicalName();
-        final Logger logger = loggerMap.getOrDefault(methodClassName, loggerMap.put(methodClassName, LoggerFactory.getLogger(methodClass)));
+        final Logger logger = loggerMap.computeIfAbsent(method.getDeclaringClass(), LoggerFactory::getLogger);
+        final MetricsRegistry.Recorder recorder = this.metricsRegistry.getRecorder(method);
 
         if (!loggable.debug() || logger.isDebugEnabled()) {
             final String methodName = method.getName();
@@ -52,24 +67,52 @@ public final class LoggableMethodInterceptor {
                 logger.trace("{} <= {}", methodName, writeValueAsJson(joinPoint.getArgs()));
             }
 
-            final long startTime = System.currentTimeMillis();
-            final Object result = joinPoint.proceed();
-            final long endTime = System.currentTimeMillis();
+            final long startTime = recorder.start();
+            final Object result = proceed(joinPoint, recorder, startTime);
+            // Logged in milliseconds with a microsecond precision
+            final double duration = recorder.stop(startTime, false) / 1_000L / 1_000.0;
 
             if (isTraceEnabled) {
                 logger.trace("{} => {}", methodName, writeValueAsJson(result));
             }
 
             if (loggable.debug()) {
-                logger.debug("{} [{}ms]", methodName, endTime - startTime);
+                logger.debug("{} [{}ms]", methodName, duration);
             } else {
-                logger.info("{} [{}ms]", methodName, endTime - startTime);
+                logger.info("{} [{}ms]", methodName, duration);
             }
 
             return result;
         }
 
-        return joinPoint.proceed();
+        final long startTime = recorder.start();
+        final Object result = proceed(joinPoint, recorder, startTime);
+        recorder.stop(startTime, false);
+        return result;
+    }
+
+    /**
+     * Proceeds with the intercepted method call, recording its end as failed if it throws an exception.
+     *
+     * @param joinPoint
+     *     The intercepted method call
+     * @param recorder
+     *     The {@link MetricsRegistry.Recorder} of the method
+     * @param startTime
+     *     The start time of the call
+     *
+     * @return the intercepted method result
+     *
+     * @throws Throwable
+     *     The exception thrown by the intercepted method
+     */
+    private static Object proceed(final ProceedingJoinPoint joinPoint, final MetricsRegistry.Recorder recorder, final long startTime) throws Throwable {
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable throwable) {
+            recorder.stop(startTime, true);
+            throw throwable;
+        }
     }
 
     /**
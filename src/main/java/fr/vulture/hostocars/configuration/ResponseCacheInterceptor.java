@@ -0,0 +1,70 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.ResponseCache.CachedResponse;
+import java.io.IOException;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor answering the {@link HttpMethod#GET} requests whose response is in the {@link ResponseCache}, before any transaction is opened.
+ * <br/>
+ * <br/>
+ * A request whose {@code If-None-Match} header matches the cached response is answered with a {@code 304 Not Modified} response, else the cached content is
+ * written as is.
+ */
+@Component
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    private final ResponseCache responseCache;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param responseCache
+     *     The autowired {@link ResponseCache} component
+     */
+    @Autowired
+    public ResponseCacheInterceptor(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean preHandle(@NonNull final HttpServletRequest request, @NonNull final HttpServletResponse response, @NonNull final Object handler)
+        throws IOException {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        final Optional<CachedResponse> cachedResponse = this.responseCache.find(ResponseCache.toKey(request));
+        if (cachedResponse.isEmpty()) {
+            return true;
+        }
+
+        final CachedResponse content = cachedResponse.get();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(content.getETag())) {
+            return false;
+        }
+
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setContentLength(content.getContent().length);
+        response.getOutputStream().write(content.getContent());
+        return false;
+    }
+
+}
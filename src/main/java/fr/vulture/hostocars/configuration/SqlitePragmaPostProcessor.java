@@ -0,0 +1,66 @@
+package fr.vulture.hostocars.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import java.util.Properties;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post processor of the pooled data sources, passing the pragmas of the configured {@link SqlitePreset} to the SQLite driver, which applies them to each
+ * pooled connection when it is opened. The pools of the application data source are configured the same way by the {@link DataSourceConfig}.
+ * <br/>
+ * <br/>
+ * A pragma already set through the {@code spring.datasource.hikari.data-source-properties} properties overrides the one of the preset.
+ */
+@Slf4j
+@Component
+public class SqlitePragmaPostProcessor implements BeanPostProcessor {
+
+    private final SqlitePreset preset;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param preset
+     *     The value of the {@link SqlitePreset} to apply, among {@code safe}, {@code balanced} and {@code fast}
+     */
+    @Autowired
+    public SqlitePragmaPostProcessor(@Value("${sqlite.preset}") final String preset) {
+        this.preset = SqlitePreset.fromValue(preset);
+    }
+
+    /**
+     * Sets the pragmas of a preset as properties of the connections of a data source, unless they are already set.
+     *
+     * @param dataSource
+     *     The data source
+     * @param preset
+     *     The {@link SqlitePreset} to apply
+     */
+    static void applyPreset(@NonNull final HikariDataSource dataSource, @NonNull final SqlitePreset preset) {
+        final Properties properties = dataSource.getDataSourceProperties();
+        for (final Map.Entry<String, String> pragma : preset.toPragmas().entrySet()) {
+            properties.putIfAbsent(pragma.getKey(), pragma.getValue());
+        }
+
+        log.info("Applying the {} SQLite preset: {}", preset.getValue(), properties);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName) {
+        if (bean instanceof HikariDataSource) {
+            applyPreset((HikariDataSource) bean, this.preset);
+        }
+
+        return bean;
+    }
+
+}
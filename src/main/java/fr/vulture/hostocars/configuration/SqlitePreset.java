@@ -0,0 +1,86 @@
+package fr.vulture.hostocars.configuration;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Named sets of the SQLite pragmas applied to each pooled connection, trading durability for throughput.
+ */
+@Getter
+@AllArgsConstructor
+public enum SqlitePreset {
+
+    /**
+     * Rollback journal, synced on each commit: a write blocks the readers, and no committed transaction is lost on a power failure.
+     */
+    SAFE("safe", "DELETE", "FULL", 0L, -2_000, "DEFAULT", 5_000),
+
+    /**
+     * Write-ahead log, synced on each checkpoint: the readers are not blocked by a write, and no committed transaction is lost on an application crash,
+     * though the last ones may be lost on a power failure.
+     */
+    BALANCED("balanced", "WAL", "NORMAL", 268_435_456L, -16_000, "MEMORY", 5_000),
+
+    /**
+     * Write-ahead log, never synced: the fastest writes, at the cost of the last transactions, or of a corrupted database, on a power failure.
+     */
+    FAST("fast", "WAL", "OFF", 1_073_741_824L, -64_000, "MEMORY", 5_000);
+
+    private final String value;
+
+    private final String journalMode;
+
+    private final String synchronous;
+
+    // In bytes
+    private final long mmapSize;
+
+    // In pages if positive, else in kibibytes
+    private final int cacheSize;
+
+    private final String tempStore;
+
+    // In milliseconds
+    private final int busyTimeout;
+
+    /**
+     * Returns the {@link SqlitePreset} matching the given value.
+     *
+     * @param value
+     *     The value of the {@link SqlitePreset}
+     *
+     * @return the matching {@link SqlitePreset}
+     *
+     * @throws IllegalArgumentException
+     *     if no {@link SqlitePreset} matches the value
+     */
+    public static SqlitePreset fromValue(@NonNull final String value) {
+        return Arrays.stream(values())
+            .filter(preset -> preset.value.equals(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Unsupported SQLite preset " + value + ", expected one of " + Arrays.stream(values()).map(SqlitePreset::getValue).collect(Collectors.toList())));
+    }
+
+    /**
+     * Lists the pragmas of the preset, by name of the matching property of the SQLite driver.
+     *
+     * @return the pragma values, by property name
+     */
+    public Map<String, String> toPragmas() {
+        final Map<String, String> pragmas = new LinkedHashMap<>();
+        pragmas.put("journal_mode", this.journalMode);
+        pragmas.put("synchronous", this.synchronous);
+        pragmas.put("mmap_size", String.valueOf(this.mmapSize));
+        pragmas.put("cache_size", String.valueOf(this.cacheSize));
+        pragmas.put("temp_store", this.tempStore);
+        pragmas.put("busy_timeout", String.valueOf(this.busyTimeout));
+        return pragmas;
+    }
+
+}
@@ -2,12 +2,32 @@ package fr.vulture.hostocars.configuration;
 
 import static java.util.Objects.nonNull;
 
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.resource.PathResourceResolver;
@@ -18,6 +38,29 @@ import org.springframework.web.servlet.resource.PathResourceResolver;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ResponseCacheInterceptor responseCacheInterceptor;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param responseCacheInterceptor
+     *     The autowired {@link ResponseCacheInterceptor} component
+     */
+    @Autowired
+    public WebMvcConfig(final ResponseCacheInterceptor responseCacheInterceptor) {
+        this.responseCacheInterceptor = responseCacheInterceptor;
+    }
+
+    /**
+     * Creates the Jackson module writing the associations which are not fetched as {@code null}, instead of fetching them.
+     *
+     * @return the Jackson module
+     */
+    @Bean
+    public Module hibernateModule() {
+        return new Hibernate5Module();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -27,13 +70,124 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/**/*").addResourceLocations("classpath:/static/").resourceChain(true).addResolver(new CustomPathResourceResolver());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Loggable(debug = true)
+    @Override
+    public void addInterceptors(@NonNull final InterceptorRegistry registry) {
+        registry.addInterceptor(this.responseCacheInterceptor);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Loggable(debug = true)
     @Override
     public void addCorsMappings(final CorsRegistry registry) {
-        registry.addMapping("/**").allowedHeaders("*").exposedHeaders("Location");
+        registry.addMapping("/**").allowedHeaders("*").exposedHeaders("Location", "Link", "ETag");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Loggable(debug = true)
+    @Override
+    public void extendMessageConverters(@NonNull final List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> {
+            if (converter.getClass() == ResourceHttpMessageConverter.class) {
+                return new FileResourceHttpMessageConverter();
+            }
+
+            return converter.getClass() == ResourceRegionHttpMessageConverter.class ? new FileResourceRegionHttpMessageConverter() : converter;
+        });
+    }
+
+    /**
+     * Transfers a part of a file to an output stream. The transfer is delegated to the kernel when the stream is an Undertow one and the part reaches the end of
+     * the file, else the file channel is transferred to a channel wrapping the stream.
+     *
+     * @param file
+     *     The file to transfer
+     * @param position
+     *     The position of the part
+     * @param count
+     *     The length of the part
+     * @param output
+     *     The output stream
+     *
+     * @throws IOException
+     *     if the file cannot be read or the stream cannot be written
+     */
+    static void transfer(final File file, final long position, final long count, final OutputStream output) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (output instanceof ServletOutputStreamImpl && position + count >= channel.size()) {
+                channel.position(position);
+                ((ServletOutputStreamImpl) output).transferFrom(channel);
+                return;
+            }
+
+            final WritableByteChannel target = Channels.newChannel(output);
+            long transferred = 0;
+            while (transferred < count) {
+                final long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+
+                transferred += written;
+            }
+        }
+    }
+
+    /**
+     * Custom implementation of the {@link ResourceHttpMessageConverter} class, transferring the files without copying them in memory.
+     */
+    static class FileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void writeContent(@NonNull final Resource resource, @NonNull final HttpOutputMessage outputMessage) throws IOException {
+            if (resource.isFile()) {
+                final File file = resource.getFile();
+                transfer(file, 0, file.length(), outputMessage.getBody());
+            } else {
+                super.writeContent(resource, outputMessage);
+            }
+        }
+
+    }
+
+    /**
+     * Custom implementation of the {@link ResourceRegionHttpMessageConverter} class, transferring the file regions without copying them in memory.
+     */
+    static class FileResourceRegionHttpMessageConverter extends ResourceRegionHttpMessageConverter {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void writeResourceRegion(@NonNull final ResourceRegion region, @NonNull final HttpOutputMessage outputMessage) throws IOException {
+            final Resource resource = region.getResource();
+            if (!resource.isFile()) {
+                super.writeResourceRegion(region, outputMessage);
+                return;
+            }
+
+            final File file = resource.getFile();
+            final long length = file.length();
+            final long start = region.getPosition();
+            final long end = Math.min(start + region.getCount(), length) - 1;
+
+            final HttpHeaders headers = outputMessage.getHeaders();
+            headers.add(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + length);
+            headers.setContentLength(end - start + 1);
+
+            transfer(file, start, end - start + 1, outputMessage.getBody());
+        }
+
     }
 
     /**
@@ -1,10 +1,25 @@
 package fr.vulture.hostocars.controller;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.dto.CarSummary;
+import fr.vulture.hostocars.dto.Cursor;
 import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.repository.CarGraph;
 import fr.vulture.hostocars.repository.CarRepository;
+import fr.vulture.hostocars.repository.InterventionRepository;
+import fr.vulture.hostocars.service.BlobStore;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.CarImporter;
+import fr.vulture.hostocars.service.RegistrationIndex;
+import fr.vulture.hostocars.service.ThumbnailService;
+import fr.vulture.hostocars.service.WriteQueue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -14,15 +29,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.tags.Tags;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import javax.servlet.http.HttpServletRequest;
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -30,66 +59,293 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
- * REST controller for cars.
+ * REST controller for cars. The reads are run in read-only transactions, and the writes are queued to the single writer connection.
  */
-@Transactional
+@Transactional(readOnly = true)
 @RestController
 @CrossOrigin(origins = "*")
 @RequestMapping("/cars")
 @Tags(@Tag(name = "Cars", description = "Services related to cars."))
 public class CarController {
 
+    private static final String ID_SORTING_FIELD = "id";
+    private static final int DEFAULT_SUGGESTION_COUNT = 10;
+    private static final int MAX_SUGGESTION_COUNT = 50;
+    // Each deletion statement binds all the IDs, below the 999 variables of a SQLite statement
+    private static final int MAX_DELETED_CAR_COUNT = 500;
+
+    // The allowed sorting fields, each one backed by an index, with the getter of their value
+    private static final Map<String, Function<Car, String>> SORTING_FIELDS = Map.of(
+        ID_SORTING_FIELD, car -> String.valueOf(car.getId()),
+        "registration", Car::getRegistration,
+        "owner", Car::getOwner,
+        "brand", Car::getBrand,
+        "model", Car::getModel,
+        "releaseDate", Car::getReleaseDate);
+
+    // The fields set by a patch, the others being read-only or written by their own endpoints
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+        "registration", String.class,
+        "serialNumber", String.class,
+        "owner", String.class,
+        "brand", String.class,
+        "model", String.class,
+        "motorization", String.class,
+        "engineCode", String.class,
+        "releaseDate", String.class,
+        "comments", String.class);
+    private static final Set<String> REQUIRED_FIELDS = Set.of("registration", "owner");
+
     private final CarRepository repository;
+    private final InterventionRepository interventionRepository;
     private final ControllerHelper helper;
+    private final BlobStore blobStore;
+    private final ThumbnailService thumbnailService;
+    private final RegistrationIndex registrationIndex;
+    private final CarCache carCache;
+    private final WriteQueue writeQueue;
+    private final CarImporter carImporter;
 
     /**
      * Valued autowired constructor.
      *
      * @param repository
      *     The autowired {@link CarRepository} component
+     * @param interventionRepository
+     *     The autowired {@link InterventionRepository} component
      * @param helper
      *     The autowired {@link ControllerHelper} component
+     * @param blobStore
+     *     The autowired {@link BlobStore} component
+     * @param thumbnailService
+     *     The autowired {@link ThumbnailService} component
+     * @param registrationIndex
+     *     The autowired {@link RegistrationIndex} component
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component
+     * @param carImporter
+     *     The autowired {@link CarImporter} component
      */
     @Autowired
-    public CarController(final CarRepository repository, final ControllerHelper helper) {
+    public CarController(final CarRepository repository, final InterventionRepository interventionRepository, final ControllerHelper helper,
+        final BlobStore blobStore, final ThumbnailService thumbnailService, final RegistrationIndex registrationIndex, final CarCache carCache,
+        final WriteQueue writeQueue, final CarImporter carImporter) {
         this.repository = repository;
+        this.interventionRepository = interventionRepository;
         this.helper = helper;
+        this.blobStore = blobStore;
+        this.thumbnailService = thumbnailService;
+        this.registrationIndex = registrationIndex;
+        this.carCache = carCache;
+        this.writeQueue = writeQueue;
+        this.carImporter = carImporter;
     }
 
     /**
      * Retrieves the list of all the {@link Car} from the database. A list of sorting fields can also be specified.
+     * <br/>
+     * <br/>
+     * If a limit or a cursor is specified, a single page is retrieved instead, sorted by at most one field then by ID. The response then carries a
+     * {@code Link} header to the next page, if any.
+     * <br/>
+     * <br/>
+     * The associations are not fetched, unless an expansion depth is specified.
      *
      * @param sortingFields
      *     The optional sorting clause fields
+     * @param expand
+     *     The depth up to which the associations are fetched
+     * @param limit
+     *     The optional page size
+     * @param cursor
+     *     The optional cursor of the page, as given by the previous page
      *
      * @return an HTTP response
      */
     @Loggable
     @GetMapping
-    @Operation(summary = "Gets all cars.", description = "Retrieves the list of all the cars from the database. A list of sorting fields can also be specified.",
+    @Operation(summary = "Gets all cars.",
+        description = "Retrieves the list of all the cars from the database. A list of sorting fields can also be specified. If a limit or a cursor is specified, a "
+            + "single page sorted by at most one field is retrieved, with a link to the next page. The interventions, operations and operation lines are only "
+            + "retrieved up to the specified expansion depth.",
         responses = @ApiResponse(description = "At least one car has been found.", responseCode = "200",
             content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = Car.class)))))
-    public ResponseEntity<Collection<Car>> getCars(@Parameter(description = "The sorting fields.") @RequestParam(required = false) final String... sortingFields) {
-        return this.helper.resolveGetCollectionResponse(() -> Objects.isNull(sortingFields) ? this.repository.findAll() : this.repository.findAll(Sort.by(sortingFields)));
+    public ResponseEntity<?> getCars(@Parameter(description = "The sorting fields.") @RequestParam(required = false) final String[] sortingFields,
+        @Parameter(description = "The expansion depth, among none, interventions, operations and lines.") @RequestParam(defaultValue = "none") final String expand,
+        @Parameter(description = "The page size.") @RequestParam(required = false) final Integer limit,
+        @Parameter(description = "The page cursor.") @RequestParam(required = false) final String cursor) {
+        checkSortingFields(sortingFields);
+        final CarGraph graph = resolveGraph(expand);
+
+        if (isNull(limit) && isNull(cursor)) {
+            return this.helper.resolveGetCollectionResponse(() -> this.repository.findAll(isNull(sortingFields) ? Sort.unsorted() : Sort.by(sortingFields), graph));
+        }
+
+        if (nonNull(sortingFields) && sortingFields.length > 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A page can only be sorted by a single field");
+        }
+
+        final String sortingField = isNull(sortingFields) || sortingFields.length == 0 ? ID_SORTING_FIELD : sortingFields[0];
+        final int pageSize = ControllerHelper.resolvePageSize(limit);
+        final Cursor position = isNull(cursor) ? null : ControllerHelper.decodeCursor(cursor, sortingField);
+        final Function<Car, String> valueGetter = SORTING_FIELDS.get(sortingField);
+
+        return this.helper.resolveGetPageResponse(() -> this.repository.findPage(sortingField, position, pageSize + 1, graph), pageSize,
+            car -> new Cursor(sortingField, valueGetter.apply(car), car.getId()).encode());
     }
 
     /**
-     * Retrieves the {@link Car} with the given ID from the database.
+     * Retrieves the list of the summaries of all the {@link Car} from the database. A list of sorting fields can also be specified.
+     *
+     * @param sortingFields
+     *     The optional sorting clause fields
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/summaries")
+    @Operation(summary = "Gets all car summaries.",
+        description = "Retrieves the list of the summaries of all the cars from the database, without their files nor their interventions. A list of sorting fields can "
+            + "also be specified.",
+        responses = @ApiResponse(description = "At least one car has been found.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CarSummary.class)))))
+    public ResponseEntity<?> getCarSummaries(
+        @Parameter(description = "The sorting fields.") @RequestParam(required = false) final String... sortingFields) {
+        checkSortingFields(sortingFields);
+        return this.helper.resolveGetCollectionResponse(() -> this.repository.findAllSummaries(isNull(sortingFields) ? Sort.unsorted() : Sort.by(sortingFields)));
+    }
+
+    /**
+     * Retrieves the suggestions of the {@link Car} whose registration or serial number matches a partial input, from the in-memory {@link RegistrationIndex}.
+     *
+     * @param prefix
+     *     The partial registration or serial number
+     * @param limit
+     *     The optional maximum number of suggestions
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggests cars.",
+        description = "Retrieves the cars whose registration or serial number starts with or contains the specified input, ignoring the case and the separators. "
+            + "The cars starting with the input come first.",
+        responses = @ApiResponse(description = "At least one car has been found.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CarSuggestion.class)))))
+    public ResponseEntity<?> getCarSuggestions(
+        @Parameter(description = "The partial registration or serial number.", required = true) @RequestParam @NonNull final String prefix,
+        @Parameter(description = "The maximum number of suggestions.") @RequestParam(required = false) final Integer limit) {
+        if (nonNull(limit) && (limit < 1 || limit > MAX_SUGGESTION_COUNT)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The limit must be between 1 and " + MAX_SUGGESTION_COUNT);
+        }
+
+        return this.helper.resolveGetCollectionResponse(() -> this.registrationIndex.find(prefix, isNull(limit) ? DEFAULT_SUGGESTION_COUNT : limit));
+    }
+
+    /**
+     * Retrieves the {@link Car} with the given ID from the database, with all its associations unless a lower expansion depth is specified.
      *
      * @param id
      *     The {@link Car} ID
+     * @param expand
+     *     The depth up to which the associations are fetched
      *
      * @return an HTTP response
      */
     @Loggable
     @GetMapping("/{id}")
-    @Operation(summary = "Gets a car by its ID.", description = "Retrieves the car corresponding to the specified ID from the database.",
+    @Operation(summary = "Gets a car by its ID.",
+        description = "Retrieves the car corresponding to the specified ID from the database. The interventions, operations and operation lines are only retrieved "
+            + "up to the specified expansion depth.",
         responses = @ApiResponse(description = "A car has been found.", responseCode = "200",
             content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = Car.class))))
-    public ResponseEntity<Car> getCarById(@Parameter(description = "The car ID to search.", required = true) @PathVariable @NonNull final Integer id) {
-        return this.helper.resolveGetResponse(() -> this.repository.findById(id));
+    public ResponseEntity<Car> getCarById(@Parameter(description = "The car ID to search.", required = true) @PathVariable @NonNull final Integer id,
+        @Parameter(description = "The expansion depth, among none, interventions, operations and lines.") @RequestParam(defaultValue = "lines") final String expand) {
+        final CarGraph graph = resolveGraph(expand);
+        return this.helper.resolveGetResponse(() -> this.carCache.find(id, graph, () -> this.repository.findById(id, graph)));
+    }
+
+    /**
+     * Retrieves a page of the {@link Intervention} of the {@link Car} with the given ID, sorted by year and number, with their operations and operation
+     * lines. The response carries a {@code Link} header to the next page, if any.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param limit
+     *     The optional page size
+     * @param cursor
+     *     The optional cursor of the page, as given by the previous page
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/{id}/interventions")
+    @Operation(summary = "Gets the interventions of a car.",
+        description = "Retrieves a page of the interventions of the car corresponding to the specified ID, sorted by year and number, with a link to the next page.",
+        responses = @ApiResponse(description = "At least one intervention has been found.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = Intervention.class)))))
+    public ResponseEntity<Collection<Intervention>> getCarInterventions(@Parameter(description = "The ID of the car.", required = true) @PathVariable @NonNull final Integer id,
+        @Parameter(description = "The page size.") @RequestParam(required = false) final Integer limit,
+        @Parameter(description = "The page cursor.") @RequestParam(required = false) final String cursor) {
+        final int pageSize = ControllerHelper.resolvePageSize(limit);
+        final int[] position = isNull(cursor) ? null : ControllerHelper.decodeInterventionCursor(cursor);
+
+        return this.helper.resolveGetPageResponse(() -> {
+            this.checkExistence(id);
+
+            final PageRequest page = PageRequest.of(0, pageSize + 1);
+            final List<Integer> ids = isNull(position)
+                ? this.interventionRepository.findFirstPageIdsByCarId(id, page)
+                : this.interventionRepository.findPageIdsByCarId(id, position[0], position[1], position[2], page);
+
+            return ids.isEmpty() ? Collections.emptyList() : this.interventionRepository.findAllWithLinesByIdIn(ids);
+        }, pageSize, ControllerHelper::encodeInterventionCursor);
+    }
+
+    /**
+     * Retrieves the certificate file of the {@link Car} with the given ID from the blob store.
+     *
+     * @param id
+     *     The {@link Car} ID
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/{id}/certificate")
+    @Operation(summary = "Gets the certificate of a car.", description = "Retrieves the certificate file of the car corresponding to the specified ID from the blob store.",
+        responses = @ApiResponse(description = "A certificate has been found.", responseCode = "200",
+            content = @Content(mediaType = "*/*", schema = @Schema(type = "string", format = "binary"))))
+    public ResponseEntity<Resource> getCarCertificate(@Parameter(description = "The car ID to search.", required = true) @PathVariable @NonNull final Integer id) {
+        return this.helper.resolveGetFileResponse(() -> Optional.ofNullable(this.repository.findCertificateHashById(id)).flatMap(this.blobStore::find));
+    }
+
+    /**
+     * Retrieves the picture file of the {@link Car} with the given ID from the blob store, or one of its thumbnails if a size is specified. No transaction is
+     * opened, as a missing thumbnail is built before being served.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param size
+     *     The optional thumbnail size
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/{id}/picture")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Gets the picture of a car.",
+        description = "Retrieves the picture file of the car corresponding to the specified ID from the blob store. A thumbnail size can also be specified.",
+        responses = @ApiResponse(description = "A picture has been found.", responseCode = "200",
+            content = @Content(mediaType = "*/*", schema = @Schema(type = "string", format = "binary"))))
+    public ResponseEntity<Resource> getCarPicture(@Parameter(description = "The car ID to search.", required = true) @PathVariable @NonNull final Integer id,
+        @Parameter(description = "The thumbnail size, in pixels.") @RequestParam(required = false) final Integer size) {
+        return this.helper.resolveGetFileResponse(() -> Optional.ofNullable(this.repository.findPictureHashById(id))
+            .flatMap(hash -> isNull(size) ? this.blobStore.find(hash) : this.thumbnailService.find(hash, size)));
     }
 
     /**
@@ -102,14 +358,40 @@ public class CarController {
      */
     @Loggable
     @PostMapping
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Operation(summary = "Inserts a new car.", description = "Inserts a new car in the database.",
         responses = @ApiResponse(description = "The car has been inserted successfully.", responseCode = "201", content = @Content))
     public ResponseEntity<?> createCar(@Parameter(required = true) @RequestBody @NonNull final Car car) {
-        return this.helper.resolvePostResponse(() -> "/cars/" + this.repository.save(car).getId());
+        return this.helper.resolvePostResponse(() -> this.writeQueue.submit(() -> {
+            final Car savedCar = this.repository.save(car);
+            this.registrationIndex.put(new CarSuggestion(savedCar.getId(), savedCar.getRegistration(), savedCar.getSerialNumber()));
+            return "/cars/" + savedCar.getId();
+        }));
     }
 
     /**
-     * Updates a {@link Car} with the given REST call body in the database.
+     * Inserts new {@link Car} in bulk in the database, from a JSON array or from NDJSON lines streamed from the REST call body. Their interventions are not
+     * inserted.
+     *
+     * @param request
+     *     The bulk insertion request
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @SneakyThrows
+    @PostMapping(path = "/bulk", consumes = {APPLICATION_JSON_VALUE, CarImporter.NDJSON_MEDIA_TYPE})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Inserts cars in bulk.",
+        description = "Inserts the cars of a JSON array or of NDJSON lines in the database, without their interventions, and reports the ID or the error of each one.",
+        responses = @ApiResponse(description = "The cars have been processed.", responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkResult.class)))))
+    public ResponseEntity<Collection<BulkResult>> createCars(@NonNull final HttpServletRequest request) {
+        return ResponseEntity.ok(this.carImporter.importCars(request.getInputStream(), isNdjson(request)));
+    }
+
+    /**
+     * Updates a {@link Car} with the given REST call body in the database. Its files are kept, as well as its interventions if they were not expanded.
      *
      * @param car
      *     The {@link Car} to update
@@ -118,14 +400,242 @@ public class CarController {
      */
     @Loggable
     @PutMapping
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Operation(summary = "Updates a car.", description = "Updates an existing car in the database.",
         responses = @ApiResponse(description = "The car has been updated successfully.", responseCode = "201", content = @Content))
     public ResponseEntity<?> updateCar(@Parameter(required = true) @RequestBody @NonNull final Car car) {
-        return this.helper.resolvePutResponse(() -> this.repository.save(car));
+        return this.helper.resolvePutResponse(() -> this.writeQueue.submit(() -> {
+            if (isNull(car.getInterventions()) && nonNull(car.getId())) {
+                // The existing interventions are not fetched, so they are left untouched by the merge
+                this.repository.findById(car.getId()).ifPresent(existingCar -> car.setInterventions(existingCar.getInterventions()));
+            }
+
+            final Car savedCar = this.repository.save(car);
+            this.registrationIndex.put(new CarSuggestion(savedCar.getId(), savedCar.getRegistration(), savedCar.getSerialNumber()));
+        }));
     }
 
     /**
-     * Deletes a {@link Car} in the database by its ID.
+     * Updates the given fields of a {@link Car} in the database from the REST call body, as a JSON Merge Patch. The car is updated by a single statement
+     * setting only the given fields, without being loaded, and its interventions and files are left untouched.
+     *
+     * @param id
+     *     The ID of the {@link Car}
+     * @param patch
+     *     The members of the patch
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PatchMapping(path = "/{id}", consumes = {ControllerHelper.MERGE_PATCH_MEDIA_TYPE, APPLICATION_JSON_VALUE})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Patches a car.",
+        description = "Updates the fields of the car corresponding to the specified ID given in a JSON Merge Patch, a null value clearing its field.",
+        responses = @ApiResponse(description = "The car has been updated successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> patchCar(@Parameter(description = "The ID of the car.", required = true) @PathVariable @NonNull final Integer id,
+        @Parameter(required = true) @RequestBody @NonNull final Map<String, Object> patch) {
+        final Map<String, Object> changes = ControllerHelper.resolvePatch(patch, PATCHABLE_FIELDS, REQUIRED_FIELDS);
+
+        return this.helper.resolvePutResponse(() -> {
+            if (changes.isEmpty()) {
+                this.checkExistence(id);
+                return;
+            }
+
+            this.writeQueue.submit(() -> {
+                if (this.repository.updateById(id, changes) == 0) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No car found with the ID " + id);
+                }
+
+                if (changes.containsKey("registration") || changes.containsKey("serialNumber")) {
+                    this.repository.findSuggestionById(id).ifPresent(this.registrationIndex::put);
+                }
+            });
+        });
+    }
+
+    /**
+     * Inserts a {@link Car} or updates the existing one with the given registration in the database, by a single statement, from the REST call body. Its
+     * interventions and files are left untouched.
+     *
+     * @param registration
+     *     The registration of the {@link Car}
+     * @param car
+     *     The {@link Car} to upsert
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PutMapping("/by-registration/{registration}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Upserts a car by registration.", description = "Inserts a car, or updates the existing car with the same registration.",
+        responses = {@ApiResponse(description = "The car has been inserted successfully.", responseCode = "201", content = @Content),
+            @ApiResponse(description = "The car has been updated successfully.", responseCode = "204", content = @Content)})
+    public ResponseEntity<?> upsertCarByRegistration(@Parameter(description = "The registration of the car.", required = true) @PathVariable @NonNull final String registration,
+        @Parameter(required = true) @RequestBody @NonNull final Car car) {
+        if (nonNull(car.getRegistration()) && !registration.equals(car.getRegistration())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The registration of the car does not match the path");
+        }
+
+        car.setRegistration(registration);
+        final BulkResult result = this.carImporter.upsertCar(car);
+        return result.getCreated() ? this.helper.resolvePostResponse(() -> "/cars/" + result.getId()) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Inserts {@link Car} or updates the existing ones with the same registrations in bulk in the database, from a JSON array or from NDJSON lines streamed
+     * from the REST call body. Their interventions and files are left untouched.
+     *
+     * @param request
+     *     The bulk upsert request
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @SneakyThrows
+    @PutMapping(path = "/by-registration", consumes = {APPLICATION_JSON_VALUE, CarImporter.NDJSON_MEDIA_TYPE})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Upserts cars by registration in bulk.",
+        description = "Inserts the cars of a JSON array or of NDJSON lines, or updates the existing cars with the same registrations, and reports the ID, the creation or the error of each one.",
+        responses = @ApiResponse(description = "The cars have been processed.", responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkResult.class)))))
+    public ResponseEntity<Collection<BulkResult>> upsertCarsByRegistration(@NonNull final HttpServletRequest request) {
+        return ResponseEntity.ok(this.carImporter.upsertCars(request.getInputStream(), isNdjson(request)));
+    }
+
+    /**
+     * Uploads the certificate file of a {@link Car} in the blob store, from a multipart or raw REST call body streamed to the disk.
+     * <br/>
+     * <br/>
+     * No transaction is opened while the file is uploaded, so the database is not locked meanwhile.
+     *
+     * @param id
+     *     The ID of the {@link Car}
+     * @param request
+     *     The upload request
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PutMapping("/{id}/certificate")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Uploads the certificate of a car.",
+        description = "Uploads the certificate file of the car corresponding to the specified ID, given as a multipart or raw request body.",
+        responses = @ApiResponse(description = "The certificate has been uploaded successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> uploadCarCertificate(@Parameter(description = "The ID of the car.", required = true) @PathVariable @NonNull final Integer id,
+        @NonNull final HttpServletRequest request) {
+        return this.helper.resolvePutResponse(() -> {
+            this.checkExistence(id);
+            final String hash = this.blobStore.store(this.helper.resolveUploadStream(request));
+            this.writeQueue.submit(() -> checkUpdated(this.repository.updateCertificateHashById(id, hash), id));
+        });
+    }
+
+    /**
+     * Uploads the picture file of a {@link Car} in the blob store, from a multipart or raw REST call body streamed to the disk, then schedules the build of its
+     * thumbnails.
+     * <br/>
+     * <br/>
+     * No transaction is opened while the file is uploaded, so the database is not locked meanwhile.
+     *
+     * @param id
+     *     The ID of the {@link Car}
+     * @param request
+     *     The upload request
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PutMapping("/{id}/picture")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Uploads the picture of a car.",
+        description = "Uploads the picture file of the car corresponding to the specified ID, given as a multipart or raw request body.",
+        responses = @ApiResponse(description = "The picture has been uploaded successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> uploadCarPicture(@Parameter(description = "The ID of the car.", required = true) @PathVariable @NonNull final Integer id,
+        @NonNull final HttpServletRequest request) {
+        return this.helper.resolvePutResponse(() -> {
+            this.checkExistence(id);
+
+            final String hash = this.blobStore.store(this.helper.resolveUploadStream(request));
+            // Throws if the car has been deleted meanwhile, so no thumbnail is built for it
+            this.writeQueue.submit(() -> checkUpdated(this.repository.updatePictureHashById(id, hash), id));
+            this.thumbnailService.schedule(hash);
+        });
+    }
+
+    /**
+     * Checks that the {@link Car} with the given ID exists, before reading an uploaded file or applying an empty patch.
+     *
+     * @param id
+     *     The {@link Car} ID
+     */
+    private void checkExistence(final Integer id) {
+        if (!this.repository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No car found with the ID " + id);
+        }
+    }
+
+    /**
+     * Checks that a statement updating a {@link Car} by its ID has found it.
+     *
+     * @param updateCount
+     *     The number of updated rows
+     * @param id
+     *     The {@link Car} ID
+     */
+    private static void checkUpdated(final int updateCount, final Integer id) {
+        if (updateCount == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No car found with the ID " + id);
+        }
+    }
+
+    /**
+     * Checks that the given sorting fields are allowed, so no sorting falls back to a full scan of the table.
+     *
+     * @param sortingFields
+     *     The sorting fields
+     */
+    private static void checkSortingFields(final String[] sortingFields) {
+        if (nonNull(sortingFields)) {
+            for (final String sortingField : sortingFields) {
+                if (!SORTING_FIELDS.containsKey(sortingField)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported sorting field " + sortingField + ", expected one of " + new TreeSet<>(SORTING_FIELDS.keySet()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves the depth up to which the associations are fetched.
+     *
+     * @param expand
+     *     The expansion depth
+     *
+     * @return the matching {@link CarGraph}
+     */
+    private static CarGraph resolveGraph(final String expand) {
+        try {
+            return CarGraph.fromValue(expand);
+        } catch (final IllegalArgumentException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Checks whether the body of a bulk request is made of NDJSON lines rather than of a JSON array.
+     *
+     * @param request
+     *     The bulk request
+     *
+     * @return whether its body is made of NDJSON lines
+     */
+    private static boolean isNdjson(final HttpServletRequest request) {
+        return MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(CarImporter.NDJSON_MEDIA_TYPE));
+    }
+
+    /**
+     * Deletes a {@link Car} in the database by its ID, along with its interventions, operations and operation lines, by a constant number of statements.
      *
      * @param id
      *     The ID of the {@link Car} to delete
@@ -134,10 +644,77 @@ public class CarController {
      */
     @Loggable
     @DeleteMapping("/{id}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Operation(summary = "Deletes a car by its ID.", description = "Deletes the car corresponding to the specified ID from the database.",
         responses = @ApiResponse(description = "The car has been deleted successfully.", responseCode = "204", content = @Content))
     public ResponseEntity<?> deleteCarById(@Parameter(description = "The ID of the car to delete.", required = true) @PathVariable @NonNull final Integer id) {
-        return this.helper.resolveDeleteResponse(() -> this.repository.deleteById(id));
+        return this.helper.resolveDeleteResponse(() -> this.writeQueue.submit(() -> {
+            if (this.repository.deleteAllByIdIn(List.of(id)) == 0) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No car found with the ID " + id);
+            }
+
+            this.registrationIndex.remove(id);
+        }));
+    }
+
+    /**
+     * Deletes {@link Car} in bulk in the database by their IDs, along with their interventions, operations and operation lines, by a constant number of
+     * statements. The IDs of missing cars are ignored.
+     *
+     * @param ids
+     *     The IDs of the {@link Car} to delete
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @DeleteMapping
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Deletes cars by their IDs.", description = "Deletes the cars corresponding to the specified IDs from the database.",
+        responses = @ApiResponse(description = "The cars have been deleted successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> deleteCarsByIds(@Parameter(description = "The IDs of the cars to delete.", required = true) @RequestParam @NonNull final List<Integer> ids) {
+        final Set<Integer> deletedIds = new TreeSet<>(ids);
+        if (deletedIds.isEmpty() || deletedIds.size() > MAX_DELETED_CAR_COUNT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and " + MAX_DELETED_CAR_COUNT + " car IDs are expected");
+        }
+
+        return this.helper.resolveDeleteResponse(() -> this.writeQueue.submit(() -> {
+            this.repository.deleteAllByIdIn(deletedIds);
+            deletedIds.forEach(this.registrationIndex::remove);
+        }));
+    }
+
+    /**
+     * Deletes the certificate file of a {@link Car} in the database by its ID.
+     *
+     * @param id
+     *     The ID of the {@link Car}
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @DeleteMapping("/{id}/certificate")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Deletes the certificate of a car.", description = "Deletes the certificate file of the car corresponding to the specified ID from the database.",
+        responses = @ApiResponse(description = "The certificate has been deleted successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> deleteCarCertificate(@Parameter(description = "The ID of the car.", required = true) @PathVariable @NonNull final Integer id) {
+        return this.helper.resolveDeleteResponse(() -> this.writeQueue.submit(() -> checkUpdated(this.repository.updateCertificateHashById(id, null), id)));
+    }
+
+    /**
+     * Deletes the picture file of a {@link Car} in the database by its ID.
+     *
+     * @param id
+     *     The ID of the {@link Car}
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @DeleteMapping("/{id}/picture")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Deletes the picture of a car.", description = "Deletes the picture file of the car corresponding to the specified ID from the database.",
+        responses = @ApiResponse(description = "The picture has been deleted successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> deleteCarPicture(@Parameter(description = "The ID of the car.", required = true) @PathVariable @NonNull final Integer id) {
+        return this.helper.resolveDeleteResponse(() -> this.writeQueue.submit(() -> checkUpdated(this.repository.updatePictureHashById(id, null), id)));
     }
 
 }
@@ -1,17 +1,55 @@
 package fr.vulture.hostocars.controller;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.service.RequestCoalescer;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.ResponseCache.CachedResponse;
+import io.undertow.server.RequestTooBigException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+import javax.servlet.http.HttpServletRequest;
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Helper for controllers.
@@ -19,6 +57,15 @@ import org.springframework.stereotype.Controller;
 @Controller
 class ControllerHelper {
 
+    private static final int MEDIA_TYPE_HEADER_LENGTH = 12;
+    private static final String CURSOR_PARAMETER = "cursor";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String INTERVENTIONS_CURSOR_FIELD = "interventions";
+    private static final String INTERVENTIONS_CURSOR_SEPARATOR = ",";
+
+    static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+
     @NonNull
     @Value("${server.address}")
     private String serverAddress;
@@ -27,8 +74,20 @@ class ControllerHelper {
     @Value("${server.port}")
     private String serverPort;
 
+    @NonNull
+    @Value("${blobs.max-size}")
+    private DataSize maxUploadSize;
+
+    @NonNull
+    @Autowired
+    private ResponseCache responseCache;
+
+    @NonNull
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
     /**
-     * Resolves a {@link HttpMethod#GET} method response from an {@link Optional} result.
+     * Resolves a {@link HttpMethod#GET} method response from an {@link Optional} result. The identical concurrent requests share the same response.
      *
      * @param executable
      *     The executable to perform
@@ -40,24 +99,104 @@ class ControllerHelper {
     @Loggable(debug = true)
     @SneakyThrows
     <T> ResponseEntity<T> resolveGetResponse(final Callable<Optional<T>> executable) {
-        return ResponseEntity.of(executable.call());
+        return this.coalesce(() -> ResponseEntity.of(executable.call()));
     }
 
     /**
      * Resolves a {@link HttpMethod#GET} method response from a {@link Collection} of results.
+     * <br/>
+     * <br/>
+     * The identical concurrent requests share the same response. The response is written to the {@link ResponseCache} with the change stamp read before the
+     * results, so the next identical requests are answered from it until the database is written. The response carries the hash of its content as
+     * {@code ETag} header, and its body is the cached content, so that the results are serialized once.
      *
      * @param executable
      *     The executable to perform
+     *
+     * @return an {@link HttpStatus#OK} response if the result is not empty, else a {@link HttpStatus#NO_CONTENT} response
+     */
+    @Loggable(debug = true)
+    @SneakyThrows
+    ResponseEntity<?> resolveGetCollectionResponse(final Callable<? extends Collection<?>> executable) {
+        return this.coalesce(() -> {
+            final long stamp = this.responseCache.getStamp();
+            final Collection<?> result = executable.call();
+            if (result.isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+
+            final HttpServletRequest request = getCurrentRequest();
+            if (isNull(request)) {
+                return ResponseEntity.ok(result);
+            }
+
+            final CachedResponse response = this.responseCache.put(ResponseCache.toKey(request), stamp, result);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(response.getETag()).contentType(MediaType.APPLICATION_JSON)
+                .body(response.getContent());
+        });
+    }
+
+    /**
+     * Resolves a {@link HttpMethod#GET} method response from a page of results, fetched with one more result than the page size to know whether a next page
+     * exists.
+     * <br/>
+     * <br/>
+     * If there is a next page, the response carries a {@code Link} header to it, made of the current request URI with its {@code cursor} parameter
+     * replaced by the cursor of the last result of the page. The identical concurrent requests share the same response.
+     *
+     * @param executable
+     *     The executable to perform
+     * @param limit
+     *     The page size
+     * @param cursorFactory
+     *     The function building the encoded cursor of a result
      * @param <T>
      *     The type of the result
      *
-     * @return an {@link HttpStatus#OK} response
+     * @return an {@link HttpStatus#OK} response if the page is not empty, else a {@link HttpStatus#NO_CONTENT} response
      */
     @Loggable(debug = true)
     @SneakyThrows
-    <T> ResponseEntity<Collection<T>> resolveGetCollectionResponse(final Callable<? extends Collection<T>> executable) {
-        final Collection<T> result = executable.call();
-        return result.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(result);
+    <T> ResponseEntity<Collection<T>> resolveGetPageResponse(final Callable<List<T>> executable, final int limit, @NonNull final Function<T, String> cursorFactory) {
+        return this.coalesce(() -> {
+            final List<T> result = executable.call();
+            if (result.isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+
+            if (result.size() <= limit) {
+                return ResponseEntity.ok(result);
+            }
+
+            final List<T> page = result.subList(0, limit);
+            final String nextUri = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam(CURSOR_PARAMETER, cursorFactory.apply(page.get(limit - 1)))
+                .toUriString();
+            return ResponseEntity.ok().header(HttpHeaders.LINK, '<' + nextUri + ">; rel=\"next\"").body(new ArrayList<>(page));
+        });
+    }
+
+    /**
+     * Resolves a {@link HttpMethod#GET} method response from an {@link Optional} stored file, whose name is the hash of its content.
+     * <br/>
+     * <br/>
+     * The response carries the detected content type and the hash as {@code ETag} header, so conditional requests are answered with a
+     * {@link HttpStatus#NOT_MODIFIED} response and {@code Range} requests with a {@link HttpStatus#PARTIAL_CONTENT} response.
+     *
+     * @param executable
+     *     The executable to perform
+     *
+     * @return an {@link HttpStatus#OK} response if the file is present, else a {@link HttpStatus#NOT_FOUND} response
+     */
+    @Loggable(debug = true)
+    @SneakyThrows
+    ResponseEntity<Resource> resolveGetFileResponse(final Callable<Optional<Path>> executable) {
+        return executable.call()
+            .map(file -> ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(detectMediaType(readHeader(file)))
+                .eTag(file.getFileName().toString())
+                .body((Resource) new FileSystemResource(file)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
@@ -104,4 +243,344 @@ class ControllerHelper {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Opens the stream of an uploaded file, being either the single file of a multipart request or the raw request body.
+     * <br/>
+     * <br/>
+     * A raw body is rejected with a {@link HttpStatus#PAYLOAD_TOO_LARGE} status as soon as it is known to exceed the maximum upload size, either from its
+     * {@code Content-Length} header or while it is read.
+     *
+     * @param request
+     *     The upload request
+     *
+     * @return the stream of the uploaded file
+     */
+    @SneakyThrows
+    InputStream resolveUploadStream(@NonNull final HttpServletRequest request) {
+        if (request instanceof MultipartHttpServletRequest) {
+            final Iterator<MultipartFile> files = ((MultipartHttpServletRequest) request).getFileMap().values().iterator();
+            if (!files.hasNext()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No file found in the multipart request");
+            }
+
+            return files.next().getInputStream();
+        }
+
+        final long maxSize = this.maxUploadSize.toBytes();
+        if (request.getContentLengthLong() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Maximum upload size exceeded");
+        }
+
+        return new SizeLimitedInputStream(request.getInputStream(), maxSize);
+    }
+
+    /**
+     * Resolves the size of a page, defaulting to {@link #DEFAULT_PAGE_SIZE}.
+     *
+     * @param limit
+     *     The requested page size
+     *
+     * @return the page size
+     */
+    static int resolvePageSize(final Integer limit) {
+        if (isNull(limit)) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        return limit;
+    }
+
+    /**
+     * Decodes a page cursor, which must have been built for the same sorting field.
+     *
+     * @param cursor
+     *     The encoded cursor
+     * @param sortingField
+     *     The sorting field of the page
+     *
+     * @return the decoded cursor
+     */
+    static Cursor decodeCursor(final String cursor, final String sortingField) {
+        final Cursor position;
+        try {
+            position = Cursor.decode(cursor);
+        } catch (final IllegalArgumentException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor, exception);
+        }
+
+        if (!sortingField.equals(position.getSortingField())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The cursor does not match the sorting field " + sortingField);
+        }
+
+        return position;
+    }
+
+    /**
+     * Encodes the page cursor of an {@link Intervention}, from its year, number and ID, a missing year or number being {@code 0}.
+     *
+     * @param intervention
+     *     The last {@link Intervention} of the page
+     *
+     * @return the encoded cursor
+     */
+    static String encodeInterventionCursor(@NonNull final Intervention intervention) {
+        return new Cursor(INTERVENTIONS_CURSOR_FIELD, Objects.requireNonNullElse(intervention.getYear(), 0) + INTERVENTIONS_CURSOR_SEPARATOR
+            + Objects.requireNonNullElse(intervention.getNumber(), 0), intervention.getId()).encode();
+    }
+
+    /**
+     * Decodes a page cursor of the {@link Intervention}.
+     *
+     * @param cursor
+     *     The encoded cursor
+     *
+     * @return the year, the number and the ID of the last {@link Intervention} of the previous page
+     */
+    static int[] decodeInterventionCursor(final String cursor) {
+        final Cursor position = decodeCursor(cursor, INTERVENTIONS_CURSOR_FIELD);
+        final String value = Objects.requireNonNullElse(position.getValue(), "");
+        final int separatorIndex = value.indexOf(INTERVENTIONS_CURSOR_SEPARATOR);
+
+        try {
+            return new int[] {Integer.parseInt(value.substring(0, Math.max(separatorIndex, 0))), Integer.parseInt(value.substring(separatorIndex + 1)), position.getId()};
+        } catch (final NumberFormatException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor, exception);
+        }
+    }
+
+    /**
+     * Resolves the changes of a JSON Merge Patch of a flat entity: each member sets its field, a {@code null} member clearing it, and the missing members
+     * leave their fields untouched. The numbers are converted to the type of their field.
+     *
+     * @param patch
+     *     The members of the patch
+     * @param fields
+     *     The type of each patchable field, by name
+     * @param requiredFields
+     *     The names of the patchable fields which cannot be cleared
+     *
+     * @return the new values, by field name
+     */
+    static Map<String, Object> resolvePatch(@NonNull final Map<String, Object> patch, @NonNull final Map<String, Class<?>> fields,
+        @NonNull final Set<String> requiredFields) {
+        final Map<String, Object> changes = new LinkedHashMap<>(patch.size());
+
+        for (final Map.Entry<String, Object> member : patch.entrySet()) {
+            final String field = member.getKey();
+            final Class<?> type = fields.get(field);
+            if (isNull(type)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The field " + field + " cannot be patched");
+            }
+
+            Object value = member.getValue();
+            if (isNull(value) && requiredFields.contains(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The field " + field + " cannot be cleared");
+            }
+
+            if (type == Double.class && value instanceof Number) {
+                value = ((Number) value).doubleValue();
+            }
+
+            if (nonNull(value) && !type.isInstance(value)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid value of the field " + field + ", expected a " + type.getSimpleName());
+            }
+
+            changes.put(field, value);
+        }
+
+        return changes;
+    }
+
+    /**
+     * Detects the media type of a file from its first bytes.
+     *
+     * @param content
+     *     The file content
+     *
+     * @return the detected media type, or {@link MediaType#APPLICATION_OCTET_STREAM} if it is unknown
+     */
+    static MediaType detectMediaType(@NonNull final byte[] content) {
+        if (startsWith(content, 0, (byte) 0xFF, (byte) 0xD8, (byte) 0xFF)) {
+            return MediaType.IMAGE_JPEG;
+        }
+
+        if (startsWith(content, 0, (byte) 0x89, (byte) 'P', (byte) 'N', (byte) 'G')) {
+            return MediaType.IMAGE_PNG;
+        }
+
+        if (startsWith(content, 0, "GIF8".getBytes(StandardCharsets.US_ASCII))) {
+            return MediaType.IMAGE_GIF;
+        }
+
+        if (startsWith(content, 0, "BM".getBytes(StandardCharsets.US_ASCII))) {
+            return MediaType.parseMediaType("image/bmp");
+        }
+
+        if (startsWith(content, 0, "RIFF".getBytes(StandardCharsets.US_ASCII)) && startsWith(content, 8, "WEBP".getBytes(StandardCharsets.US_ASCII))) {
+            return MediaType.parseMediaType("image/webp");
+        }
+
+        if (startsWith(content, 0, "%PDF".getBytes(StandardCharsets.US_ASCII))) {
+            return MediaType.APPLICATION_PDF;
+        }
+
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * Executes the resolution of a response, sharing it with the identical requests received while it is in flight. The requests are identical if they have
+     * the same URI and query and are received under the same change stamp of the {@link ResponseCache}, so a request received after a write never shares the
+     * response of a request received before it.
+     *
+     * @param executable
+     *     The executable resolving the response
+     * @param <R>
+     *     The type of the response
+     *
+     * @return the response
+     */
+    @SneakyThrows
+    private <R> R coalesce(final Callable<R> executable) {
+        final HttpServletRequest request = getCurrentRequest();
+        if (isNull(request)) {
+            return executable.call();
+        }
+
+        return this.requestCoalescer.execute(this.responseCache.getStamp() + " " + ResponseCache.toKey(request), executable);
+    }
+
+    /**
+     * Retrieves the request handled by the current thread.
+     *
+     * @return the current request, or {@code null} outside of a request
+     */
+    private static HttpServletRequest getCurrentRequest() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes ? ((ServletRequestAttributes) attributes).getRequest() : null;
+    }
+
+    /**
+     * Reads the first bytes of a file, enough to detect its media type.
+     *
+     * @param file
+     *     The file to read
+     *
+     * @return the first bytes of the file
+     */
+    @SneakyThrows
+    private static byte[] readHeader(final Path file) {
+        try (final InputStream input = Files.newInputStream(file)) {
+            return input.readNBytes(MEDIA_TYPE_HEADER_LENGTH);
+        }
+    }
+
+    /**
+     * Checks if a byte array contains the given signature at the given offset.
+     *
+     * @param content
+     *     The byte array to check
+     * @param offset
+     *     The offset of the signature
+     * @param signature
+     *     The expected signature
+     *
+     * @return if the byte array contains the signature at the offset
+     */
+    private static boolean startsWith(final byte[] content, final int offset, final byte... signature) {
+        if (content.length < offset + signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+            if (content[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Input stream failing with a {@link HttpStatus#PAYLOAD_TOO_LARGE} status once more than a maximum number of bytes have been read.
+     */
+    static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long count;
+
+        /**
+         * Valued constructor.
+         *
+         * @param input
+         *     The wrapped stream
+         * @param maxSize
+         *     The maximum number of bytes to read
+         */
+        SizeLimitedInputStream(final InputStream input, final long maxSize) {
+            super(input);
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException {
+            try {
+                final int result = super.read();
+                if (result >= 0) {
+                    this.count(1);
+                }
+
+                return result;
+            } catch (final RequestTooBigException exception) {
+                throw tooLarge();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(@NonNull final byte[] buffer, final int offset, final int length) throws IOException {
+            try {
+                final int result = super.read(buffer, offset, length);
+                if (result > 0) {
+                    this.count(result);
+                }
+
+                return result;
+            } catch (final RequestTooBigException exception) {
+                throw tooLarge();
+            }
+        }
+
+        /**
+         * Counts the read bytes.
+         *
+         * @param read
+         *     The number of read bytes
+         */
+        private void count(final int read) {
+            this.count += read;
+            if (this.count > this.maxSize) {
+                throw tooLarge();
+            }
+        }
+
+        /**
+         * Creates the exception thrown when the stream is too large, the server itself possibly enforcing a maximum request size.
+         *
+         * @return a {@link HttpStatus#PAYLOAD_TOO_LARGE} exception
+         */
+        private static ResponseStatusException tooLarge() {
+            return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Maximum upload size exceeded");
+        }
+
+    }
+
 }
@@ -0,0 +1,122 @@
+package fr.vulture.hostocars.controller;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.ImportReport;
+import fr.vulture.hostocars.service.BlobMode;
+import fr.vulture.hostocars.service.CarImporter;
+import fr.vulture.hostocars.service.DumpExporter;
+import fr.vulture.hostocars.service.DumpImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import javax.servlet.http.HttpServletRequest;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for the dumps of the whole database. No transaction is opened here: the export is read in its own read-only transaction while the response
+ * is streamed, and the import is queued to the single writer connection by chunks.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@Tags(@Tag(name = "Dumps", description = "Services related to the export and import of the whole database."))
+public class DumpController {
+
+    private static final String DUMP_FILE_NAME = "hostocars.ndjson";
+
+    private final DumpExporter exporter;
+    private final DumpImporter importer;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param exporter
+     *     The autowired {@link DumpExporter} component
+     * @param importer
+     *     The autowired {@link DumpImporter} component
+     */
+    @Autowired
+    public DumpController(final DumpExporter exporter, final DumpImporter importer) {
+        this.exporter = exporter;
+        this.importer = importer;
+    }
+
+    /**
+     * Exports the whole database as NDJSON lines, streamed to the response as they are read.
+     *
+     * @param blobs
+     *     The way the files of the cars are written
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/export")
+    @Operation(summary = "Exports the database.",
+        description = "Streams the cars, interventions, operations and operation lines as NDJSON lines, the files of the cars being either referenced by their "
+            + "hashes or included in base64.",
+        responses = @ApiResponse(description = "The database is being exported.", responseCode = "200",
+            content = @Content(mediaType = CarImporter.NDJSON_MEDIA_TYPE, schema = @Schema(type = "string", format = "binary"))))
+    public ResponseEntity<StreamingResponseBody> exportDump(
+        @Parameter(description = "The way the files are written, either reference or include.") @RequestParam(defaultValue = "reference") final String blobs) {
+        final BlobMode blobMode = resolveBlobMode(blobs);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(CarImporter.NDJSON_MEDIA_TYPE))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment").filename(DUMP_FILE_NAME).build().toString())
+            .body(output -> this.exporter.export(output, blobMode));
+    }
+
+    /**
+     * Imports a dump streamed from the REST call body, the records keeping their IDs.
+     *
+     * @param request
+     *     The import request
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @SneakyThrows
+    @PostMapping(path = "/import", consumes = CarImporter.NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Imports a dump.",
+        description = "Inserts the records of an exported dump in the database with their IDs, and reports the numbers of imported records and the errors of the "
+            + "rejected ones.",
+        responses = @ApiResponse(description = "The dump has been processed.", responseCode = "200",
+            content = @Content(schema = @Schema(implementation = ImportReport.class))))
+    public ResponseEntity<ImportReport> importDump(@NonNull final HttpServletRequest request) {
+        return ResponseEntity.ok(this.importer.importDump(request.getInputStream()));
+    }
+
+    /**
+     * Resolves the way the files of the cars are written.
+     *
+     * @param blobs
+     *     The value of the blob mode
+     *
+     * @return the matching {@link BlobMode}
+     */
+    private static BlobMode resolveBlobMode(final String blobs) {
+        try {
+            return BlobMode.fromValue(blobs);
+        } catch (final IllegalArgumentException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage(), exception);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package fr.vulture.hostocars.controller;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.InterventionFilter;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.repository.InterventionRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.WriteQueue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for interventions, read and patched without their cars. The reads are run in read-only transactions.
+ */
+@Transactional(readOnly = true)
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/interventions")
+@Tags(@Tag(name = "Interventions", description = "Services related to interventions."))
+public class InterventionController {
+
+    // The fields set by a patch, the year, number and creation date being allocated on insertion
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+        "status", String.class,
+        "description", String.class,
+        "mileage", Integer.class,
+        "estimatedTime", Double.class,
+        "realTime", Double.class,
+        "amount", Double.class,
+        "paidAmount", Double.class,
+        "comments", String.class);
+    private static final Set<String> REQUIRED_FIELDS = Set.of("status");
+
+    private final InterventionRepository repository;
+    private final ControllerHelper helper;
+    private final WriteQueue writeQueue;
+    private final CarCache carCache;
+    private final ResponseCache responseCache;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param repository
+     *     The autowired {@link InterventionRepository} component
+     * @param helper
+     *     The autowired {@link ControllerHelper} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param responseCache
+     *     The autowired {@link ResponseCache} component
+     */
+    @Autowired
+    public InterventionController(final InterventionRepository repository, final ControllerHelper helper, final WriteQueue writeQueue, final CarCache carCache,
+        final ResponseCache responseCache) {
+        this.repository = repository;
+        this.helper = helper;
+        this.writeQueue = writeQueue;
+        this.carCache = carCache;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Retrieves a page of the {@link Intervention} matching the given criteria, sorted by year and number, with their operations and operation lines. The
+     * response carries a {@code Link} header to the next page, if any.
+     *
+     * @param status
+     *     The optional status
+     * @param year
+     *     The optional year
+     * @param carId
+     *     The optional ID of the car
+     * @param createdFrom
+     *     The optional first creation date, as an ISO date
+     * @param createdTo
+     *     The optional last creation date, as an ISO date
+     * @param limit
+     *     The optional page size
+     * @param cursor
+     *     The optional cursor of the page, as given by the previous page
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping
+    @Operation(summary = "Gets interventions.",
+        description = "Retrieves a page of the interventions matching the specified status, year, car and creation dates, sorted by year and number, with a link "
+            + "to the next page.",
+        responses = @ApiResponse(description = "At least one intervention has been found.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = Intervention.class)))))
+    public ResponseEntity<Collection<Intervention>> getInterventions(@Parameter(description = "The status.") @RequestParam(required = false) final String status,
+        @Parameter(description = "The year.") @RequestParam(required = false) final Integer year,
+        @Parameter(description = "The ID of the car.") @RequestParam(required = false) final Integer carId,
+        @Parameter(description = "The first creation date, as an ISO date.") @RequestParam(required = false) final String createdFrom,
+        @Parameter(description = "The last creation date, as an ISO date.") @RequestParam(required = false) final String createdTo,
+        @Parameter(description = "The page size.") @RequestParam(required = false) final Integer limit,
+        @Parameter(description = "The page cursor.") @RequestParam(required = false) final String cursor) {
+        final InterventionFilter filter = new InterventionFilter(status, year, carId, checkDate(createdFrom), checkDate(createdTo));
+        final int pageSize = ControllerHelper.resolvePageSize(limit);
+        final int[] position = isNull(cursor) ? null : ControllerHelper.decodeInterventionCursor(cursor);
+
+        return this.helper.resolveGetPageResponse(() -> {
+            final List<Integer> ids = this.repository.findPageIds(filter, position, pageSize + 1);
+            return ids.isEmpty() ? Collections.emptyList() : this.repository.findAllWithLinesByIdIn(ids);
+        }, pageSize, ControllerHelper::encodeInterventionCursor);
+    }
+
+    /**
+     * Updates the given fields of an {@link Intervention} in the database from the REST call body, as a JSON Merge Patch. The intervention is updated by a
+     * single statement setting only the given fields, without being loaded nor merged along with its car, and its operations are left untouched.
+     * <br/>
+     * <br/>
+     * As the interventions are cached along with their car, the car of the intervention is invalidated here.
+     *
+     * @param id
+     *     The ID of the {@link Intervention}
+     * @param patch
+     *     The members of the patch
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PatchMapping(path = "/{id}", consumes = {ControllerHelper.MERGE_PATCH_MEDIA_TYPE, APPLICATION_JSON_VALUE})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Patches an intervention.",
+        description = "Updates the fields of the intervention corresponding to the specified ID given in a JSON Merge Patch, a null value clearing its field.",
+        responses = @ApiResponse(description = "The intervention has been updated successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> patchIntervention(@Parameter(description = "The ID of the intervention.", required = true) @PathVariable @NonNull final Integer id,
+        @Parameter(required = true) @RequestBody @NonNull final Map<String, Object> patch) {
+        final Map<String, Object> changes = ControllerHelper.resolvePatch(patch, PATCHABLE_FIELDS, REQUIRED_FIELDS);
+
+        return this.helper.resolvePutResponse(() -> {
+            if (changes.isEmpty()) {
+                if (!this.repository.existsById(id)) {
+                    throw notFound(id);
+                }
+
+                return;
+            }
+
+            this.writeQueue.submit(() -> {
+                final Integer carId = this.repository.findCarIdById(id);
+                if (isNull(carId)) {
+                    throw notFound(id);
+                }
+
+                this.responseCache.invalidateAll();
+                this.carCache.invalidate(carId);
+                this.repository.updateById(id, changes);
+            });
+        });
+    }
+
+    /**
+     * Checks that a date criterion is an ISO date, so it is compared with the creation dates as a string.
+     *
+     * @param date
+     *     The date criterion
+     *
+     * @return the date criterion
+     */
+    private static String checkDate(final String date) {
+        if (isNull(date)) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(date).toString();
+        } catch (final DateTimeParseException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid date " + date + ", expected an ISO date", exception);
+        }
+    }
+
+    /**
+     * Builds the exception of a missing {@link Intervention}.
+     *
+     * @param id
+     *     The {@link Intervention} ID
+     *
+     * @return a {@link HttpStatus#NOT_FOUND} exception
+     */
+    private static ResponseStatusException notFound(final Integer id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "No intervention found with the ID " + id);
+    }
+
+}
@@ -0,0 +1,191 @@
+package fr.vulture.hostocars.controller;
+
+import static java.util.Objects.nonNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.MethodStatistics;
+import fr.vulture.hostocars.service.MetricsRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the metrics of the calls of the loggable methods, written as JSON or in the Prometheus text format depending on the accepted media
+ * type.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/metrics")
+@Tags(@Tag(name = "Metrics", description = "Services related to the metrics of the application."))
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_MEDIA_TYPE = MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8");
+    private static final String DURATION_METRIC = "hostocars_method_duration_seconds";
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param metricsRegistry
+     *     The autowired {@link MetricsRegistry} component
+     */
+    @Autowired
+    public MetricsController(final MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Writes the statistics of the methods in the Prometheus text format, their durations being in seconds.
+     *
+     * @param statistics
+     *     The {@link MethodStatistics} of the methods
+     *
+     * @return the text of the metrics
+     */
+    static String toPrometheusText(@NonNull final Collection<MethodStatistics> statistics) {
+        final StringBuilder builder = new StringBuilder();
+
+        writeHeader(builder, DURATION_METRIC, "summary", "Durations of the calls of the method.");
+        for (final MethodStatistics methodStatistics : statistics) {
+            final String method = methodStatistics.getMethod();
+            writeSample(builder, DURATION_METRIC, method, "0.5", toSeconds(methodStatistics.getP50()));
+            writeSample(builder, DURATION_METRIC, method, "0.9", toSeconds(methodStatistics.getP90()));
+            writeSample(builder, DURATION_METRIC, method, "0.99", toSeconds(methodStatistics.getP99()));
+            writeSample(builder, DURATION_METRIC + "_sum", method, null, toSeconds(methodStatistics.getTotalTime()));
+            writeSample(builder, DURATION_METRIC + "_count", method, null, methodStatistics.getCallCount());
+        }
+
+        writeMetric(builder, statistics, "hostocars_method_duration_max_seconds", "gauge", "Maximum duration of the calls of the method.",
+            methodStatistics -> toSeconds(methodStatistics.getMax()));
+        writeMetric(builder, statistics, "hostocars_method_errors_total", "counter", "Number of calls of the method which threw an exception.",
+            MethodStatistics::getErrorCount);
+        writeMetric(builder, statistics, "hostocars_method_in_flight", "gauge", "Number of calls of the method in flight.", MethodStatistics::getInFlightCount);
+        return builder.toString();
+    }
+
+    /**
+     * Writes a metric with a single sample per method.
+     *
+     * @param builder
+     *     The builder of the text
+     * @param statistics
+     *     The {@link MethodStatistics} of the methods
+     * @param name
+     *     The name of the metric
+     * @param type
+     *     The type of the metric
+     * @param help
+     *     The description of the metric
+     * @param value
+     *     The function reading the value of the metric
+     */
+    private static void writeMetric(final StringBuilder builder, final Collection<MethodStatistics> statistics, final String name, final String type,
+        final String help, final Function<MethodStatistics, Number> value) {
+        writeHeader(builder, name, type, help);
+        for (final MethodStatistics methodStatistics : statistics) {
+            writeSample(builder, name, methodStatistics.getMethod(), null, value.apply(methodStatistics));
+        }
+    }
+
+    /**
+     * Writes the help and type lines of a metric.
+     *
+     * @param builder
+     *     The builder of the text
+     * @param name
+     *     The name of the metric
+     * @param type
+     *     The type of the metric
+     * @param help
+     *     The description of the metric
+     */
+    private static void writeHeader(final StringBuilder builder, final String name, final String type, final String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes a sample of a metric, labelled with its method and optionally its quantile.
+     *
+     * @param builder
+     *     The builder of the text
+     * @param name
+     *     The name of the metric
+     * @param method
+     *     The name of the method, which is a Java identifier so it needs no escaping
+     * @param quantile
+     *     The quantile of the sample, or {@code null} if none
+     * @param value
+     *     The value of the sample
+     */
+    private static void writeSample(final StringBuilder builder, final String name, final String method, final String quantile, final Number value) {
+        builder.append(name).append("{method=\"").append(method).append('"');
+        if (nonNull(quantile)) {
+            builder.append(",quantile=\"").append(quantile).append('"');
+        }
+
+        builder.append("} ").append(value).append('\n');
+    }
+
+    /**
+     * Converts a duration from nanoseconds to seconds.
+     *
+     * @param nanoseconds
+     *     The duration in nanoseconds
+     *
+     * @return the duration in seconds
+     */
+    private static double toSeconds(final long nanoseconds) {
+        return nanoseconds / NANOSECONDS_PER_SECOND;
+    }
+
+    /**
+     * Retrieves the statistics of the calls of the loggable methods as JSON.
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Gets the metrics of the methods.",
+        description = "Retrieves the number of calls, the number of errors, the number of calls in flight, and the total, median, 90th and 99th percentile and "
+            + "maximum durations in nanoseconds of each method called since the application was started.",
+        responses = @ApiResponse(description = "The metrics have been retrieved.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = MethodStatistics.class)))))
+    public ResponseEntity<Collection<MethodStatistics>> getMetrics() {
+        return ResponseEntity.ok(this.metricsRegistry.getStatistics());
+    }
+
+    /**
+     * Retrieves the statistics of the calls of the loggable methods in the Prometheus text format.
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping(produces = TEXT_PLAIN_VALUE)
+    @Operation(summary = "Gets the metrics of the methods for Prometheus.",
+        description = "Retrieves the metrics of each method called since the application was started in the Prometheus text format, the durations being in "
+            + "seconds.",
+        responses = @ApiResponse(description = "The metrics have been retrieved.", responseCode = "200", content = @Content(mediaType = TEXT_PLAIN_VALUE)))
+    public ResponseEntity<String> getPrometheusMetrics() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_MEDIA_TYPE).body(toPrometheusText(this.metricsRegistry.getStatistics()));
+    }
+
+}
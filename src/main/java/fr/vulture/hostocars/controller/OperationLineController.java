@@ -0,0 +1,174 @@
+package fr.vulture.hostocars.controller;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.entity.OperationLine;
+import fr.vulture.hostocars.repository.OperationLineRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.WriteQueue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for operation lines, ticked off one by one or by operation without writing their cars.
+ * <br/>
+ * <br/>
+ * As the operation lines are cached along with their car, the car of the written lines is invalidated here.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Tags(@Tag(name = "Operation lines", description = "Services related to operation lines."))
+public class OperationLineController {
+
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+        "type", String.class,
+        "description", String.class,
+        "done", Boolean.class);
+
+    private final OperationLineRepository repository;
+    private final ControllerHelper helper;
+    private final WriteQueue writeQueue;
+    private final CarCache carCache;
+    private final ResponseCache responseCache;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param repository
+     *     The autowired {@link OperationLineRepository} component
+     * @param helper
+     *     The autowired {@link ControllerHelper} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param responseCache
+     *     The autowired {@link ResponseCache} component
+     */
+    @Autowired
+    public OperationLineController(final OperationLineRepository repository, final ControllerHelper helper, final WriteQueue writeQueue,
+        final CarCache carCache, final ResponseCache responseCache) {
+        this.repository = repository;
+        this.helper = helper;
+        this.writeQueue = writeQueue;
+        this.carCache = carCache;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Updates the given fields of an {@link OperationLine} in the database from the REST call body, as a JSON Merge Patch, by a single statement setting
+     * only the given fields.
+     *
+     * @param id
+     *     The ID of the {@link OperationLine}
+     * @param patch
+     *     The members of the patch
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PatchMapping(path = "/operation-lines/{id}", consumes = {ControllerHelper.MERGE_PATCH_MEDIA_TYPE, APPLICATION_JSON_VALUE})
+    @Operation(summary = "Patches an operation line.",
+        description = "Updates the fields of the operation line corresponding to the specified ID given in a JSON Merge Patch.",
+        responses = @ApiResponse(description = "The operation line has been updated successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> patchOperationLine(@Parameter(description = "The ID of the operation line.", required = true) @PathVariable @NonNull final Integer id,
+        @Parameter(required = true) @RequestBody @NonNull final Map<String, Object> patch) {
+        final Map<String, Object> changes = ControllerHelper.resolvePatch(patch, PATCHABLE_FIELDS, PATCHABLE_FIELDS.keySet());
+
+        return this.helper.resolvePutResponse(() -> {
+            if (changes.isEmpty()) {
+                if (!this.repository.existsById(id)) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No operation line found with the ID " + id);
+                }
+
+                return;
+            }
+
+            this.writeQueue.submit(() -> {
+                final Integer carId = this.repository.findCarIdById(id);
+                if (isNull(carId)) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No operation line found with the ID " + id);
+                }
+
+                this.invalidate(carId);
+                this.repository.updateById(id, changes);
+            });
+        });
+    }
+
+    /**
+     * Sets whether the given {@link OperationLine} of an operation are done, by a single statement. All the lines must belong to the operation, else none
+     * is updated.
+     *
+     * @param operationId
+     *     The ID of the operation
+     * @param lines
+     *     Whether each {@link OperationLine} is done, by ID
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PatchMapping(path = "/operations/{operationId}/lines", consumes = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Ticks off operation lines.",
+        description = "Sets whether the lines of the operation corresponding to the specified ID are done, given as a JSON object of the done state by line ID.",
+        responses = @ApiResponse(description = "The operation lines have been updated successfully.", responseCode = "204", content = @Content))
+    public ResponseEntity<?> patchOperationLines(@Parameter(description = "The ID of the operation.", required = true) @PathVariable @NonNull final Integer operationId,
+        @Parameter(required = true) @RequestBody @NonNull final Map<Integer, Boolean> lines) {
+        if (lines.isEmpty() || lines.values().stream().anyMatch(Objects::isNull)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The done state of at least one line is expected, and none can be null");
+        }
+
+        final Set<Integer> ids = lines.keySet();
+        final List<Integer> doneIds = lines.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).collect(Collectors.toList());
+
+        return this.helper.resolvePutResponse(() -> this.writeQueue.submit(() -> {
+            final Integer carId = this.repository.findCarIdByOperationId(operationId);
+            if (isNull(carId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No operation found with the ID " + operationId);
+            }
+
+            this.invalidate(carId);
+            if (this.repository.updateDoneByOperationIdAndIdIn(operationId, ids, doneIds) != ids.size()) {
+                // Rolls back the whole write, as some lines do not belong to the operation
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Not all the lines " + ids + " found in the operation with the ID " + operationId);
+            }
+        }));
+    }
+
+    /**
+     * Invalidates the cached car of the written operation lines, and all the cached responses.
+     *
+     * @param carId
+     *     The car ID
+     */
+    private void invalidate(final Integer carId) {
+        this.responseCache.invalidateAll();
+        this.carCache.invalidate(carId);
+    }
+
+}
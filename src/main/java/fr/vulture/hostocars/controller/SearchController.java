@@ -0,0 +1,117 @@
+package fr.vulture.hostocars.controller;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.dto.SearchResult;
+import fr.vulture.hostocars.repository.SearchRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.util.Collection;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for the full-text search.
+ */
+@Transactional(readOnly = true)
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/search")
+@Tags(@Tag(name = "Search", description = "Services related to the full-text search."))
+public class SearchController {
+
+    private static final String RANK_CURSOR_FIELD = "rank";
+
+    private final SearchRepository repository;
+    private final ControllerHelper helper;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param repository
+     *     The autowired {@link SearchRepository} component
+     * @param helper
+     *     The autowired {@link ControllerHelper} component
+     */
+    @Autowired
+    public SearchController(final SearchRepository repository, final ControllerHelper helper) {
+        this.repository = repository;
+        this.helper = helper;
+    }
+
+    /**
+     * Retrieves a page of the cars and interventions matching all the words of a search, each word being matched as a prefix, the best matches first. The
+     * response carries a {@code Link} header to the next page, if any.
+     *
+     * @param search
+     *     The searched text
+     * @param limit
+     *     The optional page size
+     * @param cursor
+     *     The optional cursor of the page, as given by the previous page
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping
+    @Operation(summary = "Searches cars and interventions.",
+        description = "Retrieves a page of the cars and interventions matching all the words of the search, sorted by relevance, with a link to the next page. The "
+            + "cars are searched by registration, owner, brand, model and comments, and the interventions by description and comments.",
+        responses = @ApiResponse(description = "At least one result has been found.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = SearchResult.class)))))
+    public ResponseEntity<Collection<SearchResult>> search(@Parameter(description = "The searched text.", required = true) @RequestParam("q") @NonNull final String search,
+        @Parameter(description = "The page size.") @RequestParam(required = false) final Integer limit,
+        @Parameter(description = "The page cursor.") @RequestParam(required = false) final String cursor) {
+        if (search.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The search must contain at least one word");
+        }
+
+        final int pageSize = ControllerHelper.resolvePageSize(limit);
+        final Cursor position = isNull(cursor) ? null : ControllerHelper.decodeCursor(cursor, RANK_CURSOR_FIELD);
+        final Double rank = isNull(position) ? null : decodeRank(position, cursor);
+
+        return this.helper.resolveGetPageResponse(() -> this.repository.search(search, rank, isNull(position) ? 0 : position.getId(), pageSize + 1), pageSize,
+            result -> new Cursor(RANK_CURSOR_FIELD, String.valueOf(result.getRank()), SearchRepository.toRowId(result)).encode());
+    }
+
+    /**
+     * Decodes the rank of a page cursor.
+     *
+     * @param position
+     *     The decoded cursor
+     * @param cursor
+     *     The encoded cursor
+     *
+     * @return the rank of the last result of the previous page
+     */
+    private static Double decodeRank(final Cursor position, final String cursor) {
+        if (isNull(position.getValue())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor);
+        }
+
+        try {
+            return Double.valueOf(position.getValue());
+        } catch (final NumberFormatException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor, exception);
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package fr.vulture.hostocars.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.BillingReport;
+import fr.vulture.hostocars.dto.BillingSummary;
+import fr.vulture.hostocars.dto.CacheStatistics;
+import fr.vulture.hostocars.dto.CoalescingStatistics;
+import fr.vulture.hostocars.repository.BillingSummaryRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.RequestCoalescer;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.WriteQueue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.tags.Tags;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the statistics of the application.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/statistics")
+@Tags(@Tag(name = "Statistics", description = "Services related to the statistics of the application."))
+public class StatisticsController {
+
+    private final CarCache carCache;
+    private final ResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final BillingSummaryRepository billingSummaryRepository;
+    private final ControllerHelper helper;
+    private final WriteQueue writeQueue;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param responseCache
+     *     The autowired {@link ResponseCache} component
+     * @param requestCoalescer
+     *     The autowired {@link RequestCoalescer} component
+     * @param billingSummaryRepository
+     *     The autowired {@link BillingSummaryRepository} component
+     * @param helper
+     *     The autowired {@link ControllerHelper} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component
+     */
+    @Autowired
+    public StatisticsController(final CarCache carCache, final ResponseCache responseCache, final RequestCoalescer requestCoalescer,
+        final BillingSummaryRepository billingSummaryRepository, final ControllerHelper helper, final WriteQueue writeQueue) {
+        this.carCache = carCache;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.billingSummaryRepository = billingSummaryRepository;
+        this.helper = helper;
+        this.writeQueue = writeQueue;
+    }
+
+    /**
+     * Retrieves the statistics of the caches.
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/caches")
+    @Operation(summary = "Gets the statistics of the caches.",
+        description = "Retrieves the size, hits, misses, evictions and invalidations of each cache since the application was started.",
+        responses = @ApiResponse(description = "The statistics have been retrieved.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CacheStatistics.class)))))
+    public ResponseEntity<Collection<CacheStatistics>> getCacheStatistics() {
+        // The statistics are not read from the database, so they are not written to the response cache
+        return ResponseEntity.ok(List.of(this.carCache.getStatistics(), this.responseCache.getStatistics()));
+    }
+
+    /**
+     * Retrieves the statistics of the coalescing of the identical concurrent read requests.
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/coalescing")
+    @Operation(summary = "Gets the statistics of the request coalescing.",
+        description = "Retrieves the number of read requests executed, the number of identical concurrent ones which shared their response, and the number of "
+            + "requests in flight.",
+        responses = @ApiResponse(description = "The statistics have been retrieved.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = CoalescingStatistics.class))))
+    public ResponseEntity<CoalescingStatistics> getCoalescingStatistics() {
+        return ResponseEntity.ok(this.requestCoalescer.getStatistics());
+    }
+
+    /**
+     * Retrieves the billing summaries of the interventions by year, month of creation and status, read from the summaries maintained on each write of the
+     * interventions.
+     *
+     * @param year
+     *     The year of the summaries, or {@code null} for all the years
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @GetMapping("/billing")
+    @Operation(summary = "Gets the billing summaries.",
+        description = "Retrieves the number of interventions and the sums of their amounts and paid amounts by year, month of creation and status, optionally "
+            + "of a single year.",
+        responses = @ApiResponse(description = "The billing summaries have been retrieved.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = BillingSummary.class)))))
+    public ResponseEntity<?> getBillingSummaries(
+        @Parameter(description = "The year of the summaries.") @RequestParam(required = false) final Integer year) {
+        return this.helper.resolveGetCollectionResponse(() -> this.billingSummaryRepository.findAll(year));
+    }
+
+    /**
+     * Rebuilds the billing summaries from a full recompute over the interventions, and reports the maintained summaries which differed from it.
+     *
+     * @return an HTTP response
+     */
+    @Loggable
+    @PostMapping("/billing/rebuild")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Operation(summary = "Rebuilds the billing summaries.",
+        description = "Recomputes the billing summaries from all the interventions, replaces the maintained ones with them if they differ, and reports the "
+            + "differences.",
+        responses = @ApiResponse(description = "The billing summaries have been rebuilt.", responseCode = "200",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = BillingReport.class))))
+    public ResponseEntity<BillingReport> rebuildBillingSummaries() {
+        final BillingReport report = this.writeQueue.submit(this.billingSummaryRepository::rebuild);
+        if (!report.getMismatches().isEmpty()) {
+            this.responseCache.invalidateAll();
+        }
+
+        return ResponseEntity.ok(report);
+    }
+
+}
@@ -0,0 +1,22 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Difference between a maintained billing summary and the one fully recomputed from the interventions, either being {@code null} when missing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingMismatch implements Serializable {
+
+    private static final long serialVersionUID = -2150486731920583374L;
+
+    private BillingSummary expected;
+
+    private BillingSummary actual;
+
+}
@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Report of the rebuild of the billing summaries, being the number of rebuilt summaries and the differences found with the maintained ones beforehand.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingReport implements Serializable {
+
+    private static final long serialVersionUID = 4617093285540261937L;
+
+    private Integer summaryCount;
+
+    private List<BillingMismatch> mismatches;
+
+}
@@ -0,0 +1,33 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of the billing of the interventions of a year, of a month of creation and of a status, being their number and the sums of their amounts.
+ * <br/>
+ * <br/>
+ * The month is {@code null} for the interventions whose creation date is unknown, and the year is {@code 0} for those whose year is unknown too.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingSummary implements Serializable {
+
+    private static final long serialVersionUID = 7302865913472048165L;
+
+    private Integer year;
+
+    private Integer month;
+
+    private String status;
+
+    private Long count;
+
+    private Double amount;
+
+    private Double paidAmount;
+
+}
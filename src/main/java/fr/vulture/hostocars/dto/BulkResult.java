@@ -0,0 +1,27 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a row of a bulk import or upsert, being either the ID of the written entity and whether it has been created, or the error which prevented its
+ * writing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResult implements Serializable {
+
+    private static final long serialVersionUID = -3021496170834462311L;
+
+    private Integer index;
+
+    private Integer id;
+
+    private Boolean created;
+
+    private String error;
+
+}
@@ -0,0 +1,32 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of a cache, its counters being accumulated since the application is started.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatistics implements Serializable {
+
+    private static final long serialVersionUID = 6617302528514287135L;
+
+    private String name;
+
+    private Integer size;
+
+    private Integer maxSize;
+
+    private Long hitCount;
+
+    private Long missCount;
+
+    private Long evictionCount;
+
+    private Long invalidationCount;
+
+}
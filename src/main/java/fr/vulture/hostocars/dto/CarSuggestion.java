@@ -0,0 +1,24 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Suggestion of a car matching a partial registration or serial number.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarSuggestion implements Serializable {
+
+    private static final long serialVersionUID = 2364905468911203827L;
+
+    private Integer id;
+
+    private String registration;
+
+    private String serialNumber;
+
+}
@@ -0,0 +1,42 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight projection of the {@code cars} table, without the binary columns nor the interventions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarSummary implements Serializable {
+
+    private static final long serialVersionUID = 4186210573305327981L;
+
+    private Integer id;
+
+    private String registration;
+
+    private String serialNumber;
+
+    private String owner;
+
+    private String brand;
+
+    private String model;
+
+    private String motorization;
+
+    private String engineCode;
+
+    private String releaseDate;
+
+    private String comments;
+
+    private Boolean hasCertificate;
+
+    private Boolean hasPicture;
+
+}
@@ -0,0 +1,24 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of the coalescing of the identical concurrent read requests, its counters being accumulated since the application is started.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingStatistics implements Serializable {
+
+    private static final long serialVersionUID = -3829054102736250316L;
+
+    private Long executionCount;
+
+    private Long coalescedCount;
+
+    private Integer inFlightCount;
+
+}
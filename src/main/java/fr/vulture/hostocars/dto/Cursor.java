@@ -0,0 +1,79 @@
+package fr.vulture.hostocars.dto;
+
+import static java.util.Objects.isNull;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * Position of a keyset pagination, made of the sorting field, its value and the ID of the last returned row.
+ * <br/>
+ * <br/>
+ * It is exchanged as an opaque URL-safe Base64 string.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Cursor implements Serializable {
+
+    private static final long serialVersionUID = -3604283529517960421L;
+
+    private static final char SEPARATOR = ':';
+    private static final char NULL_MARKER = 'n';
+    private static final char VALUE_MARKER = 'v';
+
+    private String sortingField;
+
+    private String value;
+
+    private Integer id;
+
+    /**
+     * Decodes a cursor from its string representation.
+     *
+     * @param encodedCursor
+     *     The encoded cursor
+     *
+     * @return the decoded cursor
+     *
+     * @throws IllegalArgumentException
+     *     if the string is not a valid cursor
+     */
+    public static Cursor decode(@NonNull final String encodedCursor) {
+        final String decodedCursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+
+        final int firstSeparatorIndex = decodedCursor.indexOf(SEPARATOR);
+        final int secondSeparatorIndex = decodedCursor.indexOf(SEPARATOR, firstSeparatorIndex + 1);
+        if (firstSeparatorIndex < 0 || secondSeparatorIndex < 0 || secondSeparatorIndex + 1 >= decodedCursor.length()) {
+            throw new IllegalArgumentException("Invalid cursor " + encodedCursor);
+        }
+
+        final String sortingField = decodedCursor.substring(0, firstSeparatorIndex);
+        final Integer id = Integer.valueOf(decodedCursor.substring(firstSeparatorIndex + 1, secondSeparatorIndex));
+
+        switch (decodedCursor.charAt(secondSeparatorIndex + 1)) {
+            case NULL_MARKER:
+                return new Cursor(sortingField, null, id);
+            case VALUE_MARKER:
+                return new Cursor(sortingField, decodedCursor.substring(secondSeparatorIndex + 2), id);
+            default:
+                throw new IllegalArgumentException("Invalid cursor " + encodedCursor);
+        }
+    }
+
+    /**
+     * Encodes the cursor to its string representation.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        final String decodedCursor = this.sortingField + SEPARATOR + this.id + SEPARATOR + (isNull(this.value) ? String.valueOf(NULL_MARKER) : VALUE_MARKER + this.value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decodedCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
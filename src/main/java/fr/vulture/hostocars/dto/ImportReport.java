@@ -0,0 +1,28 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Report of the import of a dump, being the numbers of imported records by type and the errors of the rejected ones, the first of which are detailed.
+ */
+@Data
+public class ImportReport implements Serializable {
+
+    private static final long serialVersionUID = 5190845532867414017L;
+
+    private Long carCount = 0L;
+
+    private Long interventionCount = 0L;
+
+    private Long operationCount = 0L;
+
+    private Long operationLineCount = 0L;
+
+    private Long errorCount = 0L;
+
+    private List<BulkResult> errors = new ArrayList<>();
+
+}
@@ -0,0 +1,28 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filter of the interventions, each {@code null} criterion being ignored. The creation dates are ISO dates, both bounds being included.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterventionFilter implements Serializable {
+
+    private static final long serialVersionUID = -4518325093746209412L;
+
+    private String status;
+
+    private Integer year;
+
+    private Integer carId;
+
+    private String createdFrom;
+
+    private String createdTo;
+
+}
@@ -0,0 +1,36 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of the calls of a loggable method, its counters being accumulated since the application is started and its durations being in nanoseconds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodStatistics implements Serializable {
+
+    private static final long serialVersionUID = -5408126399723816472L;
+
+    private String method;
+
+    private Long callCount;
+
+    private Long errorCount;
+
+    private Long inFlightCount;
+
+    private Long totalTime;
+
+    private Long p50;
+
+    private Long p90;
+
+    private Long p99;
+
+    private Long max;
+
+}
@@ -0,0 +1,28 @@
+package fr.vulture.hostocars.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a full-text search, being either a car or an intervention, with the excerpt of its text matching the search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult implements Serializable {
+
+    private static final long serialVersionUID = -7795214330918712410L;
+
+    private String type;
+
+    private Integer id;
+
+    private Integer carId;
+
+    private Double rank;
+
+    private String snippet;
+
+}
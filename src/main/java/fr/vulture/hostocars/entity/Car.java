@@ -1,24 +1,34 @@
 package fr.vulture.hostocars.entity;
 
+import static com.fasterxml.jackson.annotation.JsonProperty.Access.READ_ONLY;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static javax.persistence.GenerationType.IDENTITY;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.Table;
 import lombok.Data;
 import lombok.ToString;
-import lombok.ToString.Exclude;
 
 /**
  * Entity for the {@code cars} table.
@@ -27,6 +37,16 @@ import lombok.ToString.Exclude;
 @Entity
 @ToString
 @Table(name = "cars")
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = "Car.interventions", attributeNodes = @NamedAttributeNode("interventions")),
+    @NamedEntityGraph(name = "Car.operations", attributeNodes = @NamedAttributeNode(value = "interventions", subgraph = "interventions"),
+        subgraphs = @NamedSubgraph(name = "interventions", attributeNodes = @NamedAttributeNode("operations"))),
+    @NamedEntityGraph(name = "Car.lines", attributeNodes = @NamedAttributeNode(value = "interventions", subgraph = "interventions"),
+        subgraphs = {
+            @NamedSubgraph(name = "interventions", attributeNodes = @NamedAttributeNode(value = "operations", subgraph = "operations")),
+            @NamedSubgraph(name = "operations", attributeNodes = @NamedAttributeNode("operationLines"))
+        })
+})
 public class Car implements Serializable {
 
     private static final long serialVersionUID = -8531072274006990095L;
@@ -36,6 +56,11 @@ public class Car implements Serializable {
     @Column(name = "id", unique = true, nullable = false, insertable = false, updatable = false, columnDefinition = "INTEGER")
     private Integer id;
 
+    // Random key given at the creation of the instance, on which its equality relies, so its hash code is left unchanged when its ID is generated
+    @JsonIgnore
+    @Column(name = "uuid", unique = true, nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String uuid = UUID.randomUUID().toString();
+
     @Column(name = "registration", unique = true, nullable = false, columnDefinition = "TEXT")
     private String registration;
 
@@ -63,24 +88,46 @@ public class Car implements Serializable {
     @Column(name = "comments", columnDefinition = "TEXT")
     private String comments;
 
-    @Exclude
-    @Column(name = "certificate", columnDefinition = "BLOB")
-    private byte[] certificate;
+    @JsonIgnore
+    @Column(name = "certificateHash", updatable = false, columnDefinition = "TEXT")
+    private String certificateHash;
 
-    @Exclude
-    @Column(name = "picture", columnDefinition = "BLOB")
-    private byte[] picture;
+    @JsonIgnore
+    @Column(name = "pictureHash", updatable = false, columnDefinition = "TEXT")
+    private String pictureHash;
 
     @JsonManagedReference
-    @OneToMany(mappedBy = "car", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
-    private Set<Intervention> interventions = new HashSet<>(0);
+    @OneToMany(mappedBy = "car", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @OrderBy("year ASC, number ASC, id ASC")
+    @JsonDeserialize(as = LinkedHashSet.class)
+    private Set<Intervention> interventions = new LinkedHashSet<>(0);
+
+    /**
+     * Returns the URL of the certificate file, if there is one.
+     *
+     * @return the URL of the certificate file, or {@code null} if there is none
+     */
+    @JsonProperty(access = READ_ONLY)
+    public String getCertificateUrl() {
+        return isNull(this.certificateHash) ? null : "/cars/" + this.id + "/certificate";
+    }
+
+    /**
+     * Returns the URL of the picture file, if there is one.
+     *
+     * @return the URL of the picture file, or {@code null} if there is none
+     */
+    @JsonProperty(access = READ_ONLY)
+    public String getPictureUrl() {
+        return isNull(this.pictureHash) ? null : "/cars/" + this.id + "/picture";
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return 0;
+        return Objects.hashCode(this.uuid);
     }
 
     /**
@@ -97,7 +144,7 @@ public class Car implements Serializable {
         }
 
         final Car that = (Car) obj;
-        return nonNull(this.id) && this.id.equals(that.id);
+        return nonNull(this.uuid) && this.uuid.equals(that.uuid);
     }
 
 }
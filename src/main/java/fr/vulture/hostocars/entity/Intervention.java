@@ -5,19 +5,29 @@ import static java.util.Objects.nonNull;
 import static javax.persistence.GenerationType.IDENTITY;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import fr.vulture.hostocars.service.InterventionNumberListener;
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.Table;
 import lombok.Data;
 import lombok.ToString;
@@ -30,7 +40,10 @@ import lombok.ToString.Exclude;
 @Entity
 @ToString
 @Table(name = "interventions")
-class Intervention implements Serializable {
+@EntityListeners(InterventionNumberListener.class)
+@NamedEntityGraph(name = "Intervention.lines", attributeNodes = @NamedAttributeNode(value = "operations", subgraph = "operations"),
+    subgraphs = @NamedSubgraph(name = "operations", attributeNodes = @NamedAttributeNode("operationLines")))
+public class Intervention implements Serializable {
 
     private static final long serialVersionUID = -9130046034547531677L;
 
@@ -39,12 +52,20 @@ class Intervention implements Serializable {
     @Column(name = "id", unique = true, nullable = false, insertable = false, updatable = false, columnDefinition = "INTEGER")
     private Integer id;
 
-    @Column(name = "year", insertable = false, updatable = false, columnDefinition = "INTEGER")
+    // Random key given at the creation of the instance, as for the cars
+    @JsonIgnore
+    @Column(name = "uuid", unique = true, nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String uuid = UUID.randomUUID().toString();
+
+    @Column(name = "year", updatable = false, columnDefinition = "INTEGER")
     private Integer year;
 
-    @Column(name = "number", insertable = false, updatable = false, columnDefinition = "INTEGER")
+    @Column(name = "number", updatable = false, columnDefinition = "INTEGER")
     private Integer number;
 
+    @Column(name = "creationDate", updatable = false, columnDefinition = "DATE")
+    private String creationDate;
+
     @Column(name = "status", nullable = false, columnDefinition = "TEXT")
     private String status;
 
@@ -71,20 +92,22 @@ class Intervention implements Serializable {
 
     @Exclude
     @JsonBackReference
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "carId", referencedColumnName = "id")
     private Car car;
 
     @JsonManagedReference
-    @OneToMany(mappedBy = "intervention", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
-    private Set<Operation> operations = new HashSet<>(0);
+    @OneToMany(mappedBy = "intervention", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @OrderBy("id ASC")
+    @JsonDeserialize(as = LinkedHashSet.class)
+    private Set<Operation> operations = new LinkedHashSet<>(0);
 
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return 0;
+        return Objects.hashCode(this.uuid);
     }
 
     /**
@@ -101,7 +124,7 @@ class Intervention implements Serializable {
         }
 
         final Intervention that = (Intervention) obj;
-        return nonNull(this.id) && this.id.equals(that.id);
+        return nonNull(this.uuid) && this.uuid.equals(that.uuid);
     }
 
 }
@@ -5,10 +5,14 @@ import static java.util.Objects.nonNull;
 import static javax.persistence.GenerationType.IDENTITY;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -18,6 +22,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.Table;
 import lombok.Data;
 import lombok.ToString;
@@ -30,7 +35,7 @@ import lombok.ToString.Exclude;
 @Entity
 @ToString
 @Table(name = "operations")
-class Operation implements Serializable {
+public class Operation implements Serializable {
 
     private static final long serialVersionUID = -6271290610333034638L;
 
@@ -39,25 +44,32 @@ class Operation implements Serializable {
     @Column(name = "id", unique = true, nullable = false, insertable = false, updatable = false, columnDefinition = "INTEGER")
     private Integer id;
 
+    // Random key given at the creation of the instance, as for the cars
+    @JsonIgnore
+    @Column(name = "uuid", unique = true, nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String uuid = UUID.randomUUID().toString();
+
     @Column(name = "label", nullable = false, columnDefinition = "TEXT")
     private String label;
 
     @Exclude
     @JsonBackReference
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "interventionId", referencedColumnName = "id")
     private Intervention intervention;
 
     @JsonManagedReference
-    @OneToMany(mappedBy = "operation", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
-    private Set<OperationLine> operationLines = new HashSet<>(0);
+    @OneToMany(mappedBy = "operation", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @OrderBy("id ASC")
+    @JsonDeserialize(as = LinkedHashSet.class)
+    private Set<OperationLine> operationLines = new LinkedHashSet<>(0);
 
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return 0;
+        return Objects.hashCode(this.uuid);
     }
 
     /**
@@ -74,7 +86,7 @@ class Operation implements Serializable {
         }
 
         final Operation that = (Operation) obj;
-        return nonNull(this.id) && this.id.equals(that.id);
+        return nonNull(this.uuid) && this.uuid.equals(that.uuid);
     }
 
 }
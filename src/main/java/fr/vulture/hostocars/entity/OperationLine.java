@@ -5,7 +5,10 @@ import static java.util.Objects.nonNull;
 import static javax.persistence.GenerationType.IDENTITY;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -25,7 +28,7 @@ import lombok.ToString.Exclude;
 @Entity
 @ToString
 @Table(name = "operationLines")
-class OperationLine implements Serializable {
+public class OperationLine implements Serializable {
 
     private static final long serialVersionUID = 7694570052168923210L;
 
@@ -34,6 +37,11 @@ class OperationLine implements Serializable {
     @Column(name = "id", unique = true, nullable = false, insertable = false, updatable = false, columnDefinition = "INTEGER")
     private Integer id;
 
+    // Random key given at the creation of the instance, as for the cars
+    @JsonIgnore
+    @Column(name = "uuid", unique = true, nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String uuid = UUID.randomUUID().toString();
+
     @Column(name = "type", nullable = false, columnDefinition = "TEXT")
     private String type;
 
@@ -45,7 +53,7 @@ class OperationLine implements Serializable {
 
     @Exclude
     @JsonBackReference
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "operationId", referencedColumnName = "id")
     private Operation operation;
 
@@ -54,7 +62,7 @@ class OperationLine implements Serializable {
      */
     @Override
     public int hashCode() {
-        return 0;
+        return Objects.hashCode(this.uuid);
     }
 
     /**
@@ -71,7 +79,7 @@ class OperationLine implements Serializable {
         }
 
         final OperationLine that = (OperationLine) obj;
-        return nonNull(this.id) && this.id.equals(that.id);
+        return nonNull(this.uuid) && this.uuid.equals(that.uuid);
     }
 
 }
@@ -0,0 +1,164 @@
+package fr.vulture.hostocars.migration;
+
+import static java.util.Objects.isNull;
+
+import fr.vulture.hostocars.service.BlobStore;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Liquibase change moving the files stored in the {@code certificate} and {@code picture} columns of the {@code cars} table to the {@link BlobStore}.
+ * <br/>
+ * <br/>
+ * The rows are moved by chunks, each one being committed on its own, so the migration can be resumed where it stopped if it is interrupted.
+ */
+@Slf4j
+@Getter
+@Setter
+public class MoveCarFilesToBlobStoreChange implements CustomTaskChange {
+
+    private static final int DEFAULT_CHUNK_SIZE = 20;
+
+    private static final String SELECT_QUERY = "SELECT id, certificate, picture FROM cars WHERE id > ? AND (certificate IS NOT NULL OR picture IS NOT NULL) ORDER BY id "
+        + "LIMIT ?";
+    private static final String UPDATE_QUERY = "UPDATE cars SET certificateHash = COALESCE(?, certificateHash), pictureHash = COALESCE(?, pictureHash), certificate = NULL, "
+        + "picture = NULL WHERE id = ?";
+
+    private String path;
+    private String chunkSize;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(final Database database) throws CustomChangeException {
+        final BlobStore store = new BlobStore(this.path);
+        final int limit = isNull(this.chunkSize) ? DEFAULT_CHUNK_SIZE : Integer.parseInt(this.chunkSize);
+        final Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+
+        try {
+            final boolean autoCommit = connection.getAutoCommit();
+            final int count;
+
+            connection.setAutoCommit(false);
+            try {
+                count = this.moveFiles(connection, store, limit);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            // The freed pages are given back to the file system, which can only be done outside of a transaction
+            if (count > 0 && autoCommit) {
+                try (final Statement vacuum = connection.createStatement()) {
+                    vacuum.execute("VACUUM");
+                }
+            }
+
+            log.info("Moved the files of {} cars to the blob store", count);
+        } catch (final SQLException exception) {
+            throw new CustomChangeException("Could not move the car files to the blob store", exception);
+        }
+    }
+
+    /**
+     * Moves the files to the blob store, committing each chunk of rows.
+     *
+     * @param connection
+     *     The database connection
+     * @param store
+     *     The blob store
+     * @param limit
+     *     The number of rows of a chunk
+     *
+     * @return the number of moved rows
+     *
+     * @throws SQLException
+     *     if a query fails
+     */
+    private int moveFiles(final Connection connection, final BlobStore store, final int limit) throws SQLException {
+        try (final PreparedStatement select = connection.prepareStatement(SELECT_QUERY); final PreparedStatement update = connection.prepareStatement(UPDATE_QUERY)) {
+            int lastId = 0;
+            int count = 0;
+            boolean hasNext = true;
+
+            while (hasNext) {
+                select.setInt(1, lastId);
+                select.setInt(2, limit);
+
+                int chunkCount = 0;
+                try (final ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getInt(1);
+
+                        final byte[] certificate = resultSet.getBytes(2);
+                        final byte[] picture = resultSet.getBytes(3);
+
+                        update.setString(1, isNull(certificate) ? null : store.store(certificate));
+                        update.setString(2, isNull(picture) ? null : store.store(picture));
+                        update.setInt(3, lastId);
+                        update.addBatch();
+
+                        chunkCount++;
+                    }
+                }
+
+                update.executeBatch();
+                connection.commit();
+
+                count += chunkCount;
+                hasNext = chunkCount == limit;
+
+                log.debug("Moved the files of {} cars to the blob store", count);
+            }
+
+            return count;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getConfirmationMessage() {
+        return "Car files moved to the blob store";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setUp() {
+        // Nothing to set up
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFileOpener(final ResourceAccessor resourceAccessor) {
+        // No resource needed
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationErrors validate(final Database database) {
+        final ValidationErrors errors = new ValidationErrors();
+        errors.checkRequiredField("path", this.path);
+        return errors;
+    }
+
+}
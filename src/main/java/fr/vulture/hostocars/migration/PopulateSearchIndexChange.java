@@ -0,0 +1,159 @@
+package fr.vulture.hostocars.migration;
+
+import static java.util.Objects.isNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Liquibase change populating the {@code searchIndex} full-text table with the existing rows of the {@code cars} and {@code interventions} tables.
+ * <br/>
+ * <br/>
+ * The rows are indexed by chunks of IDs, each one being committed on its own. The rows already indexed are skipped, so the migration can be resumed where it
+ * stopped if it is interrupted.
+ */
+@Slf4j
+@Getter
+@Setter
+public class PopulateSearchIndexChange implements CustomTaskChange {
+
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private static final String CARS_TABLE = "cars";
+    private static final String INTERVENTIONS_TABLE = "interventions";
+
+    private static final String SELECT_LAST_ID_QUERY = "SELECT MAX(id) FROM (SELECT id FROM %s WHERE id > ? ORDER BY id LIMIT ?)";
+    private static final String INSERT_CARS_QUERY = "INSERT INTO searchIndex (rowid, registration, owner, brand, model, comments) SELECT id * 2, registration, "
+        + "owner, brand, model, comments FROM cars WHERE id > ? AND id <= ? AND NOT EXISTS (SELECT 1 FROM searchIndex WHERE rowid = cars.id * 2)";
+    private static final String INSERT_INTERVENTIONS_QUERY = "INSERT INTO searchIndex (rowid, description, comments) SELECT id * 2 + 1, description, comments "
+        + "FROM interventions WHERE id > ? AND id <= ? AND NOT EXISTS (SELECT 1 FROM searchIndex WHERE rowid = interventions.id * 2 + 1)";
+
+    private String chunkSize;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(final Database database) throws CustomChangeException {
+        final int limit = isNull(this.chunkSize) ? DEFAULT_CHUNK_SIZE : Integer.parseInt(this.chunkSize);
+        final Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+
+        try {
+            final boolean autoCommit = connection.getAutoCommit();
+            final int carCount;
+            final int interventionCount;
+
+            connection.setAutoCommit(false);
+            try {
+                carCount = populate(connection, CARS_TABLE, INSERT_CARS_QUERY, limit);
+                interventionCount = populate(connection, INTERVENTIONS_TABLE, INSERT_INTERVENTIONS_QUERY, limit);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            // The segments written by each chunk are merged, so the searches do not have to read all of them
+            if (carCount + interventionCount > 0) {
+                try (final Statement optimize = connection.createStatement()) {
+                    optimize.execute("INSERT INTO searchIndex (searchIndex) VALUES ('optimize')");
+                }
+            }
+
+            log.info("Indexed {} cars and {} interventions for the full-text search", carCount, interventionCount);
+        } catch (final SQLException exception) {
+            throw new CustomChangeException("Could not populate the full-text search index", exception);
+        }
+    }
+
+    /**
+     * Indexes the rows of a table, committing each chunk of IDs.
+     *
+     * @param connection
+     *     The database connection
+     * @param table
+     *     The indexed table
+     * @param insertQuery
+     *     The query indexing the rows of a range of IDs
+     * @param limit
+     *     The number of IDs of a chunk
+     *
+     * @return the number of indexed rows
+     *
+     * @throws SQLException
+     *     if a query fails
+     */
+    private static int populate(final Connection connection, final String table, final String insertQuery, final int limit) throws SQLException {
+        try (final PreparedStatement select = connection.prepareStatement(String.format(SELECT_LAST_ID_QUERY, table));
+            final PreparedStatement insert = connection.prepareStatement(insertQuery)) {
+            int lastId = 0;
+            int count = 0;
+
+            while (true) {
+                select.setInt(1, lastId);
+                select.setInt(2, limit);
+
+                final int chunkLastId;
+                try (final ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    chunkLastId = resultSet.getInt(1);
+                    if (resultSet.wasNull()) {
+                        return count;
+                    }
+                }
+
+                insert.setInt(1, lastId);
+                insert.setInt(2, chunkLastId);
+                count += insert.executeUpdate();
+                connection.commit();
+
+                lastId = chunkLastId;
+
+                log.debug("Indexed {} rows of the {} table for the full-text search", count, table);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getConfirmationMessage() {
+        return "Full-text search index populated";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setUp() {
+        // Nothing to set up
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFileOpener(final ResourceAccessor resourceAccessor) {
+        // No resource needed
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationErrors validate(final Database database) {
+        return new ValidationErrors();
+    }
+
+}
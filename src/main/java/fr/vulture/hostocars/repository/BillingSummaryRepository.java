@@ -0,0 +1,137 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
+
+import fr.vulture.hostocars.dto.BillingMismatch;
+import fr.vulture.hostocars.dto.BillingReport;
+import fr.vulture.hostocars.dto.BillingSummary;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the billing summaries of the interventions by year, month of creation and status, backed by the {@code billingSummaries} table kept in
+ * sync by triggers, so that they are read without scanning the interventions.
+ * <br/>
+ * <br/>
+ * The amounts are stored in cents, so that the sums maintained row by row are exact and equal to a full recompute.
+ */
+@Repository
+public class BillingSummaryRepository {
+
+    private static final String SELECT_QUERY = "SELECT year AS year, NULLIF(month, 0) AS month, status AS status, count AS count, amount / 100.0 AS amount, "
+        + "paidAmount / 100.0 AS paidAmount FROM (%s)%s ORDER BY year ASC, month ASC, status ASC";
+    private static final String YEAR_PREDICATE = " WHERE year = :year";
+    // The same expressions as the triggers maintaining the billingSummaries table
+    private static final String RECOMPUTE_QUERY = "SELECT COALESCE(year, CAST(strftime('%Y', creationDate) AS INTEGER), 0) AS year, "
+        + "COALESCE(CAST(strftime('%m', creationDate) AS INTEGER), 0) AS month, status AS status, COUNT(*) AS count, "
+        + "SUM(CAST(ROUND(COALESCE(amount, 0) * 100) AS INTEGER)) AS amount, SUM(CAST(ROUND(COALESCE(paidAmount, 0) * 100) AS INTEGER)) AS paidAmount "
+        + "FROM interventions GROUP BY 1, 2, 3";
+    private static final String SUMMARIES_QUERY = "SELECT year, month, status, count, amount, paidAmount FROM billingSummaries";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Retrieves the maintained billing summaries, sorted by year, month and status.
+     *
+     * @param year
+     *     The year of the summaries, or {@code null} for all the years
+     *
+     * @return the list of {@link BillingSummary}
+     */
+    public List<BillingSummary> findAll(final Integer year) {
+        return this.select(SUMMARIES_QUERY, year);
+    }
+
+    /**
+     * Recomputes the billing summaries from all the interventions, sorted by year, month and status.
+     *
+     * @return the list of {@link BillingSummary}
+     */
+    public List<BillingSummary> recompute() {
+        return this.select(RECOMPUTE_QUERY, null);
+    }
+
+    /**
+     * Rebuilds the billing summaries from a full recompute, after having verified the maintained ones against it. This must be called within a write
+     * transaction, so that no intervention is written in between.
+     *
+     * @return the {@link BillingReport}, listing the summaries which differed from the recompute
+     */
+    public BillingReport rebuild() {
+        final Map<String, BillingMismatch> mismatches = new LinkedHashMap<>();
+        for (final BillingSummary expected : this.recompute()) {
+            mismatches.put(toKey(expected), new BillingMismatch(expected, null));
+        }
+
+        for (final BillingSummary actual : this.findAll(null)) {
+            mismatches.computeIfAbsent(toKey(actual), key -> new BillingMismatch()).setActual(actual);
+        }
+
+        final int summaryCount = (int) mismatches.values().stream().filter(mismatch -> nonNull(mismatch.getExpected())).count();
+        mismatches.values().removeIf(mismatch -> Objects.equals(mismatch.getExpected(), mismatch.getActual()));
+
+        if (!mismatches.isEmpty()) {
+            this.entityManager.createNativeQuery("DELETE FROM billingSummaries").executeUpdate();
+            this.entityManager.createNativeQuery("INSERT INTO billingSummaries (year, month, status, count, amount, paidAmount) " + RECOMPUTE_QUERY)
+                .executeUpdate();
+        }
+
+        return new BillingReport(summaryCount, new ArrayList<>(mismatches.values()));
+    }
+
+    /**
+     * Selects the billing summaries from a query of the {@code billingSummaries} table columns, converting their months and amounts.
+     *
+     * @param query
+     *     The SQL query
+     * @param year
+     *     The year of the summaries, or {@code null} for all the years
+     *
+     * @return the list of {@link BillingSummary}
+     */
+    @SuppressWarnings("unchecked")
+    private List<BillingSummary> select(final String query, final Integer year) {
+        // The column types are declared, as the SQLite driver reports the types of the first row only
+        final Query nativeQuery = this.entityManager.createNativeQuery(String.format(SELECT_QUERY, query, isNull(year) ? "" : YEAR_PREDICATE))
+            .unwrap(NativeQuery.class)
+            .addScalar("year", StandardBasicTypes.INTEGER)
+            .addScalar("month", StandardBasicTypes.INTEGER)
+            .addScalar("status", StandardBasicTypes.STRING)
+            .addScalar("count", StandardBasicTypes.LONG)
+            .addScalar("amount", StandardBasicTypes.DOUBLE)
+            .addScalar("paidAmount", StandardBasicTypes.DOUBLE);
+
+        if (nonNull(year)) {
+            nativeQuery.setParameter("year", year);
+        }
+
+        return ((List<Object[]>) nativeQuery.getResultList()).stream()
+            .map(row -> new BillingSummary((Integer) row[0], (Integer) row[1], (String) row[2], (Long) row[3], (Double) row[4], (Double) row[5]))
+            .collect(toList());
+    }
+
+    /**
+     * Builds the key of a billing summary.
+     *
+     * @param summary
+     *     The {@link BillingSummary}
+     *
+     * @return the key of the summary
+     */
+    private static String toKey(final BillingSummary summary) {
+        return summary.getYear() + "/" + summary.getMonth() + "/" + summary.getStatus();
+    }
+
+}
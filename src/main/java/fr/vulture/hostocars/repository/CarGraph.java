@@ -0,0 +1,61 @@
+package fr.vulture.hostocars.repository;
+
+import fr.vulture.hostocars.entity.Car;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Depths up to which the associations of a {@link Car} are fetched, each one being resolved with a fixed number of statements through the matching
+ * named entity graph of the {@link Car} entity.
+ */
+@Getter
+@AllArgsConstructor
+public enum CarGraph {
+
+    /**
+     * No association is fetched.
+     */
+    NONE("none", null),
+
+    /**
+     * The interventions are fetched.
+     */
+    INTERVENTIONS("interventions", "Car.interventions"),
+
+    /**
+     * The interventions and their operations are fetched.
+     */
+    OPERATIONS("operations", "Car.operations"),
+
+    /**
+     * The interventions, their operations and their operation lines are fetched.
+     */
+    LINES("lines", "Car.lines");
+
+    private final String value;
+
+    private final String entityGraphName;
+
+    /**
+     * Returns the {@link CarGraph} matching the given value.
+     *
+     * @param value
+     *     The value of the {@link CarGraph}
+     *
+     * @return the matching {@link CarGraph}
+     *
+     * @throws IllegalArgumentException
+     *     if no {@link CarGraph} matches the value
+     */
+    public static CarGraph fromValue(@NonNull final String value) {
+        return Arrays.stream(values())
+            .filter(graph -> graph.value.equals(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Unsupported expansion " + value + ", expected one of " + Arrays.stream(values()).map(CarGraph::getValue).collect(Collectors.toList())));
+    }
+
+}
@@ -1,13 +1,121 @@
 package fr.vulture.hostocars.repository;
 
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.dto.CarSummary;
 import fr.vulture.hostocars.entity.Car;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for the {@link Car} entity.
  */
 @Repository
-public interface CarRepository extends JpaRepository<Car, Integer> {
+public interface CarRepository extends JpaRepository<Car, Integer>, CarRepositoryCustom {
+
+    /**
+     * Retrieves the summaries of all the {@link Car}, without reading their files nor the interventions.
+     *
+     * @param sort
+     *     The sorting clause
+     *
+     * @return the list of {@link CarSummary}
+     */
+    @Query("SELECT new fr.vulture.hostocars.dto.CarSummary(c.id, c.registration, c.serialNumber, c.owner, c.brand, c.model, c.motorization, c.engineCode, "
+        + "c.releaseDate, c.comments, CASE WHEN c.certificateHash IS NULL THEN false ELSE true END, CASE WHEN c.pictureHash IS NULL THEN false ELSE true END) FROM Car c")
+    List<CarSummary> findAllSummaries(Sort sort);
+
+    /**
+     * Retrieves the registrations and serial numbers of all the {@link Car}, as indexed for the suggestions.
+     *
+     * @return the list of {@link CarSuggestion}
+     */
+    @Query("SELECT new fr.vulture.hostocars.dto.CarSuggestion(c.id, c.registration, c.serialNumber) FROM Car c")
+    List<CarSuggestion> findAllSuggestions();
+
+    /**
+     * Retrieves the registration and serial number of the {@link Car} with the given ID, as indexed for the suggestions.
+     *
+     * @param id
+     *     The {@link Car} ID
+     *
+     * @return the {@link CarSuggestion}, or an empty result if the car does not exist
+     */
+    @Query("SELECT new fr.vulture.hostocars.dto.CarSuggestion(c.id, c.registration, c.serialNumber) FROM Car c WHERE c.id = :id")
+    Optional<CarSuggestion> findSuggestionById(@Param("id") Integer id);
+
+    /**
+     * Retrieves the hash of the certificate file of the {@link Car} with the given ID.
+     *
+     * @param id
+     *     The {@link Car} ID
+     *
+     * @return the certificate file hash, or {@code null} if the car does not exist or has no certificate
+     */
+    @Query("SELECT c.certificateHash FROM Car c WHERE c.id = :id")
+    String findCertificateHashById(@Param("id") Integer id);
+
+    /**
+     * Retrieves the hash of the picture file of the {@link Car} with the given ID.
+     *
+     * @param id
+     *     The {@link Car} ID
+     *
+     * @return the picture file hash, or {@code null} if the car does not exist or has no picture
+     */
+    @Query("SELECT c.pictureHash FROM Car c WHERE c.id = :id")
+    String findPictureHashById(@Param("id") Integer id);
+
+    /**
+     * Updates the hash of the certificate file of the {@link Car} with the given ID.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param hash
+     *     The new certificate file hash, or {@code null} to remove it
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Car c SET c.certificateHash = :hash WHERE c.id = :id")
+    int updateCertificateHashById(@Param("id") Integer id, @Param("hash") String hash);
+
+    /**
+     * Retrieves the hashes of all the certificate files.
+     *
+     * @return the list of certificate file hashes
+     */
+    @Query("SELECT c.certificateHash FROM Car c WHERE c.certificateHash IS NOT NULL")
+    List<String> findAllCertificateHashes();
+
+    /**
+     * Updates the hash of the picture file of the {@link Car} with the given ID.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param hash
+     *     The new picture file hash, or {@code null} to remove it
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Car c SET c.pictureHash = :hash WHERE c.id = :id")
+    int updatePictureHashById(@Param("id") Integer id, @Param("hash") String hash);
+
+    /**
+     * Retrieves the hashes of all the picture files.
+     *
+     * @return the list of picture file hashes
+     */
+    @Query("SELECT c.pictureHash FROM Car c WHERE c.pictureHash IS NOT NULL")
+    List<String> findAllPictureHashes();
 
 }
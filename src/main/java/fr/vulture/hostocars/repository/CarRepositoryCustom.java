@@ -0,0 +1,115 @@
+package fr.vulture.hostocars.repository;
+
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.entity.Car;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Custom queries of the {@link CarRepository}.
+ */
+public interface CarRepositoryCustom {
+
+    /**
+     * Retrieves the {@link Car} with the given ID, with its associations fetched up to the given depth in a single statement.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param graph
+     *     The depth up to which the associations are fetched
+     *
+     * @return the {@link Car}, or an empty result if there is none
+     */
+    Optional<Car> findById(Integer id, CarGraph graph);
+
+    /**
+     * Retrieves all the {@link Car}, with their associations fetched up to the given depth in a single statement.
+     *
+     * @param sort
+     *     The sorting clause
+     * @param graph
+     *     The depth up to which the associations are fetched
+     *
+     * @return the list of {@link Car}
+     */
+    List<Car> findAll(Sort sort, CarGraph graph);
+
+    /**
+     * Retrieves a page of {@link Car} sorted by the given field then by ID, starting after the given cursor. The page is read in a single statement, plus
+     * one more if associations are fetched.
+     *
+     * @param sortingField
+     *     The sorting field, which must be backed by an index
+     * @param cursor
+     *     The position after which the page starts, or {@code null} for the first page
+     * @param limit
+     *     The maximum number of {@link Car} to retrieve
+     * @param graph
+     *     The depth up to which the associations are fetched
+     *
+     * @return the page of {@link Car}
+     */
+    List<Car> findPage(String sortingField, Cursor cursor, int limit, CarGraph graph);
+
+    /**
+     * Inserts new {@link Car} without their associations, by JDBC batches of the given size, within the current transaction. Their IDs are reserved at once
+     * after the highest ID ever allocated, and set on the inserted {@link Car}.
+     * <br/>
+     * <br/>
+     * A batch is inserted within a savepoint. If it fails, it is rolled back and its rows are inserted again one by one, so a failing row does not prevent
+     * the insertion of the others.
+     *
+     * @param cars
+     *     The {@link Car} to insert
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     *
+     * @return the {@link BulkResult} of each {@link Car}, by position in the given list
+     */
+    List<BulkResult> saveAllInBatches(List<Car> cars, int batchSize);
+
+    /**
+     * Inserts new {@link Car} or updates the existing ones of the same registrations, each one by a single statement, by JDBC batches of the given size
+     * within the current transaction. Their associations and files are left untouched, and their IDs are set on the given {@link Car}.
+     * <br/>
+     * <br/>
+     * The batches are handled as by {@link #saveAllInBatches}. A registration written twice is updated by its last {@link Car}.
+     *
+     * @param cars
+     *     The {@link Car} to upsert
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     *
+     * @return the {@link BulkResult} of each {@link Car}, by position in the given list
+     */
+    List<BulkResult> saveAllByRegistration(List<Car> cars, int batchSize);
+
+    /**
+     * Updates the given fields of the {@link Car} with the given ID by a single statement, without loading it. Its other fields, its associations and its
+     * files are left untouched.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param changes
+     *     The new values, by field name, a {@code null} value clearing its field
+     *
+     * @return the number of updated rows
+     */
+    int updateById(Integer id, Map<String, Object> changes);
+
+    /**
+     * Deletes the {@link Car} with the given IDs along with their interventions, operations and operation lines, by one set-based statement per table
+     * whatever the number of cars and the length of their history, without loading them. Their files are left to the blob garbage collection.
+     *
+     * @param ids
+     *     The {@link Car} IDs
+     *
+     * @return the number of deleted {@link Car}
+     */
+    int deleteAllByIdIn(Collection<Integer> ids);
+
+}
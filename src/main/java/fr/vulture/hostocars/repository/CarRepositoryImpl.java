@@ -0,0 +1,390 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.joining;
+
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.entity.Car;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import lombok.NonNull;
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Implementation of the {@link CarRepositoryCustom} queries.
+ * <br/>
+ * <br/>
+ * The associations are fetched through the entity graphs of the {@link Car} entity, as joins of the main statement. The root entities are deduplicated in
+ * memory, so no {@code DISTINCT} clause is sent to the database.
+ * <br/>
+ * <br/>
+ * The pages are read with keyset predicates instead of offsets, so each page costs an index range scan whatever its position. As SQLite sorts the
+ * {@code NULL} values first, a cursor on a {@code NULL} value goes on with the remaining {@code NULL} values then with all the other ones.
+ * <br/>
+ * <br/>
+ * The bulk insertions bypass Hibernate, whose batching is disabled by the identity generation of the IDs, and are sent as JDBC batches on the connection
+ * of the current transaction. Their range of IDs is registered in the {@code bulkImports} table meanwhile, so the search index trigger skips their rows,
+ * which are indexed by a single statement instead.
+ * <br/>
+ * <br/>
+ * The upserts by registration are the same insertions, updating the existing car of the registration on conflict. As the existing cars all have an ID
+ * below the reserved range, a written car is known to have been created by its ID, unless its registration was already written earlier in the same list.
+ * <br/>
+ * <br/>
+ * The partial updates are bulk statements setting only the given fields, so the car is neither loaded nor merged. Likewise, the deletions are bulk
+ * statements from the operation lines up to the cars, selecting the rows of each table from the car IDs, instead of a removal cascaded entity by entity.
+ */
+class CarRepositoryImpl implements CarRepositoryCustom {
+
+    private static final String ID_FIELD = "id";
+
+    // The highest ID ever allocated is kept by the sequence of the AUTOINCREMENT column, so the IDs of the deleted cars are not reused
+    private static final String NEXT_ID_QUERY = "SELECT MAX(COALESCE((SELECT seq FROM sqlite_sequence WHERE name = 'cars'), 0), "
+        + "COALESCE((SELECT MAX(id) FROM cars), 0)) + 1";
+    private static final String INSERT_QUERY = "INSERT INTO cars (id, registration, serialNumber, owner, brand, model, motorization, engineCode, releaseDate, "
+        + "comments, uuid) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_QUERY = INSERT_QUERY + " ON CONFLICT (registration) DO UPDATE SET serialNumber = excluded.serialNumber, "
+        + "owner = excluded.owner, brand = excluded.brand, model = excluded.model, motorization = excluded.motorization, engineCode = excluded.engineCode, "
+        + "releaseDate = excluded.releaseDate, comments = excluded.comments";
+    private static final String ID_BY_REGISTRATION_QUERY = "SELECT id FROM cars WHERE registration = ?";
+    private static final String RESERVE_QUERY = "INSERT INTO bulkImports (firstId, lastId) VALUES (?, ?)";
+    private static final String RELEASE_QUERY = "DELETE FROM bulkImports WHERE firstId = ?";
+    private static final String INDEX_QUERY = "INSERT INTO searchIndex (rowid, registration, owner, brand, model, comments) "
+        + "SELECT id * 2, registration, owner, brand, model, comments FROM cars WHERE id BETWEEN ? AND ?";
+
+    // The children are deleted first, as each table is selected through its parent
+    private static final List<String> DELETE_QUERIES = List.of(
+        "DELETE FROM OperationLine l WHERE l.operation.id IN (SELECT o.id FROM Operation o WHERE o.intervention.id IN "
+            + "(SELECT i.id FROM Intervention i WHERE i.car.id IN :ids))",
+        "DELETE FROM Operation o WHERE o.intervention.id IN (SELECT i.id FROM Intervention i WHERE i.car.id IN :ids)",
+        "DELETE FROM Intervention i WHERE i.car.id IN :ids",
+        "DELETE FROM Car c WHERE c.id IN :ids");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Car> findById(@NonNull final Integer id, @NonNull final CarGraph graph) {
+        final List<Car> result = this.createQuery("SELECT DISTINCT c FROM Car c WHERE c.id = :id", Car.class, graph).setParameter("id", id).getResultList();
+        return result.stream().findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Car> findAll(@NonNull final Sort sort, @NonNull final CarGraph graph) {
+        final String orderByClause = sort.stream()
+            .map(order -> "c." + this.checkAttribute(order.getProperty()) + ' ' + order.getDirection().name())
+            .collect(joining(", ", " ORDER BY ", ""));
+
+        return this.createQuery("SELECT DISTINCT c FROM Car c" + (sort.isSorted() ? orderByClause : ""), Car.class, graph).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Car> findPage(@NonNull final String sortingField, final Cursor cursor, final int limit, @NonNull final CarGraph graph) {
+        this.checkAttribute(sortingField);
+
+        final StringBuilder whereClause = new StringBuilder();
+        if (!isNull(cursor)) {
+            if (ID_FIELD.equals(sortingField)) {
+                whereClause.append(" WHERE c.id > :id");
+            } else if (isNull(cursor.getValue())) {
+                whereClause.append(" WHERE (c.").append(sortingField).append(" IS NULL AND c.id > :id) OR c.").append(sortingField).append(" IS NOT NULL");
+            } else {
+                // The redundant first condition lets SQLite scan the index range of the sorting field
+                whereClause.append(" WHERE c.").append(sortingField).append(" >= :value AND (c.").append(sortingField).append(" > :value OR c.id > :id)");
+            }
+        }
+
+        final String orderByClause = ID_FIELD.equals(sortingField) ? " ORDER BY c.id ASC" : " ORDER BY c." + sortingField + " ASC, c.id ASC";
+
+        if (graph == CarGraph.NONE) {
+            final TypedQuery<Car> query = this.entityManager.createQuery("SELECT c FROM Car c" + whereClause + orderByClause, Car.class);
+            return setCursorParameters(query, sortingField, cursor).setMaxResults(limit).getResultList();
+        }
+
+        // The page limit cannot be applied to a statement joining the associations, so the IDs of the page are read first
+        final TypedQuery<Integer> idQuery = this.entityManager.createQuery("SELECT c.id FROM Car c" + whereClause + orderByClause, Integer.class);
+        final List<Integer> ids = setCursorParameters(idQuery, sortingField, cursor).setMaxResults(limit).getResultList();
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return this.createQuery("SELECT DISTINCT c FROM Car c WHERE c.id IN :ids" + orderByClause, Car.class, graph).setParameter("ids", ids).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int updateById(@NonNull final Integer id, @NonNull final Map<String, Object> changes) {
+        return PartialUpdates.update(this.entityManager, "Car", id, changes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteAllByIdIn(@NonNull final Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int count = 0;
+        for (final String query : DELETE_QUERIES) {
+            count = this.entityManager.createQuery(query).setParameter("ids", ids).executeUpdate();
+        }
+
+        // The count of the last statement is the number of deleted cars
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BulkResult> saveAllInBatches(@NonNull final List<Car> cars, final int batchSize) {
+        if (cars.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> writeInBatches(connection, cars, batchSize, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BulkResult> saveAllByRegistration(@NonNull final List<Car> cars, final int batchSize) {
+        if (cars.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> writeInBatches(connection, cars, batchSize, true));
+    }
+
+    /**
+     * Creates a query fetching the associations of the {@link Car} up to the given depth.
+     *
+     * @param query
+     *     The JPQL query
+     * @param resultClass
+     *     The class of the result
+     * @param graph
+     *     The depth up to which the associations are fetched
+     * @param <T>
+     *     The type of the result
+     *
+     * @return the query
+     */
+    private <T> TypedQuery<T> createQuery(final String query, final Class<T> resultClass, final CarGraph graph) {
+        final TypedQuery<T> typedQuery = this.entityManager.createQuery(query, resultClass).setHint(QueryHints.HINT_PASS_DISTINCT_THROUGH, false);
+        if (graph != CarGraph.NONE) {
+            typedQuery.setHint(QueryHints.HINT_FETCHGRAPH, this.entityManager.getEntityGraph(graph.getEntityGraphName()));
+        }
+
+        return typedQuery;
+    }
+
+    /**
+     * Sets the parameters of the keyset predicate of a page query.
+     *
+     * @param query
+     *     The page query
+     * @param sortingField
+     *     The sorting field
+     * @param cursor
+     *     The position after which the page starts, or {@code null} for the first page
+     * @param <T>
+     *     The type of the result
+     *
+     * @return the query
+     */
+    private static <T> TypedQuery<T> setCursorParameters(final TypedQuery<T> query, final String sortingField, final Cursor cursor) {
+        if (!isNull(cursor)) {
+            query.setParameter("id", cursor.getId());
+
+            if (!ID_FIELD.equals(sortingField) && !isNull(cursor.getValue())) {
+                query.setParameter("value", cursor.getValue());
+            }
+        }
+
+        return query;
+    }
+
+    /**
+     * Checks that an attribute of the {@link Car} entity exists, before it is written in a query.
+     *
+     * @param attribute
+     *     The attribute name
+     *
+     * @return the attribute name
+     *
+     * @throws IllegalArgumentException
+     *     if the attribute does not exist
+     */
+    private String checkAttribute(final String attribute) {
+        return this.entityManager.getMetamodel().entity(Car.class).getAttribute(attribute).getName();
+    }
+
+    /**
+     * Inserts or upserts {@link Car} by batches, through {@link JdbcBatches}.
+     *
+     * @param connection
+     *     The connection of the current transaction
+     * @param cars
+     *     The {@link Car} to write
+     * @param batchSize
+     *     The number of rows of a batch
+     * @param upsert
+     *     Whether the existing {@link Car} of the same registrations are updated rather than failing
+     *
+     * @return the {@link BulkResult} of each {@link Car}
+     *
+     * @throws SQLException
+     *     if the IDs cannot be reserved, a savepoint cannot be handled, the IDs of the upserted rows cannot be read or the rows cannot be indexed
+     */
+    private static List<BulkResult> writeInBatches(final Connection connection, final List<Car> cars, final int batchSize, final boolean upsert)
+        throws SQLException {
+        final int firstId;
+        try (final Statement statement = connection.createStatement(); final ResultSet resultSet = statement.executeQuery(NEXT_ID_QUERY)) {
+            resultSet.next();
+            firstId = resultSet.getInt(1);
+        }
+
+        final int lastId = firstId + cars.size() - 1;
+        executeUpdate(connection, RESERVE_QUERY, firstId, lastId);
+
+        final List<BulkResult> results = new ArrayList<>(cars.size());
+        try (final PreparedStatement statement = connection.prepareStatement(upsert ? UPSERT_QUERY : INSERT_QUERY);
+            final PreparedStatement idStatement = upsert ? connection.prepareStatement(ID_BY_REGISTRATION_QUERY) : null) {
+            final String[] errors = JdbcBatches.execute(connection, statement, cars.size(), batchSize,
+                (batchStatement, index) -> bindCar(batchStatement, cars.get(index), firstId + index), index -> null);
+
+            final Set<String> createdRegistrations = new HashSet<>();
+            for (int index = 0; index < cars.size(); index++) {
+                results.add(isNull(errors[index]) ? written(idStatement, cars.get(index), index, firstId, createdRegistrations)
+                    : new BulkResult(index, null, null, errors[index]));
+            }
+        }
+
+        executeUpdate(connection, INDEX_QUERY, firstId, lastId);
+        executeUpdate(connection, RELEASE_QUERY, firstId);
+        return results;
+    }
+
+    /**
+     * Executes a statement with integer parameters.
+     *
+     * @param connection
+     *     The connection of the current transaction
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The parameters of the statement
+     *
+     * @throws SQLException
+     *     if the statement fails
+     */
+    private static void executeUpdate(final Connection connection, final String query, final int... parameters) throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setInt(i + 1, parameters[i]);
+            }
+
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Sets the ID of a written {@link Car}, being its reserved ID if it has been inserted, or the ID of the row of its registration if it has been upserted.
+     *
+     * @param idStatement
+     *     The statement reading the ID of an upserted row, or {@code null} for an insertion
+     * @param car
+     *     The written {@link Car}
+     * @param index
+     *     The position of the {@link Car} in the written list
+     * @param firstId
+     *     The first ID of the reserved range
+     * @param createdRegistrations
+     *     The registrations of the {@link Car} already created from the written list, to which the registration is added if it has been created
+     *
+     * @return the {@link BulkResult} of the {@link Car}, in error if the row of its registration cannot be found
+     *
+     * @throws SQLException
+     *     if the ID of the upserted row cannot be read
+     */
+    private static BulkResult written(final PreparedStatement idStatement, final Car car, final int index, final int firstId,
+        final Set<String> createdRegistrations) throws SQLException {
+        int id = firstId + index;
+        if (nonNull(idStatement)) {
+            idStatement.setString(1, car.getRegistration());
+            try (final ResultSet resultSet = idStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return new BulkResult(index, null, null, "No car found with registration " + car.getRegistration());
+                }
+
+                id = resultSet.getInt(1);
+            }
+        }
+
+        car.setId(id);
+
+        // A registration repeated in the list is inserted by its first row, then updated by the next ones, all within the reserved range
+        return new BulkResult(index, id, id >= firstId && createdRegistrations.add(car.getRegistration()), null);
+    }
+
+    /**
+     * Binds the columns of a {@link Car} to the insertion statement.
+     *
+     * @param statement
+     *     The insertion statement
+     * @param car
+     *     The {@link Car} to insert
+     * @param id
+     *     The reserved ID of the {@link Car}
+     *
+     * @throws SQLException
+     *     if a parameter cannot be bound
+     */
+    private static void bindCar(final PreparedStatement statement, final Car car, final int id) throws SQLException {
+        statement.setInt(1, id);
+        statement.setString(2, car.getRegistration());
+        statement.setString(3, car.getSerialNumber());
+        statement.setString(4, car.getOwner());
+        statement.setString(5, car.getBrand());
+        statement.setString(6, car.getModel());
+        statement.setString(7, car.getMotorization());
+        statement.setString(8, car.getEngineCode());
+        statement.setString(9, car.getReleaseDate());
+        statement.setString(10, car.getComments());
+        statement.setString(11, car.getUuid());
+    }
+
+}
@@ -0,0 +1,304 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.Objects.isNull;
+
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.entity.Operation;
+import fr.vulture.hostocars.entity.OperationLine;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import lombok.NonNull;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the dumps of the whole database, read and written table by table, the parents before their children.
+ * <br/>
+ * <br/>
+ * The entities are read through forward-only scrolls, each one being detached once consumed along with the proxy of its parent, so the persistence context
+ * stays empty whatever the size of the database. They are written with their IDs by JDBC batches through {@link JdbcBatches}, a child whose parent does
+ * not exist being rejected.
+ */
+@Repository
+public class DumpRepository {
+
+    private static final String CARS_QUERY = "SELECT c, c.id FROM Car c ORDER BY c.id";
+    private static final String INTERVENTIONS_QUERY = "SELECT i, i.car.id FROM Intervention i ORDER BY i.id";
+    private static final String OPERATIONS_QUERY = "SELECT o, o.intervention.id FROM Operation o ORDER BY o.id";
+    private static final String OPERATION_LINES_QUERY = "SELECT l, l.operation.id FROM OperationLine l ORDER BY l.id";
+
+    private static final String INSERT_CAR_QUERY = "INSERT INTO cars (id, registration, serialNumber, owner, brand, model, motorization, engineCode, "
+        + "releaseDate, comments, certificateHash, pictureHash, uuid) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_INTERVENTION_QUERY = "INSERT INTO interventions (id, carId, year, number, creationDate, status, description, mileage, "
+        + "estimatedTime, realTime, amount, paidAmount, comments, uuid) SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? "
+        + "WHERE EXISTS (SELECT 1 FROM cars WHERE id = ?)";
+    private static final String INSERT_OPERATION_QUERY = "INSERT INTO operations (id, interventionId, label, uuid) SELECT ?, ?, ?, ? "
+        + "WHERE EXISTS (SELECT 1 FROM interventions WHERE id = ?)";
+    private static final String INSERT_OPERATION_LINE_QUERY = "INSERT INTO operationLines (id, operationId, type, description, done, uuid) "
+        + "SELECT ?, ?, ?, ?, ?, ? WHERE EXISTS (SELECT 1 FROM operations WHERE id = ?)";
+    // The sequences are raised to the imported numbers, so the next interventions of their years do not reuse them
+    private static final String RAISE_SEQUENCES_QUERY = "INSERT INTO interventionsSequences (year, number) SELECT year, MAX(number) FROM interventions "
+        + "WHERE id BETWEEN ? AND ? AND year IS NOT NULL AND number IS NOT NULL GROUP BY year "
+        + "ON CONFLICT (year) DO UPDATE SET number = MAX(number, excluded.number)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reads all the {@link Car} by ID, without their associations.
+     *
+     * @param consumer
+     *     The consumer of each {@link Car}
+     */
+    public void scrollCars(@NonNull final BiConsumer<Car, Integer> consumer) {
+        this.scroll(CARS_QUERY, Car.class, consumer);
+    }
+
+    /**
+     * Reads all the {@link Intervention} by ID, without their associations, along with the ID of their car.
+     *
+     * @param consumer
+     *     The consumer of each {@link Intervention} and of the ID of its car
+     */
+    public void scrollInterventions(@NonNull final BiConsumer<Intervention, Integer> consumer) {
+        this.scroll(INTERVENTIONS_QUERY, Intervention.class, consumer);
+    }
+
+    /**
+     * Reads all the {@link Operation} by ID, without their associations, along with the ID of their intervention.
+     *
+     * @param consumer
+     *     The consumer of each {@link Operation} and of the ID of its intervention
+     */
+    public void scrollOperations(@NonNull final BiConsumer<Operation, Integer> consumer) {
+        this.scroll(OPERATIONS_QUERY, Operation.class, consumer);
+    }
+
+    /**
+     * Reads all the {@link OperationLine} by ID, along with the ID of their operation.
+     *
+     * @param consumer
+     *     The consumer of each {@link OperationLine} and of the ID of its operation
+     */
+    public void scrollOperationLines(@NonNull final BiConsumer<OperationLine, Integer> consumer) {
+        this.scroll(OPERATION_LINES_QUERY, OperationLine.class, consumer);
+    }
+
+    /**
+     * Inserts {@link Car} with their IDs and file hashes, without their associations, within the current transaction.
+     *
+     * @param cars
+     *     The {@link Car} to insert
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     *
+     * @return the {@link BulkResult} of each {@link Car}, by position in the given list
+     */
+    public List<BulkResult> saveCars(@NonNull final List<Car> cars, final int batchSize) {
+        return this.insert(INSERT_CAR_QUERY, cars, Car::getId, batchSize, (statement, car) -> {
+            statement.setObject(1, car.getId());
+            statement.setString(2, car.getRegistration());
+            statement.setString(3, car.getSerialNumber());
+            statement.setString(4, car.getOwner());
+            statement.setString(5, car.getBrand());
+            statement.setString(6, car.getModel());
+            statement.setString(7, car.getMotorization());
+            statement.setString(8, car.getEngineCode());
+            statement.setString(9, car.getReleaseDate());
+            statement.setString(10, car.getComments());
+            statement.setString(11, car.getCertificateHash());
+            statement.setString(12, car.getPictureHash());
+            statement.setString(13, car.getUuid());
+        }, null);
+    }
+
+    /**
+     * Inserts {@link Intervention} with their IDs, years and numbers, without their associations, within the current transaction. Their car is given by the
+     * ID of their {@link Intervention#getCar()} reference.
+     *
+     * @param interventions
+     *     The {@link Intervention} to insert
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     *
+     * @return the {@link BulkResult} of each {@link Intervention}, by position in the given list
+     */
+    public List<BulkResult> saveInterventions(@NonNull final List<Intervention> interventions, final int batchSize) {
+        final List<BulkResult> results = this.insert(INSERT_INTERVENTION_QUERY, interventions, Intervention::getId, batchSize, (statement, intervention) -> {
+            final Integer carId = intervention.getCar().getId();
+            statement.setObject(1, intervention.getId());
+            statement.setObject(2, carId);
+            statement.setObject(3, intervention.getYear());
+            statement.setObject(4, intervention.getNumber());
+            statement.setString(5, intervention.getCreationDate());
+            statement.setString(6, intervention.getStatus());
+            statement.setString(7, intervention.getDescription());
+            statement.setObject(8, intervention.getMileage());
+            statement.setObject(9, intervention.getEstimatedTime());
+            statement.setObject(10, intervention.getRealTime());
+            statement.setObject(11, intervention.getAmount());
+            statement.setObject(12, intervention.getPaidAmount());
+            statement.setString(13, intervention.getComments());
+            statement.setString(14, intervention.getUuid());
+            statement.setObject(15, carId);
+        }, intervention -> "Unknown car " + intervention.getCar().getId());
+
+        if (!interventions.isEmpty()) {
+            final IntSummaryStatistics ids = interventions.stream().mapToInt(Intervention::getId).summaryStatistics();
+            this.entityManager.createNativeQuery(RAISE_SEQUENCES_QUERY).setParameter(1, ids.getMin()).setParameter(2, ids.getMax()).executeUpdate();
+        }
+
+        return results;
+    }
+
+    /**
+     * Inserts {@link Operation} with their IDs, without their associations, within the current transaction. Their intervention is given by the ID of their
+     * {@link Operation#getIntervention()} reference.
+     *
+     * @param operations
+     *     The {@link Operation} to insert
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     *
+     * @return the {@link BulkResult} of each {@link Operation}, by position in the given list
+     */
+    public List<BulkResult> saveOperations(@NonNull final List<Operation> operations, final int batchSize) {
+        return this.insert(INSERT_OPERATION_QUERY, operations, Operation::getId, batchSize, (statement, operation) -> {
+            final Integer interventionId = operation.getIntervention().getId();
+            statement.setObject(1, operation.getId());
+            statement.setObject(2, interventionId);
+            statement.setString(3, operation.getLabel());
+            statement.setString(4, operation.getUuid());
+            statement.setObject(5, interventionId);
+        }, operation -> "Unknown intervention " + operation.getIntervention().getId());
+    }
+
+    /**
+     * Inserts {@link OperationLine} with their IDs within the current transaction. Their operation is given by the ID of their
+     * {@link OperationLine#getOperation()} reference.
+     *
+     * @param operationLines
+     *     The {@link OperationLine} to insert
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     *
+     * @return the {@link BulkResult} of each {@link OperationLine}, by position in the given list
+     */
+    public List<BulkResult> saveOperationLines(@NonNull final List<OperationLine> operationLines, final int batchSize) {
+        return this.insert(INSERT_OPERATION_LINE_QUERY, operationLines, OperationLine::getId, batchSize, (statement, operationLine) -> {
+            final Integer operationId = operationLine.getOperation().getId();
+            statement.setObject(1, operationLine.getId());
+            statement.setObject(2, operationId);
+            statement.setString(3, operationLine.getType());
+            statement.setString(4, operationLine.getDescription());
+            statement.setObject(5, operationLine.getDone());
+            statement.setString(6, operationLine.getUuid());
+            statement.setObject(7, operationId);
+        }, operationLine -> "Unknown operation " + operationLine.getOperation().getId());
+    }
+
+    /**
+     * Reads the entities of a query by scrolling through its rows, each one being made of an entity and of the ID of its parent.
+     *
+     * @param query
+     *     The JPQL query
+     * @param entityClass
+     *     The class of the entities
+     * @param consumer
+     *     The consumer of each entity and of the ID of its parent
+     * @param <T>
+     *     The type of the entities
+     */
+    private <T> void scroll(final String query, final Class<T> entityClass, final BiConsumer<T, Integer> consumer) {
+        try (final ScrollableResults results = this.entityManager.createQuery(query).unwrap(Query.class).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(entityClass.cast(results.get(0)), (Integer) results.get(1));
+
+                // Detaches the consumed entity along with the proxy of its parent
+                this.entityManager.clear();
+            }
+        }
+    }
+
+    /**
+     * Inserts entities by JDBC batches on the connection of the current transaction.
+     *
+     * @param query
+     *     The insertion statement
+     * @param entities
+     *     The entities to insert
+     * @param idGetter
+     *     The getter of the ID of an entity
+     * @param batchSize
+     *     The number of rows sent to the database in a single batch
+     * @param binder
+     *     The binder of the parameters of an entity
+     * @param emptyRowError
+     *     The error of an entity which has not been inserted as its parent does not exist, or {@code null} if it has no parent
+     * @param <T>
+     *     The type of the entities
+     *
+     * @return the {@link BulkResult} of each entity, by position in the given list
+     */
+    private <T> List<BulkResult> insert(final String query, final List<T> entities, final Function<T, Integer> idGetter, final int batchSize,
+        final EntityBinder<T> binder, final Function<T, String> emptyRowError) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            final String[] errors;
+            try (final PreparedStatement statement = connection.prepareStatement(query)) {
+                errors = JdbcBatches.execute(connection, statement, entities.size(), batchSize,
+                    (batchStatement, index) -> binder.bind(batchStatement, entities.get(index)),
+                    index -> isNull(emptyRowError) ? null : emptyRowError.apply(entities.get(index)));
+            }
+
+            final List<BulkResult> results = new ArrayList<>(entities.size());
+            for (int index = 0; index < entities.size(); index++) {
+                results.add(isNull(errors[index]) ? new BulkResult(index, idGetter.apply(entities.get(index)), true, null)
+                    : new BulkResult(index, null, null, errors[index]));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Binder of the parameters of an entity to an insertion statement.
+     *
+     * @param <T>
+     *     The type of the entity
+     */
+    @FunctionalInterface
+    private interface EntityBinder<T> {
+
+        /**
+         * Binds the parameters of an entity.
+         *
+         * @param statement
+         *     The insertion statement
+         * @param entity
+         *     The entity
+         *
+         * @throws SQLException
+         *     if a parameter cannot be bound
+         */
+        void bind(PreparedStatement statement, T entity) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package fr.vulture.hostocars.repository;
+
+import fr.vulture.hostocars.entity.Intervention;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the {@link Intervention} entity.
+ * <br/>
+ * <br/>
+ * The interventions of a car are paged with keyset predicates on their year, number and ID, the missing years and numbers being sorted first. The
+ * filtered pages of all the interventions are read by the {@link InterventionRepositoryCustom} queries.
+ */
+@Repository
+public interface InterventionRepository extends JpaRepository<Intervention, Integer>, InterventionRepositoryCustom {
+
+    /**
+     * Retrieves the IDs of the first page of {@link Intervention} of a car, sorted by year, number and ID.
+     *
+     * @param carId
+     *     The car ID
+     * @param pageable
+     *     The page size, as a first page request
+     *
+     * @return the list of {@link Intervention} IDs
+     */
+    @Query("SELECT i.id FROM Intervention i WHERE i.car.id = :carId ORDER BY i.year ASC, i.number ASC, i.id ASC")
+    List<Integer> findFirstPageIdsByCarId(@Param("carId") Integer carId, Pageable pageable);
+
+    /**
+     * Retrieves the IDs of a page of {@link Intervention} of a car, sorted by year, number and ID, starting after the given position.
+     *
+     * @param carId
+     *     The car ID
+     * @param year
+     *     The year of the last {@link Intervention} of the previous page, or {@code 0} if it has none
+     * @param number
+     *     The number of the last {@link Intervention} of the previous page, or {@code 0} if it has none
+     * @param id
+     *     The ID of the last {@link Intervention} of the previous page
+     * @param pageable
+     *     The page size, as a first page request
+     *
+     * @return the list of {@link Intervention} IDs
+     */
+    @Query("SELECT i.id FROM Intervention i WHERE i.car.id = :carId AND (COALESCE(i.year, 0) > :year OR (COALESCE(i.year, 0) = :year "
+        + "AND (COALESCE(i.number, 0) > :number OR (COALESCE(i.number, 0) = :number AND i.id > :id)))) ORDER BY i.year ASC, i.number ASC, i.id ASC")
+    List<Integer> findPageIdsByCarId(@Param("carId") Integer carId, @Param("year") Integer year, @Param("number") Integer number, @Param("id") Integer id,
+        Pageable pageable);
+
+    /**
+     * Retrieves the ID of the car of the {@link Intervention} with the given ID.
+     *
+     * @param id
+     *     The {@link Intervention} ID
+     *
+     * @return the car ID, or {@code null} if the intervention does not exist
+     */
+    @Query("SELECT i.car.id FROM Intervention i WHERE i.id = :id")
+    Integer findCarIdById(@Param("id") Integer id);
+
+    /**
+     * Retrieves the {@link Intervention} with the given IDs, sorted by year, number and ID, with their operations and operation lines fetched in the same
+     * statement.
+     *
+     * @param ids
+     *     The {@link Intervention} IDs
+     *
+     * @return the list of {@link Intervention}
+     */
+    @EntityGraph("Intervention.lines")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT i FROM Intervention i WHERE i.id IN :ids ORDER BY i.year ASC, i.number ASC, i.id ASC")
+    List<Intervention> findAllWithLinesByIdIn(@Param("ids") Collection<Integer> ids);
+
+}
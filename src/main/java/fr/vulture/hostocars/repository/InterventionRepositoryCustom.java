@@ -0,0 +1,41 @@
+package fr.vulture.hostocars.repository;
+
+import fr.vulture.hostocars.dto.InterventionFilter;
+import fr.vulture.hostocars.entity.Intervention;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom queries of the {@link InterventionRepository}.
+ */
+public interface InterventionRepositoryCustom {
+
+    /**
+     * Retrieves the IDs of a page of the {@link Intervention} matching a filter, sorted by year, number and ID, starting after the given position.
+     *
+     * @param filter
+     *     The filter of the {@link Intervention}
+     * @param position
+     *     The year, the number and the ID of the last {@link Intervention} of the previous page, a missing year or number being {@code 0}, or {@code null}
+     *     for the first page
+     * @param limit
+     *     The maximum number of IDs
+     *
+     * @return the list of {@link Intervention} IDs
+     */
+    List<Integer> findPageIds(InterventionFilter filter, int[] position, int limit);
+
+    /**
+     * Updates the given fields of the {@link Intervention} with the given ID by a single statement, without loading it. Its other fields and its operations
+     * are left untouched.
+     *
+     * @param id
+     *     The {@link Intervention} ID
+     * @param changes
+     *     The new values, by field name, a {@code null} value clearing its field
+     *
+     * @return the number of updated rows
+     */
+    int updateById(Integer id, Map<String, Object> changes);
+
+}
@@ -0,0 +1,96 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.Objects.nonNull;
+
+import fr.vulture.hostocars.dto.InterventionFilter;
+import fr.vulture.hostocars.entity.Intervention;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import lombok.NonNull;
+
+/**
+ * Implementation of the {@link InterventionRepositoryCustom} queries.
+ * <br/>
+ * <br/>
+ * The pages are read with keyset predicates on the year, number and ID, so each page costs an index range scan whatever its position: the status, the
+ * car and the year are each the first column of an index also holding the year and number, and the creation date has its own index. As SQLite sorts the
+ * {@code NULL} values first, the missing years and numbers are compared as {@code 0}, which prevents the range scan until the position reaches the first
+ * year.
+ * <br/>
+ * <br/>
+ * The partial updates are bulk statements setting only the given fields, so the intervention is neither loaded nor merged along with its car.
+ */
+class InterventionRepositoryImpl implements InterventionRepositoryCustom {
+
+    private static final String ORDER_BY_CLAUSE = " ORDER BY i.year ASC, i.number ASC, i.id ASC";
+    private static final String NULL_YEAR_POSITION_PREDICATE = "(COALESCE(i.year, 0) > :positionYear OR (COALESCE(i.year, 0) = :positionYear "
+        + "AND (COALESCE(i.number, 0) > :positionNumber OR (COALESCE(i.number, 0) = :positionNumber AND i.id > :positionId))))";
+    // The redundant first condition lets SQLite scan the index range of the year
+    private static final String POSITION_PREDICATE = "i.year >= :positionYear AND (i.year > :positionYear OR COALESCE(i.number, 0) > :positionNumber "
+        + "OR (COALESCE(i.number, 0) = :positionNumber AND i.id > :positionId))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Integer> findPageIds(@NonNull final InterventionFilter filter, final int[] position, final int limit) {
+        final List<String> predicates = new ArrayList<>();
+        final Map<String, Object> parameters = new HashMap<>();
+        addPredicate(predicates, parameters, "i.status = :status", "status", filter.getStatus());
+        addPredicate(predicates, parameters, "i.year = :year", "year", filter.getYear());
+        addPredicate(predicates, parameters, "i.car.id = :carId", "carId", filter.getCarId());
+        addPredicate(predicates, parameters, "i.creationDate >= :createdFrom", "createdFrom", filter.getCreatedFrom());
+        addPredicate(predicates, parameters, "i.creationDate <= :createdTo", "createdTo", filter.getCreatedTo());
+
+        if (nonNull(position)) {
+            predicates.add(position[0] == 0 ? NULL_YEAR_POSITION_PREDICATE : POSITION_PREDICATE);
+            parameters.put("positionYear", position[0]);
+            parameters.put("positionNumber", position[1]);
+            parameters.put("positionId", position[2]);
+        }
+
+        final String whereClause = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        final TypedQuery<Integer> query = this.entityManager.createQuery("SELECT i.id FROM Intervention i" + whereClause + ORDER_BY_CLAUSE, Integer.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int updateById(@NonNull final Integer id, @NonNull final Map<String, Object> changes) {
+        return PartialUpdates.update(this.entityManager, "Intervention", id, changes);
+    }
+
+    /**
+     * Adds the predicate of a filter criterion, unless it is {@code null}.
+     *
+     * @param predicates
+     *     The predicates of the query
+     * @param parameters
+     *     The parameters of the query, by name
+     * @param predicate
+     *     The predicate of the criterion
+     * @param parameter
+     *     The name of the parameter of the predicate
+     * @param value
+     *     The value of the criterion
+     */
+    private static void addPredicate(final List<String> predicates, final Map<String, Object> parameters, final String predicate, final String parameter,
+        final Object value) {
+        if (nonNull(value)) {
+            predicates.add(predicate);
+            parameters.put(parameter, value);
+        }
+    }
+
+}
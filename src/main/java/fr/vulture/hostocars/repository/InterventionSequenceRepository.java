@@ -0,0 +1,83 @@
+package fr.vulture.hostocars.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import lombok.NonNull;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the {@code interventionsSequences} table, holding the last number reserved for the interventions of each year.
+ * <br/>
+ * <br/>
+ * The numbers are reserved by blocks within the current transaction, so a reservation is rolled back along with the writes using it. The statements are
+ * executed on the connection of the session without flushing it, as the numbers are reserved while the interventions are persisted.
+ */
+@Repository
+@Transactional(propagation = Propagation.MANDATORY)
+public class InterventionSequenceRepository {
+
+    private static final String RESERVE_QUERY = "INSERT INTO interventionsSequences (year, number) VALUES (?, ?) "
+        + "ON CONFLICT (year) DO UPDATE SET number = COALESCE(number, 0) + excluded.number";
+    private static final String LAST_NUMBER_QUERY = "SELECT number FROM interventionsSequences WHERE year = ?";
+    private static final String RELEASE_QUERY = "UPDATE interventionsSequences SET number = ? WHERE year = ? AND number = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reserves a block of numbers for the interventions of a year, following the last reserved one.
+     *
+     * @param year
+     *     The year of the interventions
+     * @param count
+     *     The number of numbers to reserve
+     *
+     * @return the last number of the reserved block
+     */
+    public int reserve(@NonNull final Integer year, @NonNull final Integer count) {
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(RESERVE_QUERY)) {
+                statement.setInt(1, year);
+                statement.setInt(2, count);
+                statement.executeUpdate();
+            }
+
+            try (final PreparedStatement statement = connection.prepareStatement(LAST_NUMBER_QUERY)) {
+                statement.setInt(1, year);
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Gives back the unused end of a block of numbers, unless other numbers were reserved since.
+     *
+     * @param year
+     *     The year of the interventions
+     * @param reservedNumber
+     *     The last number of the block
+     * @param usedNumber
+     *     The last number of the block actually used
+     *
+     * @return {@code true} if the unused numbers were given back, {@code false} otherwise
+     */
+    public boolean release(@NonNull final Integer year, @NonNull final Integer reservedNumber, @NonNull final Integer usedNumber) {
+        return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (final PreparedStatement statement = connection.prepareStatement(RELEASE_QUERY)) {
+                statement.setInt(1, usedNumber);
+                statement.setInt(2, year);
+                statement.setInt(3, reservedNumber);
+                return statement.executeUpdate() > 0;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,139 @@
+package fr.vulture.hostocars.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.function.IntFunction;
+
+/**
+ * Executor of a statement by JDBC batches on the connection of the current transaction, bypassing Hibernate.
+ * <br/>
+ * <br/>
+ * A batch is executed within a savepoint. If it fails, it is rolled back and its rows are executed again one by one, each within its own savepoint, so a
+ * failing row does not prevent the writing of the others.
+ */
+final class JdbcBatches {
+
+    /**
+     * Private constructor of the utility class.
+     */
+    private JdbcBatches() {
+    }
+
+    /**
+     * Executes a statement for each row, by batches.
+     *
+     * @param connection
+     *     The connection of the current transaction
+     * @param statement
+     *     The statement to execute
+     * @param rowCount
+     *     The number of rows
+     * @param batchSize
+     *     The number of rows of a batch
+     * @param binder
+     *     The binder of the parameters of a row
+     * @param emptyRowError
+     *     The error of a row which has not written anything, by row position
+     *
+     * @return the error of each row, or {@code null} for the written ones
+     *
+     * @throws SQLException
+     *     if a savepoint cannot be handled
+     */
+    static String[] execute(final Connection connection, final PreparedStatement statement, final int rowCount, final int batchSize,
+        final RowBinder binder, final IntFunction<String> emptyRowError) throws SQLException {
+        final String[] errors = new String[rowCount];
+
+        for (int start = 0; start < rowCount; start += batchSize) {
+            final int end = Math.min(start + batchSize, rowCount);
+            final Savepoint savepoint = connection.setSavepoint();
+
+            final int[] counts;
+            try {
+                for (int index = start; index < end; index++) {
+                    binder.bind(statement, index);
+                    statement.addBatch();
+                }
+
+                counts = statement.executeBatch();
+                connection.releaseSavepoint(savepoint);
+            } catch (final SQLException exception) {
+                statement.clearBatch();
+                connection.rollback(savepoint);
+                connection.releaseSavepoint(savepoint);
+
+                for (int index = start; index < end; index++) {
+                    errors[index] = executeOne(connection, statement, index, binder, emptyRowError);
+                }
+
+                continue;
+            }
+
+            for (int index = start; index < end; index++) {
+                if (counts[index - start] == 0) {
+                    errors[index] = emptyRowError.apply(index);
+                }
+            }
+        }
+
+        return errors;
+    }
+
+    /**
+     * Executes a statement for a single row within a savepoint.
+     *
+     * @param connection
+     *     The connection of the current transaction
+     * @param statement
+     *     The statement to execute
+     * @param index
+     *     The position of the row
+     * @param binder
+     *     The binder of the parameters of a row
+     * @param emptyRowError
+     *     The error of a row which has not written anything, by row position
+     *
+     * @return the error of the row, or {@code null} if it has been written
+     *
+     * @throws SQLException
+     *     if the savepoint cannot be handled
+     */
+    private static String executeOne(final Connection connection, final PreparedStatement statement, final int index, final RowBinder binder,
+        final IntFunction<String> emptyRowError) throws SQLException {
+        final Savepoint savepoint = connection.setSavepoint();
+        try {
+            binder.bind(statement, index);
+            final int count = statement.executeUpdate();
+            connection.releaseSavepoint(savepoint);
+            return count == 0 ? emptyRowError.apply(index) : null;
+        } catch (final SQLException exception) {
+            connection.rollback(savepoint);
+            connection.releaseSavepoint(savepoint);
+            return exception.getMessage();
+        }
+    }
+
+    /**
+     * Binder of the parameters of a row to a statement.
+     */
+    @FunctionalInterface
+    interface RowBinder {
+
+        /**
+         * Binds the parameters of a row.
+         *
+         * @param statement
+         *     The statement
+         * @param index
+         *     The position of the row
+         *
+         * @throws SQLException
+         *     if a parameter cannot be bound
+         */
+        void bind(PreparedStatement statement, int index) throws SQLException;
+
+    }
+
+}
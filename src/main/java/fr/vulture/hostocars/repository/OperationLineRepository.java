@@ -0,0 +1,62 @@
+package fr.vulture.hostocars.repository;
+
+import fr.vulture.hostocars.entity.OperationLine;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the {@link OperationLine} entity.
+ * <br/>
+ * <br/>
+ * The lines are written by bulk statements setting only the given fields, so they are ticked off without loading nor merging their car.
+ */
+@Repository
+public interface OperationLineRepository extends JpaRepository<OperationLine, Integer>, OperationLineRepositoryCustom {
+
+    /**
+     * Retrieves the ID of the car of the {@link OperationLine} with the given ID.
+     *
+     * @param id
+     *     The {@link OperationLine} ID
+     *
+     * @return the car ID, or {@code null} if the operation line does not exist
+     */
+    @Query("SELECT l.operation.intervention.car.id FROM OperationLine l WHERE l.id = :id")
+    Integer findCarIdById(@Param("id") Integer id);
+
+    /**
+     * Retrieves the ID of the car of the operation with the given ID.
+     *
+     * @param operationId
+     *     The operation ID
+     *
+     * @return the car ID, or {@code null} if the operation does not exist
+     */
+    @Query("SELECT o.intervention.car.id FROM Operation o WHERE o.id = :operationId")
+    Integer findCarIdByOperationId(@Param("operationId") Integer operationId);
+
+    /**
+     * Sets whether the {@link OperationLine} of an operation with the given IDs are done, by a single statement, the lines of the given done IDs being done
+     * and the others not.
+     *
+     * @param operationId
+     *     The operation ID
+     * @param ids
+     *     The {@link OperationLine} IDs
+     * @param doneIds
+     *     The IDs of the done {@link OperationLine}, among the given ones
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OperationLine l SET l.done = CASE WHEN l.id IN :doneIds THEN true ELSE false END WHERE l.operation.id = :operationId AND l.id IN :ids")
+    int updateDoneByOperationIdAndIdIn(@Param("operationId") Integer operationId, @Param("ids") Collection<Integer> ids,
+        @Param("doneIds") Collection<Integer> doneIds);
+
+}
@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.repository;
+
+import fr.vulture.hostocars.entity.OperationLine;
+import java.util.Map;
+
+/**
+ * Custom queries of the {@link OperationLineRepository}.
+ */
+public interface OperationLineRepositoryCustom {
+
+    /**
+     * Updates the given fields of the {@link OperationLine} with the given ID by a single statement, without loading it.
+     *
+     * @param id
+     *     The {@link OperationLine} ID
+     * @param changes
+     *     The new values, by field name
+     *
+     * @return the number of updated rows
+     */
+    int updateById(Integer id, Map<String, Object> changes);
+
+}
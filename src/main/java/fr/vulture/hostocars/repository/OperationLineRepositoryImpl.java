@@ -0,0 +1,24 @@
+package fr.vulture.hostocars.repository;
+
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import lombok.NonNull;
+
+/**
+ * Implementation of the {@link OperationLineRepositoryCustom} queries.
+ */
+class OperationLineRepositoryImpl implements OperationLineRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int updateById(@NonNull final Integer id, @NonNull final Map<String, Object> changes) {
+        return PartialUpdates.update(this.entityManager, "OperationLine", id, changes);
+    }
+
+}
@@ -0,0 +1,47 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+/**
+ * Executor of the partial updates of an entity, setting only the given fields by a single bulk statement, without loading the entity nor its associations.
+ */
+final class PartialUpdates {
+
+    private static final String ID_PARAMETER = "id";
+
+    /**
+     * Private constructor of the utility class.
+     */
+    private PartialUpdates() {
+    }
+
+    /**
+     * Updates the given fields of the entity with the given ID. The field names are written as is in the statement, so they must be checked by the caller.
+     *
+     * @param entityManager
+     *     The entity manager of the current transaction
+     * @param entityName
+     *     The name of the entity
+     * @param id
+     *     The ID of the entity
+     * @param changes
+     *     The new values, by field name, a {@code null} value clearing its field
+     *
+     * @return the number of updated rows
+     */
+    static int update(final EntityManager entityManager, final String entityName, final Integer id, final Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("No field to update");
+        }
+
+        final String assignments = changes.keySet().stream().map(field -> "e." + field + " = :" + field).collect(joining(", "));
+        final Query query = entityManager.createQuery("UPDATE " + entityName + " e SET " + assignments + " WHERE e.id = :" + ID_PARAMETER);
+        changes.forEach(query::setParameter);
+        return query.setParameter(ID_PARAMETER, id).executeUpdate();
+    }
+
+}
@@ -0,0 +1,120 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import fr.vulture.hostocars.dto.SearchResult;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import lombok.NonNull;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the full-text search over the cars and the interventions, backed by the {@code searchIndex} FTS5 table kept in sync by triggers.
+ * <br/>
+ * <br/>
+ * The cars are indexed with a rowid equal to twice their ID, and the interventions with a rowid equal to twice their ID plus one. The results are sorted by
+ * rank then by rowid, and paged with keyset predicates on both.
+ */
+@Repository
+public class SearchRepository {
+
+    private static final String CAR_TYPE = "car";
+    private static final String INTERVENTION_TYPE = "intervention";
+
+    private static final String SEARCH_QUERY = "SELECT s.rowid AS rowId, s.rank AS rank, snippet(searchIndex, -1, '', '', '...', 12) AS snippet, i.carId AS carId "
+        + "FROM searchIndex s "
+        + "LEFT JOIN interventions i ON s.rowid %% 2 = 1 AND i.id = s.rowid / 2 WHERE searchIndex MATCH :search%s ORDER BY s.rank ASC, s.rowid ASC LIMIT :limit";
+    // An equality constraint on the rank column would be read by FTS5 as the choice of another ranking function
+    private static final String KEYSET_PREDICATE = " AND (s.rank > :rank OR (s.rank >= :rank AND s.rowid > :rowId))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Builds the FTS5 query matching the rows containing all the words of a search, each word being matched as a prefix. Each word is quoted, so the
+     * operators of the FTS5 query syntax are searched as plain text.
+     *
+     * @param search
+     *     The searched text
+     *
+     * @return the FTS5 query
+     */
+    static String toMatchQuery(@NonNull final String search) {
+        return Arrays.stream(search.trim().split("\\s+"))
+            .filter(word -> !word.isEmpty())
+            .map(word -> '"' + word.replace("\"", "\"\"") + "\"*")
+            .collect(joining(" "));
+    }
+
+    /**
+     * Retrieves a page of the cars and interventions matching a search, the best matches first.
+     *
+     * @param search
+     *     The searched text, which must contain at least one word
+     * @param rank
+     *     The rank of the last result of the previous page, or {@code null} for the first page
+     * @param rowId
+     *     The rowid of the last result of the previous page, ignored for the first page
+     * @param limit
+     *     The maximum number of results
+     *
+     * @return the list of {@link SearchResult}
+     */
+    @SuppressWarnings("unchecked")
+    public List<SearchResult> search(@NonNull final String search, final Double rank, final int rowId, final int limit) {
+        // The column types are declared, as the SQLite driver reports the rank as a single precision number, which would break the keyset predicate
+        final Query query = this.entityManager.createNativeQuery(String.format(SEARCH_QUERY, isNull(rank) ? "" : KEYSET_PREDICATE))
+            .unwrap(NativeQuery.class)
+            .addScalar("rowId", StandardBasicTypes.INTEGER)
+            .addScalar("rank", StandardBasicTypes.DOUBLE)
+            .addScalar("snippet", StandardBasicTypes.STRING)
+            .addScalar("carId", StandardBasicTypes.INTEGER)
+            .setParameter("search", toMatchQuery(search))
+            .setParameter("limit", limit);
+
+        if (!isNull(rank)) {
+            query.setParameter("rank", rank).setParameter("rowId", rowId);
+        }
+
+        return ((List<Object[]>) query.getResultList()).stream().map(SearchRepository::toSearchResult).collect(toList());
+    }
+
+    /**
+     * Converts a row of the search query to a {@link SearchResult}.
+     *
+     * @param row
+     *     The row of the search query
+     *
+     * @return the {@link SearchResult}
+     */
+    private static SearchResult toSearchResult(final Object[] row) {
+        final int rowId = (Integer) row[0];
+        final int id = rowId / 2;
+
+        if (rowId % 2 == 0) {
+            return new SearchResult(CAR_TYPE, id, id, (Double) row[1], (String) row[2]);
+        }
+
+        return new SearchResult(INTERVENTION_TYPE, id, (Integer) row[3], (Double) row[1], (String) row[2]);
+    }
+
+    /**
+     * Computes the rowid of a result in the {@code searchIndex} table, used as tie-breaker of the pages.
+     *
+     * @param result
+     *     The {@link SearchResult}
+     *
+     * @return the rowid of the result
+     */
+    public static int toRowId(@NonNull final SearchResult result) {
+        return CAR_TYPE.equals(result.getType()) ? result.getId() * 2 : result.getId() * 2 + 1;
+    }
+
+}
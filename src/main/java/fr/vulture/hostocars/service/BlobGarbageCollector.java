@@ -0,0 +1,57 @@
+package fr.vulture.hostocars.service;
+
+import fr.vulture.hostocars.repository.CarRepository;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Garbage collector of the {@link BlobStore} and of the thumbnails, deleting the files which are not referenced anymore once the application is started.
+ */
+@Slf4j
+@Component
+public class BlobGarbageCollector {
+
+    private final CarRepository carRepository;
+    private final BlobStore blobStore;
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param carRepository
+     *     The autowired {@link CarRepository} component
+     * @param blobStore
+     *     The autowired {@link BlobStore} component
+     * @param thumbnailService
+     *     The autowired {@link ThumbnailService} component
+     */
+    @Autowired
+    public BlobGarbageCollector(final CarRepository carRepository, final BlobStore blobStore, final ThumbnailService thumbnailService) {
+        this.carRepository = carRepository;
+        this.blobStore = blobStore;
+        this.thumbnailService = thumbnailService;
+    }
+
+    /**
+     * Deletes the unreferenced files and thumbnails. Only the files older than the JVM start are deleted, as the newer ones may belong to a transaction not
+     * committed yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void collectGarbage() {
+        final long limit = ManagementFactory.getRuntimeMXBean().getStartTime();
+        final Set<String> pictureHashes = new HashSet<>(this.carRepository.findAllPictureHashes());
+        final Set<String> referencedHashes = new HashSet<>(this.carRepository.findAllCertificateHashes());
+        referencedHashes.addAll(pictureHashes);
+
+        final int count = this.blobStore.collectGarbage(referencedHashes, limit);
+        final int thumbnailCount = this.thumbnailService.collectGarbage(pictureHashes, limit);
+        log.info("Deleted {} unreferenced files and {} unreferenced thumbnails", count, thumbnailCount);
+    }
+
+}
@@ -0,0 +1,47 @@
+package fr.vulture.hostocars.service;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Ways the files of the cars are written to a dump.
+ */
+@Getter
+@AllArgsConstructor
+public enum BlobMode {
+
+    /**
+     * The files are referenced by their hashes in the blob store, which must then be copied along with the dump.
+     */
+    REFERENCE("reference"),
+
+    /**
+     * The files are included in the dump, encoded in base64.
+     */
+    INCLUDE("include");
+
+    private final String value;
+
+    /**
+     * Returns the {@link BlobMode} matching the given value.
+     *
+     * @param value
+     *     The value of the {@link BlobMode}
+     *
+     * @return the matching {@link BlobMode}
+     *
+     * @throws IllegalArgumentException
+     *     if no {@link BlobMode} matches the value
+     */
+    public static BlobMode fromValue(@NonNull final String value) {
+        return Arrays.stream(values())
+            .filter(mode -> mode.value.equals(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Unsupported blob mode " + value + ", expected one of " + Arrays.stream(values()).map(BlobMode::getValue).collect(Collectors.toList())));
+    }
+
+}
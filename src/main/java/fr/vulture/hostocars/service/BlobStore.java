@@ -0,0 +1,227 @@
+package fr.vulture.hostocars.service;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed store for the files, each file being saved once under the SHA-256 hash of its content.
+ * <br/>
+ * <br/>
+ * The files are sharded in sub-folders named after the first two characters of their hash.
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final String TEMPORARY_FOLDER_NAME = "tmp";
+
+    private final Path root;
+    private final Path temporaryFolder;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param path
+     *     The path of the store root folder
+     */
+    @Autowired
+    @SneakyThrows
+    public BlobStore(@Value("${blobs.path}") @NonNull final String path) {
+        this.root = Paths.get(path).toAbsolutePath().normalize();
+        this.temporaryFolder = this.root.resolve(TEMPORARY_FOLDER_NAME);
+
+        Files.createDirectories(this.temporaryFolder);
+    }
+
+    /**
+     * Converts a byte array to its lower case hexadecimal representation.
+     *
+     * @param bytes
+     *     The byte array to convert
+     *
+     * @return the hexadecimal representation of the byte array
+     */
+    private static String toHex(final byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Stores the content of a stream, which is copied to the disk in bounded chunks while its hash is computed.
+     *
+     * @param input
+     *     The stream to store
+     *
+     * @return the hash of the stored content
+     */
+    public String store(@NonNull final InputStream input) {
+        return this.store(output -> {
+            try (input) {
+                input.transferTo(output);
+            }
+        });
+    }
+
+    /**
+     * Stores the content written by a writer, which is copied to the disk as it is written while its hash is computed.
+     *
+     * @param writer
+     *     The writer of the content to store
+     *
+     * @return the hash of the stored content
+     */
+    @SneakyThrows
+    public String store(@NonNull final ContentWriter writer) {
+        final Path temporaryFile = Files.createTempFile(this.temporaryFolder, "blob", null);
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (final DigestOutputStream digestOutput = new DigestOutputStream(Files.newOutputStream(temporaryFile), digest)) {
+                writer.write(digestOutput);
+            }
+
+            final String hash = toHex(digest.digest());
+            final Path target = this.resolve(hash);
+
+            // Identical contents are only stored once
+            if (Files.notExists(target)) {
+                Files.createDirectories(target.getParent());
+
+                try {
+                    Files.move(temporaryFile, target, ATOMIC_MOVE);
+                } catch (final FileAlreadyExistsException exception) {
+                    log.debug("File {} concurrently stored", hash);
+                }
+            }
+
+            return hash;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Stores a content.
+     *
+     * @param content
+     *     The content to store
+     *
+     * @return the hash of the stored content
+     */
+    public String store(@NonNull final byte[] content) {
+        return this.store(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Finds the file stored with the given hash.
+     *
+     * @param hash
+     *     The hash of the file
+     *
+     * @return the path of the file, or an empty result if there is none
+     */
+    public Optional<Path> find(@NonNull final String hash) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+
+        final Path file = this.resolve(hash);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Deletes the stored files which are not referenced anymore, as well as the leftover temporary files. Only the files older than the given instant are
+     * deleted, so the ones being stored concurrently are kept.
+     *
+     * @param referencedHashes
+     *     The hashes of the referenced files
+     * @param limit
+     *     The time, in milliseconds since the epoch, after which the files are kept
+     *
+     * @return the number of deleted files
+     */
+    @SneakyThrows
+    public int collectGarbage(@NonNull final Set<String> referencedHashes, final long limit) {
+        int count = 0;
+
+        try (final DirectoryStream<Path> folders = Files.newDirectoryStream(this.root, Files::isDirectory)) {
+            for (final Path folder : folders) {
+                try (final DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+                    for (final Path file : files) {
+                        final String name = file.getFileName().toString();
+                        final boolean isTemporary = folder.equals(this.temporaryFolder);
+
+                        if ((isTemporary || !referencedHashes.contains(name)) && Files.getLastModifiedTime(file).toMillis() < limit) {
+                            log.debug("Deleting unreferenced file {}", file);
+
+                            Files.deleteIfExists(file);
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Resolves the path of a file from its hash.
+     *
+     * @param hash
+     *     The hash of the file
+     *
+     * @return the path of the file
+     */
+    private Path resolve(final String hash) {
+        return this.root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    /**
+     * Writer of a content to store.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Writes the content.
+         *
+         * @param output
+         *     The stream of the stored file
+         *
+         * @throws IOException
+         *     if the content cannot be written
+         */
+        void write(OutputStream output) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,181 @@
+package fr.vulture.hostocars.service;
+
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterCommit;
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterCompletion;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import fr.vulture.hostocars.dto.CacheStatistics;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.repository.CarGraph;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bounded cache of the {@link Car} read by ID, with their associations up to a given depth, the least recently used ones being evicted first.
+ * <br/>
+ * <br/>
+ * A loaded car is only cached once the transaction which read it is committed, and only if no car has been invalidated since it was read, so an
+ * uncommitted or outdated state is never cached. A written car is invalidated at once, then again once the writing transaction is completed, whether it is
+ * committed or rolled back.
+ */
+@Service
+public class CarCache {
+
+    private static final String NAME = "cars";
+
+    private final int maxSize;
+    private final Map<Key, Car> entries;
+
+    // Incremented by each invalidation, so the cars read before it are not cached
+    private long generation;
+
+    private long hitCount;
+    private long missCount;
+
+    // The entries removed to honor the maximum size, then the ones removed by the invalidations
+    private long evictionCount;
+    private long invalidationCount;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param maxSize
+     *     The maximum number of cached entries, a car being cached once per depth
+     */
+    @Autowired
+    public CarCache(@Value("${cache.cars.max-size}") final int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = -2960212512049626640L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Car> eldest) {
+                if (this.size() > CarCache.this.maxSize) {
+                    CarCache.this.evictionCount++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Finds a {@link Car} in the cache, or loads it on a miss. The loaded car is cached once the current transaction is committed, or immediately if there is
+     * none.
+     *
+     * @param id
+     *     The {@link Car} ID
+     * @param graph
+     *     The depth up to which the associations are fetched
+     * @param loader
+     *     The loader of the {@link Car} on a miss
+     *
+     * @return the {@link Car}, or an empty result if it does not exist
+     */
+    public Optional<Car> find(@NonNull final Integer id, @NonNull final CarGraph graph, @NonNull final Supplier<Optional<Car>> loader) {
+        final Key key = new Key(id, graph);
+        final long loadGeneration;
+
+        synchronized (this) {
+            final Car car = this.entries.get(key);
+            if (nonNull(car)) {
+                this.hitCount++;
+                return Optional.of(car);
+            }
+
+            this.missCount++;
+            loadGeneration = this.generation;
+        }
+
+        final Optional<Car> result = loader.get();
+        result.ifPresent(car -> afterCommit(() -> this.put(key, car, loadGeneration)));
+        return result;
+    }
+
+    /**
+     * Invalidates the cached entries of a {@link Car}, at once and once the current transaction is completed.
+     *
+     * @param id
+     *     The {@link Car} ID
+     */
+    public void invalidate(@NonNull final Integer id) {
+        this.evict(id);
+        afterCompletion(() -> this.evict(id));
+    }
+
+    /**
+     * Invalidates all the cached entries, at once and once the current transaction is completed.
+     */
+    public void invalidateAll() {
+        this.evict(null);
+        afterCompletion(() -> this.evict(null));
+    }
+
+    /**
+     * Retrieves the statistics of the cache.
+     *
+     * @return the {@link CacheStatistics}
+     */
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(NAME, this.entries.size(), this.maxSize, this.hitCount, this.missCount, this.evictionCount, this.invalidationCount);
+    }
+
+    /**
+     * Caches a loaded {@link Car}, unless a car has been invalidated since it was read.
+     *
+     * @param key
+     *     The key of the entry
+     * @param car
+     *     The loaded {@link Car}
+     * @param loadGeneration
+     *     The generation of the cache when the {@link Car} was read
+     */
+    private synchronized void put(final Key key, final Car car, final long loadGeneration) {
+        if (this.generation == loadGeneration) {
+            this.entries.put(key, car);
+        }
+    }
+
+    /**
+     * Evicts the cached entries of a {@link Car}, or all the entries.
+     *
+     * @param id
+     *     The {@link Car} ID, or {@code null} for all the entries
+     */
+    private synchronized void evict(final Integer id) {
+        this.generation++;
+
+        final Iterator<Key> keys = this.entries.keySet().iterator();
+        while (keys.hasNext()) {
+            final Key key = keys.next();
+            if (isNull(id) || id.equals(key.id)) {
+                keys.remove();
+                this.invalidationCount++;
+            }
+        }
+    }
+
+    /**
+     * Key of a cached entry, made of the {@link Car} ID and the depth of its associations.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+
+        private final Integer id;
+        private final CarGraph graph;
+
+    }
+
+}
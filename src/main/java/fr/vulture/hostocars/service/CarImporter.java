@@ -0,0 +1,339 @@
+package fr.vulture.hostocars.service;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.repository.CarRepository;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Importer of {@link Car} in bulk, from a JSON array or from NDJSON lines, one car per line, either inserting them or upserting them by registration.
+ * <br/>
+ * <br/>
+ * The cars are read as a stream and written by chunks, each one through the {@link WriteQueue} in a single transaction and by JDBC batches. A car which
+ * cannot be read or written is reported with its error, without preventing the writing of the others. A malformed JSON array cannot be read any further,
+ * so its error ends the import, the already written chunks being kept.
+ */
+@Slf4j
+@Service
+public class CarImporter {
+
+    /**
+     * The media type of the NDJSON content.
+     */
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final CarRepository repository;
+    private final WriteQueue writeQueue;
+    private final RegistrationIndex registrationIndex;
+    private final CarCache carCache;
+    private final int chunkSize;
+    private final int batchSize;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param objectMapper
+     *     The autowired {@link ObjectMapper} component, reading the cars
+     * @param repository
+     *     The autowired {@link CarRepository} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component
+     * @param registrationIndex
+     *     The autowired {@link RegistrationIndex} component
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param chunkSize
+     *     The number of cars inserted in a single transaction
+     * @param batchSize
+     *     The number of cars sent to the database in a single JDBC batch
+     */
+    @Autowired
+    public CarImporter(final ObjectMapper objectMapper, final CarRepository repository, final WriteQueue writeQueue, final RegistrationIndex registrationIndex,
+        final CarCache carCache, @Value("${bulk.chunk-size}") final int chunkSize, @Value("${bulk.batch-size}") final int batchSize) {
+        this.objectMapper = objectMapper;
+        this.repository = repository;
+        this.writeQueue = writeQueue;
+        this.registrationIndex = registrationIndex;
+        this.carCache = carCache;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports the cars of a JSON array or of NDJSON lines. Their interventions are not imported.
+     *
+     * @param input
+     *     The stream of the cars
+     * @param ndjson
+     *     Whether the stream is made of NDJSON lines rather than of a JSON array
+     *
+     * @return the {@link BulkResult} of each car, by position in the stream
+     */
+    public List<BulkResult> importCars(@NonNull final InputStream input, final boolean ndjson) {
+        return this.read(input, ndjson, new Import(false));
+    }
+
+    /**
+     * Upserts the cars of a JSON array or of NDJSON lines by registration, inserting the new ones and updating the existing ones. Their interventions and
+     * files are left untouched.
+     *
+     * @param input
+     *     The stream of the cars
+     * @param ndjson
+     *     Whether the stream is made of NDJSON lines rather than of a JSON array
+     *
+     * @return the {@link BulkResult} of each car, by position in the stream
+     */
+    public List<BulkResult> upsertCars(@NonNull final InputStream input, final boolean ndjson) {
+        return this.read(input, ndjson, new Import(true));
+    }
+
+    /**
+     * Upserts a single car by registration, by a single statement. Its interventions and files are left untouched.
+     *
+     * @param car
+     *     The car to upsert
+     *
+     * @return the {@link BulkResult} of the car
+     *
+     * @throws ResponseStatusException
+     *     if the car cannot be written
+     */
+    public BulkResult upsertCar(@NonNull final Car car) {
+        final String error = validate(car);
+        if (!isNull(error)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, error);
+        }
+
+        car.setId(null);
+        final BulkResult result = this.writeQueue.submit(() -> this.write(List.of(car), true)).get(0);
+        if (!isNull(result.getError())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, result.getError());
+        }
+
+        this.registrationIndex.put(new CarSuggestion(result.getId(), car.getRegistration(), car.getSerialNumber()));
+        return result;
+    }
+
+    /**
+     * Reads the cars of a JSON array or of NDJSON lines into an import.
+     *
+     * @param input
+     *     The stream of the cars
+     * @param ndjson
+     *     Whether the stream is made of NDJSON lines rather than of a JSON array
+     * @param carImport
+     *     The import gathering the read cars
+     *
+     * @return the {@link BulkResult} of each car, by position in the stream
+     */
+    @SneakyThrows
+    private List<BulkResult> read(final InputStream input, final boolean ndjson, final Import carImport) {
+
+        if (ndjson) {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String line;
+            while (!isNull(line = reader.readLine())) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    carImport.add(this.objectMapper.readTree(line));
+                } catch (final JsonProcessingException exception) {
+                    carImport.reject("Malformed JSON: " + exception.getOriginalMessage());
+                }
+            }
+        } else {
+            try (final JsonParser parser = this.objectMapper.getFactory().createParser(input)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The body must be a JSON array of cars");
+                }
+
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (isNull(token)) {
+                        carImport.reject("Malformed JSON: unexpected end of the array");
+                        break;
+                    }
+
+                    carImport.add(parser.readValueAsTree());
+                }
+            } catch (final JsonProcessingException exception) {
+                carImport.reject("Malformed JSON: " + exception.getOriginalMessage());
+            }
+        }
+
+        return carImport.finish();
+    }
+
+    /**
+     * Checks that a car can be inserted.
+     *
+     * @param car
+     *     The car to check
+     *
+     * @return the error preventing its insertion, or {@code null} if there is none
+     */
+    static String validate(final Car car) {
+        if (isNull(car.getRegistration()) || car.getRegistration().isBlank()) {
+            return "The registration is required";
+        }
+
+        if (isNull(car.getOwner()) || car.getOwner().isBlank()) {
+            return "The owner is required";
+        }
+
+        if (!isNull(car.getInterventions()) && !car.getInterventions().isEmpty()) {
+            return "The interventions cannot be written along with the car";
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes cars within the current transaction, inserting them or upserting them by registration. As the updated cars are only known once written, their
+     * cached entries are invalidated here.
+     *
+     * @param cars
+     *     The cars to write
+     * @param upsert
+     *     Whether the cars are upserted rather than inserted
+     *
+     * @return the {@link BulkResult} of each car, by position in the given list
+     */
+    private List<BulkResult> write(final List<Car> cars, final boolean upsert) {
+        if (!upsert) {
+            return this.repository.saveAllInBatches(cars, this.batchSize);
+        }
+
+        final List<BulkResult> results = this.repository.saveAllByRegistration(cars, this.batchSize);
+        results.stream().filter(result -> Boolean.FALSE.equals(result.getCreated())).forEach(result -> this.carCache.invalidate(result.getId()));
+        return results;
+    }
+
+    /**
+     * State of an import, gathering the read cars into chunks.
+     */
+    private final class Import {
+
+        private final List<BulkResult> results = new ArrayList<>();
+        private final List<Car> chunk = new ArrayList<>();
+        private final List<Integer> chunkIndexes = new ArrayList<>();
+        private final boolean upsert;
+
+        private int index;
+
+        /**
+         * Valued constructor.
+         *
+         * @param upsert
+         *     Whether the cars are upserted by registration rather than inserted
+         */
+        Import(final boolean upsert) {
+            this.upsert = upsert;
+        }
+
+        /**
+         * Adds a read car to the current chunk, writing it once full, or reports its error.
+         *
+         * @param node
+         *     The JSON node of the car
+         */
+        void add(final JsonNode node) {
+            final Car car;
+            try {
+                car = CarImporter.this.objectMapper.treeToValue(node, Car.class);
+            } catch (final JsonProcessingException exception) {
+                this.reject("Invalid car: " + exception.getOriginalMessage());
+                return;
+            }
+
+            final String error = validate(car);
+            if (!isNull(error)) {
+                this.reject(error);
+                return;
+            }
+
+            car.setId(null);
+            this.chunk.add(car);
+            this.chunkIndexes.add(this.index++);
+
+            if (this.chunk.size() >= CarImporter.this.chunkSize) {
+                this.flush();
+            }
+        }
+
+        /**
+         * Reports the error of a car which cannot be read.
+         *
+         * @param error
+         *     The error
+         */
+        void reject(final String error) {
+            this.results.add(new BulkResult(this.index++, null, null, error));
+        }
+
+        /**
+         * Writes the last chunk.
+         *
+         * @return the {@link BulkResult} of each car, by position in the stream
+         */
+        List<BulkResult> finish() {
+            this.flush();
+            this.results.sort(Comparator.comparing(BulkResult::getIndex));
+            log.info("{} {} cars in bulk out of {}", this.upsert ? "Upserted" : "Imported", this.results.stream().filter(result -> !isNull(result.getId())).count(),
+                this.results.size());
+            return this.results;
+        }
+
+        /**
+         * Writes the current chunk in a single transaction, then indexes the written cars for the suggestions.
+         */
+        private void flush() {
+            if (this.chunk.isEmpty()) {
+                return;
+            }
+
+            final List<Car> cars = new ArrayList<>(this.chunk);
+            final List<BulkResult> chunkResults = CarImporter.this.writeQueue.submit(() -> CarImporter.this.write(cars, this.upsert));
+
+            for (final BulkResult result : chunkResults) {
+                final Car car = cars.get(result.getIndex());
+                result.setIndex(this.chunkIndexes.get(result.getIndex()));
+                if (!isNull(result.getId())) {
+                    CarImporter.this.registrationIndex.put(new CarSuggestion(result.getId(), car.getRegistration(), car.getSerialNumber()));
+                }
+            }
+
+            this.results.addAll(chunkResults);
+            this.chunk.clear();
+            this.chunkIndexes.clear();
+        }
+
+    }
+
+}
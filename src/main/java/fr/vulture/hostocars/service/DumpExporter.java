@@ -0,0 +1,339 @@
+package fr.vulture.hostocars.service;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.entity.Operation;
+import fr.vulture.hostocars.entity.OperationLine;
+import fr.vulture.hostocars.repository.DumpRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Exporter of the whole database as NDJSON lines, one record per line: the cars, then the interventions, the operations and the operation lines, each
+ * record having a {@value #RECORD_FIELD} field and the ID of its parent.
+ * <br/>
+ * <br/>
+ * The records are read by scrolling through each table and written to the stream as they are read, each entity being detached once written, so the memory
+ * used does not depend on the size of the database. The files of the cars are either referenced by their hashes or included in base64, streamed from the
+ * blob store.
+ */
+@Slf4j
+@Service
+public class DumpExporter {
+
+    /**
+     * The name of the field holding the type of a record.
+     */
+    public static final String RECORD_FIELD = "record";
+
+    /**
+     * The type of the car records.
+     */
+    public static final String CAR_TYPE = "car";
+
+    /**
+     * The type of the intervention records.
+     */
+    public static final String INTERVENTION_TYPE = "intervention";
+
+    /**
+     * The type of the operation records.
+     */
+    public static final String OPERATION_TYPE = "operation";
+
+    /**
+     * The type of the operation line records.
+     */
+    public static final String OPERATION_LINE_TYPE = "operationLine";
+
+    /**
+     * The name of the field holding the ID of the car of an intervention record.
+     */
+    public static final String CAR_ID_FIELD = "carId";
+
+    /**
+     * The name of the field holding the ID of the intervention of an operation record.
+     */
+    public static final String INTERVENTION_ID_FIELD = "interventionId";
+
+    /**
+     * The name of the field holding the ID of the operation of an operation line record.
+     */
+    public static final String OPERATION_ID_FIELD = "operationId";
+
+    /**
+     * The name of the field holding the included certificate file of a car record.
+     */
+    public static final String CERTIFICATE_FIELD = "certificate";
+
+    /**
+     * The name of the field holding the included picture file of a car record.
+     */
+    public static final String PICTURE_FIELD = "picture";
+
+    private final ObjectMapper objectMapper;
+    private final DumpRepository repository;
+    private final BlobStore blobStore;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param objectMapper
+     *     The autowired {@link ObjectMapper} component, creating the JSON generator
+     * @param repository
+     *     The autowired {@link DumpRepository} component
+     * @param blobStore
+     *     The autowired {@link BlobStore} component
+     */
+    @Autowired
+    public DumpExporter(final ObjectMapper objectMapper, final DumpRepository repository, final BlobStore blobStore) {
+        this.objectMapper = objectMapper;
+        this.repository = repository;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Exports the whole database within a single read-only transaction, so the dump is consistent. The stream is flushed but not closed.
+     *
+     * @param output
+     *     The stream to write the records to
+     * @param blobMode
+     *     The way the files of the cars are written
+     */
+    @SneakyThrows
+    @Transactional(readOnly = true)
+    public void export(@NonNull final OutputStream output, @NonNull final BlobMode blobMode) {
+        final long[] counts = new long[4];
+
+        try (final JsonGenerator generator = this.objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            this.repository.scrollCars((car, id) -> write(generator, () -> this.writeCar(generator, car, blobMode), counts, 0));
+            this.repository.scrollInterventions((intervention, carId) -> write(generator, () -> writeIntervention(generator, intervention, carId), counts, 1));
+            this.repository.scrollOperations((operation, interventionId) -> write(generator, () -> writeOperation(generator, operation, interventionId), counts, 2));
+            this.repository.scrollOperationLines((line, operationId) -> write(generator, () -> writeOperationLine(generator, line, operationId), counts, 3));
+        }
+
+        log.info("Exported {} cars, {} interventions, {} operations and {} operation lines", counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    /**
+     * Writes a record on its own line.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param writer
+     *     The writer of the fields of the record
+     * @param counts
+     *     The numbers of written records, by type
+     * @param type
+     *     The position of the type of the record in the counts
+     */
+    private static void write(final JsonGenerator generator, final RecordWriter writer, final long[] counts, final int type) {
+        try {
+            generator.writeStartObject();
+            writer.write();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        counts[type]++;
+    }
+
+    /**
+     * Writes the fields of a car record.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param car
+     *     The car
+     * @param blobMode
+     *     The way the files of the car are written
+     *
+     * @throws IOException
+     *     if the fields cannot be written
+     */
+    private void writeCar(final JsonGenerator generator, final Car car, final BlobMode blobMode) throws IOException {
+        generator.writeStringField(RECORD_FIELD, CAR_TYPE);
+        writeField(generator, "id", car.getId());
+        writeField(generator, "registration", car.getRegistration());
+        writeField(generator, "serialNumber", car.getSerialNumber());
+        writeField(generator, "owner", car.getOwner());
+        writeField(generator, "brand", car.getBrand());
+        writeField(generator, "model", car.getModel());
+        writeField(generator, "motorization", car.getMotorization());
+        writeField(generator, "engineCode", car.getEngineCode());
+        writeField(generator, "releaseDate", car.getReleaseDate());
+        writeField(generator, "comments", car.getComments());
+        this.writeFile(generator, CERTIFICATE_FIELD, "certificateHash", car.getCertificateHash(), blobMode);
+        this.writeFile(generator, PICTURE_FIELD, "pictureHash", car.getPictureHash(), blobMode);
+    }
+
+    /**
+     * Writes the fields of an intervention record.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param intervention
+     *     The intervention
+     * @param carId
+     *     The ID of its car
+     *
+     * @throws IOException
+     *     if the fields cannot be written
+     */
+    private static void writeIntervention(final JsonGenerator generator, final Intervention intervention, final Integer carId) throws IOException {
+        generator.writeStringField(RECORD_FIELD, INTERVENTION_TYPE);
+        writeField(generator, "id", intervention.getId());
+        writeField(generator, CAR_ID_FIELD, carId);
+        writeField(generator, "year", intervention.getYear());
+        writeField(generator, "number", intervention.getNumber());
+        writeField(generator, "creationDate", intervention.getCreationDate());
+        writeField(generator, "status", intervention.getStatus());
+        writeField(generator, "description", intervention.getDescription());
+        writeField(generator, "mileage", intervention.getMileage());
+        writeField(generator, "estimatedTime", intervention.getEstimatedTime());
+        writeField(generator, "realTime", intervention.getRealTime());
+        writeField(generator, "amount", intervention.getAmount());
+        writeField(generator, "paidAmount", intervention.getPaidAmount());
+        writeField(generator, "comments", intervention.getComments());
+    }
+
+    /**
+     * Writes the fields of an operation record.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param operation
+     *     The operation
+     * @param interventionId
+     *     The ID of its intervention
+     *
+     * @throws IOException
+     *     if the fields cannot be written
+     */
+    private static void writeOperation(final JsonGenerator generator, final Operation operation, final Integer interventionId) throws IOException {
+        generator.writeStringField(RECORD_FIELD, OPERATION_TYPE);
+        writeField(generator, "id", operation.getId());
+        writeField(generator, INTERVENTION_ID_FIELD, interventionId);
+        writeField(generator, "label", operation.getLabel());
+    }
+
+    /**
+     * Writes the fields of an operation line record.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param operationLine
+     *     The operation line
+     * @param operationId
+     *     The ID of its operation
+     *
+     * @throws IOException
+     *     if the fields cannot be written
+     */
+    private static void writeOperationLine(final JsonGenerator generator, final OperationLine operationLine, final Integer operationId) throws IOException {
+        generator.writeStringField(RECORD_FIELD, OPERATION_LINE_TYPE);
+        writeField(generator, "id", operationLine.getId());
+        writeField(generator, OPERATION_ID_FIELD, operationId);
+        writeField(generator, "type", operationLine.getType());
+        writeField(generator, "description", operationLine.getDescription());
+        writeField(generator, "done", operationLine.getDone());
+    }
+
+    /**
+     * Writes a file of a car, either by its hash or by its content streamed from the blob store. A file missing from the blob store is written by its hash.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param contentField
+     *     The name of the field of the content
+     * @param hashField
+     *     The name of the field of the hash
+     * @param hash
+     *     The hash of the file, or {@code null} if there is none
+     * @param blobMode
+     *     The way the file is written
+     *
+     * @throws IOException
+     *     if the file cannot be written
+     */
+    private void writeFile(final JsonGenerator generator, final String contentField, final String hashField, final String hash, final BlobMode blobMode)
+        throws IOException {
+        if (isNull(hash)) {
+            return;
+        }
+
+        final Optional<Path> file = blobMode == BlobMode.INCLUDE ? this.blobStore.find(hash) : Optional.empty();
+        if (file.isEmpty()) {
+            generator.writeStringField(hashField, hash);
+            return;
+        }
+
+        generator.writeFieldName(contentField);
+        try (final InputStream input = Files.newInputStream(file.get())) {
+            generator.writeBinary(input, (int) Files.size(file.get()));
+        }
+    }
+
+    /**
+     * Writes a text, number or boolean field, unless its value is {@code null}. The value is written by the generator itself, as writing it through the
+     * {@link ObjectMapper} would flush the stream after each field.
+     *
+     * @param generator
+     *     The JSON generator
+     * @param name
+     *     The name of the field
+     * @param value
+     *     The value of the field
+     *
+     * @throws IOException
+     *     if the field cannot be written
+     */
+    private static void writeField(final JsonGenerator generator, final String name, final Object value) throws IOException {
+        if (value instanceof String) {
+            generator.writeStringField(name, (String) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumberField(name, (Integer) value);
+        } else if (value instanceof Double) {
+            generator.writeNumberField(name, (Double) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBooleanField(name, (Boolean) value);
+        }
+    }
+
+    /**
+     * Writer of the fields of a record.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+
+        /**
+         * Writes the fields.
+         *
+         * @throws IOException
+         *     if the fields cannot be written
+         */
+        void write() throws IOException;
+
+    }
+
+}
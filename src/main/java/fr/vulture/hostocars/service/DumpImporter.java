@@ -0,0 +1,394 @@
+package fr.vulture.hostocars.service;
+
+import static fr.vulture.hostocars.service.DumpExporter.CAR_ID_FIELD;
+import static fr.vulture.hostocars.service.DumpExporter.CAR_TYPE;
+import static fr.vulture.hostocars.service.DumpExporter.CERTIFICATE_FIELD;
+import static fr.vulture.hostocars.service.DumpExporter.INTERVENTION_ID_FIELD;
+import static fr.vulture.hostocars.service.DumpExporter.INTERVENTION_TYPE;
+import static fr.vulture.hostocars.service.DumpExporter.OPERATION_ID_FIELD;
+import static fr.vulture.hostocars.service.DumpExporter.OPERATION_LINE_TYPE;
+import static fr.vulture.hostocars.service.DumpExporter.OPERATION_TYPE;
+import static fr.vulture.hostocars.service.DumpExporter.PICTURE_FIELD;
+import static fr.vulture.hostocars.service.DumpExporter.RECORD_FIELD;
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.dto.ImportReport;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.entity.Operation;
+import fr.vulture.hostocars.entity.OperationLine;
+import fr.vulture.hostocars.repository.DumpRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Importer of a dump written by the {@link DumpExporter}, the records keeping their IDs so the associations between them are restored.
+ * <br/>
+ * <br/>
+ * The records are parsed as a stream, the included files being decoded straight to the blob store, and written by chunks of records of the same type, each
+ * one through the {@link WriteQueue} in a single transaction and by JDBC batches. A record must come after its parent, as in the exported dumps. A record
+ * which cannot be read or written is reported with its error, without preventing the writing of the others. Malformed JSON cannot be read any further, so
+ * its error ends the import, the already written chunks being kept.
+ */
+@Slf4j
+@Service
+public class DumpImporter {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String HASH_FIELD_SUFFIX = "Hash";
+
+    private final ObjectMapper objectMapper;
+    private final DumpRepository repository;
+    private final WriteQueue writeQueue;
+    private final InterventionNumberAllocator numberAllocator;
+    private final BlobStore blobStore;
+    private final RegistrationIndex registrationIndex;
+    private final CarCache carCache;
+    private final ResponseCache responseCache;
+    private final int chunkSize;
+    private final int batchSize;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param objectMapper
+     *     The autowired {@link ObjectMapper} component, reading the records
+     * @param repository
+     *     The autowired {@link DumpRepository} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component
+     * @param numberAllocator
+     *     The autowired {@link InterventionNumberAllocator} component
+     * @param blobStore
+     *     The autowired {@link BlobStore} component
+     * @param registrationIndex
+     *     The autowired {@link RegistrationIndex} component
+     * @param carCache
+     *     The autowired {@link CarCache} component
+     * @param responseCache
+     *     The autowired {@link ResponseCache} component
+     * @param chunkSize
+     *     The number of records inserted in a single transaction
+     * @param batchSize
+     *     The number of records sent to the database in a single JDBC batch
+     */
+    @Autowired
+    public DumpImporter(final ObjectMapper objectMapper, final DumpRepository repository, final WriteQueue writeQueue,
+        final InterventionNumberAllocator numberAllocator, final BlobStore blobStore, final RegistrationIndex registrationIndex, final CarCache carCache,
+        final ResponseCache responseCache, @Value("${bulk.chunk-size}") final int chunkSize, @Value("${bulk.batch-size}") final int batchSize) {
+        this.objectMapper = objectMapper;
+        this.repository = repository;
+        this.writeQueue = writeQueue;
+        this.numberAllocator = numberAllocator;
+        this.blobStore = blobStore;
+        this.registrationIndex = registrationIndex;
+        this.carCache = carCache;
+        this.responseCache = responseCache;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports the records of a dump.
+     *
+     * @param input
+     *     The stream of the records
+     *
+     * @return the {@link ImportReport} of the import
+     */
+    @SneakyThrows
+    public ImportReport importDump(@NonNull final InputStream input) {
+        final Import dumpImport = new Import();
+
+        try (final JsonParser parser = this.objectMapper.getFactory().createParser(input)) {
+            JsonToken token;
+            while (!isNull(token = parser.nextToken())) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    dumpImport.reject("A record must be a JSON object");
+                    continue;
+                }
+
+                dumpImport.add(this.readRecord(parser));
+            }
+        } catch (final JsonProcessingException exception) {
+            dumpImport.reject("Malformed JSON: " + exception.getOriginalMessage());
+        }
+
+        return dumpImport.finish();
+    }
+
+    /**
+     * Reads the fields of a record, storing its included files in the blob store as they are decoded.
+     *
+     * @param parser
+     *     The JSON parser, positioned at the start of the record
+     *
+     * @return the JSON node of the record, holding the hashes of its files
+     *
+     * @throws IOException
+     *     if the record cannot be read
+     */
+    private ObjectNode readRecord(final JsonParser parser) throws IOException {
+        final ObjectNode node = this.objectMapper.createObjectNode();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+
+            if ((CERTIFICATE_FIELD.equals(name) || PICTURE_FIELD.equals(name)) && token == JsonToken.VALUE_STRING) {
+                node.put(name + HASH_FIELD_SUFFIX, this.blobStore.store(parser::readBinaryValue));
+            } else {
+                node.set(name, parser.readValueAsTree());
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Converts a record to its entity, its parent being referenced by ID.
+     *
+     * @param type
+     *     The type of the record
+     * @param node
+     *     The JSON node of the record
+     *
+     * @return the entity
+     *
+     * @throws JsonProcessingException
+     *     if a field of the record is invalid
+     * @throws IllegalArgumentException
+     *     if the record cannot be imported
+     */
+    private Object toEntity(final String type, final ObjectNode node) throws JsonProcessingException {
+        node.remove(RECORD_FIELD);
+        if (!node.path("id").canConvertToInt()) {
+            throw new IllegalArgumentException("The ID is required");
+        }
+
+        switch (type) {
+            case CAR_TYPE:
+                final Car car = this.objectMapper.treeToValue(node, Car.class);
+                car.setCertificateHash(node.path(CERTIFICATE_FIELD + HASH_FIELD_SUFFIX).textValue());
+                car.setPictureHash(node.path(PICTURE_FIELD + HASH_FIELD_SUFFIX).textValue());
+
+                final String error = CarImporter.validate(car);
+                if (!isNull(error)) {
+                    throw new IllegalArgumentException(error);
+                }
+
+                return car;
+            case INTERVENTION_TYPE:
+                final Car interventionCar = new Car();
+                interventionCar.setId(parentId(node, CAR_ID_FIELD));
+                final Intervention intervention = this.objectMapper.treeToValue(node, Intervention.class);
+                intervention.setCar(interventionCar);
+                return intervention;
+            case OPERATION_TYPE:
+                final Intervention operationIntervention = new Intervention();
+                operationIntervention.setId(parentId(node, INTERVENTION_ID_FIELD));
+                final Operation operation = this.objectMapper.treeToValue(node, Operation.class);
+                operation.setIntervention(operationIntervention);
+                return operation;
+            case OPERATION_LINE_TYPE:
+                final Operation lineOperation = new Operation();
+                lineOperation.setId(parentId(node, OPERATION_ID_FIELD));
+                final OperationLine operationLine = this.objectMapper.treeToValue(node, OperationLine.class);
+                operationLine.setOperation(lineOperation);
+                return operationLine;
+            default:
+                throw new IllegalArgumentException("Unknown record type " + type);
+        }
+    }
+
+    /**
+     * Removes the ID of the parent from a record.
+     *
+     * @param node
+     *     The JSON node of the record
+     * @param field
+     *     The name of the field of the ID
+     *
+     * @return the ID of the parent
+     *
+     * @throws IllegalArgumentException
+     *     if the record has no parent ID
+     */
+    private static Integer parentId(final ObjectNode node, final String field) {
+        final JsonNode parentId = node.remove(field);
+        if (isNull(parentId) || !parentId.canConvertToInt()) {
+            throw new IllegalArgumentException("The " + field + " is required");
+        }
+
+        return parentId.intValue();
+    }
+
+    /**
+     * Writes records of the same type within the current transaction. As the imported records may belong to cached cars, the caches are invalidated here.
+     * The blocks of numbers of the allocator are given back before the interventions are inserted, as the imported numbers may fall within them.
+     *
+     * @param type
+     *     The type of the records
+     * @param entities
+     *     The entities of the records
+     *
+     * @return the {@link BulkResult} of each record, by position in the given list
+     */
+    @SuppressWarnings("unchecked")
+    private List<BulkResult> write(final String type, final List<?> entities) {
+        final List<BulkResult> results;
+        switch (type) {
+            case CAR_TYPE:
+                results = this.repository.saveCars((List<Car>) entities, this.batchSize);
+                break;
+            case INTERVENTION_TYPE:
+                this.numberAllocator.release();
+                results = this.repository.saveInterventions((List<Intervention>) entities, this.batchSize);
+                break;
+            case OPERATION_TYPE:
+                results = this.repository.saveOperations((List<Operation>) entities, this.batchSize);
+                break;
+            default:
+                results = this.repository.saveOperationLines((List<OperationLine>) entities, this.batchSize);
+                break;
+        }
+
+        this.responseCache.invalidateAll();
+        this.carCache.invalidateAll();
+        return results;
+    }
+
+    /**
+     * State of an import, gathering the read records into chunks of the same type and counting the written ones.
+     */
+    private final class Import {
+
+        private final ImportReport report = new ImportReport();
+        private final List<Object> chunk = new ArrayList<>();
+        private final List<Integer> chunkIndexes = new ArrayList<>();
+
+        private String chunkType;
+        private int index;
+
+        /**
+         * Adds a read record to the current chunk, writing it once full or once a record of another type is read, or reports its error.
+         *
+         * @param node
+         *     The JSON node of the record
+         */
+        void add(final ObjectNode node) {
+            final String type = node.path(RECORD_FIELD).asText();
+            final Object entity;
+            try {
+                entity = DumpImporter.this.toEntity(type, node);
+            } catch (final JsonProcessingException exception) {
+                this.reject("Invalid " + type + ": " + exception.getOriginalMessage());
+                return;
+            } catch (final IllegalArgumentException exception) {
+                this.reject(exception.getMessage());
+                return;
+            }
+
+            if (!type.equals(this.chunkType)) {
+                this.flush();
+                this.chunkType = type;
+            }
+
+            this.chunk.add(entity);
+            this.chunkIndexes.add(this.index++);
+
+            if (this.chunk.size() >= DumpImporter.this.chunkSize) {
+                this.flush();
+            }
+        }
+
+        /**
+         * Reports the error of a record which cannot be read.
+         *
+         * @param error
+         *     The error
+         */
+        void reject(final String error) {
+            this.addError(new BulkResult(this.index++, null, null, error));
+        }
+
+        /**
+         * Writes the last chunk.
+         *
+         * @return the {@link ImportReport} of the import
+         */
+        ImportReport finish() {
+            this.flush();
+            log.info("Imported {} cars, {} interventions, {} operations and {} operation lines, {} records rejected", this.report.getCarCount(),
+                this.report.getInterventionCount(), this.report.getOperationCount(), this.report.getOperationLineCount(), this.report.getErrorCount());
+            return this.report;
+        }
+
+        /**
+         * Writes the current chunk in a single transaction, then indexes the written cars for the suggestions.
+         */
+        private void flush() {
+            if (this.chunk.isEmpty()) {
+                return;
+            }
+
+            final String type = this.chunkType;
+            final List<Object> entities = new ArrayList<>(this.chunk);
+            final List<BulkResult> results = DumpImporter.this.writeQueue.submit(() -> DumpImporter.this.write(type, entities));
+
+            for (final BulkResult result : results) {
+                final Object entity = entities.get(result.getIndex());
+                result.setIndex(this.chunkIndexes.get(result.getIndex()));
+
+                if (!isNull(result.getError())) {
+                    this.addError(result);
+                } else if (entity instanceof Car) {
+                    final Car car = (Car) entity;
+                    DumpImporter.this.registrationIndex.put(new CarSuggestion(car.getId(), car.getRegistration(), car.getSerialNumber()));
+                    this.report.setCarCount(this.report.getCarCount() + 1);
+                } else if (entity instanceof Intervention) {
+                    this.report.setInterventionCount(this.report.getInterventionCount() + 1);
+                } else if (entity instanceof Operation) {
+                    this.report.setOperationCount(this.report.getOperationCount() + 1);
+                } else {
+                    this.report.setOperationLineCount(this.report.getOperationLineCount() + 1);
+                }
+            }
+
+            this.chunk.clear();
+            this.chunkIndexes.clear();
+        }
+
+        /**
+         * Counts an error, detailing it in the report unless enough ones already are.
+         *
+         * @param result
+         *     The {@link BulkResult} of the rejected record
+         */
+        private void addError(final BulkResult result) {
+            this.report.setErrorCount(this.report.getErrorCount() + 1);
+            if (this.report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                this.report.getErrors().add(result);
+            }
+        }
+
+    }
+
+}
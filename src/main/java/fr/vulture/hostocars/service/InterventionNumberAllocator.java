@@ -0,0 +1,259 @@
+package fr.vulture.hostocars.service;
+
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterCommit;
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterCompletion;
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterRollback;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import fr.vulture.hostocars.repository.InterventionSequenceRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Allocator of the numbers of the interventions, unique within each year.
+ * <br/>
+ * <br/>
+ * The numbers are reserved by blocks in the {@code interventionsSequences} table, then handed out from memory without any lock nor statement until the block
+ * of the year is exhausted. A block is reserved within the transaction of the write needing it, which is the only one running with the single writer of the
+ * {@link WriteQueue}, and dropped if this transaction is rolled back. The numbers handed out within a rolled back transaction are given back to their block,
+ * so the write retried afterwards gets them again. The unused numbers of the blocks are given back once the application is stopped, so a clean shutdown
+ * leaves no gap in the numbers.
+ * <br/>
+ * <br/>
+ * A number is only lost if it was handed out within a transaction which is rolled back after other numbers of its block were handed out outside of it, as
+ * a number is never handed out twice.
+ */
+@Slf4j
+@Service
+public class InterventionNumberAllocator {
+
+    private final InterventionSequenceRepository repository;
+    private final WriteQueue writeQueue;
+    private final int blockSize;
+    private final Map<Integer, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param repository
+     *     The autowired {@link InterventionSequenceRepository} component
+     * @param writeQueue
+     *     The autowired {@link WriteQueue} component, giving back the unused numbers
+     * @param blockSize
+     *     The number of numbers reserved at once
+     */
+    @Autowired
+    public InterventionNumberAllocator(final InterventionSequenceRepository repository, final WriteQueue writeQueue,
+        @Value("${interventions.numbers.block-size}") final int blockSize) {
+        this.repository = repository;
+        this.writeQueue = writeQueue;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Hands out the next number of a year, reserving a new block within the current transaction if needed.
+     *
+     * @param year
+     *     The year of the intervention
+     *
+     * @return the number of the intervention
+     */
+    public int next(@NonNull final Integer year) {
+        Block block = this.blocks.get(year);
+        while (true) {
+            if (nonNull(block)) {
+                final int number = block.next.getAndIncrement();
+                if (number <= block.last) {
+                    track(block, number);
+                    return number;
+                }
+            }
+
+            block = this.reserve(year, block);
+        }
+    }
+
+    /**
+     * Gives back the unused numbers of all the blocks within the current transaction, and drops them once it is committed. The blocks are closed meanwhile,
+     * and opened again if the transaction is rolled back. The numbers are given back unless other ones were reserved in the database since, which only
+     * happens when interventions are imported with their numbers.
+     */
+    public void release() {
+        this.blocks.forEach((year, block) -> {
+            final int usedNumber = Math.min(block.next.getAndSet(block.last + 1), block.last + 1) - 1;
+            if (usedNumber < block.last) {
+                if (!this.repository.release(year, block.last, usedNumber)) {
+                    log.debug("Numbers {} to {} of {} not given back, as others were reserved since", usedNumber + 1, block.last, year);
+                }
+
+                afterRollback(() -> block.giveBack(usedNumber + 1, block.last));
+            }
+
+            afterCommit(() -> this.blocks.remove(year, block));
+        });
+    }
+
+    /**
+     * Gives back the unused numbers once the application is stopped.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!this.blocks.isEmpty()) {
+            this.writeQueue.submit(this::release);
+        }
+    }
+
+    /**
+     * Reserves a new block of numbers for a year, unless another thread already replaced the exhausted one. If the current transaction is rolled back, the
+     * block is dropped, as its reservation is, and the exhausted one is restored, as the numbers handed out within the transaction are given back to it.
+     *
+     * @param year
+     *     The year of the intervention
+     * @param exhausted
+     *     The exhausted block, or {@code null} if there was none
+     *
+     * @return the block to hand out the numbers from
+     */
+    private synchronized Block reserve(final Integer year, final Block exhausted) {
+        final Block current = this.blocks.get(year);
+        if (current != exhausted) {
+            return current;
+        }
+
+        final int last = this.repository.reserve(year, this.blockSize);
+        final Block block = new Block(last - this.blockSize + 1, last);
+        this.blocks.put(year, block);
+        log.debug("Numbers {} to {} of {} reserved", block.next, block.last, year);
+
+        afterRollback(() -> {
+            if (isNull(exhausted)) {
+                this.blocks.remove(year, block);
+            } else {
+                this.blocks.replace(year, block, exhausted);
+            }
+        });
+
+        return block;
+    }
+
+    /**
+     * Tracks a number handed out within the current transaction, so that the numbers handed out from its block are given back if the transaction is rolled
+     * back.
+     *
+     * @param block
+     *     The block of the number
+     * @param number
+     *     The handed out number
+     */
+    private static void track(final Block block, final int number) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        final Draw currentDraw = (Draw) TransactionSynchronizationManager.getResource(block);
+        if (nonNull(currentDraw)) {
+            currentDraw.add(number);
+            return;
+        }
+
+        final Draw draw = new Draw(number);
+        TransactionSynchronizationManager.bindResource(block, draw);
+        afterRollback(() -> {
+            if (!draw.isContiguous() || !block.giveBack(draw.first, draw.last)) {
+                log.debug("Numbers {} to {} not given back, as others were handed out since", draw.first, draw.last);
+            }
+        });
+        afterCompletion(() -> TransactionSynchronizationManager.unbindResource(block));
+    }
+
+    /**
+     * Block of reserved numbers, handed out from the first one to the last one.
+     */
+    private static final class Block {
+
+        private final AtomicInteger next;
+        private final int last;
+
+        /**
+         * Valued constructor.
+         *
+         * @param first
+         *     The first number of the block
+         * @param last
+         *     The last number of the block
+         */
+        private Block(final int first, final int last) {
+            this.next = new AtomicInteger(first);
+            this.last = last;
+        }
+
+        /**
+         * Gives back a range of handed out numbers, unless other numbers were handed out after them.
+         *
+         * @param first
+         *     The first number of the range
+         * @param last
+         *     The last number of the range
+         *
+         * @return {@code true} if the numbers have been given back
+         */
+        private boolean giveBack(final int first, final int last) {
+            // Once the block is exhausted, the next number is incremented further by each attempt, without handing out any number
+            final int next = this.next.get();
+            return (next == last + 1 || last == this.last && next > this.last) && this.next.compareAndSet(next, first);
+        }
+
+    }
+
+    /**
+     * Range of the numbers handed out from a block within a transaction.
+     */
+    private static final class Draw {
+
+        private final int first;
+        private int last;
+        private int count = 1;
+
+        /**
+         * Valued constructor.
+         *
+         * @param first
+         *     The first handed out number
+         */
+        private Draw(final int first) {
+            this.first = first;
+            this.last = first;
+        }
+
+        /**
+         * Adds a handed out number.
+         *
+         * @param number
+         *     The handed out number
+         */
+        private void add(final int number) {
+            this.last = number;
+            this.count++;
+        }
+
+        /**
+         * Checks if the range only holds numbers handed out within the transaction.
+         *
+         * @return {@code true} if no other number was handed out in between
+         */
+        private boolean isContiguous() {
+            return this.count == this.last - this.first + 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package fr.vulture.hostocars.service;
+
+import fr.vulture.hostocars.entity.Intervention;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import javax.persistence.PrePersist;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Entity listener dating and numbering the new {@link Intervention} within the current year, instantiated by Hibernate through the Spring bean container.
+ */
+public class InterventionNumberListener {
+
+    private final InterventionNumberAllocator allocator;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param allocator
+     *     The autowired {@link InterventionNumberAllocator} component, resolved lazily as the listener is created along with the entity manager factory
+     *     it depends on
+     */
+    @Autowired
+    public InterventionNumberListener(@Lazy final InterventionNumberAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Sets the creation date, the year and the number of an {@link Intervention} before it is inserted, replacing any given ones.
+     *
+     * @param intervention
+     *     The inserted {@link Intervention}
+     */
+    @PrePersist
+    public void number(@NonNull final Intervention intervention) {
+        final LocalDate date = LocalDate.now(ZoneOffset.UTC);
+        final int year = date.getYear();
+        intervention.setCreationDate(date.toString());
+        intervention.setYear(year);
+        intervention.setNumber(this.allocator.next(year));
+    }
+
+}
@@ -0,0 +1,131 @@
+package fr.vulture.hostocars.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, with log-linear buckets as in HDR histograms.
+ * <br/>
+ * <br/>
+ * The durations below {@value #LINEAR_BUCKET_COUNT} ns are counted exactly. Above, each power of two is split into {@value #SUB_BUCKET_COUNT} buckets, so a
+ * duration is known within 1.6% of its value. The durations above about 18 minutes are counted in the last bucket, but the maximum is kept exactly.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT << 1;
+    private static final long MAX_TRACKED_VALUE = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(toIndex(MAX_TRACKED_VALUE) + 1);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Computes the index of the bucket of a duration. The buckets of each power of two starting right after the previous ones, the index grows with the
+     * duration.
+     *
+     * @param value
+     *     The duration, clamped to the tracked range
+     *
+     * @return the index of the bucket
+     */
+    static int toIndex(final long value) {
+        final long clampedValue = Math.max(0L, Math.min(value, MAX_TRACKED_VALUE));
+        if (clampedValue < LINEAR_BUCKET_COUNT) {
+            return (int) clampedValue;
+        }
+
+        // Shifted so that the remaining value is between SUB_BUCKET_COUNT and LINEAR_BUCKET_COUNT
+        final int shift = 64 - Long.numberOfLeadingZeros(clampedValue) - 1 - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (clampedValue >>> shift);
+    }
+
+    /**
+     * Computes the highest duration of a bucket.
+     *
+     * @param index
+     *     The index of the bucket
+     *
+     * @return the highest duration counted in the bucket
+     */
+    static long toHighestValue(final int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param value
+     *     The duration in nanoseconds
+     */
+    void record(final long value) {
+        this.counts.incrementAndGet(toIndex(value));
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Counts the recorded durations.
+     *
+     * @return the number of recorded durations
+     */
+    long getCount() {
+        long count = 0L;
+        for (int i = 0; i < this.counts.length(); i++) {
+            count += this.counts.get(i);
+        }
+
+        return count;
+    }
+
+    /**
+     * Retrieves the maximum recorded duration.
+     *
+     * @return the maximum duration in nanoseconds, or {@code 0} if none is recorded
+     */
+    long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Computes the durations at the given percentiles, from a single pass over the buckets. The recordings made meanwhile may be partly counted.
+     *
+     * @param percentiles
+     *     The percentiles, in ascending order, between {@code 0} and {@code 100}
+     *
+     * @return the highest durations of the buckets reached by each percentile, up to the maximum, or {@code 0} if none is recorded
+     */
+    long[] getValuesAtPercentiles(final double... percentiles) {
+        final long[] snapshot = new long[this.counts.length()];
+        long totalCount = 0L;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = this.counts.get(i);
+            totalCount += snapshot[i];
+        }
+
+        final long[] values = new long[percentiles.length];
+        if (totalCount == 0L) {
+            return values;
+        }
+
+        final long max = this.getMax();
+        long count = 0L;
+        int index = 0;
+        for (int i = 0; i < percentiles.length; i++) {
+            final long rank = Math.max(1L, (long) Math.ceil(percentiles[i] / 100 * totalCount));
+            while (count < rank && index < snapshot.length) {
+                count += snapshot[index++];
+            }
+
+            values[i] = Math.min(toHighestValue(Math.max(0, index - 1)), max);
+        }
+
+        return values;
+    }
+
+}
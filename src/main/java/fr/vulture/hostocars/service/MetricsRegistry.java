@@ -0,0 +1,124 @@
+package fr.vulture.hostocars.service;
+
+import static java.util.Comparator.comparing;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
+
+import fr.vulture.hostocars.configuration.Loggable;
+import fr.vulture.hostocars.dto.MethodStatistics;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registry of the metrics of the calls of the {@link Loggable} methods, being their numbers, their errors, the calls in flight and a histogram of their
+ * durations.
+ * <br/>
+ * <br/>
+ * The metrics are recorded without lock by a few atomic increments, so that recording a call costs little more than reading the clock twice, and its
+ * durations are measured in nanoseconds.
+ */
+@Service
+public class MetricsRegistry {
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final ConcurrentMap<Method, Recorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the recorder of the calls of a method, created on its first call.
+     *
+     * @param method
+     *     The method
+     *
+     * @return the {@link Recorder} of the method
+     */
+    public Recorder getRecorder(@NonNull final Method method) {
+        final Recorder recorder = this.recorders.get(method);
+        return nonNull(recorder) ? recorder : this.recorders.computeIfAbsent(method, key -> new Recorder());
+    }
+
+    /**
+     * Retrieves the statistics of the called methods, sorted by method.
+     *
+     * @return the list of {@link MethodStatistics}
+     */
+    public List<MethodStatistics> getStatistics() {
+        return this.recorders.entrySet().stream()
+            .map(entry -> entry.getValue().getStatistics(entry.getKey().getDeclaringClass().getSimpleName() + '.' + entry.getKey().getName()))
+            .sorted(comparing(MethodStatistics::getMethod))
+            .collect(toList());
+    }
+
+    /**
+     * Recorder of the calls of a method.
+     */
+    public static final class Recorder {
+
+        // The ended calls are counted by the histogram, so the calls in flight are the started ones which are not counted yet
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder startCount = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+
+        /**
+         * Private constructor, the recorders being created by the registry.
+         */
+        private Recorder() {
+        }
+
+        /**
+         * Records the start of a call.
+         *
+         * @return the start time of the call, to give back to {@link #stop}
+         */
+        public long start() {
+            this.startCount.increment();
+            return System.nanoTime();
+        }
+
+        /**
+         * Records the end of a call.
+         *
+         * @param startTime
+         *     The start time returned by {@link #start}
+         * @param failed
+         *     If the call threw an exception
+         *
+         * @return the duration of the call in nanoseconds
+         */
+        public long stop(final long startTime, final boolean failed) {
+            final long duration = System.nanoTime() - startTime;
+            this.histogram.record(duration);
+            this.totalTime.add(duration);
+            if (failed) {
+                this.errorCount.increment();
+            }
+
+            return duration;
+        }
+
+        /**
+         * Computes the statistics of the recorded calls.
+         *
+         * @param method
+         *     The name of the method
+         *
+         * @return the {@link MethodStatistics}
+         */
+        private MethodStatistics getStatistics(final String method) {
+            // The ended calls are counted before the started ones, so that the calls in flight are never negative
+            final long callCount = this.histogram.getCount();
+            final long inFlightCount = this.startCount.sum() - callCount;
+            final long[] values = this.histogram.getValuesAtPercentiles(PERCENTILES);
+            return new MethodStatistics(method, callCount, this.errorCount.sum(), inFlightCount, this.totalTime.sum(), values[0], values[1], values[2],
+                this.histogram.getMax());
+        }
+
+    }
+
+}
@@ -0,0 +1,325 @@
+package fr.vulture.hostocars.service;
+
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterCommit;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.repository.CarRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory index of the registrations and serial numbers of the cars, suggesting the cars matching a partial input as it is typed.
+ * <br/>
+ * <br/>
+ * The values are normalized to their upper case letters and digits, so {@code ab-123} matches {@code AB 123 CD}. They are indexed in a sorted map for the
+ * prefix matches, and by trigrams for the matches inside the values. The index is built once the application is started, then kept up to date by the
+ * changes made through the application, which are only applied once their transaction is committed.
+ */
+@Slf4j
+@Service
+public class RegistrationIndex {
+
+    private static final Pattern MARKS_PATTERN = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS_PATTERN = Pattern.compile("[^A-Z0-9]+");
+    private static final int GRAM_LENGTH = 3;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final CarRepository carRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // The indexed cars, by ID
+    private final Map<Integer, Entry> cars = new HashMap<>();
+
+    // The IDs of the cars, by normalized registration and serial number followed by the ID, so the equal values are kept apart without a set per value
+    private final NavigableMap<String, Integer> values = new TreeMap<>();
+
+    // The IDs of the cars, by trigram of their normalized registration and serial number
+    private final Map<String, Set<Integer>> grams = new HashMap<>();
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param carRepository
+     *     The autowired {@link CarRepository} component
+     */
+    @Autowired
+    public RegistrationIndex(final CarRepository carRepository) {
+        this.carRepository = carRepository;
+    }
+
+    /**
+     * Normalizes a registration or a serial number, keeping only its upper case letters and digits, without their diacritics.
+     *
+     * @param value
+     *     The value to normalize
+     *
+     * @return the normalized value, or an empty string if the value is {@code null}
+     */
+    static String normalize(final String value) {
+        if (isNull(value)) {
+            return "";
+        }
+
+        final String decomposedValue = MARKS_PATTERN.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS_PATTERN.matcher(decomposedValue.toUpperCase(Locale.ROOT)).replaceAll("");
+    }
+
+    /**
+     * Builds the index from all the cars of the database, once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        this.lock.writeLock().lock();
+        try {
+            this.cars.clear();
+            this.values.clear();
+            this.grams.clear();
+
+            this.carRepository.findAllSuggestions().forEach(suggestion -> this.index(new Entry(suggestion)));
+            log.info("Indexed the registrations and serial numbers of {} cars", this.cars.size());
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the cars whose registration or serial number matches a partial input. The cars whose value starts with the input come first, sorted by value,
+     * followed by the ones containing it, sorted by registration. The values containing the input are only searched for inputs of three characters or more.
+     *
+     * @param input
+     *     The partial registration or serial number
+     * @param limit
+     *     The maximum number of suggestions
+     *
+     * @return the list of {@link CarSuggestion}
+     */
+    public List<CarSuggestion> find(@NonNull final String input, final int limit) {
+        final String normalizedInput = normalize(input);
+        if (normalizedInput.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final Set<Integer> ids = new LinkedHashSet<>();
+
+            for (final Integer id : this.values.subMap(normalizedInput, true, normalizedInput + Character.MAX_VALUE, false).values()) {
+                if (ids.size() == limit) {
+                    return this.toSuggestions(ids);
+                }
+
+                ids.add(id);
+            }
+
+            if (ids.size() < limit && normalizedInput.length() >= GRAM_LENGTH) {
+                this.findContaining(normalizedInput, ids, limit - ids.size()).forEach(entry -> ids.add(entry.suggestion.getId()));
+            }
+
+            return this.toSuggestions(ids);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the registration and serial number of a car, replacing its previous ones, once the current transaction is committed.
+     *
+     * @param suggestion
+     *     The car to index
+     */
+    public void put(@NonNull final CarSuggestion suggestion) {
+        afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                this.unindex(this.cars.get(suggestion.getId()));
+                this.index(new Entry(suggestion));
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes a car from the index, once the current transaction is committed.
+     *
+     * @param id
+     *     The ID of the car to remove
+     */
+    public void remove(@NonNull final Integer id) {
+        afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                this.unindex(this.cars.get(id));
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Finds the first cars by registration whose registration or serial number contains an input, from the smallest set of cars sharing one of its trigrams.
+     * Only the expected number of cars are kept while the candidates are read, so they are never all sorted.
+     *
+     * @param normalizedInput
+     *     The normalized input, of at least three characters
+     * @param excludedIds
+     *     The IDs of the cars already found
+     * @param count
+     *     The expected number of cars
+     *
+     * @return the list of matching entries, sorted by registration
+     */
+    private List<Entry> findContaining(final String normalizedInput, final Set<Integer> excludedIds, final int count) {
+        Set<Integer> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= normalizedInput.length(); i++) {
+            final Set<Integer> gramIds = this.grams.get(normalizedInput.substring(i, i + GRAM_LENGTH));
+            if (isNull(gramIds)) {
+                return new ArrayList<>();
+            }
+
+            if (isNull(candidates) || gramIds.size() < candidates.size()) {
+                candidates = gramIds;
+            }
+        }
+
+        final Comparator<Entry> comparator = Comparator.comparing((Entry entry) -> entry.registration).thenComparing(entry -> entry.suggestion.getId());
+        final PriorityQueue<Entry> result = new PriorityQueue<>(count + 1, comparator.reversed());
+        for (final Integer id : candidates) {
+            final Entry entry = this.cars.get(id);
+            if (!excludedIds.contains(id) && (entry.registration.contains(normalizedInput) || entry.serialNumber.contains(normalizedInput))) {
+                result.add(entry);
+                if (result.size() > count) {
+                    result.poll();
+                }
+            }
+        }
+
+        return result.stream().sorted(comparator).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a set of car IDs to their suggestions.
+     *
+     * @param ids
+     *     The car IDs
+     *
+     * @return the list of {@link CarSuggestion}
+     */
+    private List<CarSuggestion> toSuggestions(final Set<Integer> ids) {
+        return ids.stream().map(id -> this.cars.get(id).suggestion).collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a car to the index. The write lock must be held.
+     *
+     * @param entry
+     *     The entry of the car to add
+     */
+    private void index(final Entry entry) {
+        final Integer id = entry.suggestion.getId();
+        this.cars.put(id, entry);
+
+        entry.values().forEach(value -> {
+            this.values.put(value + KEY_SEPARATOR + id, id);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                this.grams.computeIfAbsent(value.substring(i, i + GRAM_LENGTH), key -> new HashSet<>()).add(id);
+            }
+        });
+    }
+
+    /**
+     * Removes a car from the index. The write lock must be held.
+     *
+     * @param entry
+     *     The entry of the car to remove, or {@code null} if it is not indexed
+     */
+    private void unindex(final Entry entry) {
+        if (isNull(entry)) {
+            return;
+        }
+
+        final Integer id = entry.suggestion.getId();
+        this.cars.remove(id);
+
+        entry.values().forEach(value -> {
+            this.values.remove(value + KEY_SEPARATOR + id);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                removeId(this.grams, value.substring(i, i + GRAM_LENGTH), id);
+            }
+        });
+    }
+
+    /**
+     * Removes a car ID from the set of IDs of a key, the set itself being removed once empty.
+     *
+     * @param map
+     *     The map of the sets of IDs
+     * @param key
+     *     The key
+     * @param id
+     *     The car ID
+     */
+    private static void removeId(final Map<String, Set<Integer>> map, final String key, final Integer id) {
+        final Set<Integer> ids = map.get(key);
+        if (nonNull(ids) && ids.remove(id) && ids.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Indexed car, with its normalized registration and serial number.
+     */
+    private static class Entry {
+
+        private final CarSuggestion suggestion;
+        private final String registration;
+        private final String serialNumber;
+
+        /**
+         * Valued constructor.
+         *
+         * @param suggestion
+         *     The indexed car
+         */
+        Entry(final CarSuggestion suggestion) {
+            this.suggestion = suggestion;
+            this.registration = normalize(suggestion.getRegistration());
+            this.serialNumber = normalize(suggestion.getSerialNumber());
+        }
+
+        /**
+         * Lists the distinct non-empty normalized values of the car.
+         *
+         * @return the normalized values
+         */
+        Stream<String> values() {
+            return Stream.of(this.registration, this.serialNumber).filter(value -> !value.isEmpty()).distinct();
+        }
+
+    }
+
+}
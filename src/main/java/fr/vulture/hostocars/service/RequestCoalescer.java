@@ -0,0 +1,77 @@
+package fr.vulture.hostocars.service;
+
+import static java.util.Objects.nonNull;
+
+import fr.vulture.hostocars.dto.CoalescingStatistics;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Service;
+
+/**
+ * Coalescer of the identical concurrent calls, the calls made while an identical one is in flight waiting for its result instead of being executed.
+ */
+@Service
+public class RequestCoalescer {
+
+    // The calls in flight, by key
+    private final ConcurrentMap<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Executes a call, unless an identical one is in flight, whose result or exception is then shared.
+     *
+     * @param key
+     *     The key identifying the identical calls
+     * @param callable
+     *     The call to execute
+     * @param <T>
+     *     The type of the result
+     *
+     * @return the result of the call
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public <T> T execute(@NonNull final String key, @NonNull final Callable<T> callable) {
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> existingFlight = this.flights.putIfAbsent(key, flight);
+
+        if (nonNull(existingFlight)) {
+            this.coalescedCount.increment();
+            try {
+                return (T) existingFlight.get();
+            } catch (final ExecutionException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        this.executionCount.increment();
+        try {
+            final T result = callable.call();
+            flight.complete(result);
+            return result;
+        } catch (final Throwable throwable) {
+            flight.completeExceptionally(throwable);
+            throw throwable;
+        } finally {
+            this.flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Retrieves the statistics of the coalescer.
+     *
+     * @return the {@link CoalescingStatistics}
+     */
+    public CoalescingStatistics getStatistics() {
+        return new CoalescingStatistics(this.executionCount.sum(), this.coalescedCount.sum(), this.flights.size());
+    }
+
+}
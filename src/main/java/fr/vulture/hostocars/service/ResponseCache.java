@@ -0,0 +1,179 @@
+package fr.vulture.hostocars.service;
+
+import static fr.vulture.hostocars.service.TransactionCallbacks.afterCompletion;
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.dto.CacheStatistics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Bounded cache of the serialized responses of the collection endpoints, by request URI and query, the least recently used ones being evicted first.
+ * <br/>
+ * <br/>
+ * The responses are valid for a change stamp of the database, incremented by each write at once, then again once the writing transaction is completed. A
+ * response is only cached if the stamp has not changed since it was read, and all the responses are dropped when it changes, so an outdated response is never
+ * served.
+ */
+@Service
+public class ResponseCache {
+
+    private static final String NAME = "responses";
+
+    private final int maxSize;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedResponse> entries;
+
+    private long stamp;
+
+    private long hitCount;
+    private long missCount;
+
+    // The entries removed to honor the maximum size, then the ones removed by the invalidations
+    private long evictionCount;
+    private long invalidationCount;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param maxSize
+     *     The maximum number of cached responses
+     * @param objectMapper
+     *     The autowired {@link ObjectMapper} component, writing the responses
+     */
+    @Autowired
+    public ResponseCache(@Value("${cache.responses.max-size}") final int maxSize, final ObjectMapper objectMapper) {
+        this.maxSize = maxSize;
+        this.objectMapper = objectMapper;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 2278046416331858093L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedResponse> eldest) {
+                if (this.size() > ResponseCache.this.maxSize) {
+                    ResponseCache.this.evictionCount++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Builds the key of the response to a request, made of its URI and its query.
+     *
+     * @param request
+     *     The request
+     *
+     * @return the key of the response
+     */
+    public static String toKey(@NonNull final HttpServletRequest request) {
+        final String query = request.getQueryString();
+        return isNull(query) ? request.getRequestURI() : request.getRequestURI() + '?' + query;
+    }
+
+    /**
+     * Retrieves the current change stamp, to be read before the content of a response.
+     *
+     * @return the change stamp
+     */
+    public synchronized long getStamp() {
+        return this.stamp;
+    }
+
+    /**
+     * Finds a cached response.
+     *
+     * @param key
+     *     The key of the response
+     *
+     * @return the {@link CachedResponse}, or an empty result if it is not cached
+     */
+    public synchronized Optional<CachedResponse> find(@NonNull final String key) {
+        final CachedResponse response = this.entries.get(key);
+        if (isNull(response)) {
+            return Optional.empty();
+        }
+
+        this.hitCount++;
+        return Optional.of(response);
+    }
+
+    /**
+     * Writes a response and caches it, unless the change stamp has changed since its content was read.
+     *
+     * @param key
+     *     The key of the response
+     * @param readStamp
+     *     The change stamp read before the content of the response
+     * @param body
+     *     The body of the response
+     *
+     * @return the written {@link CachedResponse}
+     */
+    @SneakyThrows
+    public CachedResponse put(@NonNull final String key, final long readStamp, @NonNull final Object body) {
+        final byte[] content = this.objectMapper.writeValueAsBytes(body);
+        final CachedResponse response = new CachedResponse(content, '"' + DigestUtils.md5DigestAsHex(content) + '"');
+
+        synchronized (this) {
+            this.missCount++;
+            if (this.stamp == readStamp) {
+                this.entries.put(key, response);
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * Increments the change stamp and drops all the cached responses, at once and once the current transaction is completed.
+     */
+    public void invalidateAll() {
+        this.evictAll();
+        afterCompletion(this::evictAll);
+    }
+
+    /**
+     * Retrieves the statistics of the cache.
+     *
+     * @return the {@link CacheStatistics}
+     */
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(NAME, this.entries.size(), this.maxSize, this.hitCount, this.missCount, this.evictionCount, this.invalidationCount);
+    }
+
+    /**
+     * Increments the change stamp and drops all the cached responses.
+     */
+    private synchronized void evictAll() {
+        this.stamp++;
+        this.invalidationCount += this.entries.size();
+        this.entries.clear();
+    }
+
+    /**
+     * Serialized response, with its entity tag.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class CachedResponse {
+
+        private final byte[] content;
+        private final String eTag;
+
+    }
+
+}
@@ -0,0 +1,304 @@
+package fr.vulture.hostocars.service;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Service building the thumbnails of the pictures stored in the {@link BlobStore}.
+ * <br/>
+ * <br/>
+ * The thumbnails of a picture are built in the background on a bounded executor, all sizes at once, and saved as JPEG files named after the picture hash
+ * and their size. A picture has at most one build in flight, shared by all the callers waiting for it.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private static final String THUMBNAIL_FORMAT = "jpg";
+    private static final long BUILD_TIMEOUT_SECONDS = 30;
+
+    private final BlobStore blobStore;
+    private final Path root;
+    private final int[] sizes;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Void>> builds = new ConcurrentHashMap<>();
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param blobStore
+     *     The autowired {@link BlobStore} component
+     * @param path
+     *     The path of the thumbnails folder
+     * @param sizes
+     *     The sizes of the thumbnails, in pixels
+     * @param threads
+     *     The number of threads building the thumbnails
+     * @param queueCapacity
+     *     The maximum number of pending builds
+     */
+    @Autowired
+    @SneakyThrows
+    public ThumbnailService(final BlobStore blobStore, @Value("${thumbnails.path}") @NonNull final String path, @Value("${thumbnails.sizes}") final int[] sizes,
+        @Value("${thumbnails.threads}") final int threads, @Value("${thumbnails.queue-capacity}") final int queueCapacity) {
+        this.blobStore = blobStore;
+        this.root = Paths.get(path).toAbsolutePath().normalize();
+        this.sizes = Arrays.stream(sizes).boxed().sorted(Comparator.reverseOrder()).mapToInt(Integer::intValue).toArray();
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            final Thread thread = new Thread(runnable, "thumbnail-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Files.createDirectories(this.root);
+    }
+
+    /**
+     * Schedules the build of the thumbnails of a picture. The build is skipped if too many builds are already pending, the thumbnails being then built on
+     * their first request.
+     *
+     * @param hash
+     *     The hash of the picture
+     */
+    public void schedule(@NonNull final String hash) {
+        this.build(hash).exceptionally(exception -> {
+            log.warn("Could not build the thumbnails of the picture {}: {}", hash, exception.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Finds the thumbnail of a picture for the given size, waiting for it to be built if needed. The picture itself is returned if its thumbnails cannot be
+     * built.
+     *
+     * @param hash
+     *     The hash of the picture
+     * @param size
+     *     The size of the thumbnail, in pixels
+     *
+     * @return the path of the thumbnail, or an empty result if the picture does not exist
+     */
+    public Optional<Path> find(@NonNull final String hash, final int size) {
+        if (Arrays.stream(this.sizes).noneMatch(value -> value == size)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported thumbnail size " + size + ", expected one of " + Arrays.toString(this.sizes));
+        }
+
+        final Optional<Path> picture = this.blobStore.find(hash);
+        if (!picture.isPresent()) {
+            return picture;
+        }
+
+        final Path thumbnail = this.resolve(hash, size);
+        if (Files.isRegularFile(thumbnail)) {
+            return Optional.of(thumbnail);
+        }
+
+        try {
+            this.build(hash).get(BUILD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return Optional.of(thumbnail);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException exception) {
+            log.warn("Could not build the thumbnails of the picture {}, serving the picture itself: {}", hash, exception.getMessage());
+        }
+
+        return picture;
+    }
+
+    /**
+     * Deletes the thumbnails of the pictures which are not referenced anymore. Only the files older than the given instant are deleted.
+     *
+     * @param referencedHashes
+     *     The hashes of the referenced pictures
+     * @param limit
+     *     The time, in milliseconds since the epoch, after which the files are kept
+     *
+     * @return the number of deleted files
+     */
+    @SneakyThrows
+    public int collectGarbage(@NonNull final Set<String> referencedHashes, final long limit) {
+        int count = 0;
+
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(this.root)) {
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                final int separatorIndex = name.indexOf('-');
+
+                if ((separatorIndex < 0 || !referencedHashes.contains(name.substring(0, separatorIndex))) && Files.getLastModifiedTime(file).toMillis() < limit) {
+                    Files.deleteIfExists(file);
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Stops the builds when the application is shut down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Starts the build of the thumbnails of a picture, unless one is already in flight.
+     *
+     * @param hash
+     *     The hash of the picture
+     *
+     * @return the build future
+     */
+    private CompletableFuture<Void> build(final String hash) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final CompletableFuture<Void> existingFuture = this.builds.putIfAbsent(hash, future);
+        if (nonNull(existingFuture)) {
+            return existingFuture;
+        }
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    this.buildThumbnails(hash);
+                    future.complete(null);
+                } catch (final RuntimeException exception) {
+                    future.completeExceptionally(exception);
+                } finally {
+                    this.builds.remove(hash, future);
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            this.builds.remove(hash, future);
+            future.completeExceptionally(exception);
+        }
+
+        return future;
+    }
+
+    /**
+     * Builds and saves all the thumbnails of a picture.
+     *
+     * @param hash
+     *     The hash of the picture
+     */
+    private void buildThumbnails(final String hash) {
+        final Path picture = this.blobStore.find(hash).orElseThrow(() -> new IllegalStateException("Picture " + hash + " not found"));
+
+        try {
+            final BufferedImage image = ImageIO.read(picture.toFile());
+            if (isNull(image)) {
+                throw new IllegalStateException("Unsupported picture format");
+            }
+
+            // The sizes are built from the largest to the smallest, each one being scaled down from the previous one
+            BufferedImage source = image;
+            for (final int size : this.sizes) {
+                source = scale(source, size);
+
+                final Path temporaryFile = Files.createTempFile(this.root, "thumbnail", null);
+                try {
+                    ImageIO.write(source, THUMBNAIL_FORMAT, temporaryFile.toFile());
+                    Files.move(temporaryFile, this.resolve(hash, size), REPLACE_EXISTING, ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            }
+
+            log.debug("Built the thumbnails of the picture {}", hash);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Scales an image down so its largest side fits the given size, by successive halvings for a smoother result. The transparent parts are painted white,
+     * as JPEG has no alpha channel.
+     *
+     * @param image
+     *     The image to scale
+     * @param size
+     *     The maximum size of the largest side, in pixels
+     *
+     * @return the scaled image
+     */
+    static BufferedImage scale(@NonNull final BufferedImage image, final int size) {
+        final double ratio = Math.min(1, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        final int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        final int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage result = image;
+        do {
+            final int width = Math.max(targetWidth, result.getWidth() / 2);
+            final int height = Math.max(targetHeight, result.getHeight() / 2);
+
+            final BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            final Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(result, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            result = scaled;
+        } while (result.getWidth() != targetWidth || result.getHeight() != targetHeight);
+
+        return result;
+    }
+
+    /**
+     * Resolves the path of a thumbnail.
+     *
+     * @param hash
+     *     The hash of the picture
+     * @param size
+     *     The size of the thumbnail
+     *
+     * @return the path of the thumbnail
+     */
+    private Path resolve(final String hash, final int size) {
+        return this.root.resolve(hash + '-' + size + '.' + THUMBNAIL_FORMAT);
+    }
+
+}
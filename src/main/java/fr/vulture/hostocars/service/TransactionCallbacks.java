@@ -0,0 +1,73 @@
+package fr.vulture.hostocars.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Registration of actions to run at the end of the current transaction, used to keep the in-memory states in line with the database.
+ */
+final class TransactionCallbacks {
+
+    /**
+     * Private constructor of the utility class.
+     */
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs an action once the current transaction is committed, or immediately if there is none.
+     *
+     * @param action
+     *     The action to run
+     */
+    static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs an action once the current transaction is completed, whether it is committed or not, or does nothing if there is none.
+     *
+     * @param action
+     *     The action to run
+     */
+    static void afterCompletion(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs an action once the current transaction is completed without being committed, or does nothing if there is none.
+     *
+     * @param action
+     *     The action to run
+     */
+    static void afterRollback(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+}
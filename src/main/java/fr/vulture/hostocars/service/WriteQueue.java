@@ -0,0 +1,210 @@
+package fr.vulture.hostocars.service;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import javax.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Queue of the writes to the database, executed one batch at a time by a single thread, as SQLite only allows one writer at a time.
+ * <br/>
+ * <br/>
+ * The writes queued while a batch is executed are grouped in the next one, and committed in a single transaction. If a write of a batch fails, the batch is
+ * rolled back and its writes are executed again one by one, so a failing write does not fail the others.
+ */
+@Slf4j
+@Service
+public class WriteQueue {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final BlockingQueue<Write<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    /**
+     * Valued autowired constructor.
+     *
+     * @param transactionManager
+     *     The autowired {@link PlatformTransactionManager} component
+     * @param batchSize
+     *     The maximum number of writes committed in a single transaction
+     */
+    @Autowired
+    public WriteQueue(final PlatformTransactionManager transactionManager, @Value("${sqlite.writer.batch-size}") final int batchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        this.writer = new Thread(this::run, "writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a write and waits for it to be committed. The write is executed within a transaction by the writer thread, so it must not be queued from within
+     * another transaction.
+     *
+     * @param callable
+     *     The write to execute
+     * @param <T>
+     *     The type of the result
+     *
+     * @return the result of the write
+     */
+    @SneakyThrows
+    public <T> T submit(@NonNull final Callable<T> callable) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("A write cannot be queued from within a transaction");
+        }
+
+        final Write<T> write = new Write<>(callable);
+        this.queue.add(write);
+
+        try {
+            return write.result.get();
+        } catch (final ExecutionException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Queues a write without result and waits for it to be committed. The write is executed within a transaction by the writer thread, so it must not be
+     * queued from within another transaction.
+     *
+     * @param runnable
+     *     The write to execute
+     */
+    public void submit(@NonNull final Runnable runnable) {
+        this.submit(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Stops the writer thread, once the application is stopped.
+     */
+    @PreDestroy
+    public void shutdown() {
+        this.writer.interrupt();
+    }
+
+    /**
+     * Executes a batch of writes in a single transaction, then completes them once it is committed. If the transaction fails, the writes are executed again
+     * one by one.
+     *
+     * @param batch
+     *     The writes to execute
+     */
+    void executeBatch(final List<Write<?>> batch) {
+        final List<Object> results;
+        try {
+            results = this.transactionTemplate.execute(status -> {
+                final List<Object> batchResults = new ArrayList<>(batch.size());
+                for (final Write<?> write : batch) {
+                    batchResults.add(call(write.callable));
+                }
+
+                return batchResults;
+            });
+        } catch (final Throwable throwable) {
+            final Throwable cause = throwable instanceof UndeclaredThrowableException ? throwable.getCause() : throwable;
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(cause);
+            } else {
+                log.debug("Batch of {} writes rolled back, executing them one by one", batch.size(), cause);
+                batch.forEach(write -> this.executeBatch(List.of(write)));
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(results.get(i));
+        }
+    }
+
+    /**
+     * Takes the queued writes by batches and executes them, until the thread is interrupted.
+     */
+    private void run() {
+        final List<Write<?>> batch = new ArrayList<>(this.batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(this.queue.take());
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            this.queue.drainTo(batch, this.batchSize - 1);
+            this.executeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Calls a write, rethrowing its checked exceptions as is.
+     *
+     * @param callable
+     *     The write to call
+     *
+     * @return the result of the write
+     */
+    @SneakyThrows
+    private static Object call(final Callable<?> callable) {
+        return callable.call();
+    }
+
+    /**
+     * Queued write, with the future of its result.
+     *
+     * @param <T>
+     *     The type of the result
+     */
+    static class Write<T> {
+
+        private final Callable<T> callable;
+
+        @Getter(AccessLevel.PACKAGE)
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        /**
+         * Valued constructor.
+         *
+         * @param callable
+         *     The write to execute
+         */
+        Write(final Callable<T> callable) {
+            this.callable = callable;
+        }
+
+        /**
+         * Completes the write with its result.
+         *
+         * @param value
+         *     The result of the write
+         */
+        @SuppressWarnings("unchecked")
+        void complete(final Object value) {
+            this.result.complete((T) value);
+        }
+
+    }
+
+}
@@ -7,24 +7,44 @@ import { extractEntityIdFromUrl, NO_CONTENT_STATUS, NOT_FOUND_STATUS, OK_STATUS,
 
 const CARS_SERVICE_BASE_URL = `${WEB_SERVICE_BASE_URL}/cars`;
 
+/**
+ * Uploads the given files of a car and returns the upload promise. Each file is sent as the raw request body, so it is streamed to the server.
+ *
+ * @param {number} id
+ *     The car ID
+ * @param {object} files
+ *     The files to upload, by name ('certificate' and/or 'picture')
+ *
+ * @returns {Promise} the upload promise
+ */
+const uploadCarFiles = (id, files) => Promise.all(Object.entries(files).map(([ name, file ]) => axios.put(`${CARS_SERVICE_BASE_URL}/${id}/${name}`, file, {
+    headers: { 'Content-Type': file.type || 'application/octet-stream' }
+})));
+
 /**
  * Creates a new car and returns the action promise.
  * <br />
- * If the operation is successful, calls the service given in the response location header.
+ * If the operation is successful, uploads the given files and calls the service given in the response location header.
  * <br />
  * If the operation fails, an error notification is shown.
  *
  * @param {object} car
  *     The car to create
+ * @param {object} [uploadedFiles = {}]
+ *     The car files to upload, by name ('certificate' and/or 'picture')
  *
  * @returns {Promise} the action promise
  */
-export const createCarAction = (car) => {
+export const createCarAction = (car, uploadedFiles = {}) => {
     return (dispatch) => {
         dispatch(createCarStart());
 
         return axios.post(CARS_SERVICE_BASE_URL, car)
                 .then(res => {
+                    const id = extractEntityIdFromUrl(res.headers.location);
+                    return uploadCarFiles(id, uploadedFiles).then(() => id);
+                })
+                .then(id => {
                     dispatch(createCarSuccess());
                     dispatch(enqueueNotificationAction({
                         message: 'Voiture ajoutée avec succès.',
@@ -32,7 +52,7 @@ export const createCarAction = (car) => {
                             variant: 'success'
                         }
                     }));
-                    return dispatch(getCarByIdAction(extractEntityIdFromUrl(res.headers.location)));
+                    return dispatch(getCarByIdAction(id));
                 })
                 .catch(e => {
                     dispatch(createCarFailure());
@@ -227,17 +247,38 @@ const getCarByIdFailure = () => ({
 });
 
 /**
- * Loads all existing cars and returns the action promise.
+ * Loads all existing cars, without their interventions, and returns the action promise.
+ * <br />
+ * If the operation fails, an error notification is shown.
+ *
+ * @returns {Promise} the action promise
+ */
+export const getCarsAction = () => loadCars('none');
+
+/**
+ * Loads all existing cars, with their interventions, operations and operation lines, and returns the action promise.
  * <br />
  * If the operation fails, an error notification is shown.
  *
  * @returns {Promise} the action promise
  */
-export const getCarsAction = () => {
+export const getCarsWithInterventionsAction = () => loadCars('lines');
+
+/**
+ * Loads all existing cars with their associations up to the given depth, and returns the action promise.
+ * <br />
+ * If the operation fails, an error notification is shown.
+ *
+ * @param {string} expand
+ *     The depth of the associations to load
+ *
+ * @returns {Promise} the action promise
+ */
+const loadCars = (expand) => {
     return dispatch => {
         dispatch(getCarsStart());
 
-        return axios.get(CARS_SERVICE_BASE_URL)
+        return axios.get(CARS_SERVICE_BASE_URL, { params: { expand } })
                 .then(res => {
                     if (OK_STATUS === res.status) {
                         dispatch(getCarsSuccess(res.data));
@@ -302,20 +343,26 @@ const getCarsFailure = () => ({
 /**
  * Updates an existing car and returns the action promise.
  * <br />
- * If the operation is successful, a success notification is shown and the car is reloaded.
+ * If the operation is successful, the given files are uploaded or removed, a success notification is shown and the car is reloaded.
  * <br />
  * If the operation fails, an error notification is shown.
  *
  * @param {object} car
  *     The car to update
+ * @param {object} [uploadedFiles = {}]
+ *     The car files to upload, by name ('certificate' and/or 'picture')
+ * @param {string[]} [removedFiles = []]
+ *     The names of the car files to remove ('certificate' and/or 'picture')
  *
  * @returns {Promise} the action promise
  */
-export const updateCarAction = (car) => {
+export const updateCarAction = (car, uploadedFiles = {}, removedFiles = []) => {
     return dispatch => {
         dispatch(updateCarStart());
 
         return axios.put(CARS_SERVICE_BASE_URL, car)
+                .then(() => uploadCarFiles(car.id, uploadedFiles))
+                .then(() => Promise.all(removedFiles.map(file => axios.delete(`${CARS_SERVICE_BASE_URL}/${car.id}/${file}`))))
                 .then(() => {
                     dispatch(updateCarSuccess());
                     dispatch(enqueueNotificationAction({
@@ -5,7 +5,7 @@ import PropTypes from 'prop-types';
 import { Box, Card, CardActionArea, Divider, Typography } from '@material-ui/core';
 
 import { BottomBar } from 'components';
-import { CarPropType, DefaultCarPicture } from 'resources';
+import { CarPropType, DefaultCarPicture, WEB_SERVICE_BASE_URL } from 'resources';
 
 import './CarCard.scss';
 
@@ -30,7 +30,7 @@ function CarCard({
     const modelSubtitleLabel = (car.brand || car.model) ? `${car.brand ? car.brand : ''} ${car.model ? car.model : ''}` : '-';
 
     // Defines the picture of the card depending on its value
-    const picture = car.picture ? <img alt={`Car n°${car.id}`} src={`data:image/jpeg;base64,${car.picture}`} className='Picture' /> :
+    const picture = car.pictureUrl ? <img alt={`Car n°${car.id}`} src={`${WEB_SERVICE_BASE_URL}${car.pictureUrl}?size=512`} className='Picture' /> :
             <DefaultCarPicture className='Picture Picture_default' />;
 
     return (<Card className={className} id='CarCard'>
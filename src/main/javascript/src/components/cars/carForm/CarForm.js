@@ -9,7 +9,7 @@ import { CancelRounded as CancelIcon, FolderOpenRounded as BrowseIcon, HelpOutli
 import { DatePicker } from '@material-ui/pickers';
 
 import { BottomBar } from 'components';
-import { CarPropType, ENTER_KEY_CODE, ESCAPE_KEY_CODE, extractFileNameFromUrl, formatDateLabel, loadFileAsByteArray } from 'resources';
+import { CarPropType, ENTER_KEY_CODE, ESCAPE_KEY_CODE, extractFileNameFromUrl, formatDateLabel } from 'resources';
 
 import './CarForm.scss';
 
@@ -78,13 +78,13 @@ function CarForm({
     const [ motorization, setMotorization ] = useState(car.motorization ? car.motorization : '');
     const [ engineCode, setEngineCode ] = useState(car.engineCode ? car.engineCode : '');
     const [ releaseDate, setReleaseDate ] = useState(car.releaseDate ? car.releaseDate : null);
-    const [ certificate, setCertificate ] = useState(car.certificate ? car.certificate : null);
-    const [ picture, setPicture ] = useState(car.picture ? car.picture : null);
+    const [ certificate, setCertificate ] = useState(car.certificateUrl ? car.certificateUrl : null);
+    const [ picture, setPicture ] = useState(car.pictureUrl ? car.pictureUrl : null);
     const [ comments, setComments ] = useState(car.comments ? car.comments : '');
 
     // Initializes the labels for the uploaded files
-    const [ certificateFileName, setCertificateFileName ] = useState(car.certificate ? currentCertificateLabel : '');
-    const [ pictureFileName, setPictureFileName ] = useState(car.picture ? currentImageLabel : '');
+    const [ certificateFileName, setCertificateFileName ] = useState(car.certificateUrl ? currentCertificateLabel : '');
+    const [ pictureFileName, setPictureFileName ] = useState(car.pictureUrl ? currentImageLabel : '');
 
     // Initializes the constraints
     const [ registrationRequired, setRegistrationRequired ] = useState(false);
@@ -130,12 +130,12 @@ function CarForm({
         setMotorization(car.motorization ? car.motorization : '');
         setEngineCode(car.engineCode ? car.engineCode : '');
         setReleaseDate(car.releaseDate ? car.releaseDate : null);
-        setCertificate(car.certificate ? car.certificate : null);
-        setPicture(car.picture ? car.picture : null);
+        setCertificate(car.certificateUrl ? car.certificateUrl : null);
+        setPicture(car.pictureUrl ? car.pictureUrl : null);
         setComments(car.comments ? car.comments : '');
 
-        setPictureFileName(car.picture ? currentImageLabel : '');
-        setCertificateFileName(car.certificate ? currentCertificateLabel : '');
+        setPictureFileName(car.pictureUrl ? currentImageLabel : '');
+        setCertificateFileName(car.certificateUrl ? currentCertificateLabel : '');
 
         setRegistrationRequired(false);
         setRegistrationUnique(false);
@@ -223,7 +223,7 @@ function CarForm({
                 setCertificateFileName(extractFileNameFromUrl(certificateUrl));
 
                 const certificateFile = certificateDocument.files[0];
-                setCertificate(loadFileAsByteArray(certificateFile));
+                setCertificate(certificateFile);
                 break;
             case 'picture':
                 const pictureDocument = document.getElementById('PictureInput');
@@ -232,7 +232,7 @@ function CarForm({
                 setPictureFileName(extractFileNameFromUrl(pictureUrl));
 
                 const pictureFile = pictureDocument.files[0];
-                setPicture(loadFileAsByteArray(pictureFile));
+                setPicture(pictureFile);
                 break;
             case 'comments':
                 setComments(e.target.value);
@@ -290,12 +290,28 @@ function CarForm({
                 motorization: emptyValue === motorization ? null : motorization,
                 engineCode: emptyValue === engineCode ? null : engineCode,
                 releaseDate: emptyValue === releaseDate ? null : releaseDate,
-                certificate,
-                picture,
                 comments: emptyValue === comments ? null : comments
             };
 
-            onValidate(validatedCar);
+            // Lists the newly loaded files, the current ones being referenced by their URL
+            const uploadedFiles = {};
+            if (certificate instanceof File) {
+                uploadedFiles.certificate = certificate;
+            }
+            if (picture instanceof File) {
+                uploadedFiles.picture = picture;
+            }
+
+            // Lists the current files which have been cleared
+            const removedFiles = [];
+            if (car.certificateUrl && !certificate) {
+                removedFiles.push('certificate');
+            }
+            if (car.pictureUrl && !picture) {
+                removedFiles.push('picture');
+            }
+
+            onValidate(validatedCar, uploadedFiles, removedFiles);
             onClose();
         }
     };
@@ -12,8 +12,8 @@ import './CertificateModal.scss';
 /**
  * The modal component to display a certificate file with a magnifying glass.
  *
- * @param {*} certificate
- *     The certificate to display
+ * @param {string} certificate
+ *     The URL of the certificate to display
  * @param {string} [className = '']
  *     The component class name
  * @param {func} onClose
@@ -44,7 +44,7 @@ function CertificateModal({
 
     return (<Dialog className={className} id='CertificateModal' onClose={onClose} onKeyDown={onKeyPressed} open={open}>
         <DialogContent className='Content'>
-            <Magnifier className='Magnifier' height='100%' mgBorderWidth={3} mgShowOverflow={false} src={`data:image/jpeg;base64,${certificate}`}
+            <Magnifier className='Magnifier' height='100%' mgBorderWidth={3} mgShowOverflow={false} src={certificate}
                        width='100%' />
         </DialogContent>
 
@@ -53,7 +53,7 @@ function CertificateModal({
 }
 
 CertificateModal.propTypes = {
-    certificate: PropTypes.node.isRequired,
+    certificate: PropTypes.string.isRequired,
     className: PropTypes.string,
     onClose: PropTypes.func.isRequired,
     open: PropTypes.bool.isRequired
@@ -14,12 +14,12 @@ import {
 } from '@material-ui/icons';
 
 import {
-    deleteCarAction, getCarsAction, updateCarAction, updateCurrentPageAction, updateMenuItemsAction, updateSelectedMenuIndexAction
+    deleteCarAction, getCarByIdAction, updateCarAction, updateCurrentPageAction, updateMenuItemsAction, updateSelectedMenuIndexAction
 } from 'actions';
 import { BottomBar, ErrorPanel, InterventionPreview, LoadingPanel, Page } from 'components';
 import { CertificateModal, DeleteCarModal, UpdateCarModal, UpdateInterventionModal } from 'modals';
 import { NotFoundPage } from 'pages';
-import { CarPropType, DefaultCarPicture, formatDateLabel } from 'resources';
+import { CarPropType, DefaultCarPicture, formatDateLabel, WEB_SERVICE_BASE_URL } from 'resources';
 
 import './CarPage.scss';
 
@@ -30,8 +30,8 @@ import './CarPage.scss';
  *     The list of all the cars
  * @param {func} deleteCar
  *     The {@link deleteCarAction} action
- * @param {func} getCars
- *     The {@link getCarsAction} action
+ * @param {func} getCarById
+ *     The {@link getCarByIdAction} action
  * @param {boolean} isInError
  *     If the car loading is in error
  * @param {boolean} isLoading
@@ -108,7 +108,8 @@ class CarPage extends PureComponent {
      */
     componentDidMount() {
         const {
-            getCars,
+            getCarById,
+            match: { params: { id } },
             updateMenuItems,
             updateSelectedMenuIndex
         } = this.props;
@@ -120,10 +121,13 @@ class CarPage extends PureComponent {
         }, {
             icon: <RefreshIcon />,
             label: 'Rafraîchir',
-            onClick: getCars
+            onClick: () => getCarById(id)
         } ]);
         updateSelectedMenuIndex(0);
 
+        // The cars are listed without their interventions, so the current one is loaded with them
+        getCarById(id);
+
         this.updateBreadcrumbs();
     }
 
@@ -134,6 +138,15 @@ class CarPage extends PureComponent {
      *     The previous props
      */
     componentDidUpdate(prevProps) {
+        const {
+            getCarById,
+            match: { params: { id } }
+        } = this.props;
+
+        if (prevProps.match.params.id !== id) {
+            getCarById(id);
+        }
+
         this.updateBreadcrumbs();
     }
 
@@ -247,11 +260,18 @@ class CarPage extends PureComponent {
 
     /**
      * Handles the 'Update car' modal validate action.
+     *
+     * @param {object} car
+     *     The updated car
+     * @param {object} uploadedFiles
+     *     The car files to upload, by name
+     * @param {string[]} removedFiles
+     *     The names of the car files to remove
      */
-    onValidateUpdateCarModal(car) {
+    onValidateUpdateCarModal(car, uploadedFiles, removedFiles) {
         const { updateCar } = this.props;
 
-        updateCar(car);
+        updateCar(car, uploadedFiles, removedFiles);
     }
 
     /**
@@ -327,6 +347,8 @@ class CarPage extends PureComponent {
             updateInterventionsModalCar
         } = this.state;
 
+        const car = cars.find(car => Number(id) === car.id);
+
         let content;
         if (redirect) {
             // Redirects to the overview page
@@ -334,15 +356,13 @@ class CarPage extends PureComponent {
         } else if (isInError) {
             // If the cars failed to be loaded, displays the error panel
             content = <ErrorPanel />;
-        } else if (isLoading) {
-            // If the cars are being loaded, displays the loading panel
+        } else if (isLoading || (car && !car.interventions)) {
+            // If the car or its interventions are being loaded, displays the loading panel
             content = <LoadingPanel />;
         } else {
-            const car = cars.find(car => Number(id) === car.id);
-
             if (car) {
                 // If the car has been found, displays the car content
-                const picture = car.picture ? <img alt={`Car n°${car.id}`} className='CarPicture' src={`data:image/jpeg;base64,${car.picture}`} /> :
+                const picture = car.pictureUrl ? <img alt={`Car n°${car.id}`} className='CarPicture' src={`${WEB_SERVICE_BASE_URL}${car.pictureUrl}?size=1024`} /> :
                         <DefaultCarPicture className='CarPicture CarPicture_default' />;
 
                 const certificateButton = <IconButton className='CertificateButton' onClick={this.onOpenCertificateModal}>
@@ -437,10 +457,10 @@ class CarPage extends PureComponent {
                                                     <TableCell align='right' className='TableRowValue'>{car.motorization}</TableCell>
                                                 </TableRow>}
 
-                                                {car.certificate && <TableRow className='TableRow' hover>
+                                                {car.certificateUrl && <TableRow className='TableRow' hover>
                                                     <TableCell className='TableRowLabel'>Carte grise</TableCell>
                                                     <TableCell align='right' className='CertificateCell'>
-                                                        {car.certificate && certificateButton}
+                                                        {car.certificateUrl && certificateButton}
                                                     </TableCell>
                                                 </TableRow>}
                                             </TableBody>
@@ -477,7 +497,7 @@ class CarPage extends PureComponent {
                         <DeleteIcon className='DeleteCarIcon' />
                     </Fab>
 
-                    {car.certificate && <CertificateModal certificate={car.certificate} onClose={this.onCloseCertificateModal}
+                    {car.certificateUrl && <CertificateModal certificate={`${WEB_SERVICE_BASE_URL}${car.certificateUrl}`} onClose={this.onCloseCertificateModal}
                                                           open={isCertificateModalOpen} />}
 
                     <UpdateCarModal car={car} onClose={this.onCloseUpdateCarModal} open={isUpdateCarModalOpen}
@@ -510,7 +530,7 @@ const mapStateToProps = (state) => ({
 
 const mapDispatchToProps = (dispatch) => bindActionCreators({
     deleteCar: deleteCarAction,
-    getCars: getCarsAction,
+    getCarById: getCarByIdAction,
     updateCar: updateCarAction,
     updateCurrentPage: updateCurrentPageAction,
     updateMenuItems: updateMenuItemsAction,
@@ -519,8 +539,8 @@ const mapDispatchToProps = (dispatch) => bindActionCreators({
 
 CarPage.propTypes = {
     cars: PropTypes.arrayOf(CarPropType).isRequired,
-    getCars: PropTypes.func.isRequired,
     deleteCar: PropTypes.func.isRequired,
+    getCarById: PropTypes.func.isRequired,
     isInError: PropTypes.bool.isRequired,
     isLoading: PropTypes.bool.isRequired,
     match: PropTypes.shape({
@@ -95,11 +95,13 @@ class CarsOverviewPage extends PureComponent {
      *
      * @param {object} car
      *     The car to create
+     * @param {object} uploadedFiles
+     *     The car files to upload, by name
      */
-    onValidateCreateCarModal(car) {
+    onValidateCreateCarModal(car, uploadedFiles) {
         const { createCar } = this.props;
 
-        createCar(car);
+        createCar(car, uploadedFiles);
     }
 
     /**
@@ -9,7 +9,7 @@ import {
 } from '@material-ui/core';
 import { RefreshRounded as RefreshIcon } from '@material-ui/icons';
 
-import { getCarsAction, updateCurrentPageAction, updateMenuItemsAction, updateSelectedMenuIndexAction } from 'actions';
+import { getCarsWithInterventionsAction, updateCurrentPageAction, updateMenuItemsAction, updateSelectedMenuIndexAction } from 'actions';
 import { BottomBar, ErrorPanel, InterventionPreview, LoadingPanel, Page } from 'components';
 import { addLeadingZeros, INTERVENTION_STATUS_STEPS, InterventionPropType } from 'resources';
 
@@ -45,6 +45,8 @@ const doesInterventionMatchRegistration = (intervention, registration) => {
 /**
  * The interventions overview page component.
  *
+ * @param {func} getCars
+ *     The {@link getCarsWithInterventionsAction} action
  * @param {object[]} interventions
  *    The list of all the interventions
  * @param {boolean} isInError
@@ -103,6 +105,9 @@ class InterventionsOverviewPage extends PureComponent {
             onClick: getCars
         } ]);
         updateSelectedMenuIndex(1);
+
+        // The cars are listed without their interventions, so they are loaded with them here
+        getCars();
     }
 
     /**
@@ -359,7 +364,7 @@ class InterventionsOverviewPage extends PureComponent {
 
 const mapStateToProps = (state) => ({
     interventions: state.cars.cars
-            .flatMap(car => car.interventions.map(intervention => {
+            .flatMap(car => (car.interventions || []).map(intervention => {
                 return {
                     ...intervention,
                     carId: car.id,
@@ -371,13 +376,14 @@ const mapStateToProps = (state) => ({
 });
 
 const mapDispatchToProps = (dispatch) => bindActionCreators({
-    getCars: getCarsAction,
+    getCars: getCarsWithInterventionsAction,
     updateCurrentPage: updateCurrentPageAction,
     updateMenuItems: updateMenuItemsAction,
     updateSelectedMenuIndex: updateSelectedMenuIndexAction
 }, dispatch);
 
 InterventionsOverviewPage.propTypes = {
+    getCars: PropTypes.func.isRequired,
     interventions: PropTypes.arrayOf(InterventionPropType).isRequired,
     isInError: PropTypes.bool.isRequired,
     isLoading: PropTypes.bool.isRequired,
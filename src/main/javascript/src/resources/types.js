@@ -7,7 +7,7 @@ import PropTypes from 'prop-types';
  */
 export const CarPropType = PropTypes.shape({
     brand: PropTypes.string,
-    certificate: PropTypes.blob,
+    certificateUrl: PropTypes.string,
     comments: PropTypes.string,
     engineCode: PropTypes.string,
     id: PropTypes.number,
@@ -15,7 +15,7 @@ export const CarPropType = PropTypes.shape({
     model: PropTypes.string,
     motorization: PropTypes.string,
     owner: PropTypes.string,
-    picture: PropTypes.blob,
+    pictureUrl: PropTypes.string,
     registration: PropTypes.string,
     releaseDate: PropTypes.string,
     serialNumber: PropTypes.string
@@ -95,31 +95,6 @@ export const generateRandomNumber = () => {
     return new Date().getTime() * Math.random();
 };
 
-/**
- * Reads a file and converts it to a byte array.
- *
- * @param {*} file
- *     The file to read
- *
- * @returns {[]} the result byte array
- */
-export const loadFileAsByteArray = (file) => {
-    let result = [];
-
-    const reader = new FileReader();
-    reader.readAsArrayBuffer(file);
-    reader.onloadend = (e) => {
-        if (FileReader.DONE === e.target.readyState) {
-            const array = new Uint8Array(e.target.result);
-            for (let i = 0; i < array.length; i++) {
-                result.push(array[i]);
-            }
-        }
-    };
-
-    return result;
-};
-
 /**
  * Stops the given event propagation.
  *
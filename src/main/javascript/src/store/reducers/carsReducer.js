@@ -117,7 +117,11 @@ const carsReducer = (state = initialState, action) => {
         case types.GET_CARS_OK:
             return {
                 ...state,
-                cars: action.cars,
+                // Keeps the interventions loaded meanwhile for the cars listed without them
+                cars: action.cars.map(car => {
+                    const loadedCar = state.cars.find(currentCar => car.id === currentCar.id);
+                    return !car.interventions && loadedCar && loadedCar.interventions ? { ...car, interventions: loadedCar.interventions } : car;
+                }),
                 isGetInError: initialState.isGetInError,
                 isGetInProgress: initialState.isGetInProgress
             };
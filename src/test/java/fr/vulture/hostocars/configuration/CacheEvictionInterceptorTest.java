@@ -0,0 +1,184 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.ResponseCache;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for the {@link CacheEvictionInterceptor} class.
+ */
+@DisplayName("Cache eviction interceptor")
+@ExtendWith(MockitoExtension.class)
+class CacheEvictionInterceptorTest {
+
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    @InjectMocks
+    private CacheEvictionInterceptor cacheEvictionInterceptor;
+
+    /**
+     * Tests the {@link CacheEvictionInterceptor#invalidateCars} method with a {@link Car}.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate cars (with a car)")
+    void testInvalidateCarsWithCar() {
+        // Prepares the inputs
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Prepares the intermediary results
+        final Car car = new Car();
+        car.setId(1);
+        final Object joinPointResult = new Object();
+
+        // Mocks the calls
+        when(joinPoint.getArgs()).thenReturn(new Object[] {car});
+        when(joinPoint.proceed()).thenReturn(joinPointResult);
+
+        // Calls the method
+        final Object result = this.cacheEvictionInterceptor.invalidateCars(joinPoint);
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidate(1);
+        verify(joinPoint).proceed();
+
+        // Checks the result
+        assertSame(joinPointResult, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CacheEvictionInterceptor#invalidateCars} method with a new {@link Car}.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate cars (with a new car)")
+    void testInvalidateCarsWithNewCar() {
+        // Prepares the inputs
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Mocks the calls
+        when(joinPoint.getArgs()).thenReturn(new Object[] {new Car()});
+
+        // Calls the method
+        this.cacheEvictionInterceptor.invalidateCars(joinPoint);
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verifyNoInteractions(this.carCache);
+        verify(joinPoint).proceed();
+    }
+
+    /**
+     * Tests the {@link CacheEvictionInterceptor#invalidateCars} method with a {@link Car} ID.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate cars (with an ID)")
+    void testInvalidateCarsWithId() {
+        // Prepares the inputs
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Mocks the calls
+        when(joinPoint.getArgs()).thenReturn(new Object[] {2});
+
+        // Calls the method
+        this.cacheEvictionInterceptor.invalidateCars(joinPoint);
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidate(2);
+        verify(joinPoint).proceed();
+    }
+
+    /**
+     * Tests the {@link CacheEvictionInterceptor#invalidateCars} method with a list of {@link Car}.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate cars (with a list of cars)")
+    void testInvalidateCarsWithCars() {
+        // Prepares the inputs
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Prepares the intermediary results
+        final Car car = new Car();
+        car.setId(3);
+
+        // Mocks the calls
+        when(joinPoint.getArgs()).thenReturn(new Object[] {List.of(car, new Car())});
+
+        // Calls the method
+        this.cacheEvictionInterceptor.invalidateCars(joinPoint);
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidate(3);
+        verify(joinPoint).proceed();
+    }
+
+    /**
+     * Tests the {@link CacheEvictionInterceptor#invalidateCars} method with a list of {@link Car} IDs.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate cars (with a list of IDs)")
+    void testInvalidateCarsWithIds() {
+        // Prepares the inputs
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Mocks the calls
+        when(joinPoint.getArgs()).thenReturn(new Object[] {List.of(4, 5)});
+
+        // Calls the method
+        this.cacheEvictionInterceptor.invalidateCars(joinPoint);
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidate(4);
+        verify(this.carCache).invalidate(5);
+        verify(joinPoint).proceed();
+    }
+
+    /**
+     * Tests the {@link CacheEvictionInterceptor#invalidateCars} method without arguments.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate cars (without arguments)")
+    void testInvalidateCarsWithoutArguments() {
+        // Prepares the inputs
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Mocks the calls
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+
+        // Calls the method
+        this.cacheEvictionInterceptor.invalidateCars(joinPoint);
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidateAll();
+        verify(joinPoint).proceed();
+    }
+
+}
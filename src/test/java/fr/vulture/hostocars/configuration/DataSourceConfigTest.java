@@ -0,0 +1,133 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import fr.vulture.hostocars.configuration.DataSourceConfig.ReadWriteDataSource;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Test class for the {@link DataSourceConfig} class.
+ */
+@DisplayName("Data source config")
+class DataSourceConfigTest {
+
+    private final DataSourceConfig dataSourceConfig = new DataSourceConfig();
+
+    /**
+     * Tests the {@link DataSourceConfig#createPool} method.
+     */
+    @Test
+    @DisplayName("Create pool")
+    void testCreatePool() {
+        // Prepares the inputs
+        final DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:sqlite:file:pool.db");
+        final MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.datasource.hikari.maximum-pool-size", "10")
+            .withProperty("spring.datasource.hikari.connection-timeout", "12345");
+
+        // Calls the method
+        try (final HikariDataSource result = DataSourceConfig.createPool(properties, Binder.get(environment), "pool", 3)) {
+            // Checks the results
+            assertAll(
+                () -> assertEquals("pool", result.getPoolName(), "Pool name different from expected"),
+                () -> assertEquals(3, result.getMaximumPoolSize(), "Pool size different from expected"),
+                () -> assertEquals(12345, result.getConnectionTimeout(), "Connection timeout different from expected"),
+                () -> assertEquals("jdbc:sqlite:file:pool.db", result.getJdbcUrl(), "URL different from expected")
+            );
+        }
+    }
+
+    /**
+     * Tests the {@link DataSourceConfig.RoutingDataSource#determineCurrentLookupKey} method.
+     */
+    @Test
+    @DisplayName("Determine current lookup key")
+    void testDetermineCurrentLookupKey() {
+        // Prepares the inputs
+        final DataSourceConfig.RoutingDataSource routingDataSource = new DataSourceConfig.RoutingDataSource();
+
+        // Calls the method
+        final Object writerKey = routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        final Object readerKey;
+        try {
+            readerKey = routingDataSource.determineCurrentLookupKey();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals("writer", writerKey, "Writer key different from expected"),
+            () -> assertEquals("reader", readerKey, "Reader key different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link DataSourceConfig#dataSource} method, writing and reading a database within transactions.
+     *
+     * @param directory
+     *     The temporary directory of the database
+     */
+    @Test
+    @DisplayName("Data source")
+    void testDataSource(@TempDir final Path directory) {
+        // Prepares the inputs
+        final DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:sqlite:file:" + directory.resolve("routing.db"));
+
+        // Calls the method
+        final ReadWriteDataSource result = this.dataSourceConfig.dataSource(properties, new MockEnvironment(), "balanced", 2);
+        try (final ReadWriteDataSource dataSource = result) {
+            // Prepares the intermediary results
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            final TransactionTemplate writeTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            final TransactionTemplate readTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readTemplate.setReadOnly(true);
+
+            writeTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("CREATE TABLE test (value INTEGER)");
+                jdbcTemplate.update("INSERT INTO test VALUES (1)");
+            });
+
+            // Checks the results
+            final HikariDataSource writerPool = dataSource.getWriterPool();
+            final HikariDataSource readerPool = dataSource.getReaderPool();
+            assertAll(
+                () -> assertEquals(Integer.valueOf(1), readTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test", Integer.class)),
+                    "Read count different from expected"),
+                () -> assertThrows(DataAccessException.class, () -> readTemplate.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO test VALUES (2)")),
+                    "Expected exception not thrown"),
+                () -> assertEquals(1, writerPool.getMaximumPoolSize(), "Writer pool size different from expected"),
+                () -> assertNull(writerPool.getConnectionInitSql(), "Writer initialization SQL different from expected"),
+                () -> assertEquals(2, readerPool.getMaximumPoolSize(), "Reader pool size different from expected"),
+                () -> assertEquals("PRAGMA query_only = 1", readerPool.getConnectionInitSql(), "Reader initialization SQL different from expected"),
+                () -> assertEquals("WAL", readerPool.getDataSourceProperties().get("journal_mode"), "Reader journal mode different from expected")
+            );
+        }
+
+        // Checks the closing of the pools
+        assertAll(
+            () -> assertTrue(result.getWriterPool().isClosed(), "Writer pool not closed"),
+            () -> assertTrue(result.getReaderPool().isClosed(), "Reader pool not closed")
+        );
+    }
+
+}
@@ -3,10 +3,14 @@ package fr.vulture.hostocars.configuration;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import io.undertow.server.RequestTooBigException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Test class for the {@link ExceptionInterceptor} class.
@@ -46,4 +50,62 @@ class ExceptionInterceptorTest {
         assertEquals("Exception: message", result.getBody(), "Response body different from expected");
     }
 
+    /**
+     * Tests the {@link ExceptionInterceptor#resolveResponseStatus} method.
+     */
+    @Test
+    @DisplayName("Resolve response status")
+    void testResolveResponseStatus() {
+        // Calls the method
+        final ResponseEntity<String> result = this.interceptor.resolveResponseStatus(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "reason"));
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, result.getStatusCode(), "Response status different from expected");
+        assertEquals("reason", result.getBody(), "Response body different from expected");
+    }
+
+    /**
+     * Tests the {@link ExceptionInterceptor#resolveMultipart} method with a too large request.
+     */
+    @Test
+    @DisplayName("Resolve multipart (too large request)")
+    void testResolveMultipartTooLargeRequest() {
+        // Calls the method
+        final ResponseEntity<String> result = this.interceptor.resolveMultipart(new MultipartException("message", new IllegalStateException(new RequestTooBigException())));
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, result.getStatusCode(), "Response status different from expected");
+    }
+
+    /**
+     * Tests the {@link ExceptionInterceptor#resolveMultipart} method with a too large file.
+     */
+    @Test
+    @DisplayName("Resolve multipart (too large file)")
+    void testResolveMultipartTooLargeFile() {
+        // Calls the method
+        final ResponseEntity<String> result = this.interceptor.resolveMultipart(new MaxUploadSizeExceededException(0));
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, result.getStatusCode(), "Response status different from expected");
+    }
+
+    /**
+     * Tests the {@link ExceptionInterceptor#resolveMultipart} method with a malformed request.
+     */
+    @Test
+    @DisplayName("Resolve multipart (malformed request)")
+    void testResolveMultipartMalformedRequest() {
+        // Calls the method
+        final ResponseEntity<String> result = this.interceptor.resolveMultipart(new MultipartException("message"));
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode(), "Response status different from expected");
+        assertEquals("message", result.getBody(), "Response body different from expected");
+    }
+
 }
@@ -12,6 +12,8 @@ import static org.mockito.Mockito.when;
 
 import com.openpojo.reflection.impl.PojoClassImpl;
 import fr.vulture.hostocars.Application;
+import fr.vulture.hostocars.dto.MethodStatistics;
+import fr.vulture.hostocars.service.MetricsRegistry;
 import java.lang.reflect.Method;
 import lombok.SneakyThrows;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -25,6 +27,10 @@ import org.junit.jupiter.api.Test;
 @DisplayName("Loggable method interceptor")
 class LoggableMethodInterceptorTest {
 
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    private final LoggableMethodInterceptor interceptor = new LoggableMethodInterceptor(this.metricsRegistry);
+
     /**
      * Tests the {@link LoggableMethodInterceptor#logMethod} method with the {@link Loggable#debug} field at {@code false}.
      */
@@ -52,7 +58,7 @@ class LoggableMethodInterceptorTest {
         when(joinPoint.proceed()).thenReturn(joinPointResult);
 
         // Calls the method
-        final Object result = LoggableMethodInterceptor.logMethod(joinPoint);
+        final Object result = this.interceptor.logMethod(joinPoint);
 
         // Checks the mocks calls
         verify(joinPoint).getSignature();
@@ -95,7 +101,7 @@ class LoggableMethodInterceptorTest {
         when(joinPoint.proceed()).thenReturn(joinPointResult);
 
         // Calls the method
-        final Object result = LoggableMethodInterceptor.logMethod(joinPoint);
+        final Object result = this.interceptor.logMethod(joinPoint);
 
         // Checks the mocks calls
         verify(joinPoint).getSignature();
@@ -136,7 +142,7 @@ class LoggableMethodInterceptorTest {
         when(joinPoint.proceed()).thenReturn(joinPointResult);
 
         // Calls the method
-        final Object result = LoggableMethodInterceptor.logMethod(joinPoint);
+        final Object result = this.interceptor.logMethod(joinPoint);
 
         // Checks the mocks calls
         verify(joinPoint).getSignature();
@@ -146,8 +152,12 @@ class LoggableMethodInterceptorTest {
         verify(method).getDeclaringClass();
         verify(joinPoint).proceed();
 
-        // Checks the result
+        // Checks the results
+        final MethodStatistics statistics = this.metricsRegistry.getStatistics().get(0);
         assertSame(joinPointResult, result, "Result different from expected");
+        assertEquals(1L, statistics.getCallCount(), "Call count different from expected");
+        assertEquals(0L, statistics.getErrorCount(), "Error count different from expected");
+        assertEquals(0L, statistics.getInFlightCount(), "In flight count different from expected");
     }
 
     /**
@@ -177,7 +187,7 @@ class LoggableMethodInterceptorTest {
         when(joinPoint.proceed()).thenReturn(joinPointResult);
 
         // Calls the method
-        final Object result = LoggableMethodInterceptor.logMethod(joinPoint);
+        final Object result = this.interceptor.logMethod(joinPoint);
 
         // Checks the mocks calls
         verify(joinPoint).getSignature();
@@ -220,7 +230,7 @@ class LoggableMethodInterceptorTest {
         when(joinPoint.proceed()).thenReturn(joinPointResult);
 
         // Calls the method
-        final Object result = LoggableMethodInterceptor.logMethod(joinPoint);
+        final Object result = this.interceptor.logMethod(joinPoint);
 
         // Checks the mocks calls
         verify(joinPoint).getSignature();
@@ -264,7 +274,7 @@ class LoggableMethodInterceptorTest {
         when(joinPoint.proceed()).thenThrow(exception);
 
         // Calls the method
-        final Exception result = assertThrows(Exception.class, () -> LoggableMethodInterceptor.logMethod(joinPoint), "Exception unexpectedly not thrown");
+        final Exception result = assertThrows(Exception.class, () -> this.interceptor.logMethod(joinPoint), "Exception unexpectedly not thrown");
 
         // Checks the mocks calls
         verify(joinPoint).getSignature();
@@ -276,9 +286,13 @@ class LoggableMethodInterceptorTest {
         verify(joinPoint).getArgs();
         verify(joinPoint).proceed();
 
-        // Checks the result
+        // Checks the results
+        final MethodStatistics statistics = this.metricsRegistry.getStatistics().get(0);
         assertNotNull(result, "Result unexpectedly null");
         assertEquals(message, result.getMessage(), "Message different from expected");
+        assertEquals(1L, statistics.getCallCount(), "Call count different from expected");
+        assertEquals(1L, statistics.getErrorCount(), "Error count different from expected");
+        assertEquals(0L, statistics.getInFlightCount(), "In flight count different from expected");
     }
 
 }
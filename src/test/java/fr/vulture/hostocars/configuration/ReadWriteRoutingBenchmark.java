@@ -0,0 +1,250 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import fr.vulture.hostocars.configuration.DataSourceConfig.ReadWriteDataSource;
+import fr.vulture.hostocars.service.WriteQueue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmark of the throughputs and latencies of a mixed load, either on a single shared pool where each writer commits its own transaction, or routed
+ * between the reader pool and the single writer connection fed by the {@link WriteQueue}, with the safe and the balanced {@link SqlitePreset}.
+ * <br/>
+ * <br/>
+ * Its name does not match the default test patterns, so it is only run on demand: {@code mvn test -Dtest=ReadWriteRoutingBenchmark}.
+ */
+@Slf4j
+@DisplayName("Read/write routing benchmark")
+class ReadWriteRoutingBenchmark {
+
+    private static final int ROW_COUNT = 10_000;
+    private static final int READER_COUNT = 4;
+    private static final int WRITER_COUNT = 8;
+    private static final int BATCH_SIZE = 32;
+    private static final long DURATION = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Measures the throughputs and the latencies of a mode, the readers selecting random rows by ID while the writers update random rows, all within
+     * transactions.
+     *
+     * @param preset
+     *     The {@link SqlitePreset} of the connections
+     * @param mode
+     *     The {@link Mode} to measure
+     * @param directory
+     *     The temporary directory of the database
+     */
+    @SneakyThrows
+    @ParameterizedTest
+    @CsvSource({"SAFE, SHARED", "SAFE, ROUTED", "BALANCED, SHARED", "BALANCED, ROUTED"})
+    @DisplayName("Mixed load")
+    void benchmark(final SqlitePreset preset, final Mode mode, @TempDir final Path directory) {
+        final String url = "jdbc:sqlite:file:" + directory.resolve("benchmark.db");
+        final List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> writeLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        if (mode == Mode.SHARED) {
+            try (final HikariDataSource dataSource = createPool(url, "shared", READER_COUNT + WRITER_COUNT, preset)) {
+                final TransactionTemplate writeTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+                final JdbcTemplate jdbcTemplate = populate(dataSource);
+                run(dataSource, readLatencies, writeLatencies, update -> writeTemplate.executeWithoutResult(status -> update.accept(jdbcTemplate)));
+            }
+        } else {
+            final HikariDataSource readerPool = createPool(url, "reader", READER_COUNT, preset);
+            readerPool.setConnectionInitSql("PRAGMA query_only = 1");
+            try (final ReadWriteDataSource dataSource = new ReadWriteDataSource(createPool(url, "writer", 1, preset), readerPool)) {
+                final WriteQueue writeQueue = new WriteQueue(new DataSourceTransactionManager(dataSource), BATCH_SIZE);
+                final JdbcTemplate jdbcTemplate = populate(dataSource);
+                try {
+                    run(dataSource, readLatencies, writeLatencies, update -> writeQueue.submit(() -> update.accept(jdbcTemplate)));
+                } finally {
+                    writeQueue.shutdown();
+                }
+            }
+        }
+
+        final double seconds = DURATION / 1e9;
+        log.info("{} preset, {} mode: {} reads/s (p50 {} µs, p99 {} µs), {} writes/s (p50 {} µs, p99 {} µs)", preset.getValue(), mode.name().toLowerCase(),
+            Math.round(readLatencies.size() / seconds), percentile(readLatencies, 0.50), percentile(readLatencies, 0.99),
+            Math.round(writeLatencies.size() / seconds), percentile(writeLatencies, 0.50), percentile(writeLatencies, 0.99));
+        assertTrue(!readLatencies.isEmpty() && !writeLatencies.isEmpty(), "No read or write performed");
+    }
+
+    /**
+     * Creates a pool with a preset.
+     *
+     * @param url
+     *     The URL of the database
+     * @param name
+     *     The name of the pool
+     * @param size
+     *     The maximum number of connections
+     * @param preset
+     *     The {@link SqlitePreset} of the connections
+     *
+     * @return the pool
+     */
+    private static HikariDataSource createPool(final String url, final String name, final int size, final SqlitePreset preset) {
+        final HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(size);
+        SqlitePragmaPostProcessor.applyPreset(pool, preset);
+        return pool;
+    }
+
+    /**
+     * Creates and fills the benchmarked table.
+     *
+     * @param dataSource
+     *     The data source
+     *
+     * @return the {@link JdbcTemplate} of the data source
+     */
+    private static JdbcTemplate populate(final DataSource dataSource) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE cars (id INTEGER PRIMARY KEY, registration TEXT, comments TEXT)");
+            final List<Object[]> rows = new ArrayList<>(ROW_COUNT);
+            for (int id = 1; id <= ROW_COUNT; id++) {
+                rows.add(new Object[] {id, "AB-" + id + "-CD", "Comments of the car " + id});
+            }
+
+            jdbcTemplate.batchUpdate("INSERT INTO cars (id, registration, comments) VALUES (?, ?, ?)", rows);
+        });
+
+        return jdbcTemplate;
+    }
+
+    /**
+     * Runs the readers and the writers until the end of the benchmark, recording the latency of each operation.
+     *
+     * @param dataSource
+     *     The data source
+     * @param readLatencies
+     *     The latencies of the reads, in nanoseconds
+     * @param writeLatencies
+     *     The latencies of the writes, in nanoseconds
+     * @param writer
+     *     The executor of an update, within a transaction
+     */
+    @SneakyThrows
+    private static void run(final DataSource dataSource, final List<Long> readLatencies, final List<Long> writeLatencies,
+        final Consumer<Consumer<JdbcTemplate>> writer) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        final TransactionTemplate readTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readTemplate.setReadOnly(true);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + WRITER_COUNT);
+        final List<Future<?>> tasks = new ArrayList<>();
+        final long end = System.nanoTime() + DURATION;
+
+        try {
+            for (int i = 0; i < READER_COUNT; i++) {
+                tasks.add(executor.submit(() -> measure(end, readLatencies, () -> readTemplate.execute(
+                    status -> jdbcTemplate.queryForMap("SELECT registration, comments FROM cars WHERE id = ?", randomId())))));
+            }
+
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                tasks.add(executor.submit(() -> measure(end, writeLatencies, () -> writer.accept(
+                    template -> template.update("UPDATE cars SET comments = ? WHERE id = ?", "Comments updated at " + System.nanoTime(), randomId())))));
+            }
+
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs an operation until the end of the benchmark, recording its latencies.
+     *
+     * @param end
+     *     The end of the benchmark, in nanoseconds
+     * @param latencies
+     *     The latencies of the operation, in nanoseconds
+     * @param operation
+     *     The operation
+     */
+    private static void measure(final long end, final List<Long> latencies, final Runnable operation) {
+        final List<Long> localLatencies = new ArrayList<>();
+        long start = System.nanoTime();
+        while (start < end) {
+            operation.run();
+            final long stop = System.nanoTime();
+            localLatencies.add(stop - start);
+            start = stop;
+        }
+
+        latencies.addAll(localLatencies);
+    }
+
+    /**
+     * Computes a percentile of latencies.
+     *
+     * @param latencies
+     *     The latencies, in nanoseconds
+     * @param percentile
+     *     The percentile, between 0 and 1
+     *
+     * @return the percentile, in microseconds
+     */
+    private static long percentile(final List<Long> latencies, final double percentile) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+
+        final List<Long> sortedLatencies = new ArrayList<>(latencies);
+        Collections.sort(sortedLatencies);
+        return TimeUnit.NANOSECONDS.toMicros(sortedLatencies.get((int) Math.min(sortedLatencies.size() - 1, Math.ceil(percentile * sortedLatencies.size()))));
+    }
+
+    /**
+     * Picks a random row ID.
+     *
+     * @return the row ID
+     */
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, ROW_COUNT + 1);
+    }
+
+    /**
+     * Connection mode of the benchmark.
+     */
+    enum Mode {
+
+        /**
+         * A single pool shared by the readers and the writers, each write committing its own transaction.
+         */
+        SHARED,
+
+        /**
+         * The reader pool for the readers, and the single writer connection fed by the {@link WriteQueue} for the writers.
+         */
+        ROUTED
+
+    }
+
+}
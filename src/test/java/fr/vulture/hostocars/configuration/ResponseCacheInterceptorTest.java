@@ -0,0 +1,110 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.ResponseCache.CachedResponse;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Test class for the {@link ResponseCacheInterceptor} class.
+ */
+@DisplayName("Response cache interceptor")
+class ResponseCacheInterceptorTest {
+
+    private final ResponseCache responseCache = new ResponseCache(10, new ObjectMapper());
+
+    private final ResponseCacheInterceptor responseCacheInterceptor = new ResponseCacheInterceptor(this.responseCache);
+
+    /**
+     * Tests the {@link ResponseCacheInterceptor#preHandle} method with a cached response.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Pre handle (cached response)")
+    void testPreHandleWithCachedResponse() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Prepares the intermediary results
+        final CachedResponse cachedResponse = this.responseCache.put("/cars", 0, List.of("first"));
+
+        // Calls the method
+        final boolean result = this.responseCacheInterceptor.preHandle(request, response, new Object());
+
+        // Checks the results
+        assertFalse(result, "Result different from expected");
+        assertAll(
+            () -> assertEquals(HttpStatus.OK.value(), response.getStatus(), "Response status different from expected"),
+            () -> assertEquals(cachedResponse.getETag(), response.getHeader(HttpHeaders.ETAG), "ETag header different from expected"),
+            () -> assertEquals("application/json", response.getContentType(), "Content type different from expected"),
+            () -> assertArrayEquals(cachedResponse.getContent(), response.getContentAsByteArray(), "Response content different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link ResponseCacheInterceptor#preHandle} method with a matching {@code If-None-Match} header.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Pre handle (not modified)")
+    void testPreHandleNotModified() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Prepares the intermediary results
+        final CachedResponse cachedResponse = this.responseCache.put("/cars", 0, List.of("first"));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.getETag());
+
+        // Calls the method
+        final boolean result = this.responseCacheInterceptor.preHandle(request, response, new Object());
+
+        // Checks the results
+        assertFalse(result, "Result different from expected");
+        assertAll(
+            () -> assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus(), "Response status different from expected"),
+            () -> assertEquals(0, response.getContentAsByteArray().length, "Response content unexpectedly not empty")
+        );
+    }
+
+    /**
+     * Tests the {@link ResponseCacheInterceptor#preHandle} method without cached response.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Pre handle (no cached response)")
+    void testPreHandleWithoutCachedResponse() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        request.setQueryString("sort=brand");
+        final MockHttpServletRequest postRequest = new MockHttpServletRequest("POST", "/cars");
+
+        // Prepares the intermediary results
+        this.responseCache.put("/cars", 0, List.of("first"));
+
+        // Calls the methods
+        final boolean result = this.responseCacheInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        final boolean postResult = this.responseCacheInterceptor.preHandle(postRequest, new MockHttpServletResponse(), new Object());
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(result, "Result different from expected"),
+            () -> assertTrue(postResult, "POST result different from expected")
+        );
+    }
+
+}
@@ -0,0 +1,125 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Properties;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for the {@link SqlitePragmaPostProcessor} class.
+ */
+@DisplayName("SQLite pragma post processor")
+class SqlitePragmaPostProcessorTest {
+
+    private final SqlitePragmaPostProcessor sqlitePragmaPostProcessor = new SqlitePragmaPostProcessor("fast");
+
+    /**
+     * Tests the {@link SqlitePragmaPostProcessor#postProcessAfterInitialization} method with a data source.
+     */
+    @Test
+    @DisplayName("Post process after initialization (data source)")
+    void testPostProcessAfterInitializationWithDataSource() {
+        // Prepares the inputs
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.addDataSourceProperty("synchronous", "FULL");
+
+        // Calls the method
+        final Object result = this.sqlitePragmaPostProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Checks the results
+        final Properties properties = dataSource.getDataSourceProperties();
+        assertSame(dataSource, result, "Result different from expected");
+        assertAll(
+            () -> assertEquals("WAL", properties.get("journal_mode"), "Journal mode different from expected"),
+            () -> assertEquals("FULL", properties.get("synchronous"), "Overridden synchronous mode different from expected"),
+            () -> assertEquals("-64000", properties.get("cache_size"), "Cache size different from expected"),
+            () -> assertEquals(6, properties.size(), "Number of properties different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link SqlitePragmaPostProcessor#postProcessAfterInitialization} method with another bean.
+     */
+    @Test
+    @DisplayName("Post process after initialization (other bean)")
+    void testPostProcessAfterInitializationWithOtherBean() {
+        // Prepares the inputs
+        final Object bean = new Object();
+
+        // Calls the method
+        final Object result = this.sqlitePragmaPostProcessor.postProcessAfterInitialization(bean, "bean");
+
+        // Checks the result
+        assertSame(bean, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link SqlitePragmaPostProcessor#applyPreset} method, reading the pragmas of an opened connection.
+     *
+     * @param directory
+     *     The temporary directory of the database
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Apply preset")
+    void testApplyPreset(@TempDir final Path directory) {
+        // Prepares the inputs
+        try (final HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl("jdbc:sqlite:file:" + directory.resolve("preset.db"));
+
+            // Calls the method
+            SqlitePragmaPostProcessor.applyPreset(dataSource, SqlitePreset.BALANCED);
+
+            // Checks the results
+            try (final Connection connection = dataSource.getConnection(); final Statement statement = connection.createStatement()) {
+                assertAll(
+                    () -> assertEquals("wal", readPragma(statement, "journal_mode"), "Journal mode different from expected"),
+                    () -> assertEquals("1", readPragma(statement, "synchronous"), "Synchronous mode different from expected"),
+                    () -> assertEquals("-16000", readPragma(statement, "cache_size"), "Cache size different from expected"),
+                    () -> assertEquals("2", readPragma(statement, "temp_store"), "Temporary store different from expected"),
+                    () -> assertEquals("5000", readPragma(statement, "busy_timeout"), "Busy timeout different from expected")
+                );
+            }
+        }
+    }
+
+    /**
+     * Tests the {@link SqlitePragmaPostProcessor} constructor in error.
+     */
+    @Test
+    @DisplayName("Constructor (error case)")
+    void testConstructorInError() {
+        assertThrows(IllegalArgumentException.class, () -> new SqlitePragmaPostProcessor("unknown"), "Expected exception not thrown");
+    }
+
+    /**
+     * Reads the value of a pragma.
+     *
+     * @param statement
+     *     The statement to execute
+     * @param pragma
+     *     The pragma name
+     *
+     * @return the pragma value
+     */
+    @SneakyThrows
+    private static String readPragma(final Statement statement, final String pragma) {
+        try (final ResultSet resultSet = statement.executeQuery("PRAGMA " + pragma)) {
+            assertTrue(resultSet.next(), "Pragma " + pragma + " unexpectedly empty");
+            return resultSet.getString(1);
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Benchmark of the read and write throughputs of each {@link SqlitePreset} under concurrent load, on a table shaped like the cars one.
+ * <br/>
+ * <br/>
+ * Its name does not match the default test patterns, so it is only run on demand: {@code mvn test -Dtest=SqlitePresetBenchmark}.
+ */
+@Slf4j
+@DisplayName("SQLite preset benchmark")
+class SqlitePresetBenchmark {
+
+    private static final int ROW_COUNT = 10_000;
+    private static final int READER_COUNT = 4;
+    private static final int WRITER_COUNT = 2;
+    private static final long DURATION = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Measures the throughputs of a preset, the readers selecting random rows by ID while the writers update random rows, one transaction each.
+     *
+     * @param preset
+     *     The {@link SqlitePreset} to measure
+     * @param directory
+     *     The temporary directory of the database
+     */
+    @SneakyThrows
+    @ParameterizedTest
+    @EnumSource(SqlitePreset.class)
+    @DisplayName("Concurrent reads and writes")
+    void benchmark(final SqlitePreset preset, @TempDir final Path directory) {
+        try (final HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl("jdbc:sqlite:file:" + directory.resolve("benchmark.db"));
+            dataSource.setMaximumPoolSize(READER_COUNT + WRITER_COUNT);
+            SqlitePragmaPostProcessor.applyPreset(dataSource, preset);
+            populate(dataSource);
+
+            final LongAdder readCount = new LongAdder();
+            final LongAdder writeCount = new LongAdder();
+            final LongAdder busyCount = new LongAdder();
+            final ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + WRITER_COUNT);
+            final List<Future<?>> tasks = new ArrayList<>();
+            final long end = System.nanoTime() + DURATION;
+
+            try {
+                for (int i = 0; i < READER_COUNT; i++) {
+                    tasks.add(executor.submit(() -> read(dataSource, end, readCount, busyCount)));
+                }
+
+                for (int i = 0; i < WRITER_COUNT; i++) {
+                    tasks.add(executor.submit(() -> write(dataSource, end, writeCount, busyCount)));
+                }
+
+                for (final Future<?> task : tasks) {
+                    task.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            final double seconds = DURATION / 1e9;
+            log.info("{} preset: {} reads/s, {} writes/s, {} busy errors", preset.getValue(), Math.round(readCount.sum() / seconds),
+                Math.round(writeCount.sum() / seconds), busyCount.sum());
+            assertTrue(readCount.sum() > 0 && writeCount.sum() > 0, "No read or write performed");
+        }
+    }
+
+    /**
+     * Creates and fills the benchmarked table.
+     *
+     * @param dataSource
+     *     The data source
+     */
+    @SneakyThrows
+    private static void populate(final HikariDataSource dataSource) {
+        try (final Connection connection = dataSource.getConnection()) {
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE cars (id INTEGER PRIMARY KEY, registration TEXT, comments TEXT)");
+            }
+
+            connection.setAutoCommit(false);
+            try (final PreparedStatement statement = connection.prepareStatement("INSERT INTO cars (id, registration, comments) VALUES (?, ?, ?)")) {
+                for (int id = 1; id <= ROW_COUNT; id++) {
+                    statement.setInt(1, id);
+                    statement.setString(2, "AB-" + id + "-CD");
+                    statement.setString(3, "Comments of the car " + id);
+                    statement.addBatch();
+                }
+
+                statement.executeBatch();
+            }
+
+            connection.commit();
+        }
+    }
+
+    /**
+     * Selects random rows by ID until the end of the benchmark.
+     *
+     * @param dataSource
+     *     The data source
+     * @param end
+     *     The end of the benchmark, in nanoseconds
+     * @param readCount
+     *     The counter of the reads
+     * @param busyCount
+     *     The counter of the busy errors
+     */
+    @SneakyThrows
+    private static void read(final HikariDataSource dataSource, final long end, final LongAdder readCount, final LongAdder busyCount) {
+        try (final Connection connection = dataSource.getConnection();
+            final PreparedStatement statement = connection.prepareStatement("SELECT registration, comments FROM cars WHERE id = ?")) {
+            while (System.nanoTime() < end) {
+                statement.setInt(1, ThreadLocalRandom.current().nextInt(1, ROW_COUNT + 1));
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    readCount.increment();
+                } catch (final SQLException exception) {
+                    busyCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates random rows, one transaction each, until the end of the benchmark.
+     *
+     * @param dataSource
+     *     The data source
+     * @param end
+     *     The end of the benchmark, in nanoseconds
+     * @param writeCount
+     *     The counter of the writes
+     * @param busyCount
+     *     The counter of the busy errors
+     */
+    @SneakyThrows
+    private static void write(final HikariDataSource dataSource, final long end, final LongAdder writeCount, final LongAdder busyCount) {
+        try (final Connection connection = dataSource.getConnection();
+            final PreparedStatement statement = connection.prepareStatement("UPDATE cars SET comments = ? WHERE id = ?")) {
+            connection.setAutoCommit(false);
+            while (System.nanoTime() < end) {
+                statement.setString(1, "Comments updated at " + System.nanoTime());
+                statement.setInt(2, ThreadLocalRandom.current().nextInt(1, ROW_COUNT + 1));
+                try {
+                    statement.executeUpdate();
+                    connection.commit();
+                    writeCount.increment();
+                } catch (final SQLException exception) {
+                    connection.rollback();
+                    busyCount.increment();
+                }
+            }
+        }
+    }
+
+}
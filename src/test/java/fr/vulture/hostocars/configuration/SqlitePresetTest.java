@@ -0,0 +1,58 @@
+package fr.vulture.hostocars.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link SqlitePreset} enum.
+ */
+@DisplayName("SQLite preset")
+class SqlitePresetTest {
+
+    /**
+     * Tests the {@link SqlitePreset#fromValue} method.
+     */
+    @Test
+    @DisplayName("From value")
+    void testFromValue() {
+        assertAll(
+            () -> assertEquals(SqlitePreset.SAFE, SqlitePreset.fromValue("safe"), "Result different from expected"),
+            () -> assertEquals(SqlitePreset.BALANCED, SqlitePreset.fromValue("balanced"), "Result different from expected"),
+            () -> assertEquals(SqlitePreset.FAST, SqlitePreset.fromValue("fast"), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link SqlitePreset#fromValue} method in error.
+     */
+    @Test
+    @DisplayName("From value (error case)")
+    void testFromValueInError() {
+        assertThrows(IllegalArgumentException.class, () -> SqlitePreset.fromValue("BALANCED"), "Expected exception not thrown");
+    }
+
+    /**
+     * Tests the {@link SqlitePreset#toPragmas} method.
+     */
+    @Test
+    @DisplayName("To pragmas")
+    void testToPragmas() {
+        // Calls the method
+        final Map<String, String> result = SqlitePreset.BALANCED.toPragmas();
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(List.of("journal_mode", "synchronous", "mmap_size", "cache_size", "temp_store", "busy_timeout"), List.copyOf(result.keySet()),
+                "Pragma names different from expected"),
+            () -> assertEquals(List.of("WAL", "NORMAL", "268435456", "-16000", "MEMORY", "5000"), List.copyOf(result.values()),
+                "Pragma values different from expected")
+        );
+    }
+
+}
@@ -20,6 +20,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.web.servlet.config.annotation.CorsRegistration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -34,7 +35,9 @@ class WebMvcConfigTest {
 
     private final CustomPathResourceResolver customPathResourceResolver = new CustomPathResourceResolver();
 
-    private final WebMvcConfigurer webMvcConfig = new WebMvcConfig();
+    private final ResponseCacheInterceptor responseCacheInterceptor = mock(ResponseCacheInterceptor.class);
+
+    private final WebMvcConfigurer webMvcConfig = new WebMvcConfig(this.responseCacheInterceptor);
 
     /**
      * Tests the {@link WebMvcConfig#addResourceHandlers} method.
@@ -75,6 +78,22 @@ class WebMvcConfigTest {
         assertSame(CustomPathResourceResolver.class, capturedResolver.getClass(), "Added resource resolver class different from expected");
     }
 
+    /**
+     * Tests the {@link WebMvcConfig#addInterceptors} method.
+     */
+    @Test
+    @DisplayName("Add interceptors")
+    final void testAddInterceptors() {
+        // Prepares the inputs
+        final InterceptorRegistry registry = mock(InterceptorRegistry.class);
+
+        // Calls the method
+        this.webMvcConfig.addInterceptors(registry);
+
+        // Checks the mocks calls
+        verify(registry).addInterceptor(this.responseCacheInterceptor);
+    }
+
     /**
      * Tests the {@link WebMvcConfig#addCorsMappings} method.
      */
@@ -90,7 +109,7 @@ class WebMvcConfigTest {
         // Mocks the calls
         when(registry.addMapping("/**")).thenReturn(registryRegistration);
         when(registryRegistration.allowedHeaders("*")).thenReturn(registryRegistration);
-        when(registryRegistration.exposedHeaders("Location")).thenReturn(registryRegistration);
+        when(registryRegistration.exposedHeaders("Location", "Link", "ETag")).thenReturn(registryRegistration);
 
         // Calls the method
         this.webMvcConfig.addCorsMappings(registry);
@@ -98,7 +117,7 @@ class WebMvcConfigTest {
         // Checks the mocks calls
         verify(registry).addMapping("/**");
         verify(registryRegistration).allowedHeaders("*");
-        verify(registryRegistration).exposedHeaders("Location");
+        verify(registryRegistration).exposedHeaders("Location", "Link", "ETag");
     }
 
     /**
@@ -1,21 +1,52 @@
 package fr.vulture.hostocars.controller;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.dto.CarSummary;
+import fr.vulture.hostocars.dto.Cursor;
 import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.repository.CarRepository;
+import fr.vulture.hostocars.service.BlobStore;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.CarImporter;
+import fr.vulture.hostocars.service.RegistrationIndex;
+import fr.vulture.hostocars.service.ThumbnailService;
+import fr.vulture.hostocars.service.WriteQueue;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Test class for the {@link CarController} class.
@@ -24,9 +55,30 @@ import org.springframework.http.ResponseEntity;
 @ExtendWith(MockitoExtension.class)
 class CarControllerTest {
 
+    @Mock
+    private CarRepository repository;
+
     @Mock
     private ControllerHelper helper;
 
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private RegistrationIndex registrationIndex;
+
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    @Mock
+    private CarImporter carImporter;
+
     @InjectMocks
     private CarController carController;
 
@@ -40,10 +92,10 @@ class CarControllerTest {
         final ResponseEntity<Collection<Car>> response = mock(ResponseEntity.class);
 
         // Mocks the calls
-        when(this.helper.resolveGetCollectionResponse(any(Callable.class))).thenReturn(response);
+        doReturn(response).when(this.helper).resolveGetCollectionResponse(any(Callable.class));
 
         // Calls the method
-        final ResponseEntity<Collection<Car>> result = this.carController.getCars();
+        final ResponseEntity<?> result = this.carController.getCars(null, "none", null, null);
 
         // Checks the mocks calls
         verify(this.helper).resolveGetCollectionResponse(any(Callable.class));
@@ -62,10 +114,10 @@ class CarControllerTest {
         final ResponseEntity<Collection<Car>> response = mock(ResponseEntity.class);
 
         // Mocks the calls
-        when(this.helper.resolveGetCollectionResponse(any(Callable.class))).thenReturn(response);
+        doReturn(response).when(this.helper).resolveGetCollectionResponse(any(Callable.class));
 
         // Calls the method
-        final ResponseEntity<Collection<Car>> result = this.carController.getCars("field1", "field2");
+        final ResponseEntity<?> result = this.carController.getCars(new String[] {"owner", "brand"}, "none", null, null);
 
         // Checks the mocks calls
         verify(this.helper).resolveGetCollectionResponse(any(Callable.class));
@@ -74,6 +126,162 @@ class CarControllerTest {
         assertSame(response, result, "Result different from expected");
     }
 
+    /**
+     * Tests the {@link CarController#getCars} method with a limit.
+     */
+    @Test
+    @DisplayName("Get cars (with limit)")
+    void testGetCarsWithLimit() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<Car>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(any(Callable.class), eq(10), any(Function.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.getCars(new String[] {"owner"}, "none", 10, null);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetPageResponse(any(Callable.class), eq(10), any(Function.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCars} method with a cursor.
+     */
+    @Test
+    @DisplayName("Get cars (with cursor)")
+    void testGetCarsWithCursor() {
+        // Prepares the inputs
+        final String cursor = new Cursor("owner", "value", 1).encode();
+
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<Car>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(any(Callable.class), eq(50), any(Function.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.getCars(new String[] {"owner"}, "none", null, cursor);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetPageResponse(any(Callable.class), eq(50), any(Function.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCars} method in error.
+     */
+    @Test
+    @DisplayName("Get cars (error case)")
+    void testGetCarsInError() {
+        // Prepares the inputs
+        final String cursor = new Cursor("owner", null, 1).encode();
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(new String[] {"comments"}, "none", null, null), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(new String[] {"owner", "brand"}, "none", 10, null),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(null, "none", 0, null), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(null, "none", 501, null), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(null, "none", null, "invalid"), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(new String[] {"brand"}, "none", null, cursor), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCars(null, "all", null, null), "Expected exception not thrown")
+        );
+    }
+
+    /**
+     * Tests the {@link CarController#getCarSummaries} method without sorting fields.
+     */
+    @Test
+    @DisplayName("Get car summaries (without sorting fields)")
+    void testGetCarSummariesWithoutSortingFields() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<CarSummary>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        doReturn(response).when(this.helper).resolveGetCollectionResponse(any(Callable.class));
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.getCarSummaries();
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetCollectionResponse(any(Callable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarSummaries} method with sorting fields.
+     */
+    @Test
+    @DisplayName("Get car summaries (with sorting fields)")
+    void testGetCarSummariesWithSortingFields() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<CarSummary>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        doReturn(response).when(this.helper).resolveGetCollectionResponse(any(Callable.class));
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.getCarSummaries("owner", "brand");
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetCollectionResponse(any(Callable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarSummaries} method in error.
+     */
+    @Test
+    @DisplayName("Get car summaries (error case)")
+    void testGetCarSummariesInError() {
+        assertThrows(ResponseStatusException.class, () -> this.carController.getCarSummaries("comments"), "Expected exception not thrown");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarSuggestions} method.
+     */
+    @Test
+    @DisplayName("Get car suggestions")
+    void testGetCarSuggestions() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<CarSuggestion>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        doReturn(response).when(this.helper).resolveGetCollectionResponse(any(Callable.class));
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.getCarSuggestions("ab-1", 5);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetCollectionResponse(any(Callable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarSuggestions} method in error.
+     */
+    @Test
+    @DisplayName("Get car suggestions (error case)")
+    void testGetCarSuggestionsInError() {
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCarSuggestions("ab-1", 0), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCarSuggestions("ab-1", 51), "Expected exception not thrown")
+        );
+    }
+
     /**
      * Tests the {@link CarController#getCarById} method.
      */
@@ -87,7 +295,7 @@ class CarControllerTest {
         when(this.helper.resolveGetResponse(any(Callable.class))).thenReturn(response);
 
         // Calls the method
-        final ResponseEntity<Car> result = this.carController.getCarById(0);
+        final ResponseEntity<Car> result = this.carController.getCarById(0, "lines");
 
         // Checks the mocks calls
         verify(this.helper).resolveGetResponse(any(Callable.class));
@@ -96,6 +304,146 @@ class CarControllerTest {
         assertSame(response, result, "Result different from expected");
     }
 
+    /**
+     * Tests the {@link CarController#getCarById} method in error.
+     */
+    @Test
+    @DisplayName("Get car by ID (error case)")
+    void testGetCarByIdInError() {
+        assertThrows(ResponseStatusException.class, () -> this.carController.getCarById(0, "all"), "Expected exception not thrown");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarInterventions} method without cursor.
+     */
+    @Test
+    @DisplayName("Get car interventions (without cursor)")
+    void testGetCarInterventionsWithoutCursor() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<Intervention>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(any(Callable.class), eq(50), any(Function.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Collection<Intervention>> result = this.carController.getCarInterventions(0, null, null);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetPageResponse(any(Callable.class), eq(50), any(Function.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarInterventions} method with a cursor.
+     */
+    @Test
+    @DisplayName("Get car interventions (with cursor)")
+    void testGetCarInterventionsWithCursor() {
+        // Prepares the inputs
+        final String cursor = new Cursor("interventions", "2020,12", 1).encode();
+
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<Intervention>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(any(Callable.class), eq(10), any(Function.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Collection<Intervention>> result = this.carController.getCarInterventions(0, 10, cursor);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetPageResponse(any(Callable.class), eq(10), any(Function.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarInterventions} method in error.
+     */
+    @Test
+    @DisplayName("Get car interventions (error case)")
+    void testGetCarInterventionsInError() {
+        // Prepares the inputs
+        final String otherFieldCursor = new Cursor("owner", "2020,12", 1).encode();
+        final String invalidValueCursor = new Cursor("interventions", "2020", 1).encode();
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCarInterventions(0, 0, null), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCarInterventions(0, null, otherFieldCursor), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.getCarInterventions(0, null, invalidValueCursor), "Expected exception not thrown")
+        );
+    }
+
+    /**
+     * Tests the {@link CarController#getCarCertificate} method.
+     */
+    @Test
+    @DisplayName("Get car certificate")
+    void testGetCarCertificate() {
+        // Prepares the intermediary results
+        final ResponseEntity<Resource> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetFileResponse(any(Callable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Resource> result = this.carController.getCarCertificate(0);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetFileResponse(any(Callable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarPicture} method without size.
+     */
+    @Test
+    @DisplayName("Get car picture (without size)")
+    void testGetCarPictureWithoutSize() {
+        // Prepares the intermediary results
+        final ResponseEntity<Resource> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetFileResponse(any(Callable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Resource> result = this.carController.getCarPicture(0, null);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetFileResponse(any(Callable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#getCarPicture} method with size.
+     */
+    @Test
+    @DisplayName("Get car picture (with size)")
+    void testGetCarPictureWithSize() {
+        // Prepares the intermediary results
+        final ResponseEntity<Resource> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetFileResponse(any(Callable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Resource> result = this.carController.getCarPicture(0, 128);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetFileResponse(any(Callable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
     /**
      * Tests the {@link CarController#createCar} method.
      */
@@ -118,6 +466,36 @@ class CarControllerTest {
         assertSame(response, result, "Result different from expected");
     }
 
+    /**
+     * Tests the {@link CarController#createCars} method with NDJSON lines.
+     */
+    @Test
+    @DisplayName("Create cars")
+    void testCreateCars() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType(CarImporter.NDJSON_MEDIA_TYPE + ";charset=UTF-8");
+        request.setContent("{}".getBytes());
+
+        // Prepares the intermediary results
+        final List<BulkResult> results = List.of(new BulkResult(0, 1, true, null));
+
+        // Mocks the calls
+        when(this.carImporter.importCars(any(InputStream.class), eq(true))).thenReturn(results);
+
+        // Calls the method
+        final ResponseEntity<Collection<BulkResult>> result = this.carController.createCars(request);
+
+        // Checks the mocks calls
+        verify(this.carImporter).importCars(any(InputStream.class), eq(true));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(HttpStatus.OK, result.getStatusCode(), "Status different from expected"),
+            () -> assertSame(results, result.getBody(), "Body different from expected")
+        );
+    }
+
     /**
      * Tests the {@link CarController#updateCar} method.
      */
@@ -140,6 +518,288 @@ class CarControllerTest {
         assertSame(response, result, "Result different from expected");
     }
 
+    /**
+     * Tests the {@link CarController#patchCar} method.
+     */
+    @Test
+    @DisplayName("Patch car")
+    void testPatchCar() {
+        // Prepares the inputs
+        final Map<String, Object> patch = new HashMap<>();
+        patch.put("registration", "AB-123-CD");
+        patch.put("comments", null);
+
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(any(Runnable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.patchCar(0, patch);
+
+        // Checks the mocks calls
+        verify(this.helper).resolvePutResponse(any(Runnable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#patchCar} method in error.
+     */
+    @Test
+    @DisplayName("Patch car (error case)")
+    void testPatchCarInError() {
+        // Prepares the inputs
+        final Map<String, Object> clearedOwnerPatch = new HashMap<>();
+        clearedOwnerPatch.put("owner", null);
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.patchCar(0, Map.of("certificateHash", "hash")),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.patchCar(0, Map.of("interventions", List.of())),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.patchCar(0, clearedOwnerPatch), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.patchCar(0, Map.of("brand", 1)), "Expected exception not thrown")
+        );
+    }
+
+    /**
+     * Tests the {@link CarController#upsertCarByRegistration} method with a new car.
+     */
+    @Test
+    @DisplayName("Upsert car by registration (new car)")
+    void testUpsertCarByRegistrationWithNewCar() {
+        // Prepares the inputs
+        final Car car = new Car();
+
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.carImporter.upsertCar(car)).thenReturn(new BulkResult(0, 1, true, null));
+        when(this.helper.resolvePostResponse(any(Callable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.upsertCarByRegistration("AB-123-CD", car);
+
+        // Checks the mocks calls
+        verify(this.carImporter).upsertCar(car);
+        verify(this.helper).resolvePostResponse(any(Callable.class));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals("AB-123-CD", car.getRegistration(), "Registration different from expected"),
+            () -> assertSame(response, result, "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarController#upsertCarByRegistration} method with an existing car.
+     */
+    @Test
+    @DisplayName("Upsert car by registration (existing car)")
+    void testUpsertCarByRegistrationWithExistingCar() {
+        // Prepares the inputs
+        final Car car = new Car();
+        car.setRegistration("AB-123-CD");
+
+        // Mocks the calls
+        when(this.carImporter.upsertCar(car)).thenReturn(new BulkResult(0, 1, false, null));
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.upsertCarByRegistration("AB-123-CD", car);
+
+        // Checks the result
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode(), "Status different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#upsertCarByRegistration} method in error.
+     */
+    @Test
+    @DisplayName("Upsert car by registration (in error)")
+    void testUpsertCarByRegistrationInError() {
+        // Prepares the inputs
+        final Car car = new Car();
+        car.setRegistration("EF-456-GH");
+
+        // Calls the method
+        assertThrows(ResponseStatusException.class, () -> this.carController.upsertCarByRegistration("AB-123-CD", car), "Expected exception not thrown");
+    }
+
+    /**
+     * Tests the {@link CarController#upsertCarsByRegistration} method with a JSON array.
+     */
+    @Test
+    @DisplayName("Upsert cars by registration")
+    void testUpsertCarsByRegistration() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("application/json");
+        request.setContent("[]".getBytes());
+
+        // Prepares the intermediary results
+        final List<BulkResult> results = List.of(new BulkResult(0, 1, false, null));
+
+        // Mocks the calls
+        when(this.carImporter.upsertCars(any(InputStream.class), eq(false))).thenReturn(results);
+
+        // Calls the method
+        final ResponseEntity<Collection<BulkResult>> result = this.carController.upsertCarsByRegistration(request);
+
+        // Checks the mocks calls
+        verify(this.carImporter).upsertCars(any(InputStream.class), eq(false));
+
+        // Checks the result
+        assertSame(results, result.getBody(), "Body different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#uploadCarCertificate} method.
+     */
+    @Test
+    @DisplayName("Upload car certificate")
+    void testUploadCarCertificate() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+        final InputStream stream = mock(InputStream.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(response);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.existsById(0)).thenReturn(true);
+        when(this.helper.resolveUploadStream(request)).thenReturn(stream);
+        when(this.blobStore.store(stream)).thenReturn("hash");
+        when(this.repository.updateCertificateHashById(0, "hash")).thenReturn(1);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.uploadCarCertificate(0, request);
+        executable.getValue().run();
+
+        // Checks the mocks calls
+        verify(this.repository).updateCertificateHashById(0, "hash");
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#uploadCarCertificate} method with a car deleted during the upload.
+     */
+    @Test
+    @DisplayName("Upload car certificate (deleted car)")
+    void testUploadCarCertificateWithDeletedCar() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Prepares the intermediary results
+        final InputStream stream = mock(InputStream.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(null);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.existsById(0)).thenReturn(true);
+        when(this.helper.resolveUploadStream(request)).thenReturn(stream);
+        when(this.blobStore.store(stream)).thenReturn("hash");
+        when(this.repository.updateCertificateHashById(0, "hash")).thenReturn(0);
+
+        // Calls the method
+        this.carController.uploadCarCertificate(0, request);
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(), "Expected exception not thrown");
+
+        // Checks the mocks calls
+        verify(this.thumbnailService, never()).schedule(any());
+
+        // Checks the result
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus(), "Status different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#uploadCarPicture} method.
+     */
+    @Test
+    @DisplayName("Upload car picture")
+    void testUploadCarPicture() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+        final InputStream stream = mock(InputStream.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(response);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.existsById(0)).thenReturn(true);
+        when(this.helper.resolveUploadStream(request)).thenReturn(stream);
+        when(this.blobStore.store(stream)).thenReturn("hash");
+        when(this.repository.updatePictureHashById(0, "hash")).thenReturn(1);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.uploadCarPicture(0, request);
+        executable.getValue().run();
+
+        // Checks the mocks calls
+        verify(this.repository).updatePictureHashById(0, "hash");
+        verify(this.thumbnailService).schedule("hash");
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#uploadCarPicture} method with a car deleted during the upload.
+     */
+    @Test
+    @DisplayName("Upload car picture (deleted car)")
+    void testUploadCarPictureWithDeletedCar() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Prepares the intermediary results
+        final InputStream stream = mock(InputStream.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(null);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.existsById(0)).thenReturn(true);
+        when(this.helper.resolveUploadStream(request)).thenReturn(stream);
+        when(this.blobStore.store(stream)).thenReturn("hash");
+        when(this.repository.updatePictureHashById(0, "hash")).thenReturn(0);
+
+        // Calls the method
+        this.carController.uploadCarPicture(0, request);
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(), "Expected exception not thrown");
+
+        // Checks the mocks calls
+        verify(this.thumbnailService, never()).schedule(any());
+
+        // Checks the result
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus(), "Status different from expected");
+    }
+
     /**
      * Tests the {@link CarController#deleteCarById} method.
      */
@@ -162,4 +822,150 @@ class CarControllerTest {
         assertSame(response, result, "Result different from expected");
     }
 
+    /**
+     * Tests the {@link CarController#deleteCarsByIds} method.
+     */
+    @Test
+    @DisplayName("Delete cars by IDs")
+    void testDeleteCarsByIds() {
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveDeleteResponse(any(Runnable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.deleteCarsByIds(List.of(1, 2, 1));
+
+        // Checks the mocks calls
+        verify(this.helper).resolveDeleteResponse(any(Runnable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#deleteCarsByIds} method in error.
+     */
+    @Test
+    @DisplayName("Delete cars by IDs (error case)")
+    void testDeleteCarsByIdsInError() {
+        // Prepares the inputs
+        final List<Integer> tooManyIds = IntStream.rangeClosed(1, 501).boxed().collect(Collectors.toList());
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.deleteCarsByIds(List.of()), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.carController.deleteCarsByIds(tooManyIds), "Expected exception not thrown")
+        );
+    }
+
+    /**
+     * Tests the {@link CarController#deleteCarCertificate} method.
+     */
+    @Test
+    @DisplayName("Delete car certificate")
+    void testDeleteCarCertificate() {
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolveDeleteResponse(executable.capture())).thenReturn(response);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.updateCertificateHashById(0, null)).thenReturn(1);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.deleteCarCertificate(0);
+        executable.getValue().run();
+
+        // Checks the mocks calls
+        verify(this.repository).updateCertificateHashById(0, null);
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#deleteCarCertificate} method with a missing car.
+     */
+    @Test
+    @DisplayName("Delete car certificate (missing car)")
+    void testDeleteCarCertificateWithMissingCar() {
+        // Prepares the intermediary results
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolveDeleteResponse(executable.capture())).thenReturn(null);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.updateCertificateHashById(0, null)).thenReturn(0);
+
+        // Calls the method
+        this.carController.deleteCarCertificate(0);
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(), "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus(), "Status different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#deleteCarPicture} method.
+     */
+    @Test
+    @DisplayName("Delete car picture")
+    void testDeleteCarPicture() {
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolveDeleteResponse(executable.capture())).thenReturn(response);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.updatePictureHashById(0, null)).thenReturn(1);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.carController.deleteCarPicture(0);
+        executable.getValue().run();
+
+        // Checks the mocks calls
+        verify(this.repository).updatePictureHashById(0, null);
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarController#deleteCarPicture} method with a missing car.
+     */
+    @Test
+    @DisplayName("Delete car picture (missing car)")
+    void testDeleteCarPictureWithMissingCar() {
+        // Prepares the intermediary results
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolveDeleteResponse(executable.capture())).thenReturn(null);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.updatePictureHashById(0, null)).thenReturn(0);
+
+        // Calls the method
+        this.carController.deleteCarPicture(0);
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(), "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus(), "Status different from expected");
+    }
+
 }
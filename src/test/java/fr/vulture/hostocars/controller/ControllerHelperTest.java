@@ -1,18 +1,49 @@
 package fr.vulture.hostocars.controller;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.service.RequestCoalescer;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.ResponseCache.CachedResponse;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Test class for the {@link ControllerHelper} class.
@@ -20,8 +51,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 @DisplayName("Controller helper")
 class ControllerHelperTest {
 
+    private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of("name", String.class, "count", Integer.class, "amount", Double.class, "comments",
+        String.class);
+
     private final ControllerHelper helper = new ControllerHelper();
 
+    private final ResponseCache responseCache = new ResponseCache(10, new ObjectMapper());
+
     /**
      * Initialization method called before all tests.
      */
@@ -29,6 +65,9 @@ class ControllerHelperTest {
     void initialize() {
         ReflectionTestUtils.setField(this.helper, "serverAddress", "serverAddress");
         ReflectionTestUtils.setField(this.helper, "serverPort", "serverPort");
+        ReflectionTestUtils.setField(this.helper, "maxUploadSize", DataSize.ofBytes(4));
+        ReflectionTestUtils.setField(this.helper, "responseCache", this.responseCache);
+        ReflectionTestUtils.setField(this.helper, "requestCoalescer", new RequestCoalescer());
     }
 
     /**
@@ -76,13 +115,44 @@ class ControllerHelperTest {
     @DisplayName("Resolve GET collection response")
     void testResolveGetCollectionResponse() {
         // Calls the method
-        final ResponseEntity<Collection<Object>> result = this.helper.resolveGetCollectionResponse(() -> Collections.singleton(""));
+        final ResponseEntity<?> result = this.helper.resolveGetCollectionResponse(() -> Collections.singleton(""));
 
         // Checks the result
         assertNotNull(result, "Result object unexpectedly null");
         assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
     }
 
+    /**
+     * Tests the {@link ControllerHelper#resolveGetCollectionResponse} method within a request.
+     */
+    @Test
+    @DisplayName("Resolve GET collection response (within a request)")
+    void testResolveGetCollectionResponseWithinRequest() {
+        // Prepares the intermediary results
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        request.setQueryString("sort=brand");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            // Calls the method
+            final ResponseEntity<?> result = this.helper.resolveGetCollectionResponse(() -> List.of("first", "second"));
+
+            // Checks the result
+            final Optional<CachedResponse> cachedResponse = this.responseCache.find("/cars?sort=brand");
+            assertTrue(cachedResponse.isPresent(), "Cached response unexpectedly absent");
+            assertAll(
+                () -> assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected"),
+                () -> assertSame(cachedResponse.get().getContent(), result.getBody(), "Response body different from expected"),
+                () -> assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType(), "Content type different from expected"),
+                () -> assertEquals(cachedResponse.get().getETag(), result.getHeaders().getETag(), "ETag header different from expected"),
+                () -> assertEquals("[\"first\",\"second\"]", new String(cachedResponse.get().getContent(), StandardCharsets.UTF_8),
+                    "Cached content different from expected")
+            );
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
     /**
      * Tests the {@link ControllerHelper#resolveGetCollectionResponse} method with an empty result list.
      */
@@ -90,7 +160,7 @@ class ControllerHelperTest {
     @DisplayName("Resolve GET collection response (empty result list)")
     void testResolveGetCollectionResponseWithEmptyResultList() {
         // Calls the method
-        final ResponseEntity<Collection<String>> result = this.helper.resolveGetCollectionResponse(Collections::emptyList);
+        final ResponseEntity<?> result = this.helper.resolveGetCollectionResponse(Collections::emptyList);
 
         // Checks the result
         assertNotNull(result, "Result object unexpectedly null");
@@ -107,6 +177,178 @@ class ControllerHelperTest {
         assertThrows(NullPointerException.class, () -> this.helper.resolveGetCollectionResponse(null), "Expected exception not thrown");
     }
 
+    /**
+     * Tests the {@link ControllerHelper#resolveGetPageResponse} method with a next page.
+     */
+    @Test
+    @DisplayName("Resolve GET page response (with next page)")
+    void testResolveGetPageResponseWithNextPage() {
+        // Prepares the intermediary results
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        request.setQueryString("limit=2&cursor=previous");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            // Calls the method
+            final ResponseEntity<Collection<String>> result = this.helper.resolveGetPageResponse(() -> Arrays.asList("first", "second", "third"), 2, value -> value);
+
+            // Checks the result
+            assertNotNull(result, "Result object unexpectedly null");
+            assertAll(
+                () -> assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected"),
+                () -> assertEquals(Arrays.asList("first", "second"), result.getBody(), "Response body different from expected"),
+                () -> assertEquals("<http://localhost/cars?limit=2&cursor=second>; rel=\"next\"", result.getHeaders().getFirst(HttpHeaders.LINK),
+                    "Link header different from expected")
+            );
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveGetPageResponse} method with a last page.
+     */
+    @Test
+    @DisplayName("Resolve GET page response (last page)")
+    void testResolveGetPageResponseLastPage() {
+        // Calls the method
+        final ResponseEntity<Collection<String>> result = this.helper.resolveGetPageResponse(() -> Arrays.asList("first", "second"), 2, value -> value);
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertAll(
+            () -> assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected"),
+            () -> assertEquals(Arrays.asList("first", "second"), result.getBody(), "Response body different from expected"),
+            () -> assertFalse(result.getHeaders().containsKey(HttpHeaders.LINK), "Link header unexpectedly present")
+        );
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveGetPageResponse} method with an empty page.
+     */
+    @Test
+    @DisplayName("Resolve GET page response (empty page)")
+    void testResolveGetPageResponseEmptyPage() {
+        // Calls the method
+        final ResponseEntity<Collection<String>> result = this.helper.resolveGetPageResponse(Collections::emptyList, 2, value -> value);
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode(), "Response status different from expected");
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveGetFileResponse} method with content.
+     */
+    @Test
+    @DisplayName("Resolve GET file response (with content)")
+    @SneakyThrows
+    void testResolveGetFileResponseWithContent(@TempDir final Path folder) {
+        // Prepares the intermediary results
+        final Path file = Files.write(folder.resolve("hash"), new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00});
+
+        // Calls the method
+        final ResponseEntity<Resource> result = this.helper.resolveGetFileResponse(() -> Optional.of(file));
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
+        assertEquals(MediaType.IMAGE_JPEG, result.getHeaders().getContentType(), "Response content type different from expected");
+        assertEquals("\"hash\"", result.getHeaders().getETag(), "Response ETag header different from expected");
+        assertNotNull(result.getBody(), "Response body unexpectedly null");
+        assertEquals(file.toFile(), result.getBody().getFile(), "Response body file different from expected");
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveGetFileResponse} method without content.
+     */
+    @Test
+    @DisplayName("Resolve GET file response (without content)")
+    void testResolveGetFileResponseWithoutContent() {
+        // Calls the method
+        final ResponseEntity<Resource> result = this.helper.resolveGetFileResponse(Optional::empty);
+
+        // Checks the result
+        assertNotNull(result, "Result object unexpectedly null");
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode(), "Response status different from expected");
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveGetFileResponse} method in error.
+     */
+    @Test
+    @DisplayName("Resolve GET file response (error case)")
+    void testResolveGetFileResponseInError() {
+        // Calls the method
+        assertThrows(NullPointerException.class, () -> this.helper.resolveGetFileResponse(null), "Expected exception not thrown");
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#detectMediaType} method.
+     */
+    @Test
+    @DisplayName("Detect media type")
+    void testDetectMediaType() {
+        assertAll("Media type different from expected",
+            () -> assertEquals(MediaType.IMAGE_JPEG, ControllerHelper.detectMediaType(new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00})),
+            () -> assertEquals(MediaType.IMAGE_PNG, ControllerHelper.detectMediaType(new byte[] {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A})),
+            () -> assertEquals(MediaType.IMAGE_GIF, ControllerHelper.detectMediaType("GIF89a".getBytes(StandardCharsets.US_ASCII))),
+            () -> assertEquals(MediaType.parseMediaType("image/bmp"), ControllerHelper.detectMediaType("BM....".getBytes(StandardCharsets.US_ASCII))),
+            () -> assertEquals(MediaType.parseMediaType("image/webp"), ControllerHelper.detectMediaType("RIFF....WEBPVP8 ".getBytes(StandardCharsets.US_ASCII))),
+            () -> assertEquals(MediaType.APPLICATION_PDF, ControllerHelper.detectMediaType("%PDF-1.4".getBytes(StandardCharsets.US_ASCII))),
+            () -> assertEquals(MediaType.APPLICATION_OCTET_STREAM, ControllerHelper.detectMediaType(new byte[] {0x00})));
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolvePatch} method.
+     */
+    @Test
+    @DisplayName("Resolve patch")
+    void testResolvePatch() {
+        // Prepares the inputs
+        final Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("name", "name");
+        patch.put("count", 2);
+        patch.put("amount", 3);
+        patch.put("comments", null);
+
+        // Prepares the expected result
+        final Map<String, Object> expectedChanges = new LinkedHashMap<>();
+        expectedChanges.put("name", "name");
+        expectedChanges.put("count", 2);
+        expectedChanges.put("amount", 3.0);
+        expectedChanges.put("comments", null);
+
+        // Calls the method
+        final Map<String, Object> result = ControllerHelper.resolvePatch(patch, PATCHABLE_FIELDS, Set.of("name"));
+
+        // Checks the result
+        assertEquals(expectedChanges, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolvePatch} method in error.
+     */
+    @Test
+    @DisplayName("Resolve patch (error case)")
+    void testResolvePatchInError() {
+        // Prepares the inputs
+        final Map<String, Object> clearedNamePatch = new HashMap<>();
+        clearedNamePatch.put("name", null);
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> ControllerHelper.resolvePatch(Map.of("id", 1), PATCHABLE_FIELDS, Set.of("name")),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> ControllerHelper.resolvePatch(clearedNamePatch, PATCHABLE_FIELDS, Set.of("name")),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> ControllerHelper.resolvePatch(Map.of("count", 2.5), PATCHABLE_FIELDS, Set.of("name")),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> ControllerHelper.resolvePatch(Map.of("amount", "3"), PATCHABLE_FIELDS, Set.of("name")),
+                "Expected exception not thrown")
+        );
+    }
+
     /**
      * Tests the {@link ControllerHelper#resolvePostResponse} method.
      */
@@ -183,4 +425,97 @@ class ControllerHelperTest {
         assertThrows(NullPointerException.class, () -> this.helper.resolveDeleteResponse(null), "Expected exception not thrown");
     }
 
+    /**
+     * Tests the {@link ControllerHelper#resolveUploadStream} method with a raw body.
+     */
+    @Test
+    @DisplayName("Resolve upload stream (raw body)")
+    @SneakyThrows
+    void testResolveUploadStreamRawBody() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(new byte[] {1, 2, 3, 4});
+
+        // Calls the method
+        try (final InputStream result = this.helper.resolveUploadStream(request)) {
+            // Checks the result
+            assertArrayEquals(new byte[] {1, 2, 3, 4}, result.readAllBytes(), "Result content different from expected");
+        }
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveUploadStream} method with a raw body declared too large.
+     */
+    @Test
+    @DisplayName("Resolve upload stream (raw body declared too large)")
+    void testResolveUploadStreamRawBodyDeclaredTooLarge() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(new byte[] {1, 2, 3, 4, 5});
+
+        // Calls the method
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> this.helper.resolveUploadStream(request),
+            "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatus(), "Exception status different from expected");
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveUploadStream} method with a raw body too large but without length.
+     */
+    @Test
+    @DisplayName("Resolve upload stream (raw body too large without length)")
+    @SneakyThrows
+    void testResolveUploadStreamRawBodyTooLargeWithoutLength() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest() {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent(new byte[] {1, 2, 3, 4, 5});
+
+        // Calls the method
+        try (final InputStream result = this.helper.resolveUploadStream(request)) {
+            final ResponseStatusException exception = assertThrows(ResponseStatusException.class, result::readAllBytes, "Expected exception not thrown");
+
+            // Checks the result
+            assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatus(), "Exception status different from expected");
+        }
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveUploadStream} method with a multipart body.
+     */
+    @Test
+    @DisplayName("Resolve upload stream (multipart body)")
+    @SneakyThrows
+    void testResolveUploadStreamMultipartBody() {
+        // Prepares the inputs
+        final MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+        request.addFile(new MockMultipartFile("file", new byte[] {1, 2}));
+
+        // Calls the method
+        try (final InputStream result = this.helper.resolveUploadStream(request)) {
+            // Checks the result
+            assertArrayEquals(new byte[] {1, 2}, result.readAllBytes(), "Result content different from expected");
+        }
+    }
+
+    /**
+     * Tests the {@link ControllerHelper#resolveUploadStream} method with a multipart body without file.
+     */
+    @Test
+    @DisplayName("Resolve upload stream (multipart body without file)")
+    void testResolveUploadStreamMultipartBodyWithoutFile() {
+        // Calls the method
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+            () -> this.helper.resolveUploadStream(new MockMultipartHttpServletRequest()), "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus(), "Exception status different from expected");
+    }
+
 }
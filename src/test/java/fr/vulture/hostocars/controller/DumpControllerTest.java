@@ -0,0 +1,116 @@
+package fr.vulture.hostocars.controller;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.ImportReport;
+import fr.vulture.hostocars.service.BlobMode;
+import fr.vulture.hostocars.service.CarImporter;
+import fr.vulture.hostocars.service.DumpExporter;
+import fr.vulture.hostocars.service.DumpImporter;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Test class for the {@link DumpController} class.
+ */
+@DisplayName("Dump controller")
+@ExtendWith(MockitoExtension.class)
+class DumpControllerTest {
+
+    @Mock
+    private DumpExporter dumpExporter;
+
+    @Mock
+    private DumpImporter dumpImporter;
+
+    @InjectMocks
+    private DumpController dumpController;
+
+    /**
+     * Tests the {@link DumpController#exportDump} method, the dump being written once the response is streamed.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Export dump")
+    void testExportDump() {
+        // Calls the method
+        final ResponseEntity<StreamingResponseBody> result = this.dumpController.exportDump("include");
+        verifyNoInteractions(this.dumpExporter);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+
+        // Checks the mocks calls
+        verify(this.dumpExporter).export(output, BlobMode.INCLUDE);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(HttpStatus.OK, result.getStatusCode(), "Status different from expected"),
+            () -> assertEquals(CarImporter.NDJSON_MEDIA_TYPE, String.valueOf(result.getHeaders().getContentType()), "Content type different from expected"),
+            () -> assertEquals("attachment; filename=\"hostocars.ndjson\"", result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION),
+                "Content disposition different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link DumpController#exportDump} method in error.
+     */
+    @Test
+    @DisplayName("Export dump (error case)")
+    void testExportDumpInError() {
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> this.dumpController.exportDump("all"),
+            "Expected exception not thrown");
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus(), "Status different from expected");
+    }
+
+    /**
+     * Tests the {@link DumpController#importDump} method.
+     */
+    @Test
+    @DisplayName("Import dump")
+    void testImportDump() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType(CarImporter.NDJSON_MEDIA_TYPE);
+        request.setContent("{}".getBytes());
+
+        // Prepares the intermediary results
+        final ImportReport report = new ImportReport();
+
+        // Mocks the calls
+        when(this.dumpImporter.importDump(any(InputStream.class))).thenReturn(report);
+
+        // Calls the method
+        final ResponseEntity<ImportReport> result = this.dumpController.importDump(request);
+
+        // Checks the mocks calls
+        verify(this.dumpImporter).importDump(any(InputStream.class));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(HttpStatus.OK, result.getStatusCode(), "Status different from expected"),
+            () -> assertSame(report, result.getBody(), "Body different from expected")
+        );
+    }
+
+}
@@ -0,0 +1,197 @@
+package fr.vulture.hostocars.controller;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.dto.InterventionFilter;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.repository.InterventionRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.WriteQueue;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link InterventionController} class.
+ */
+@DisplayName("Intervention controller")
+@ExtendWith(MockitoExtension.class)
+class InterventionControllerTest {
+
+    @Mock
+    private InterventionRepository repository;
+
+    @Mock
+    private ControllerHelper helper;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    @InjectMocks
+    private InterventionController interventionController;
+
+    /**
+     * Tests the {@link InterventionController#getInterventions} method without cursor.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Get interventions (without cursor)")
+    void testGetInterventionsWithoutCursor() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<Intervention>> response = mock(ResponseEntity.class);
+        final List<Intervention> interventions = List.of(new Intervention());
+        final ArgumentCaptor<Callable<List<Intervention>>> executable = ArgumentCaptor.forClass(Callable.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(executable.capture(), eq(50), any(Function.class))).thenReturn(response);
+        when(this.repository.findPageIds(new InterventionFilter("DONE", 2020, 1, "2020-01-01", null), null, 51)).thenReturn(List.of(3, 1));
+        when(this.repository.findAllWithLinesByIdIn(List.of(3, 1))).thenReturn(interventions);
+
+        // Calls the method
+        final ResponseEntity<Collection<Intervention>> result = this.interventionController.getInterventions("DONE", 2020, 1, "2020-01-01", null, null, null);
+
+        // Checks the results
+        assertAll(
+            () -> assertSame(response, result, "Result different from expected"),
+            () -> assertSame(interventions, executable.getValue().call(), "Page different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionController#getInterventions} method with a cursor.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Get interventions (with cursor)")
+    void testGetInterventionsWithCursor() {
+        // Prepares the inputs
+        final String cursor = new Cursor("interventions", "2020,12", 7).encode();
+
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<Intervention>> response = mock(ResponseEntity.class);
+        final ArgumentCaptor<Callable<List<Intervention>>> executable = ArgumentCaptor.forClass(Callable.class);
+        final ArgumentCaptor<Function<Intervention, String>> cursorFactory = ArgumentCaptor.forClass(Function.class);
+        final ArgumentCaptor<int[]> position = ArgumentCaptor.forClass(int[].class);
+        final Intervention last = new Intervention();
+        last.setId(8);
+        last.setYear(2021);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(executable.capture(), eq(10), cursorFactory.capture())).thenReturn(response);
+        when(this.repository.findPageIds(eq(new InterventionFilter()), position.capture(), eq(11))).thenReturn(List.of());
+
+        // Calls the method
+        final ResponseEntity<Collection<Intervention>> result = this.interventionController.getInterventions(null, null, null, null, null, 10, cursor);
+
+        // Checks the results
+        assertAll(
+            () -> assertSame(response, result, "Result different from expected"),
+            () -> assertEquals(List.of(), executable.getValue().call(), "Page different from expected"),
+            () -> assertArrayEquals(new int[] {2020, 12, 7}, position.getValue(), "Position different from expected"),
+            () -> assertEquals(new Cursor("interventions", "2021,0", 8).encode(), cursorFactory.getValue().apply(last), "Next cursor different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionController#getInterventions} method in error.
+     */
+    @Test
+    @DisplayName("Get interventions (error case)")
+    void testGetInterventionsInError() {
+        // Prepares the inputs
+        final String otherFieldCursor = new Cursor("owner", "2020,12", 1).encode();
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.getInterventions(null, null, null, "01/02/2020", null, null, null),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.getInterventions(null, null, null, null, "2020-13-01", null, null),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.getInterventions(null, null, null, null, null, 0, null),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.getInterventions(null, null, null, null, null, null,
+                otherFieldCursor), "Expected exception not thrown")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionController#patchIntervention} method.
+     */
+    @Test
+    @DisplayName("Patch intervention")
+    void testPatchIntervention() {
+        // Prepares the inputs
+        final Map<String, Object> patch = new HashMap<>();
+        patch.put("amount", 120);
+        patch.put("comments", null);
+
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(any(Runnable.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.interventionController.patchIntervention(0, patch);
+
+        // Checks the mocks calls
+        verify(this.helper).resolvePutResponse(any(Runnable.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link InterventionController#patchIntervention} method in error.
+     */
+    @Test
+    @DisplayName("Patch intervention (error case)")
+    void testPatchInterventionInError() {
+        // Prepares the inputs
+        final Map<String, Object> clearedStatusPatch = new HashMap<>();
+        clearedStatusPatch.put("status", null);
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.patchIntervention(0, Map.of("number", 1)),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.patchIntervention(0, Map.of("operations", List.of())),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.patchIntervention(0, clearedStatusPatch),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.interventionController.patchIntervention(0, Map.of("mileage", "far")),
+                "Expected exception not thrown")
+        );
+    }
+
+}
@@ -0,0 +1,97 @@
+package fr.vulture.hostocars.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.MethodStatistics;
+import fr.vulture.hostocars.service.MetricsRegistry;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Test class for the {@link MetricsController} class.
+ */
+@DisplayName("Metrics controller")
+@ExtendWith(MockitoExtension.class)
+class MetricsControllerTest {
+
+    private static final List<MethodStatistics> STATISTICS = List.of(
+        new MethodStatistics("CarController.getCars", 4L, 1L, 2L, 8_000_000L, 1_500_000L, 2_500_000L, 3_000_000L, 3_000_000L));
+
+    @Mock
+    private MetricsRegistry metricsRegistry;
+
+    @InjectMocks
+    private MetricsController metricsController;
+
+    /**
+     * Tests the {@link MetricsController#getMetrics} method.
+     */
+    @Test
+    @DisplayName("Get metrics")
+    void testGetMetrics() {
+        // Mocks the calls
+        when(this.metricsRegistry.getStatistics()).thenReturn(STATISTICS);
+
+        // Calls the method
+        final ResponseEntity<Collection<MethodStatistics>> result = this.metricsController.getMetrics();
+
+        // Checks the results
+        assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
+        assertEquals(STATISTICS, result.getBody(), "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link MetricsController#getPrometheusMetrics} method.
+     */
+    @Test
+    @DisplayName("Get Prometheus metrics")
+    void testGetPrometheusMetrics() {
+        // Mocks the calls
+        when(this.metricsRegistry.getStatistics()).thenReturn(STATISTICS);
+
+        // Calls the method
+        final ResponseEntity<String> result = this.metricsController.getPrometheusMetrics();
+
+        // Checks the results
+        assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
+        assertEquals(MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8"), result.getHeaders().getContentType(),
+            "Content type different from expected");
+        assertEquals(MetricsController.toPrometheusText(STATISTICS), result.getBody(), "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link MetricsController#toPrometheusText} method.
+     */
+    @Test
+    @DisplayName("To Prometheus text")
+    void testToPrometheusText() {
+        assertEquals("# HELP hostocars_method_duration_seconds Durations of the calls of the method.\n"
+                + "# TYPE hostocars_method_duration_seconds summary\n"
+                + "hostocars_method_duration_seconds{method=\"CarController.getCars\",quantile=\"0.5\"} 0.0015\n"
+                + "hostocars_method_duration_seconds{method=\"CarController.getCars\",quantile=\"0.9\"} 0.0025\n"
+                + "hostocars_method_duration_seconds{method=\"CarController.getCars\",quantile=\"0.99\"} 0.003\n"
+                + "hostocars_method_duration_seconds_sum{method=\"CarController.getCars\"} 0.008\n"
+                + "hostocars_method_duration_seconds_count{method=\"CarController.getCars\"} 4\n"
+                + "# HELP hostocars_method_duration_max_seconds Maximum duration of the calls of the method.\n"
+                + "# TYPE hostocars_method_duration_max_seconds gauge\n"
+                + "hostocars_method_duration_max_seconds{method=\"CarController.getCars\"} 0.003\n"
+                + "# HELP hostocars_method_errors_total Number of calls of the method which threw an exception.\n"
+                + "# TYPE hostocars_method_errors_total counter\n"
+                + "hostocars_method_errors_total{method=\"CarController.getCars\"} 1\n"
+                + "# HELP hostocars_method_in_flight Number of calls of the method in flight.\n"
+                + "# TYPE hostocars_method_in_flight gauge\n"
+                + "hostocars_method_in_flight{method=\"CarController.getCars\"} 2\n",
+            MetricsController.toPrometheusText(STATISTICS), "Result different from expected");
+    }
+
+}
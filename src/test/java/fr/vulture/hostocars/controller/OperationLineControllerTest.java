@@ -0,0 +1,208 @@
+package fr.vulture.hostocars.controller;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.repository.OperationLineRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.WriteQueue;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link OperationLineController} class.
+ */
+@DisplayName("Operation line controller")
+@ExtendWith(MockitoExtension.class)
+class OperationLineControllerTest {
+
+    @Mock
+    private OperationLineRepository repository;
+
+    @Mock
+    private ControllerHelper helper;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    @InjectMocks
+    private OperationLineController operationLineController;
+
+    /**
+     * Tests the {@link OperationLineController#patchOperationLine} method.
+     */
+    @Test
+    @DisplayName("Patch operation line")
+    void testPatchOperationLine() {
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(response);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.findCarIdById(1)).thenReturn(2);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.operationLineController.patchOperationLine(1, Map.of("done", true));
+        executable.getValue().run();
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidate(2);
+        verify(this.repository).updateById(1, Map.of("done", true));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link OperationLineController#patchOperationLine} method in error.
+     */
+    @Test
+    @DisplayName("Patch operation line (error case)")
+    void testPatchOperationLineInError() {
+        // Prepares the inputs
+        final Map<String, Object> clearedDonePatch = new HashMap<>();
+        clearedDonePatch.put("done", null);
+
+        // Prepares the intermediary results
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(null);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.findCarIdById(1)).thenReturn(null);
+
+        // Calls the method
+        this.operationLineController.patchOperationLine(1, Map.of("done", false));
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(), "Expected exception not thrown");
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(HttpStatus.NOT_FOUND, exception.getStatus(), "Status different from expected"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.operationLineController.patchOperationLine(1, clearedDonePatch),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.operationLineController.patchOperationLine(1, Map.of("done", "yes")),
+                "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.operationLineController.patchOperationLine(1, Map.of("operation", 2)),
+                "Expected exception not thrown")
+        );
+
+        // Checks the mocks calls
+        verify(this.repository, never()).updateById(anyInt(), any());
+    }
+
+    /**
+     * Tests the {@link OperationLineController#patchOperationLines} method.
+     */
+    @Test
+    @DisplayName("Patch operation lines")
+    void testPatchOperationLines() {
+        // Prepares the inputs
+        final Map<Integer, Boolean> lines = new LinkedHashMap<>();
+        lines.put(1, true);
+        lines.put(2, false);
+        lines.put(3, true);
+
+        // Prepares the intermediary results
+        final ResponseEntity<?> response = mock(ResponseEntity.class);
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(response);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.findCarIdByOperationId(4)).thenReturn(5);
+        when(this.repository.updateDoneByOperationIdAndIdIn(4, Set.of(1, 2, 3), List.of(1, 3))).thenReturn(3);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.operationLineController.patchOperationLines(4, lines);
+        executable.getValue().run();
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+        verify(this.carCache).invalidate(5);
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link OperationLineController#patchOperationLines} method in error.
+     */
+    @Test
+    @DisplayName("Patch operation lines (error case)")
+    void testPatchOperationLinesInError() {
+        // Prepares the inputs
+        final Map<Integer, Boolean> nullLines = new HashMap<>();
+        nullLines.put(1, null);
+
+        // Prepares the intermediary results
+        final ArgumentCaptor<Runnable> executable = ArgumentCaptor.forClass(Runnable.class);
+
+        // Mocks the calls
+        when(this.helper.resolvePutResponse(executable.capture())).thenReturn(null);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+        when(this.repository.findCarIdByOperationId(4)).thenReturn(5, (Integer) null);
+        when(this.repository.updateDoneByOperationIdAndIdIn(eq(4), anyCollection(), anyCollection())).thenReturn(1);
+
+        // Calls the method
+        this.operationLineController.patchOperationLines(4, Map.of(1, true, 2, true));
+        final ResponseStatusException foreignLineException = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(),
+            "Expected exception not thrown");
+        final ResponseStatusException missingOperationException = assertThrows(ResponseStatusException.class, () -> executable.getValue().run(),
+            "Expected exception not thrown");
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(HttpStatus.NOT_FOUND, foreignLineException.getStatus(), "Status different from expected"),
+            () -> assertEquals(HttpStatus.NOT_FOUND, missingOperationException.getStatus(), "Status different from expected"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.operationLineController.patchOperationLines(4, Map.of()), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.operationLineController.patchOperationLines(4, nullLines), "Expected exception not thrown")
+        );
+    }
+
+}
@@ -0,0 +1,112 @@
+package fr.vulture.hostocars.controller;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.dto.SearchResult;
+import fr.vulture.hostocars.repository.SearchRepository;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link SearchController} class.
+ */
+@DisplayName("Search controller")
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTest {
+
+    @Mock
+    private SearchRepository repository;
+
+    @Mock
+    private ControllerHelper helper;
+
+    @InjectMocks
+    private SearchController searchController;
+
+    /**
+     * Tests the {@link SearchController#search} method without cursor.
+     */
+    @Test
+    @DisplayName("Search (without cursor)")
+    void testSearchWithoutCursor() {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<SearchResult>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(any(Callable.class), eq(50), any(Function.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Collection<SearchResult>> result = this.searchController.search("peugeot", null, null);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetPageResponse(any(Callable.class), eq(50), any(Function.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link SearchController#search} method with a cursor.
+     */
+    @Test
+    @DisplayName("Search (with cursor)")
+    void testSearchWithCursor() {
+        // Prepares the inputs
+        final String cursor = new Cursor("rank", "-1.5", 2).encode();
+
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<SearchResult>> response = mock(ResponseEntity.class);
+
+        // Mocks the calls
+        when(this.helper.resolveGetPageResponse(any(Callable.class), eq(10), any(Function.class))).thenReturn(response);
+
+        // Calls the method
+        final ResponseEntity<Collection<SearchResult>> result = this.searchController.search("peugeot", 10, cursor);
+
+        // Checks the mocks calls
+        verify(this.helper).resolveGetPageResponse(any(Callable.class), eq(10), any(Function.class));
+
+        // Checks the result
+        assertSame(response, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link SearchController#search} method in error.
+     */
+    @Test
+    @DisplayName("Search (error case)")
+    void testSearchInError() {
+        // Prepares the inputs
+        final String otherFieldCursor = new Cursor("owner", "-1.5", 2).encode();
+        final String nullValueCursor = new Cursor("rank", null, 2).encode();
+        final String invalidValueCursor = new Cursor("rank", "invalid", 2).encode();
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(ResponseStatusException.class, () -> this.searchController.search(" ", null, null), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.searchController.search("peugeot", 0, null), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.searchController.search("peugeot", null, "invalid"), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.searchController.search("peugeot", null, otherFieldCursor), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.searchController.search("peugeot", null, nullValueCursor), "Expected exception not thrown"),
+            () -> assertThrows(ResponseStatusException.class, () -> this.searchController.search("peugeot", null, invalidValueCursor), "Expected exception not thrown")
+        );
+    }
+
+}
@@ -0,0 +1,185 @@
+package fr.vulture.hostocars.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.BillingMismatch;
+import fr.vulture.hostocars.dto.BillingReport;
+import fr.vulture.hostocars.dto.BillingSummary;
+import fr.vulture.hostocars.dto.CacheStatistics;
+import fr.vulture.hostocars.dto.CoalescingStatistics;
+import fr.vulture.hostocars.repository.BillingSummaryRepository;
+import fr.vulture.hostocars.service.CarCache;
+import fr.vulture.hostocars.service.RequestCoalescer;
+import fr.vulture.hostocars.service.ResponseCache;
+import fr.vulture.hostocars.service.WriteQueue;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Test class for the {@link StatisticsController} class.
+ */
+@DisplayName("Statistics controller")
+@ExtendWith(MockitoExtension.class)
+class StatisticsControllerTest {
+
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    @Mock
+    private RequestCoalescer requestCoalescer;
+
+    @Mock
+    private BillingSummaryRepository billingSummaryRepository;
+
+    @Mock
+    private ControllerHelper helper;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    @InjectMocks
+    private StatisticsController statisticsController;
+
+    /**
+     * Tests the {@link StatisticsController#getCacheStatistics} method.
+     */
+    @Test
+    @DisplayName("Get cache statistics")
+    void testGetCacheStatistics() {
+        // Prepares the intermediary results
+        final CacheStatistics carStatistics = new CacheStatistics("cars", 1, 10, 2L, 1L, 0L, 0L);
+        final CacheStatistics responseStatistics = new CacheStatistics("responses", 0, 10, 0L, 1L, 0L, 1L);
+
+        // Mocks the calls
+        when(this.carCache.getStatistics()).thenReturn(carStatistics);
+        when(this.responseCache.getStatistics()).thenReturn(responseStatistics);
+
+        // Calls the method
+        final ResponseEntity<Collection<CacheStatistics>> result = this.statisticsController.getCacheStatistics();
+
+        // Checks the mocks calls
+        verify(this.carCache).getStatistics();
+        verify(this.responseCache).getStatistics();
+
+        // Checks the results
+        assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
+        assertEquals(List.of(carStatistics, responseStatistics), result.getBody(), "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link StatisticsController#getCoalescingStatistics} method.
+     */
+    @Test
+    @DisplayName("Get coalescing statistics")
+    void testGetCoalescingStatistics() {
+        // Prepares the intermediary results
+        final CoalescingStatistics statistics = new CoalescingStatistics(3L, 2L, 1);
+
+        // Mocks the calls
+        when(this.requestCoalescer.getStatistics()).thenReturn(statistics);
+
+        // Calls the method
+        final ResponseEntity<CoalescingStatistics> result = this.statisticsController.getCoalescingStatistics();
+
+        // Checks the mocks calls
+        verify(this.requestCoalescer).getStatistics();
+
+        // Checks the results
+        assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
+        assertEquals(statistics, result.getBody(), "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link StatisticsController#getBillingSummaries} method.
+     */
+    @Test
+    @DisplayName("Get billing summaries")
+    @SuppressWarnings("unchecked")
+    void testGetBillingSummaries() throws Exception {
+        // Prepares the intermediary results
+        final ResponseEntity<Collection<BillingSummary>> response = mock(ResponseEntity.class);
+        final List<BillingSummary> summaries = List.of(new BillingSummary(2020, 3, "DONE", 2L, 150.5, 100.0));
+        final ArgumentCaptor<Callable<Collection<BillingSummary>>> executable = ArgumentCaptor.forClass(Callable.class);
+
+        // Mocks the calls
+        doReturn(response).when(this.helper).resolveGetCollectionResponse(executable.capture());
+        when(this.billingSummaryRepository.findAll(2020)).thenReturn(summaries);
+
+        // Calls the method
+        final ResponseEntity<?> result = this.statisticsController.getBillingSummaries(2020);
+
+        // Checks the results
+        assertSame(response, result, "Result different from expected");
+        assertSame(summaries, executable.getValue().call(), "Summaries different from expected");
+    }
+
+    /**
+     * Tests the {@link StatisticsController#rebuildBillingSummaries} method.
+     */
+    @Test
+    @DisplayName("Rebuild billing summaries")
+    @SuppressWarnings("unchecked")
+    void testRebuildBillingSummaries() {
+        // Prepares the intermediary results
+        final BillingSummary summary = new BillingSummary(2020, 3, "DONE", 2L, 150.5, 100.0);
+        final BillingReport report = new BillingReport(1, List.of(new BillingMismatch(summary, null)));
+
+        // Mocks the calls
+        when(this.writeQueue.submit(any(Callable.class))).thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(0)).call());
+        when(this.billingSummaryRepository.rebuild()).thenReturn(report);
+
+        // Calls the method
+        final ResponseEntity<BillingReport> result = this.statisticsController.rebuildBillingSummaries();
+
+        // Checks the mocks calls
+        verify(this.responseCache).invalidateAll();
+
+        // Checks the results
+        assertEquals(HttpStatus.OK, result.getStatusCode(), "Response status different from expected");
+        assertSame(report, result.getBody(), "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link StatisticsController#rebuildBillingSummaries} method without any mismatch.
+     */
+    @Test
+    @DisplayName("Rebuild billing summaries (without mismatch)")
+    @SuppressWarnings("unchecked")
+    void testRebuildBillingSummariesWithoutMismatch() {
+        // Prepares the intermediary results
+        final BillingReport report = new BillingReport(3, List.of());
+
+        // Mocks the calls
+        when(this.writeQueue.submit(any(Callable.class))).thenReturn(report);
+
+        // Calls the method
+        final ResponseEntity<BillingReport> result = this.statisticsController.rebuildBillingSummaries();
+
+        // Checks the mocks calls
+        verify(this.responseCache, never()).invalidateAll();
+
+        // Checks the results
+        assertSame(report, result.getBody(), "Result different from expected");
+    }
+
+}
@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.dto;
+
+import static fr.vulture.hostocars.TestHelper.validatePojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link BillingMismatch} class.
+ */
+@DisplayName("Billing mismatch")
+class BillingMismatchTest {
+
+    /**
+     * Tests the {@link BillingMismatch} class.
+     */
+    @Test
+    @DisplayName("POJO validation")
+    final void testPojo() {
+        validatePojo(BillingMismatch.class);
+    }
+
+}
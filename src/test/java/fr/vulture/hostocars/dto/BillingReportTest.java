@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.dto;
+
+import static fr.vulture.hostocars.TestHelper.validatePojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link BillingReport} class.
+ */
+@DisplayName("Billing report")
+class BillingReportTest {
+
+    /**
+     * Tests the {@link BillingReport} class.
+     */
+    @Test
+    @DisplayName("POJO validation")
+    final void testPojo() {
+        validatePojo(BillingReport.class);
+    }
+
+}
@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.dto;
+
+import static fr.vulture.hostocars.TestHelper.validatePojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link CarSummary} class.
+ */
+@DisplayName("Car summary")
+class CarSummaryTest {
+
+    /**
+     * Tests the {@link CarSummary} class.
+     */
+    @Test
+    @DisplayName("POJO validation")
+    final void testPojo() {
+        validatePojo(CarSummary.class);
+    }
+
+}
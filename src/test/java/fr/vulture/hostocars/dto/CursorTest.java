@@ -0,0 +1,65 @@
+package fr.vulture.hostocars.dto;
+
+import static fr.vulture.hostocars.TestHelper.validatePojo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link Cursor} class.
+ */
+@DisplayName("Cursor")
+class CursorTest {
+
+    /**
+     * Tests the {@link Cursor} class.
+     */
+    @Test
+    @DisplayName("POJO validation")
+    final void testPojo() {
+        validatePojo(Cursor.class);
+    }
+
+    /**
+     * Tests the {@link Cursor#encode} and {@link Cursor#decode} methods.
+     */
+    @Test
+    @DisplayName("Encode and decode")
+    void testEncodeAndDecode() {
+        // Prepares the inputs
+        final Cursor cursor = new Cursor("owner", "Jean: Dupont", 42);
+        final Cursor nullValueCursor = new Cursor("brand", null, 7);
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(cursor, Cursor.decode(cursor.encode()), "Result different from expected"),
+            () -> assertEquals(nullValueCursor, Cursor.decode(nullValueCursor.encode()), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link Cursor#decode} method in error.
+     */
+    @Test
+    @DisplayName("Decode (error case)")
+    void testDecodeInError() {
+        // Prepares the inputs
+        final String unknownMarkerCursor = Base64.getUrlEncoder().encodeToString("owner:1:x".getBytes(StandardCharsets.UTF_8));
+        final String invalidIdCursor = Base64.getUrlEncoder().encodeToString("owner:a:n".getBytes(StandardCharsets.UTF_8));
+
+        // Calls the method
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> Cursor.decode(null), "Expected exception not thrown"),
+            () -> assertThrows(IllegalArgumentException.class, () -> Cursor.decode("!"), "Expected exception not thrown"),
+            () -> assertThrows(IllegalArgumentException.class, () -> Cursor.decode("b3duZXI"), "Expected exception not thrown"),
+            () -> assertThrows(IllegalArgumentException.class, () -> Cursor.decode(unknownMarkerCursor), "Expected exception not thrown"),
+            () -> assertThrows(IllegalArgumentException.class, () -> Cursor.decode(invalidIdCursor), "Expected exception not thrown")
+        );
+    }
+
+}
@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.dto;
+
+import static fr.vulture.hostocars.TestHelper.validatePojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link InterventionFilter} class.
+ */
+@DisplayName("Intervention filter")
+class InterventionFilterTest {
+
+    /**
+     * Tests the {@link InterventionFilter} class.
+     */
+    @Test
+    @DisplayName("POJO validation")
+    final void testPojo() {
+        validatePojo(InterventionFilter.class);
+    }
+
+}
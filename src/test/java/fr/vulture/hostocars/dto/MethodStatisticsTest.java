@@ -0,0 +1,23 @@
+package fr.vulture.hostocars.dto;
+
+import static fr.vulture.hostocars.TestHelper.validatePojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link MethodStatistics} class.
+ */
+@DisplayName("Method statistics")
+class MethodStatisticsTest {
+
+    /**
+     * Tests the {@link MethodStatistics} class.
+     */
+    @Test
+    @DisplayName("POJO validation")
+    final void testPojo() {
+        validatePojo(MethodStatistics.class);
+    }
+
+}
@@ -14,7 +14,7 @@ import org.junit.jupiter.api.Test;
 @DisplayName("Car")
 class CarTest {
 
-    private static final String[] IDS = new String[] {"1", "2"};
+    private static final String[] UUIDS = new String[] {"ee2a1c77-0f8f-4f4e-9d2a-5b3c6f6b1e01", "ee2a1c77-0f8f-4f4e-9d2a-5b3c6f6b1e02"};
 
     /**
      * Creates a new instance of {@link Car} with the default values.
@@ -22,20 +22,20 @@ class CarTest {
      * @return a new instance of {@link Car}
      */
     private static Car createDefaultObject() {
-        return createTestObject(Integer.valueOf(IDS[0]));
+        return createTestObject(UUIDS[0]);
     }
 
     /**
      * Creates a new instance of {@link Car} with the given values.
      *
-     * @param id
-     *     The ID to set
+     * @param uuid
+     *     The UUID to set
      *
      * @return a new instance of {@link Car}
      */
-    private static Car createTestObject(final Integer id) {
+    private static Car createTestObject(final String uuid) {
         final Car testObject = new Car();
-        testObject.setId(id);
+        testObject.setUuid(uuid);
         return testObject;
     }
 
@@ -113,7 +113,8 @@ class CarTest {
         final Car x = createDefaultObject();
 
         // Calls the method and checks the results
-        assertAll("The equals method isn't consistent", () -> assertNotEquals(x, createTestObject(Integer.valueOf(IDS[1]))), () -> assertNotEquals(x, createTestObject(null)));
+        assertAll("The equals method isn't consistent", () -> assertNotEquals(x, createTestObject(UUIDS[1])), () -> assertNotEquals(x, createTestObject(null)),
+            () -> assertNotEquals(new Car(), new Car()));
     }
 
     /**
@@ -122,7 +123,16 @@ class CarTest {
     @Test
     @DisplayName("Hash code")
     final void testHashCode() {
-        assertEquals(0, createDefaultObject().hashCode(), "Value different from expected");
+        // Prepares the inputs
+        final Car x = new Car();
+        final int hashCode = x.hashCode();
+        x.setId(1);
+
+        // Calls the method and checks the results
+        assertAll("The hash code isn't stable and specific to each instance",
+            () -> assertEquals(hashCode, x.hashCode(), "Hash code changed by the ID"),
+            () -> assertNotEquals(hashCode, new Car().hashCode(), "Hash code of another new instance unexpectedly the same"),
+            () -> assertEquals(createDefaultObject().hashCode(), createDefaultObject().hashCode(), "Hash codes of equal instances different"));
     }
 
 }
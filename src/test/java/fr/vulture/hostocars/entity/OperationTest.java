@@ -14,7 +14,7 @@ import org.junit.jupiter.api.Test;
 @DisplayName("Operation")
 class OperationTest {
 
-    private static final String[] IDS = new String[] {"1", "2"};
+    private static final String[] UUIDS = new String[] {"ee2a1c77-0f8f-4f4e-9d2a-5b3c6f6b1e01", "ee2a1c77-0f8f-4f4e-9d2a-5b3c6f6b1e02"};
 
     /**
      * Creates a new instance of {@link Operation} with the default values.
@@ -22,20 +22,20 @@ class OperationTest {
      * @return a new instance of {@link Operation}
      */
     private static Operation createDefaultObject() {
-        return createTestObject(Integer.valueOf(IDS[0]));
+        return createTestObject(UUIDS[0]);
     }
 
     /**
      * Creates a new instance of {@link Operation} with the given values.
      *
-     * @param id
-     *     The ID to set
+     * @param uuid
+     *     The UUID to set
      *
      * @return a new instance of {@link Operation}
      */
-    private static Operation createTestObject(final Integer id) {
+    private static Operation createTestObject(final String uuid) {
         final Operation testObject = new Operation();
-        testObject.setId(id);
+        testObject.setUuid(uuid);
         return testObject;
     }
 
@@ -113,7 +113,8 @@ class OperationTest {
         final Operation x = createDefaultObject();
 
         // Calls the method and checks the results
-        assertAll("The equals method isn't consistent", () -> assertNotEquals(x, createTestObject(Integer.valueOf(IDS[1]))), () -> assertNotEquals(x, createTestObject(null)));
+        assertAll("The equals method isn't consistent", () -> assertNotEquals(x, createTestObject(UUIDS[1])), () -> assertNotEquals(x, createTestObject(null)),
+            () -> assertNotEquals(new Operation(), new Operation()));
     }
 
     /**
@@ -122,7 +123,16 @@ class OperationTest {
     @Test
     @DisplayName("Hash code")
     final void testHashCode() {
-        assertEquals(0, createDefaultObject().hashCode(), "Value different from expected");
+        // Prepares the inputs
+        final Operation x = new Operation();
+        final int hashCode = x.hashCode();
+        x.setId(1);
+
+        // Calls the method and checks the results
+        assertAll("The hash code isn't stable and specific to each instance",
+            () -> assertEquals(hashCode, x.hashCode(), "Hash code changed by the ID"),
+            () -> assertNotEquals(hashCode, new Operation().hashCode(), "Hash code of another new instance unexpectedly the same"),
+            () -> assertEquals(createDefaultObject().hashCode(), createDefaultObject().hashCode(), "Hash codes of equal instances different"));
     }
 
 }
@@ -0,0 +1,167 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.dto.BillingReport;
+import fr.vulture.hostocars.dto.BillingSummary;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Test class for the {@link BillingSummaryRepository} class, run against a SQLite database migrated by Liquibase, whose triggers maintain the billing
+ * summaries.
+ */
+@DisplayName("Billing summary repository")
+@Import(BillingSummaryRepository.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE"
+})
+class BillingSummaryRepositoryTest {
+
+    private static final String DONE = "DONE";
+    private static final String ESTIMATE = "ESTIMATE";
+
+    @Autowired
+    private BillingSummaryRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Initialization method called before all tests, inserting a car with interventions of two months and statuses, and one without creation date.
+     */
+    @BeforeEach
+    void initialize() {
+        this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", 1, "registration", "owner");
+        this.insertIntervention(1, 2020, "2020-03-02", DONE, 100.1, 100.1);
+        this.insertIntervention(2, 2020, "2020-03-15", DONE, 50.2, 20.0);
+        this.insertIntervention(3, 2020, "2020-04-01", ESTIMATE, 10.0, null);
+        this.insertIntervention(4, 2019, null, DONE, null, null);
+    }
+
+    /**
+     * Tests the {@link BillingSummaryRepository#findAll} method, with the summaries maintained on insertion.
+     */
+    @Test
+    @DisplayName("Find all")
+    void testFindAll() {
+        assertAll(
+            () -> assertEquals(List.of(new BillingSummary(2019, null, DONE, 1L, 0.0, 0.0), new BillingSummary(2020, 3, DONE, 2L, 150.3, 120.1),
+                new BillingSummary(2020, 4, ESTIMATE, 1L, 10.0, 0.0)), this.repository.findAll(null), "Summaries different from expected"),
+            () -> assertEquals(List.of(new BillingSummary(2019, null, DONE, 1L, 0.0, 0.0)), this.repository.findAll(2019),
+                "Summaries of the year different from expected"),
+            () -> assertTrue(this.repository.findAll(2021).isEmpty(), "Summaries of a missing year unexpectedly not empty")
+        );
+    }
+
+    /**
+     * Tests the maintenance of the summaries on update and deletion of the interventions.
+     */
+    @Test
+    @DisplayName("Maintenance on update and deletion")
+    void testMaintenance() {
+        // Updates and deletes interventions
+        this.execute("UPDATE interventions SET status = ?1, paidAmount = ?2 WHERE id = ?3", DONE, 10.0, 3);
+        this.execute("UPDATE interventions SET amount = ?1 WHERE id = ?2", 60.2, 2);
+        this.execute("UPDATE interventions SET description = ?1 WHERE id = ?2", "description", 1);
+        this.execute("DELETE FROM interventions WHERE id = ?1", 4);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(new BillingSummary(2020, 3, DONE, 2L, 160.3, 120.1), new BillingSummary(2020, 4, DONE, 1L, 10.0, 10.0)),
+                this.repository.findAll(null), "Summaries different from expected"),
+            () -> assertEquals(this.repository.recompute(), this.repository.findAll(null), "Summaries different from the recompute")
+        );
+    }
+
+    /**
+     * Tests the {@link BillingSummaryRepository#rebuild} method.
+     */
+    @Test
+    @DisplayName("Rebuild")
+    void testRebuild() {
+        // Calls the method on consistent summaries
+        final BillingReport consistentReport = this.repository.rebuild();
+
+        // Corrupts the summaries, then calls the method
+        this.execute("UPDATE billingSummaries SET amount = amount + 1 WHERE status = ?1", ESTIMATE);
+        this.execute("DELETE FROM billingSummaries WHERE year = ?1", 2019);
+        this.execute("INSERT INTO billingSummaries (year, month, status, count, amount, paidAmount) VALUES (?1, ?2, ?3, 1, 0, 0)", 2018, 1, DONE);
+        final BillingReport report = this.repository.rebuild();
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(3, consistentReport.getSummaryCount(), "Summary count different from expected"),
+            () -> assertTrue(consistentReport.getMismatches().isEmpty(), "Mismatches unexpectedly not empty"),
+            () -> assertEquals(3, report.getSummaryCount(), "Summary count different from expected"),
+            () -> assertEquals(3, report.getMismatches().size(), "Mismatch count different from expected"),
+            () -> assertEquals(10.01, report.getMismatches().get(1).getActual().getAmount(), "Corrupted amount different from expected"),
+            () -> assertNull(report.getMismatches().get(0).getActual(), "Deleted summary unexpectedly not null"),
+            () -> assertNull(report.getMismatches().get(2).getExpected(), "Inserted summary unexpectedly not null"),
+            () -> assertEquals(this.repository.recompute(), this.repository.findAll(null), "Summaries different from the recompute")
+        );
+    }
+
+    /**
+     * Inserts an intervention of the car.
+     *
+     * @param id
+     *     The ID of the intervention
+     * @param year
+     *     The year of the intervention
+     * @param creationDate
+     *     The creation date of the intervention
+     * @param status
+     *     The status of the intervention
+     * @param amount
+     *     The amount of the intervention
+     * @param paidAmount
+     *     The paid amount of the intervention
+     */
+    private void insertIntervention(final int id, final int year, final String creationDate, final String status, final Double amount,
+        final Double paidAmount) {
+        this.entityManager.createNativeQuery("INSERT INTO interventions (id, carId, year, creationDate, status, amount, paidAmount) "
+            + "VALUES (:id, 1, :year, :creationDate, :status, :amount, :paidAmount)")
+            .setParameter("id", id)
+            .setParameter("year", year)
+            .setParameter("creationDate", creationDate)
+            .setParameter("status", status)
+            .setParameter("amount", amount)
+            .setParameter("paidAmount", paidAmount)
+            .executeUpdate();
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+}
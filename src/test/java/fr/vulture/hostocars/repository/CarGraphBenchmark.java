@@ -0,0 +1,125 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import fr.vulture.hostocars.entity.Car;
+import java.util.Arrays;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Benchmark of the hydration of a {@link Car} with all its operation lines through {@link CarRepository#findById(Integer, CarGraph)}, either held by a single
+ * operation or spread over many small ones, on a SQLite database migrated by Liquibase.
+ * <br/>
+ * <br/>
+ * Its name does not match the default test patterns, so it is only run on demand: {@code mvn test -Dtest=CarGraphBenchmark}.
+ */
+@Slf4j
+@DisplayName("Car graph benchmark")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/car-graph-benchmark.db",
+    "blobs.path=./target/car-graph-benchmark-blobs",
+    "logging.file.name=./target/car-graph-benchmark.log"
+})
+class CarGraphBenchmark {
+
+    private static final int CAR_ID = 1;
+    private static final int LINE_COUNT = 10_000;
+    private static final int WARMUP_COUNT = 5;
+    private static final int MEASURE_COUNT = 20;
+
+    @Autowired
+    private CarRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Measures the durations of the hydration of a car whose lines are spread over the given number of operations, each load starting from an empty
+     * persistence context.
+     *
+     * @param operationCount
+     *     The number of operations of the car
+     */
+    @ParameterizedTest
+    @CsvSource({"1", "100"})
+    @DisplayName("Find by ID with lines")
+    void benchmark(final int operationCount) {
+        this.populate(operationCount);
+
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            this.load();
+        }
+
+        final long[] durations = new long[MEASURE_COUNT];
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            final long start = System.nanoTime();
+            final int lineCount = this.load();
+            durations[i] = System.nanoTime() - start;
+            assertEquals(LINE_COUNT, lineCount, "Number of lines different from expected");
+        }
+
+        Arrays.sort(durations);
+        log.info("{} lines over {} operations: median {} ms, max {} ms", LINE_COUNT, operationCount, durations[MEASURE_COUNT / 2] / 1_000_000,
+            durations[MEASURE_COUNT - 1] / 1_000_000);
+    }
+
+    /**
+     * Inserts the benchmarked car with a single intervention, holding its lines evenly spread over the given number of operations.
+     *
+     * @param operationCount
+     *     The number of operations of the car
+     */
+    private void populate(final int operationCount) {
+        this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", CAR_ID, "registration", "owner");
+        this.execute("INSERT INTO interventions (id, carId, status) VALUES (?1, ?2, ?3)", 1, CAR_ID, "status");
+        for (int operationId = 1; operationId <= operationCount; operationId++) {
+            this.execute("INSERT INTO operations (id, interventionId, label) VALUES (?1, ?2, ?3)", operationId, 1, "label " + operationId);
+            this.execute("WITH RECURSIVE lines (i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM lines WHERE i < ?1) "
+                + "INSERT INTO operationLines (operationId, type, description, done) SELECT ?2, 'type', 'description ' || i, 0 FROM lines",
+                LINE_COUNT / operationCount, operationId);
+        }
+
+        this.entityManager.flush();
+    }
+
+    /**
+     * Hydrates the benchmarked car with all its lines from an empty persistence context.
+     *
+     * @return the number of hydrated lines
+     */
+    private int load() {
+        this.entityManager.clear();
+        final Car car = this.repository.findById(CAR_ID, CarGraph.LINES).orElseThrow();
+        return car.getInterventions().stream()
+            .flatMap(intervention -> intervention.getOperations().stream())
+            .mapToInt(operation -> operation.getOperationLines().size())
+            .sum();
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+}
@@ -0,0 +1,42 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link CarGraph} enum.
+ */
+@DisplayName("Car graph")
+class CarGraphTest {
+
+    /**
+     * Tests the {@link CarGraph#fromValue} method.
+     */
+    @Test
+    @DisplayName("From value")
+    void testFromValue() {
+        assertAll(
+            () -> assertEquals(CarGraph.NONE, CarGraph.fromValue("none"), "Result different from expected"),
+            () -> assertEquals(CarGraph.INTERVENTIONS, CarGraph.fromValue("interventions"), "Result different from expected"),
+            () -> assertEquals(CarGraph.OPERATIONS, CarGraph.fromValue("operations"), "Result different from expected"),
+            () -> assertEquals(CarGraph.LINES, CarGraph.fromValue("lines"), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarGraph#fromValue} method in error.
+     */
+    @Test
+    @DisplayName("From value (error case)")
+    void testFromValueInError() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> CarGraph.fromValue(null), "Expected exception not thrown"),
+            () -> assertThrows(IllegalArgumentException.class, () -> CarGraph.fromValue("LINES"), "Expected exception not thrown")
+        );
+    }
+
+}
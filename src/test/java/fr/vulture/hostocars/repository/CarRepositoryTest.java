@@ -0,0 +1,470 @@
+package fr.vulture.hostocars.repository;
+
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.dto.Cursor;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Operation;
+import fr.vulture.hostocars.entity.OperationLine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Test class for the {@link CarRepository} interface, run against a SQLite database migrated by Liquibase.
+ * <br/>
+ * <br/>
+ * The number of statements of each fetching depth is checked, so the associations never fall back to one statement per entity.
+ */
+@DisplayName("Car repository")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE"
+})
+class CarRepositoryTest {
+
+    private static final int CAR_COUNT = 3;
+    private static final int CHILD_COUNT = 2;
+    private static final int NEW_LINE_COUNT = 1000;
+
+    @Autowired
+    private CarRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private PersistenceUnitUtil persistenceUnitUtil;
+
+    /**
+     * Initialization method called before all tests, inserting cars with interventions, operations and operation lines.
+     */
+    @BeforeEach
+    void initialize() {
+        this.statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        this.persistenceUnitUtil = this.entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+
+        int interventionId = 0;
+        int operationId = 0;
+        for (int carId = 1; carId <= CAR_COUNT; carId++) {
+            this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", carId, "registration" + carId, "owner" + carId);
+
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                this.execute("INSERT INTO interventions (id, carId, status) VALUES (?1, ?2, ?3)", ++interventionId, carId, "status");
+
+                for (int j = 0; j < CHILD_COUNT; j++) {
+                    this.execute("INSERT INTO operations (id, interventionId, label) VALUES (?1, ?2, ?3)", ++operationId, interventionId, "label");
+
+                    for (int k = 0; k < CHILD_COUNT; k++) {
+                        this.execute("INSERT INTO operationLines (operationId, type, description, done) VALUES (?1, ?2, ?3, 0)", operationId, "type", "description");
+                    }
+                }
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics.clear();
+    }
+
+    /**
+     * Tests the {@link CarRepository#findById(Integer, CarGraph)} method for each depth.
+     */
+    @Test
+    @DisplayName("Find by ID")
+    void testFindById() {
+        for (final CarGraph graph : CarGraph.values()) {
+            // Calls the method
+            final Optional<Car> result = this.repository.findById(1, graph);
+
+            // Checks the result
+            assertTrue(result.isPresent(), "Result unexpectedly empty");
+            this.checkFetchedGraph(graph, 1, result.get());
+            this.entityManager.clear();
+            this.statistics.clear();
+        }
+    }
+
+    /**
+     * Tests the {@link CarRepository#findAll(Sort, CarGraph)} method for each depth.
+     */
+    @Test
+    @DisplayName("Find all")
+    void testFindAll() {
+        for (final CarGraph graph : CarGraph.values()) {
+            // Calls the method
+            final List<Car> result = this.repository.findAll(Sort.by(Sort.Direction.DESC, "owner"), graph);
+
+            // Checks the result
+            assertEquals(List.of(3, 2, 1), result.stream().map(Car::getId).collect(Collectors.toList()), "Result different from expected");
+            this.checkFetchedGraph(graph, 1, result.toArray(new Car[0]));
+            this.entityManager.clear();
+            this.statistics.clear();
+        }
+    }
+
+    /**
+     * Tests the {@link CarRepository#findPage} method for each depth.
+     */
+    @Test
+    @DisplayName("Find page")
+    void testFindPage() {
+        for (final CarGraph graph : CarGraph.values()) {
+            // Calls the method
+            final List<Car> result = this.repository.findPage("owner", new Cursor("owner", "owner1", 1), 1, graph);
+
+            // Checks the result
+            assertEquals(List.of(2), result.stream().map(Car::getId).collect(Collectors.toList()), "Result different from expected");
+            this.checkFetchedGraph(graph, graph == CarGraph.NONE ? 1 : 2, result.toArray(new Car[0]));
+            this.entityManager.clear();
+            this.statistics.clear();
+        }
+    }
+
+    /**
+     * Tests the {@link CarRepository#saveAllInBatches} method, a failing car being inserted again row by row with the rest of its batch.
+     */
+    @Test
+    @DisplayName("Save all in batches")
+    void testSaveAllInBatches() {
+        // Prepares the inputs
+        final List<Car> cars = List.of(createCar("bulk1", "owner"), createCar("bulk2", null), createCar("bulk3", "owner"));
+
+        // Calls the method
+        final List<BulkResult> result = this.repository.saveAllInBatches(cars, 2);
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(List.of(new BulkResult(0, CAR_COUNT + 1, true, null), new BulkResult(2, CAR_COUNT + 3, true, null)),
+                List.of(result.get(0), result.get(2)), "Inserted results different from expected"),
+            () -> assertEquals(1, result.get(1).getIndex(), "Failing index different from expected"),
+            () -> assertNull(result.get(1).getId(), "Failing ID unexpectedly present"),
+            () -> assertNotNull(result.get(1).getError(), "Failing error unexpectedly empty"),
+            () -> assertEquals(CAR_COUNT + 1, cars.get(0).getId(), "Car ID different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM searchIndex WHERE rowid = " + (CAR_COUNT + 3) * 2), "Indexed car count different from expected"),
+            () -> assertEquals(CAR_COUNT + 2L, this.count("SELECT COUNT(*) FROM searchIndex WHERE rowid % 2 = 0"), "Search index size different from expected"),
+            () -> assertEquals(0L, this.count("SELECT COUNT(*) FROM bulkImports"), "Reserved ranges unexpectedly remaining")
+        );
+    }
+
+    /**
+     * Tests the {@link CarRepository#saveAllByRegistration} method, updating an existing car and inserting a new one.
+     */
+    @Test
+    @DisplayName("Save all by registration")
+    void testSaveAllByRegistration() {
+        // Prepares the inputs
+        final List<Car> cars = List.of(createCar("registration2", "new owner"), createCar("upserted", "owner"), createCar("registration3", null));
+
+        // Calls the method
+        final List<BulkResult> result = this.repository.saveAllByRegistration(cars, 2);
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(List.of(new BulkResult(0, 2, false, null), new BulkResult(1, CAR_COUNT + 2, true, null)), result.subList(0, 2),
+                "Written results different from expected"),
+            () -> assertNotNull(result.get(2).getError(), "Failing error unexpectedly empty"),
+            () -> assertEquals(2, cars.get(0).getId(), "Updated car ID different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM cars WHERE id = 2 AND owner = 'new owner'"), "Updated car count different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM searchIndex WHERE searchIndex MATCH 'owner:\"new owner\"' AND rowid = 4"),
+                "Updated indexed car count different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM searchIndex WHERE rowid = " + (CAR_COUNT + 2) * 2), "Inserted indexed car count different from expected"),
+            () -> assertEquals(CAR_COUNT + 1L, this.count("SELECT COUNT(*) FROM searchIndex WHERE rowid % 2 = 0"), "Search index size different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarRepository#saveAllByRegistration} method with a registration repeated in the list, only its first car being created.
+     */
+    @Test
+    @DisplayName("Save all by registration (repeated registration)")
+    void testSaveAllByRegistrationWithRepeatedRegistration() {
+        // Prepares the inputs
+        final List<Car> cars = List.of(createCar("repeated", "first owner"), createCar("repeated", "second owner"), createCar("registration1", "owner"));
+
+        // Calls the method
+        final List<BulkResult> result = this.repository.saveAllByRegistration(cars, 2);
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(List.of(new BulkResult(0, CAR_COUNT + 1, true, null), new BulkResult(1, CAR_COUNT + 1, false, null),
+                new BulkResult(2, 1, false, null)), result, "Results different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM cars WHERE registration = 'repeated' AND owner = 'second owner'"),
+                "Upserted car count different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarRepository#updateById} method, compared to the merge of a whole car.
+     */
+    @Test
+    @DisplayName("Update by ID")
+    void testUpdateById() {
+        // Merges a whole car, along with its interventions
+        final Car car = createCar("registration1", "owner1");
+        car.setId(1);
+        car.setComments("merged comments");
+        this.repository.findById(1).ifPresent(existingCar -> car.setInterventions(existingCar.getInterventions()));
+        this.repository.save(car);
+        this.entityManager.flush();
+        this.entityManager.clear();
+        final long mergeStatementCount = this.statistics.getPrepareStatementCount();
+        this.statistics.clear();
+
+        // Prepares the inputs
+        final Map<String, Object> changes = new HashMap<>();
+        changes.put("comments", "patched comments");
+        changes.put("serialNumber", null);
+
+        // Calls the method
+        final int result = this.repository.updateById(1, changes);
+        final long updateStatementCount = this.statistics.getPrepareStatementCount();
+        final int missingResult = this.repository.updateById(CAR_COUNT + 1, Map.of("comments", "comments"));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(1, result, "Result different from expected"),
+            () -> assertEquals(0, missingResult, "Missing car result different from expected"),
+            () -> assertEquals(1L, updateStatementCount, "Number of statements different from expected"),
+            () -> assertTrue(mergeStatementCount > updateStatementCount, "Number of merge statements unexpectedly not greater"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM cars WHERE id = 1 AND comments = 'patched comments' AND owner = 'owner1'"),
+                "Updated car count different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM searchIndex WHERE searchIndex MATCH 'comments:patched' AND rowid = 2"),
+                "Updated indexed car count different from expected"),
+            () -> assertEquals(CHILD_COUNT, this.count("SELECT COUNT(*) FROM interventions WHERE carId = 1"), "Number of interventions different from expected"),
+            () -> assertThrows(InvalidDataAccessApiUsageException.class, () -> this.repository.updateById(1, Map.of()),
+                "Expected exception not thrown")
+        );
+    }
+
+    /**
+     * Tests the persistence of many new operation lines added to the set of an operation, which must still find them once their IDs are generated.
+     */
+    @Test
+    @DisplayName("Save new operation lines")
+    void testSaveNewOperationLines() {
+        // Prepares the inputs
+        final Operation operation = this.repository.findById(1, CarGraph.LINES)
+            .flatMap(car -> car.getInterventions().stream().findFirst())
+            .flatMap(intervention -> intervention.getOperations().stream().findFirst())
+            .orElseThrow();
+        final List<OperationLine> lines = new ArrayList<>(NEW_LINE_COUNT);
+        for (int i = 0; i < NEW_LINE_COUNT; i++) {
+            final OperationLine line = new OperationLine();
+            line.setType("type");
+            line.setDescription("new description " + i);
+            line.setDone(false);
+            line.setOperation(operation);
+            lines.add(line);
+            operation.getOperationLines().add(line);
+        }
+
+        final int hashCode = lines.get(0).hashCode();
+
+        // Persists the lines
+        this.entityManager.flush();
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(CHILD_COUNT + NEW_LINE_COUNT, operation.getOperationLines().size(), "Number of lines different from expected"),
+            () -> assertTrue(lines.stream().allMatch(line -> nonNull(line.getId())), "Line IDs unexpectedly not all generated"),
+            () -> assertEquals(hashCode, lines.get(0).hashCode(), "Hash code changed by the persistence"),
+            () -> assertTrue(operation.getOperationLines().containsAll(lines), "Persisted lines unexpectedly not found"),
+            () -> assertEquals(NEW_LINE_COUNT, this.count("SELECT COUNT(*) FROM operationLines WHERE description LIKE 'new description %'"),
+                "Number of inserted lines different from expected"),
+            () -> assertTrue(operation.getOperationLines().remove(lines.get(0)), "Persisted line unexpectedly not removed")
+        );
+    }
+
+    /**
+     * Tests that a {@link Car} found again in a new persistence context is equal to the previous instance, as well as its associations, their keys being
+     * persisted.
+     */
+    @Test
+    @DisplayName("Find by ID (persisted keys)")
+    void testFindByIdWithPersistedKeys() {
+        // Prepares the inputs
+        final Car car = this.repository.findById(1, CarGraph.LINES).orElseThrow();
+        this.entityManager.clear();
+
+        // Calls the method
+        final Car result = this.repository.findById(1, CarGraph.LINES).orElseThrow();
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(car, result, "Result different from expected"),
+            () -> assertEquals(car.getInterventions(), result.getInterventions(), "Interventions different from expected"),
+            () -> assertEquals(getOperationLines(car), getOperationLines(result), "Operation lines different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarRepository#findSuggestionById} method.
+     */
+    @Test
+    @DisplayName("Find suggestion by ID")
+    void testFindSuggestionById() {
+        assertAll(
+            () -> assertEquals(Optional.of(new CarSuggestion(2, "registration2", null)), this.repository.findSuggestionById(2), "Result different from expected"),
+            () -> assertEquals(Optional.empty(), this.repository.findSuggestionById(CAR_COUNT + 1), "Result unexpectedly not empty")
+        );
+    }
+
+    /**
+     * Tests the {@link CarRepository#deleteAllByIdIn} method, the statements being the same whatever the number of cars.
+     */
+    @Test
+    @DisplayName("Delete all by ID in")
+    void testDeleteAllByIdIn() {
+        // Calls the method
+        final int result = this.repository.deleteAllByIdIn(List.of(1, 3, CAR_COUNT + 1));
+        final long statementCount = this.statistics.getPrepareStatementCount();
+        final int emptyResult = this.repository.deleteAllByIdIn(List.of());
+
+        // Checks the results
+        final int childCount = CHILD_COUNT * (1 + CHILD_COUNT * (1 + CHILD_COUNT));
+        assertAll(
+            () -> assertEquals(2, result, "Result different from expected"),
+            () -> assertEquals(0, emptyResult, "Empty result different from expected"),
+            () -> assertEquals(4L, statementCount, "Number of statements different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM cars WHERE id = 2"), "Remaining car count different from expected"),
+            () -> assertEquals(childCount, this.count("SELECT (SELECT COUNT(*) FROM interventions) + (SELECT COUNT(*) FROM operations) "
+                + "+ (SELECT COUNT(*) FROM operationLines)"), "Remaining children count different from expected"),
+            () -> assertEquals(CHILD_COUNT, this.count("SELECT COUNT(*) FROM interventions WHERE carId = 2"), "Remaining interventions count different from expected"),
+            () -> assertEquals(1L + CHILD_COUNT, this.count("SELECT COUNT(*) FROM searchIndex"), "Search index size different from expected")
+        );
+    }
+
+    /**
+     * Creates a car to insert.
+     *
+     * @param registration
+     *     The registration of the car
+     * @param owner
+     *     The owner of the car
+     *
+     * @return the car
+     */
+    private static Car createCar(final String registration, final String owner) {
+        final Car car = new Car();
+        car.setRegistration(registration);
+        car.setOwner(owner);
+        return car;
+    }
+
+    /**
+     * Gathers the operation lines of a car.
+     *
+     * @param car
+     *     The car
+     *
+     * @return the set of operation lines
+     */
+    private static Set<OperationLine> getOperationLines(final Car car) {
+        return car.getInterventions().stream()
+            .flatMap(intervention -> intervention.getOperations().stream())
+            .flatMap(operation -> operation.getOperationLines().stream())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Executes a native counting query.
+     *
+     * @param query
+     *     The SQL query
+     *
+     * @return the count
+     */
+    private long count(final String query) {
+        return ((Number) this.entityManager.createNativeQuery(query).getSingleResult()).longValue();
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+    /**
+     * Checks the number of executed statements and that the associations of the given cars are fetched exactly up to the given depth.
+     *
+     * @param graph
+     *     The expected depth
+     * @param statementCount
+     *     The expected number of executed statements
+     * @param cars
+     *     The fetched cars
+     */
+    private void checkFetchedGraph(final CarGraph graph, final long statementCount, final Car... cars) {
+        assertEquals(statementCount, this.statistics.getPrepareStatementCount(), "Number of statements different from expected for the depth " + graph.getValue());
+
+        for (final Car car : cars) {
+            assertEquals(graph.compareTo(CarGraph.INTERVENTIONS) >= 0, this.persistenceUnitUtil.isLoaded(car, "interventions"), "Interventions fetching different from expected");
+            if (graph == CarGraph.NONE) {
+                continue;
+            }
+
+            final Collection<?> interventions = (Collection<?>) ReflectionTestUtils.getField(car, "interventions");
+            assertEquals(CHILD_COUNT, interventions.size(), "Number of interventions different from expected");
+            for (final Object intervention : interventions) {
+                assertEquals(graph.compareTo(CarGraph.OPERATIONS) >= 0, this.persistenceUnitUtil.isLoaded(intervention, "operations"), "Operations fetching different from expected");
+                if (graph == CarGraph.INTERVENTIONS) {
+                    continue;
+                }
+
+                final Collection<?> operations = (Collection<?>) ReflectionTestUtils.getField(intervention, "operations");
+                assertEquals(CHILD_COUNT, operations.size(), "Number of operations different from expected");
+                for (final Object operation : operations) {
+                    assertEquals(graph == CarGraph.LINES, this.persistenceUnitUtil.isLoaded(operation, "operationLines"), "Operation lines fetching different from expected");
+                }
+            }
+        }
+
+        // No statement is executed while the fetched associations are browsed
+        assertEquals(statementCount, this.statistics.getPrepareStatementCount(), "Number of statements different from expected for the depth " + graph.getValue());
+    }
+
+}
@@ -0,0 +1,160 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import fr.vulture.hostocars.dto.CarSummary;
+import fr.vulture.hostocars.entity.Car;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Benchmark of the heap allocated and of the latency of the listing of all the cars, either as {@link CarSummary} or as {@link Car} with all their operation
+ * lines, on cars with files and interventions in a SQLite database migrated by Liquibase.
+ * <br/>
+ * <br/>
+ * The allocated heap is measured on the calling thread, so it does not depend on the collections of the garbage collector.
+ * <br/>
+ * <br/>
+ * Its name does not match the default test patterns, so it is only run on demand: {@code mvn test -Dtest=CarSummaryBenchmark}.
+ */
+@Slf4j
+@DisplayName("Car summary benchmark")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/car-summary-benchmark.db",
+    "blobs.path=./target/car-summary-benchmark-blobs",
+    "logging.file.name=./target/car-summary-benchmark.log"
+})
+class CarSummaryBenchmark {
+
+    private static final int CAR_COUNT = 5_000;
+    private static final int CHILD_COUNT = 2;
+    private static final int LINE_COUNT = 5;
+    private static final int WARMUP_COUNT = 5;
+    private static final int MEASURE_COUNT = 20;
+
+    @Autowired
+    private CarRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Measures the allocated heap and the duration of a listing of all the cars, each one starting from an empty persistence context.
+     *
+     * @param listing
+     *     The {@link Listing} to measure
+     */
+    @ParameterizedTest
+    @EnumSource(Listing.class)
+    @DisplayName("Find all")
+    void benchmark(final Listing listing) {
+        this.populate();
+
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            this.list(listing);
+        }
+
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final long[] durations = new long[MEASURE_COUNT];
+        final long[] allocations = new long[MEASURE_COUNT];
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            final long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
+            final long start = System.nanoTime();
+            final int carCount = this.list(listing);
+            durations[i] = System.nanoTime() - start;
+            allocations[i] = threadBean.getThreadAllocatedBytes(threadId) - allocatedBytes;
+            assertEquals(CAR_COUNT, carCount, "Number of cars different from expected");
+        }
+
+        Arrays.sort(durations);
+        Arrays.sort(allocations);
+        log.info("{} cars as {}: median {} ms, max {} ms, median {} MB allocated", CAR_COUNT, listing.name().toLowerCase(),
+            durations[MEASURE_COUNT / 2] / 1_000_000, durations[MEASURE_COUNT - 1] / 1_000_000, allocations[MEASURE_COUNT / 2] / (1 << 20));
+    }
+
+    /**
+     * Inserts the benchmarked cars with their file hashes, each one with {@value #CHILD_COUNT} interventions of {@value #CHILD_COUNT} operations of
+     * {@value #LINE_COUNT} lines.
+     */
+    private void populate() {
+        this.execute("WITH RECURSIVE ids (i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM ids WHERE i < ?1) "
+            + "INSERT INTO cars (id, registration, owner, brand, model, comments, certificateHash, pictureHash) "
+            + "SELECT i, 'registration ' || i, 'owner ' || i, 'brand', 'model', 'comments of the car ' || i, lower(hex(randomblob(32))), "
+            + "lower(hex(randomblob(32))) FROM ids", CAR_COUNT);
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            this.execute("INSERT INTO interventions (carId, status, description) SELECT id, 'status', 'description' FROM cars");
+        }
+
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            this.execute("INSERT INTO operations (interventionId, label) SELECT id, 'label' FROM interventions");
+        }
+
+        for (int i = 0; i < LINE_COUNT; i++) {
+            this.execute("INSERT INTO operationLines (operationId, type, description, done) SELECT id, 'type', 'description', 0 FROM operations");
+        }
+
+        this.entityManager.flush();
+    }
+
+    /**
+     * Lists all the cars from an empty persistence context.
+     *
+     * @param listing
+     *     The {@link Listing} to run
+     *
+     * @return the number of listed cars
+     */
+    private int list(final Listing listing) {
+        this.entityManager.clear();
+        return listing == Listing.SUMMARIES
+            ? this.repository.findAllSummaries(Sort.unsorted()).size()
+            : this.repository.findAll(Sort.unsorted(), CarGraph.LINES).size();
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+    /**
+     * Listing of the cars.
+     */
+    enum Listing {
+
+        /**
+         * The {@link CarSummary} projections, without the file hashes nor the interventions.
+         */
+        SUMMARIES,
+
+        /**
+         * The {@link Car} entities with all their interventions, operations and lines.
+         */
+        LINES
+
+    }
+
+}
@@ -0,0 +1,196 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.entity.Operation;
+import fr.vulture.hostocars.entity.OperationLine;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Test class for the {@link DumpRepository} class, run against a SQLite database migrated by Liquibase.
+ */
+@DisplayName("Dump repository")
+@Import(DumpRepository.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE"
+})
+class DumpRepositoryTest {
+
+    private static final int CAR_COUNT = 2;
+
+    @Autowired
+    private DumpRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Initialization method called before all tests, inserting cars with an intervention, an operation and an operation line each.
+     */
+    @BeforeEach
+    void initialize() {
+        for (int id = 1; id <= CAR_COUNT; id++) {
+            this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", id, "registration" + id, "owner" + id);
+            this.execute("INSERT INTO interventions (id, carId, status) VALUES (?1, ?2, ?3)", id, id, "status");
+            this.execute("INSERT INTO operations (id, interventionId, label) VALUES (?1, ?2, ?3)", id, id, "label");
+            this.execute("INSERT INTO operationLines (id, operationId, type, description, done) VALUES (?1, ?2, ?3, ?4, 1)", id, id, "type", "description");
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    /**
+     * Tests the scrolling methods, each entity being read with the ID of its parent and detached once consumed.
+     */
+    @Test
+    @DisplayName("Scroll")
+    void testScroll() {
+        // Calls the methods
+        final List<String> records = new ArrayList<>();
+        final List<Boolean> managed = new ArrayList<>();
+        this.repository.scrollCars((car, id) -> records.add("car " + car.getId() + " " + car.getRegistration()));
+        this.repository.scrollInterventions((intervention, carId) -> {
+            records.add("intervention " + intervention.getId() + " of " + carId);
+            managed.add(this.entityManager.contains(intervention));
+        });
+        this.repository.scrollOperations((operation, interventionId) -> records.add("operation " + operation.getId() + " of " + interventionId));
+        this.repository.scrollOperationLines((line, operationId) -> records.add("line " + line.getId() + " of " + operationId + " " + line.getDone()));
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(List.of("car 1 registration1", "car 2 registration2", "intervention 1 of 1", "intervention 2 of 2", "operation 1 of 1",
+                "operation 2 of 2", "line 1 of 1 true", "line 2 of 2 true"), records, "Result different from expected"),
+            () -> assertEquals(List.of(true, true), managed, "Consumed entities unexpectedly detached"),
+            () -> assertFalse(this.entityManager.unwrap(org.hibernate.Session.class).getStatistics().getEntityCount() > 0,
+                "Entities unexpectedly remaining in the persistence context")
+        );
+    }
+
+    /**
+     * Tests the saving methods, the entities keeping their IDs and numbers, the sequence being raised to the imported numbers, and a child of an unknown
+     * parent being rejected.
+     */
+    @Test
+    @DisplayName("Save")
+    void testSave() {
+        // Prepares the inputs
+        final int year = Year.now(ZoneOffset.UTC).getValue();
+
+        final Car car = new Car();
+        car.setId(10);
+        car.setRegistration("imported");
+        car.setOwner("owner");
+        car.setPictureHash("hash");
+
+        final Intervention intervention = createIntervention(10, 10);
+        intervention.setYear(year);
+        intervention.setNumber(50);
+
+        final Operation operation = new Operation();
+        operation.setId(10);
+        operation.setLabel("label");
+        operation.setIntervention(intervention);
+
+        final OperationLine operationLine = new OperationLine();
+        operationLine.setId(10);
+        operationLine.setType("type");
+        operationLine.setDescription("description");
+        operationLine.setDone(false);
+        operationLine.setOperation(operation);
+
+        // Calls the methods
+        final List<BulkResult> carResult = this.repository.saveCars(List.of(car, car), 1);
+        final List<BulkResult> interventionResult = this.repository.saveInterventions(List.of(intervention, createIntervention(11, 99)), 1);
+        final List<BulkResult> operationResult = this.repository.saveOperations(List.of(operation), 1);
+        final List<BulkResult> operationLineResult = this.repository.saveOperationLines(List.of(operationLine), 1);
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(new BulkResult(0, 10, true, null), carResult.get(0), "Car result different from expected"),
+            () -> assertNull(carResult.get(1).getId(), "Duplicate car unexpectedly inserted"),
+            () -> assertEquals(List.of(new BulkResult(0, 10, true, null), new BulkResult(1, null, null, "Unknown car 99")), interventionResult,
+                "Intervention result different from expected"),
+            () -> assertEquals(List.of(new BulkResult(0, 10, true, null)), operationResult, "Operation result different from expected"),
+            () -> assertEquals(List.of(new BulkResult(0, 10, true, null)), operationLineResult, "Operation line result different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM cars WHERE id = 10 AND pictureHash = 'hash'"), "Imported car count different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM interventions WHERE id = 10 AND number = 50"), "Imported number different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM interventionsSequences WHERE year = " + year + " AND number = 50"),
+                "Raised sequence different from expected"),
+            () -> assertEquals(1L, this.count("SELECT COUNT(*) FROM searchIndex WHERE rowid = 20"), "Indexed car count different from expected")
+        );
+    }
+
+    /**
+     * Creates an intervention to insert.
+     *
+     * @param id
+     *     The ID of the intervention
+     * @param carId
+     *     The ID of its car
+     *
+     * @return the intervention
+     */
+    private static Intervention createIntervention(final int id, final int carId) {
+        final Car car = new Car();
+        car.setId(carId);
+
+        final Intervention intervention = new Intervention();
+        intervention.setId(id);
+        intervention.setStatus("status");
+        intervention.setCar(car);
+        return intervention;
+    }
+
+    /**
+     * Executes a native counting query.
+     *
+     * @param query
+     *     The SQL query
+     *
+     * @return the count
+     */
+    private long count(final String query) {
+        return ((Number) this.entityManager.createNativeQuery(query).getSingleResult()).longValue();
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+}
@@ -0,0 +1,221 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.dto.InterventionFilter;
+import fr.vulture.hostocars.entity.Intervention;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Test class for the {@link InterventionRepository} interface, run against a SQLite database migrated by Liquibase.
+ */
+@DisplayName("Intervention repository")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE"
+})
+class InterventionRepositoryTest {
+
+    private static final int CAR_ID = 1;
+    private static final int OPERATION_LINE_COUNT = 3;
+
+    @Autowired
+    private InterventionRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    /**
+     * Initialization method called before all tests, inserting a car with interventions, some of them without year nor number.
+     */
+    @BeforeEach
+    void initialize() {
+        this.statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", CAR_ID, "registration", "owner");
+        this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", CAR_ID + 1, "other registration", "owner");
+
+        // The year and number are set once all the interventions are inserted, to mix the insertion order
+        final int[][] interventions = {{1, 2020, 2}, {2, 2019, 5}, {3, 2020, 1}, {4, 0, 0}, {5, 2021, 1}};
+        for (final int[] intervention : interventions) {
+            this.execute("INSERT INTO interventions (id, carId, status) VALUES (?1, ?2, ?3)", intervention[0], CAR_ID, "status");
+            this.execute("INSERT INTO operations (id, interventionId, label) VALUES (?1, ?2, ?3)", intervention[0], intervention[0], "label");
+
+            for (int i = 0; i < OPERATION_LINE_COUNT; i++) {
+                this.execute("INSERT INTO operationLines (operationId, type, description, done) VALUES (?1, ?2, ?3, 0)", intervention[0], "type", "description");
+            }
+        }
+
+        for (final int[] intervention : interventions) {
+            this.execute("UPDATE interventions SET year = NULLIF(?1, 0), number = NULLIF(?2, 0) WHERE id = ?3", intervention[1], intervention[2], intervention[0]);
+        }
+
+        this.execute("INSERT INTO interventions (id, carId, status) VALUES (?1, ?2, ?3)", 6, CAR_ID + 1, "status");
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics.clear();
+    }
+
+    /**
+     * Tests the {@link InterventionRepository#findFirstPageIdsByCarId} and {@link InterventionRepository#findPageIdsByCarId} methods.
+     */
+    @Test
+    @DisplayName("Find page IDs by car ID")
+    void testFindPageIdsByCarId() {
+        // Calls the methods
+        final List<Integer> firstPage = this.repository.findFirstPageIdsByCarId(CAR_ID, PageRequest.of(0, 2));
+        final List<Integer> secondPage = this.repository.findPageIdsByCarId(CAR_ID, 2019, 5, 2, PageRequest.of(0, 2));
+        final List<Integer> lastPage = this.repository.findPageIdsByCarId(CAR_ID, 2020, 2, 1, PageRequest.of(0, 2));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(4, 2), firstPage, "First page different from expected"),
+            () -> assertEquals(List.of(3, 1), secondPage, "Second page different from expected"),
+            () -> assertEquals(List.of(5), lastPage, "Last page different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionRepository#findPageIds} method.
+     */
+    @Test
+    @DisplayName("Find page IDs")
+    void testFindPageIds() {
+        // Prepares the inputs
+        this.execute("UPDATE interventions SET status = ?1, creationDate = ?2 WHERE id IN (2, 5, 6)", "DONE", "2020-03-01");
+        this.execute("UPDATE interventions SET creationDate = ?1 WHERE id IN (1, 3)", "2020-01-15");
+
+        // Calls the method
+        final List<Integer> all = this.repository.findPageIds(new InterventionFilter(), null, 10);
+        final List<Integer> firstPage = this.repository.findPageIds(new InterventionFilter(), null, 3);
+        final List<Integer> secondPage = this.repository.findPageIds(new InterventionFilter(), new int[] {0, 0, 6}, 2);
+        final List<Integer> lastPage = this.repository.findPageIds(new InterventionFilter(), new int[] {2020, 1, 3}, 3);
+        final List<Integer> byYear = this.repository.findPageIds(new InterventionFilter(null, 2020, null, null, null), null, 10);
+        final List<Integer> byCar = this.repository.findPageIds(new InterventionFilter(null, null, CAR_ID + 1, null, null), null, 10);
+        final List<Integer> byStatus = this.repository.findPageIds(new InterventionFilter("DONE", null, null, null, null), new int[] {2019, 5, 2}, 10);
+        final List<Integer> byDates = this.repository.findPageIds(new InterventionFilter(null, null, CAR_ID, "2020-01-01", "2020-02-01"), null, 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(4, 6, 2, 3, 1, 5), all, "All IDs different from expected"),
+            () -> assertEquals(List.of(4, 6, 2), firstPage, "First page different from expected"),
+            () -> assertEquals(List.of(2, 3), secondPage, "Second page different from expected"),
+            () -> assertEquals(List.of(1, 5), lastPage, "Last page different from expected"),
+            () -> assertEquals(List.of(3, 1), byYear, "Year page different from expected"),
+            () -> assertEquals(List.of(6), byCar, "Car page different from expected"),
+            () -> assertEquals(List.of(5), byStatus, "Status page different from expected"),
+            () -> assertEquals(List.of(3, 1), byDates, "Dates page different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionRepository#findAllWithLinesByIdIn} method.
+     */
+    @Test
+    @DisplayName("Find all with lines by ID")
+    void testFindAllWithLinesByIdIn() {
+        // Calls the method
+        final List<Intervention> result = this.repository.findAllWithLinesByIdIn(List.of(1, 2, 3));
+
+        // Checks the result
+        final PersistenceUnitUtil persistenceUnitUtil = this.entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertEquals(List.of(2, 3, 1), result.stream().map(Intervention::getId).collect(Collectors.toList()), "Result different from expected");
+        for (final Intervention intervention : result) {
+            assertTrue(persistenceUnitUtil.isLoaded(intervention, "operations"), "Operations unexpectedly not fetched");
+            for (final Object operation : intervention.getOperations()) {
+                assertTrue(persistenceUnitUtil.isLoaded(operation, "operationLines"), "Operation lines unexpectedly not fetched");
+                assertEquals(OPERATION_LINE_COUNT, ((Collection<?>) ReflectionTestUtils.getField(operation, "operationLines")).size(),
+                    "Number of operation lines different from expected");
+            }
+        }
+
+        assertEquals(1, this.statistics.getPrepareStatementCount(), "Number of statements different from expected");
+    }
+
+    /**
+     * Tests the {@link InterventionRepository#updateById} method.
+     */
+    @Test
+    @DisplayName("Update by ID")
+    void testUpdateById() {
+        // Prepares the inputs
+        final Map<String, Object> changes = new HashMap<>();
+        changes.put("status", "DONE");
+        changes.put("amount", 120.5);
+        changes.put("description", null);
+
+        // Calls the method
+        final int result = this.repository.updateById(1, changes);
+        final long statementCount = this.statistics.getPrepareStatementCount();
+        final int missingResult = this.repository.updateById(7, Map.of("status", "DONE"));
+
+        // Checks the results
+        final Intervention intervention = this.repository.findById(1).orElseThrow();
+        assertAll(
+            () -> assertEquals(1, result, "Result different from expected"),
+            () -> assertEquals(0, missingResult, "Missing intervention result different from expected"),
+            () -> assertEquals(1L, statementCount, "Number of statements different from expected"),
+            () -> assertEquals("DONE", intervention.getStatus(), "Status different from expected"),
+            () -> assertEquals(120.5, intervention.getAmount(), "Amount different from expected"),
+            () -> assertEquals(2020, intervention.getYear(), "Year different from expected"),
+            () -> assertEquals(2, intervention.getNumber(), "Number different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionRepository#findCarIdById} method.
+     */
+    @Test
+    @DisplayName("Find car ID by ID")
+    void testFindCarIdById() {
+        assertAll(
+            () -> assertEquals(CAR_ID + 1, this.repository.findCarIdById(6), "Result different from expected"),
+            () -> assertNull(this.repository.findCarIdById(7), "Result unexpectedly not null")
+        );
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+}
@@ -0,0 +1,160 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.service.InterventionNumberAllocator;
+import fr.vulture.hostocars.service.WriteQueue;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.persistence.EntityManager;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Test class for the {@link InterventionSequenceRepository} class and the numbering of the inserted interventions, run against a SQLite database migrated by
+ * Liquibase.
+ */
+@DisplayName("Intervention sequence repository")
+@Import({InterventionSequenceRepository.class, InterventionNumberAllocator.class, WriteQueue.class})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE",
+    "interventions.numbers.block-size=16"
+})
+class InterventionSequenceRepositoryTest {
+
+    private static final int YEAR = 1999;
+
+    @Autowired
+    private InterventionSequenceRepository repository;
+
+    @Autowired
+    private InterventionNumberAllocator allocator;
+
+    @Autowired
+    private WriteQueue writeQueue;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Tests the {@link InterventionSequenceRepository#reserve} and {@link InterventionSequenceRepository#release} methods.
+     */
+    @Test
+    @DisplayName("Reserve and release")
+    void testReserveAndRelease() {
+        // Calls the methods
+        final int first = this.repository.reserve(YEAR, 10);
+        final int second = this.repository.reserve(YEAR, 10);
+        final boolean staleRelease = this.repository.release(YEAR, first, 5);
+        final boolean release = this.repository.release(YEAR, second, 15);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(10, first, "First block different from expected"),
+            () -> assertEquals(20, second, "Second block different from expected"),
+            () -> assertFalse(staleRelease, "Block unexpectedly given back after another reservation"),
+            () -> assertTrue(release, "Last block not given back"),
+            () -> assertEquals(16, this.repository.reserve(YEAR, 1), "Next block different from expected")
+        );
+    }
+
+    /**
+     * Tests the numbering of interventions inserted concurrently through the {@link WriteQueue} by cascade from their car, each one getting its own number,
+     * the unused numbers being given back on shutdown.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Number (concurrent inserts)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testNumberWithConcurrentInserts() {
+        // Prepares the inputs
+        final int year = Year.now(ZoneOffset.UTC).getValue();
+        final int threadCount = 8;
+        final int insertCount = 125;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final Integer carId = this.writeQueue.submit(() -> {
+            final Car car = new Car();
+            car.setRegistration("numbered");
+            car.setOwner("owner");
+            this.entityManager.persist(car);
+            return car.getId();
+        });
+
+        try {
+            // Calls the method
+            final List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < insertCount; j++) {
+                        this.writeQueue.submit(() -> {
+                            final Intervention intervention = new Intervention();
+                            intervention.setStatus("status");
+                            intervention.setNumber(-1);
+                            final Car car = this.entityManager.find(Car.class, carId);
+                            intervention.setCar(car);
+                            car.getInterventions().add(intervention);
+                        });
+                    }
+                }));
+            }
+
+            for (final Future<?> result : results) {
+                result.get();
+            }
+
+            this.allocator.shutdown();
+
+            // Checks the results
+            final int count = threadCount * insertCount;
+            final String condition = " FROM interventions WHERE carId = " + carId + " AND year = " + year;
+            assertAll(
+                () -> assertEquals((long) count, this.count("SELECT COUNT(DISTINCT number)" + condition), "Distinct numbers different from expected"),
+                () -> assertEquals((long) count, this.count("SELECT MAX(number) - MIN(number) + 1" + condition), "Numbers range different from expected"),
+                () -> assertEquals(this.count("SELECT MAX(number)" + condition), this.count("SELECT number FROM interventionsSequences WHERE year = " + year),
+                    "Sequence different from expected")
+            );
+        } finally {
+            executor.shutdownNow();
+            this.writeQueue.submit(() -> {
+                this.entityManager.createNativeQuery("DELETE FROM interventions WHERE carId = " + carId).executeUpdate();
+                this.entityManager.createNativeQuery("DELETE FROM cars WHERE id = " + carId).executeUpdate();
+                this.entityManager.createNativeQuery("DELETE FROM interventionsSequences WHERE year = " + year).executeUpdate();
+            });
+        }
+    }
+
+    /**
+     * Executes a native counting query.
+     *
+     * @param query
+     *     The SQL query
+     *
+     * @return the count
+     */
+    private long count(final String query) {
+        return ((Number) this.entityManager.createNativeQuery(query).getSingleResult()).longValue();
+    }
+
+}
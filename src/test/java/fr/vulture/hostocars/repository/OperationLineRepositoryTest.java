@@ -0,0 +1,152 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Test class for the {@link OperationLineRepository} interface, run against a SQLite database migrated by Liquibase.
+ */
+@DisplayName("Operation line repository")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE"
+})
+class OperationLineRepositoryTest {
+
+    private static final int CAR_ID = 1;
+    private static final int LINE_COUNT = 4;
+
+    @Autowired
+    private OperationLineRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    /**
+     * Initialization method called before all tests, inserting a car with an intervention of two operations, each one with undone lines.
+     */
+    @BeforeEach
+    void initialize() {
+        this.statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        this.execute("INSERT INTO cars (id, registration, owner) VALUES (?1, ?2, ?3)", CAR_ID, "registration", "owner");
+        this.execute("INSERT INTO interventions (id, carId, status) VALUES (?1, ?2, ?3)", 1, CAR_ID, "status");
+        for (int operationId = 1; operationId <= 2; operationId++) {
+            this.execute("INSERT INTO operations (id, interventionId, label) VALUES (?1, ?2, ?3)", operationId, 1, "label");
+
+            for (int i = 1; i <= LINE_COUNT; i++) {
+                this.execute("INSERT INTO operationLines (id, operationId, type, description, done) VALUES (?1, ?2, ?3, ?4, 0)", (operationId - 1) * LINE_COUNT + i,
+                    operationId, "type", "description");
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics.clear();
+    }
+
+    /**
+     * Tests the {@link OperationLineRepository#findCarIdById} and {@link OperationLineRepository#findCarIdByOperationId} methods.
+     */
+    @Test
+    @DisplayName("Find car ID")
+    void testFindCarId() {
+        assertAll(
+            () -> assertEquals(CAR_ID, this.repository.findCarIdById(LINE_COUNT + 1), "Result different from expected"),
+            () -> assertNull(this.repository.findCarIdById(2 * LINE_COUNT + 1), "Result unexpectedly not null"),
+            () -> assertEquals(CAR_ID, this.repository.findCarIdByOperationId(2), "Result different from expected"),
+            () -> assertNull(this.repository.findCarIdByOperationId(3), "Result unexpectedly not null")
+        );
+    }
+
+    /**
+     * Tests the {@link OperationLineRepository#updateById} method.
+     */
+    @Test
+    @DisplayName("Update by ID")
+    void testUpdateById() {
+        // Calls the method
+        final int result = this.repository.updateById(2, Map.of("done", true, "description", "new description"));
+        final int missingResult = this.repository.updateById(2 * LINE_COUNT + 1, Map.of("done", true));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(1, result, "Result different from expected"),
+            () -> assertEquals(0, missingResult, "Missing line result different from expected"),
+            () -> assertEquals(2L, this.statistics.getPrepareStatementCount(), "Number of statements different from expected"),
+            () -> assertEquals(List.of(2), this.findDoneIds(), "Done lines different from expected"),
+            () -> assertEquals("new description", this.repository.findById(2).orElseThrow().getDescription(), "Description different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link OperationLineRepository#updateDoneByOperationIdAndIdIn} method.
+     */
+    @Test
+    @DisplayName("Update done by operation ID and ID in")
+    void testUpdateDoneByOperationIdAndIdIn() {
+        // Calls the method
+        final int result = this.repository.updateDoneByOperationIdAndIdIn(1, List.of(1, 2, 3), List.of(1, 3));
+        final long statementCount = this.statistics.getPrepareStatementCount();
+        final int foreignResult = this.repository.updateDoneByOperationIdAndIdIn(2, List.of(4, 5), List.of(4, 5));
+        final int undoneResult = this.repository.updateDoneByOperationIdAndIdIn(1, List.of(3), List.of());
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(3, result, "Result different from expected"),
+            () -> assertEquals(1L, statementCount, "Number of statements different from expected"),
+            () -> assertEquals(1, foreignResult, "Foreign line result different from expected"),
+            () -> assertEquals(1, undoneResult, "Undone line result different from expected"),
+            () -> assertEquals(List.of(1, 5), this.findDoneIds(), "Done lines different from expected")
+        );
+    }
+
+    /**
+     * Retrieves the IDs of the done lines.
+     *
+     * @return the list of IDs
+     */
+    private List<Integer> findDoneIds() {
+        return ((List<?>) this.entityManager.createNativeQuery("SELECT id FROM operationLines WHERE done = 1 ORDER BY id").getResultList()).stream()
+            .map(id -> ((Number) id).intValue()).collect(Collectors.toList());
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+}
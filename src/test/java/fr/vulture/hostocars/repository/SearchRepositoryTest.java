@@ -0,0 +1,160 @@
+package fr.vulture.hostocars.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.dto.SearchResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Test class for the {@link SearchRepository} class, run against a SQLite database migrated by Liquibase, whose triggers keep the search index in sync.
+ */
+@DisplayName("Search repository")
+@Import(SearchRepository.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:sqlite:file:./target/repository-test.db",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "blobs.path=./target/repository-test-blobs",
+    "logging.file.name=./target/repository-test.log",
+    "logging.level.fr.vulture.hostocars=TRACE"
+})
+class SearchRepositoryTest {
+
+    private static final int CAR_COUNT = 5;
+
+    @Autowired
+    private SearchRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Initialization method called before all tests, inserting cars with one intervention each.
+     */
+    @BeforeEach
+    void initialize() {
+        for (int id = 1; id <= CAR_COUNT; id++) {
+            this.execute("INSERT INTO cars (id, registration, owner, brand, model) VALUES (?1, ?2, ?3, ?4, ?5)", id, "AB-12" + id + "-CD", "Dupont " + id, "Peugeot",
+                "20" + id);
+            this.execute("INSERT INTO interventions (id, carId, status, description) VALUES (?1, ?2, ?3, ?4)", id, id, "status", "Réparation de l'embrayage");
+        }
+
+        this.execute("INSERT INTO cars (id, registration, owner, brand) VALUES (?1, ?2, ?3, ?4)", CAR_COUNT + 1, "ZZ-999-ZZ", "Martin", "Renault");
+    }
+
+    /**
+     * Tests the {@link SearchRepository#toMatchQuery} method.
+     */
+    @Test
+    @DisplayName("To match query")
+    void testToMatchQuery() {
+        assertAll(
+            () -> assertEquals("\"peugeot\"*", SearchRepository.toMatchQuery("peugeot"), "Result different from expected"),
+            () -> assertEquals("\"ab-12\"* \"dupont\"*", SearchRepository.toMatchQuery("  ab-12 \t dupont "), "Result different from expected"),
+            () -> assertEquals("\"a\"\"b\"* \"OR\"* \"c*\"*", SearchRepository.toMatchQuery("a\"b OR c*"), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link SearchRepository#search} method.
+     */
+    @Test
+    @DisplayName("Search")
+    void testSearch() {
+        // Calls the methods
+        final List<SearchResult> registrationResult = this.repository.search("ab-123", null, 0, 10);
+        final List<SearchResult> diacriticsResult = this.repository.search("REPARATION embray", null, 0, 10);
+        final List<SearchResult> operatorResult = this.repository.search("peugeot OR renault", null, 0, 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(new SearchResult("car", 3, 3, registrationResult.get(0).getRank(), "AB-123-CD")), registrationResult,
+                "Registration result different from expected"),
+            () -> assertEquals(List.of(1, 2, 3, 4, 5), diacriticsResult.stream().map(SearchResult::getCarId).collect(Collectors.toList()),
+                "Diacritics result different from expected"),
+            () -> assertTrue(diacriticsResult.stream().allMatch(result -> "intervention".equals(result.getType())), "Diacritics result different from expected"),
+            () -> assertTrue(operatorResult.isEmpty(), "Operator result unexpectedly not empty")
+        );
+    }
+
+    /**
+     * Tests the {@link SearchRepository#search} method by pages.
+     */
+    @Test
+    @DisplayName("Search (by pages)")
+    void testSearchByPages() {
+        // Prepares the intermediary results
+        final List<SearchResult> expectedResult = this.repository.search("dupont", null, 0, 10);
+
+        // Calls the method
+        final List<SearchResult> result = new ArrayList<>();
+        List<SearchResult> page = this.repository.search("dupont", null, 0, 2);
+        while (!page.isEmpty()) {
+            result.addAll(page);
+
+            final SearchResult last = page.get(page.size() - 1);
+            page = this.repository.search("dupont", last.getRank(), SearchRepository.toRowId(last), 2);
+        }
+
+        // Checks the result
+        assertEquals(CAR_COUNT, expectedResult.size(), "Number of results different from expected");
+        assertEquals(expectedResult, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the synchronization of the search index on updates and deletions.
+     */
+    @Test
+    @DisplayName("Search (after updates and deletions)")
+    void testSearchAfterUpdatesAndDeletions() {
+        // Prepares the intermediary results
+        this.execute("UPDATE cars SET owner = ?1 WHERE id = ?2", "Durand", 1);
+        this.execute("UPDATE interventions SET comments = ?1 WHERE id = ?2", "Durand a payé", 2);
+        this.execute("DELETE FROM interventions WHERE id = ?1", 3);
+
+        // Calls the methods
+        final List<SearchResult> updatedResult = this.repository.search("durand", null, 0, 10);
+        final List<SearchResult> oldResult = this.repository.search("dupont 1", null, 0, 10);
+        final List<SearchResult> deletedResult = this.repository.search("embrayage", null, 0, 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of("car1", "intervention2"), updatedResult.stream().map(result -> result.getType() + result.getId()).sorted()
+                .collect(Collectors.toList()), "Updated result different from expected"),
+            () -> assertTrue(oldResult.stream().noneMatch(result -> result.getId() == 1), "Old result unexpectedly found"),
+            () -> assertEquals(List.of(1, 2, 4, 5), deletedResult.stream().map(SearchResult::getId).sorted().collect(Collectors.toList()),
+                "Deleted result different from expected")
+        );
+    }
+
+    /**
+     * Executes a native statement.
+     *
+     * @param query
+     *     The SQL statement
+     * @param parameters
+     *     The positional parameters of the statement
+     */
+    private void execute(final String query, final Object... parameters) {
+        final javax.persistence.Query nativeQuery = this.entityManager.createNativeQuery(query);
+        for (int i = 0; i < parameters.length; i++) {
+            nativeQuery.setParameter(i + 1, parameters[i]);
+        }
+
+        nativeQuery.executeUpdate();
+    }
+
+}
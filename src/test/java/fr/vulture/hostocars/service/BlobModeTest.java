@@ -0,0 +1,40 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link BlobMode} enum.
+ */
+@DisplayName("Blob mode")
+class BlobModeTest {
+
+    /**
+     * Tests the {@link BlobMode#fromValue} method.
+     */
+    @Test
+    @DisplayName("From value")
+    void testFromValue() {
+        assertAll(
+            () -> assertEquals(BlobMode.REFERENCE, BlobMode.fromValue("reference"), "Result different from expected"),
+            () -> assertEquals(BlobMode.INCLUDE, BlobMode.fromValue("include"), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link BlobMode#fromValue} method in error.
+     */
+    @Test
+    @DisplayName("From value (error case)")
+    void testFromValueInError() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> BlobMode.fromValue(null), "Expected exception not thrown"),
+            () -> assertThrows(IllegalArgumentException.class, () -> BlobMode.fromValue("INCLUDE"), "Expected exception not thrown")
+        );
+    }
+
+}
@@ -0,0 +1,169 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for the {@link BlobStore} class.
+ */
+@DisplayName("Blob store")
+class BlobStoreTest {
+
+    private static final byte[] CONTENT = "content".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_HASH = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+    @TempDir
+    Path folder;
+
+    private BlobStore blobStore;
+
+    /**
+     * Initialization method called before all tests.
+     */
+    @BeforeEach
+    void initialize() {
+        this.blobStore = new BlobStore(this.folder.toString());
+    }
+
+    /**
+     * Tests the {@link BlobStore#store} method.
+     */
+    @Test
+    @DisplayName("Store")
+    @SneakyThrows
+    void testStore() {
+        // Calls the method
+        final String result = this.blobStore.store(CONTENT);
+
+        // Checks the result
+        assertEquals(CONTENT_HASH, result, "Result different from expected");
+        assertArrayEquals(CONTENT, Files.readAllBytes(this.folder.resolve("ed").resolve(CONTENT_HASH)), "Stored content different from expected");
+        assertEquals(0, countFiles(this.folder.resolve("tmp")), "Temporary folder unexpectedly not empty");
+    }
+
+    /**
+     * Tests the {@link BlobStore#store} method with an already stored content.
+     */
+    @Test
+    @DisplayName("Store (already stored content)")
+    @SneakyThrows
+    void testStoreAlreadyStoredContent() {
+        // Prepares the intermediary results
+        this.blobStore.store(CONTENT);
+
+        // Calls the method
+        final String result = this.blobStore.store(new ByteArrayInputStream(CONTENT));
+
+        // Checks the result
+        assertEquals(CONTENT_HASH, result, "Result different from expected");
+        assertEquals(1, countFiles(this.folder.resolve("ed")), "Stored files count different from expected");
+        assertEquals(0, countFiles(this.folder.resolve("tmp")), "Temporary folder unexpectedly not empty");
+    }
+
+    /**
+     * Tests the {@link BlobStore#store} method in error.
+     */
+    @Test
+    @DisplayName("Store (error case)")
+    void testStoreInError() {
+        assertThrows(NullPointerException.class, () -> this.blobStore.store((InputStream) null), "Expected exception not thrown");
+    }
+
+    /**
+     * Tests the {@link BlobStore#find} method.
+     */
+    @Test
+    @DisplayName("Find")
+    void testFind() {
+        // Prepares the intermediary results
+        this.blobStore.store(CONTENT);
+
+        // Calls the method
+        final Optional<Path> result = this.blobStore.find(CONTENT_HASH);
+
+        // Checks the result
+        assertEquals(Optional.of(this.folder.resolve("ed").resolve(CONTENT_HASH)), result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link BlobStore#find} method with an unknown or invalid hash.
+     */
+    @Test
+    @DisplayName("Find (unknown or invalid hash)")
+    void testFindUnknownOrInvalidHash() {
+        assertFalse(this.blobStore.find(CONTENT_HASH).isPresent(), "Unknown hash unexpectedly found");
+        assertFalse(this.blobStore.find("../../data.db").isPresent(), "Invalid hash unexpectedly found");
+    }
+
+    /**
+     * Tests the {@link BlobStore#collectGarbage} method.
+     */
+    @Test
+    @DisplayName("Collect garbage")
+    @SneakyThrows
+    void testCollectGarbage() {
+        // Prepares the intermediary results
+        final String referencedHash = this.blobStore.store(CONTENT);
+        final String unreferencedHash = this.blobStore.store("other".getBytes(StandardCharsets.UTF_8));
+        Files.createTempFile(this.folder.resolve("tmp"), "blob", null);
+
+        // Calls the method
+        final int result = this.blobStore.collectGarbage(Collections.singleton(referencedHash), Long.MAX_VALUE);
+
+        // Checks the result
+        assertEquals(2, result, "Result different from expected");
+        assertTrue(this.blobStore.find(referencedHash).isPresent(), "Referenced file unexpectedly deleted");
+        assertFalse(this.blobStore.find(unreferencedHash).isPresent(), "Unreferenced file unexpectedly kept");
+        assertEquals(0, countFiles(this.folder.resolve("tmp")), "Temporary folder unexpectedly not empty");
+    }
+
+    /**
+     * Tests the {@link BlobStore#collectGarbage} method with files newer than the limit.
+     */
+    @Test
+    @DisplayName("Collect garbage (newer files)")
+    void testCollectGarbageNewerFiles() {
+        // Prepares the intermediary results
+        final String hash = this.blobStore.store(CONTENT);
+
+        // Calls the method
+        final int result = this.blobStore.collectGarbage(Collections.emptySet(), 0);
+
+        // Checks the result
+        assertEquals(0, result, "Result different from expected");
+        assertTrue(this.blobStore.find(hash).isPresent(), "Newer file unexpectedly deleted");
+    }
+
+    /**
+     * Counts the files of a folder.
+     *
+     * @param folder
+     *     The folder
+     *
+     * @return the number of files
+     */
+    @SneakyThrows
+    private static long countFiles(final Path folder) {
+        try (final Stream<Path> files = Files.list(folder)) {
+            return files.count();
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.dto.CacheStatistics;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.repository.CarGraph;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link CarCache} class.
+ */
+@DisplayName("Car cache")
+class CarCacheTest {
+
+    private final CarCache carCache = new CarCache(2);
+
+    /**
+     * Tests the {@link CarCache#find} method.
+     */
+    @Test
+    @DisplayName("Find")
+    void testFind() {
+        // Prepares the inputs
+        final Car car = new Car();
+        final AtomicInteger loadCount = new AtomicInteger();
+        final Supplier<Optional<Car>> loader = () -> {
+            loadCount.incrementAndGet();
+            return Optional.of(car);
+        };
+
+        // Calls the methods
+        final Optional<Car> missResult = this.carCache.find(1, CarGraph.LINES, loader);
+        final Optional<Car> hitResult = this.carCache.find(1, CarGraph.LINES, loader);
+        final Optional<Car> otherGraphResult = this.carCache.find(1, CarGraph.NONE, loader);
+        final Optional<Car> emptyResult = this.carCache.find(2, CarGraph.LINES, Optional::empty);
+
+        // Checks the results
+        assertAll(
+            () -> assertSame(car, missResult.orElseThrow(), "Miss result different from expected"),
+            () -> assertSame(car, hitResult.orElseThrow(), "Hit result different from expected"),
+            () -> assertSame(car, otherGraphResult.orElseThrow(), "Other graph result different from expected"),
+            () -> assertTrue(emptyResult.isEmpty(), "Empty result unexpectedly not empty"),
+            () -> assertEquals(2, loadCount.get(), "Number of loads different from expected"),
+            () -> assertEquals(new CacheStatistics("cars", 2, 2, 1L, 3L, 0L, 0L), this.carCache.getStatistics(), "Statistics different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarCache#find} method beyond the maximum size.
+     */
+    @Test
+    @DisplayName("Find (beyond the maximum size)")
+    void testFindBeyondMaxSize() {
+        // Calls the methods
+        this.carCache.find(1, CarGraph.LINES, () -> Optional.of(new Car()));
+        this.carCache.find(2, CarGraph.LINES, () -> Optional.of(new Car()));
+        this.carCache.find(1, CarGraph.LINES, Optional::empty);
+        this.carCache.find(3, CarGraph.LINES, () -> Optional.of(new Car()));
+
+        final Optional<Car> recentResult = this.carCache.find(1, CarGraph.LINES, Optional::empty);
+        final Optional<Car> evictedResult = this.carCache.find(2, CarGraph.LINES, Optional::empty);
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(recentResult.isPresent(), "Recent result unexpectedly empty"),
+            () -> assertTrue(evictedResult.isEmpty(), "Evicted result unexpectedly not empty"),
+            () -> assertEquals(new CacheStatistics("cars", 2, 2, 2L, 4L, 1L, 0L), this.carCache.getStatistics(), "Statistics different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarCache#find} method within a transaction.
+     */
+    @Test
+    @DisplayName("Find (within a transaction)")
+    void testFindWithinTransaction() {
+        // Prepares the inputs
+        final Car car = new Car();
+
+        // Calls the methods
+        final Optional<Car> uncommittedResult;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.carCache.find(1, CarGraph.LINES, () -> Optional.of(car));
+            uncommittedResult = this.carCache.find(1, CarGraph.LINES, Optional::empty);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final Optional<Car> committedResult = this.carCache.find(1, CarGraph.LINES, Optional::empty);
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(uncommittedResult.isEmpty(), "Uncommitted result unexpectedly not empty"),
+            () -> assertSame(car, committedResult.orElseThrow(), "Committed result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarCache#find} method when the car is invalidated while it is loaded.
+     */
+    @Test
+    @DisplayName("Find (invalidated while loaded)")
+    void testFindInvalidatedWhileLoaded() {
+        // Calls the methods
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.carCache.find(1, CarGraph.LINES, () -> Optional.of(new Car()));
+            this.carCache.invalidate(2);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final Optional<Car> result = this.carCache.find(1, CarGraph.LINES, Optional::empty);
+
+        // Checks the result
+        assertTrue(result.isEmpty(), "Result unexpectedly not empty");
+    }
+
+    /**
+     * Tests the {@link CarCache#invalidate} method.
+     */
+    @Test
+    @DisplayName("Invalidate")
+    void testInvalidate() {
+        // Calls the methods
+        this.carCache.find(1, CarGraph.LINES, () -> Optional.of(new Car()));
+        this.carCache.find(2, CarGraph.LINES, () -> Optional.of(new Car()));
+        this.carCache.invalidate(1);
+
+        final Optional<Car> invalidatedResult = this.carCache.find(1, CarGraph.LINES, Optional::empty);
+        final Optional<Car> otherResult = this.carCache.find(2, CarGraph.LINES, Optional::empty);
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(invalidatedResult.isEmpty(), "Invalidated result unexpectedly not empty"),
+            () -> assertTrue(otherResult.isPresent(), "Other result unexpectedly empty"),
+            () -> assertEquals(1L, this.carCache.getStatistics().getInvalidationCount(), "Number of invalidations different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarCache#invalidate} method within a rolled back transaction, a concurrent reader caching the car before the rollback.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Invalidate (within a rolled back transaction)")
+    void testInvalidateWithinRolledBackTransaction() {
+        // Prepares the intermediary results
+        final Thread reader = new Thread(() -> this.carCache.find(1, CarGraph.LINES, () -> Optional.of(new Car())));
+
+        // Calls the methods
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.carCache.invalidate(1);
+
+            // A reader outside the transaction caches the car before the rollback
+            reader.start();
+            reader.join();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final Optional<Car> result = this.carCache.find(1, CarGraph.LINES, Optional::empty);
+
+        // Checks the result
+        assertTrue(result.isEmpty(), "Result unexpectedly not empty");
+    }
+
+    /**
+     * Tests the {@link CarCache#invalidateAll} method.
+     */
+    @Test
+    @DisplayName("Invalidate all")
+    void testInvalidateAll() {
+        // Calls the methods
+        this.carCache.find(1, CarGraph.LINES, () -> Optional.of(new Car()));
+        this.carCache.find(2, CarGraph.NONE, () -> Optional.of(new Car()));
+        this.carCache.invalidateAll();
+
+        // Checks the result
+        assertEquals(new CacheStatistics("cars", 0, 2, 0L, 2L, 0L, 2L), this.carCache.getStatistics(), "Statistics different from expected");
+    }
+
+}
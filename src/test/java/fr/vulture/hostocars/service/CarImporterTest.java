@@ -0,0 +1,292 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.repository.CarRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link CarImporter} class.
+ */
+@DisplayName("Car importer")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CarImporterTest {
+
+    private static final int FIRST_ID = 100;
+
+    @Mock
+    private CarRepository repository;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    @Mock
+    private RegistrationIndex registrationIndex;
+
+    @Mock
+    private CarCache carCache;
+
+    private CarImporter carImporter;
+
+    /**
+     * Creates the importer, by chunks of two cars, the queue executing the writes directly and the repository inserting each car with an ID following the
+     * previous ones.
+     */
+    @BeforeEach
+    void setUp() {
+        when(this.writeQueue.submit(any(Callable.class))).thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(0)).call());
+        when(this.repository.saveAllInBatches(anyList(), eq(10))).thenAnswer(invocation -> {
+            final List<Car> cars = invocation.getArgument(0);
+            final List<BulkResult> results = new ArrayList<>();
+            for (int i = 0; i < cars.size(); i++) {
+                results.add(new BulkResult(i, FIRST_ID + i, true, null));
+            }
+
+            return results;
+        });
+        when(this.repository.saveAllByRegistration(anyList(), eq(10))).thenAnswer(invocation -> {
+            final List<Car> cars = invocation.getArgument(0);
+            final List<BulkResult> results = new ArrayList<>();
+            for (int i = 0; i < cars.size(); i++) {
+                // The cars of the "existing" owner are updated with a lower ID
+                final boolean created = !"existing".equals(cars.get(i).getOwner());
+                results.add(new BulkResult(i, created ? FIRST_ID + i : i + 1, created, null));
+            }
+
+            return results;
+        });
+
+        this.carImporter = new CarImporter(new ObjectMapper(), this.repository, this.writeQueue, this.registrationIndex, this.carCache, 2, 10);
+    }
+
+    /**
+     * Tests the {@link CarImporter#importCars} method with NDJSON lines.
+     */
+    @Test
+    @DisplayName("Import cars (NDJSON)")
+    void testImportCarsWithNdjson() {
+        // Prepares the inputs
+        final String content = "{\"registration\":\"AB-123-CD\",\"owner\":\"Owner\"}\n"
+            + "\n"
+            + "{\"registration\":\n"
+            + "{\"registration\":\"EF-456-GH\"}\n"
+            + "{\"registration\":{\"value\":1},\"owner\":\"Owner\"}\n"
+            + "{\"registration\":\"IJ-789-KL\",\"serialNumber\":\"VF1\",\"owner\":\"Owner\"}\n"
+            + "{\"registration\":\"MN-012-OP\",\"owner\":\"Owner\"}";
+
+        // Calls the method
+        final List<BulkResult> result = this.carImporter.importCars(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true);
+
+        // Checks the mocks calls
+        verify(this.writeQueue, times(2)).submit(any(Callable.class));
+        verify(this.registrationIndex).put(new CarSuggestion(FIRST_ID, "AB-123-CD", null));
+        verify(this.registrationIndex).put(new CarSuggestion(FIRST_ID + 1, "IJ-789-KL", "VF1"));
+        verify(this.registrationIndex).put(new CarSuggestion(FIRST_ID, "MN-012-OP", null));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(0, 1, 2, 3, 4, 5), result.stream().map(BulkResult::getIndex).collect(Collectors.toList()), "Indexes different from expected"),
+            () -> assertEquals(new BulkResult(0, FIRST_ID, true, null), result.get(0), "First result different from expected"),
+            () -> assertTrue(result.get(1).getError().startsWith("Malformed JSON: "), "Malformed line error different from expected"),
+            () -> assertEquals(new BulkResult(2, null, null, "The owner is required"), result.get(2), "Invalid car result different from expected"),
+            () -> assertTrue(result.get(3).getError().startsWith("Invalid car: "), "Unmapped car error different from expected"),
+            () -> assertEquals(new BulkResult(4, FIRST_ID + 1, true, null), result.get(4), "Fifth result different from expected"),
+            () -> assertEquals(new BulkResult(5, FIRST_ID, true, null), result.get(5), "Last result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarImporter#importCars} method with a JSON array.
+     */
+    @Test
+    @DisplayName("Import cars (JSON array)")
+    void testImportCarsWithJsonArray() {
+        // Prepares the inputs
+        final String content = "[{\"id\":5,\"registration\":\"AB-123-CD\",\"owner\":\"Owner\"},{\"registration\":\" \",\"owner\":\"Owner\"}]";
+
+        // Calls the method
+        final List<BulkResult> result = this.carImporter.importCars(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), false);
+
+        // Checks the mocks calls
+        final ArgumentCaptor<List<Car>> carsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.repository).saveAllInBatches(carsCaptor.capture(), eq(10));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of("AB-123-CD"), carsCaptor.getValue().stream().map(Car::getRegistration).collect(Collectors.toList()),
+                "Inserted registrations different from expected"),
+            () -> assertNull(carsCaptor.getValue().get(0).getId(), "Inserted car ID unexpectedly present"),
+            () -> assertEquals(List.of(new BulkResult(0, FIRST_ID, true, null), new BulkResult(1, null, null, "The registration is required")), result,
+                "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarImporter#importCars} method with a truncated JSON array, the already read cars being inserted.
+     */
+    @Test
+    @DisplayName("Import cars (truncated JSON array)")
+    void testImportCarsWithTruncatedJsonArray() {
+        // Prepares the inputs
+        final String content = "[{\"registration\":\"AB-123-CD\",\"owner\":\"Owner\"},{\"registration\":\"EF-";
+
+        // Calls the method
+        final List<BulkResult> result = this.carImporter.importCars(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), false);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(2, result.size(), "Number of results different from expected"),
+            () -> assertEquals(new BulkResult(0, FIRST_ID, true, null), result.get(0), "First result different from expected"),
+            () -> assertNull(result.get(1).getId(), "Truncated car ID unexpectedly present"),
+            () -> assertTrue(result.get(1).getError().startsWith("Malformed JSON: "), "Truncated car error different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link CarImporter#importCars} method with a body which is not a JSON array.
+     */
+    @Test
+    @DisplayName("Import cars (not a JSON array)")
+    void testImportCarsWithoutJsonArray() {
+        // Prepares the inputs
+        final String content = "{\"registration\":\"AB-123-CD\",\"owner\":\"Owner\"}";
+
+        // Calls the method
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+            () -> this.carImporter.importCars(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), false), "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus(), "Status different from expected");
+    }
+
+    /**
+     * Tests the {@link CarImporter#upsertCars} method, the cached entries of the updated cars being invalidated.
+     */
+    @Test
+    @DisplayName("Upsert cars")
+    void testUpsertCars() {
+        // Prepares the inputs
+        final String content = "[{\"registration\":\"AB-123-CD\",\"owner\":\"existing\"},{\"registration\":\"EF-456-GH\",\"owner\":\"Owner\"}]";
+
+        // Calls the method
+        final List<BulkResult> result = this.carImporter.upsertCars(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), false);
+
+        // Checks the mocks calls
+        verify(this.carCache).invalidate(1);
+        verify(this.registrationIndex).put(new CarSuggestion(1, "AB-123-CD", null));
+        verify(this.registrationIndex).put(new CarSuggestion(FIRST_ID + 1, "EF-456-GH", null));
+
+        // Checks the result
+        assertEquals(List.of(new BulkResult(0, 1, false, null), new BulkResult(1, FIRST_ID + 1, true, null)), result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link CarImporter#upsertCar} method.
+     */
+    @Test
+    @DisplayName("Upsert car")
+    void testUpsertCar() {
+        // Prepares the inputs
+        final Car car = new Car();
+        car.setId(5);
+        car.setRegistration("AB-123-CD");
+        car.setOwner("Owner");
+
+        // Calls the method
+        final BulkResult result = this.carImporter.upsertCar(car);
+
+        // Checks the mocks calls
+        verify(this.repository).saveAllByRegistration(List.of(car), 10);
+        verify(this.registrationIndex).put(new CarSuggestion(FIRST_ID, "AB-123-CD", null));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(new BulkResult(0, FIRST_ID, true, null), result, "Result different from expected"),
+            () -> assertNull(car.getId(), "Upserted car ID unexpectedly kept")
+        );
+    }
+
+    /**
+     * Tests the {@link CarImporter#upsertCar} method with an invalid car.
+     */
+    @Test
+    @DisplayName("Upsert car (invalid car)")
+    void testUpsertCarWithInvalidCar() {
+        // Prepares the inputs
+        final Car car = new Car();
+        car.setRegistration("AB-123-CD");
+
+        // Calls the method
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> this.carImporter.upsertCar(car),
+            "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus(), "Status different from expected");
+    }
+
+    /**
+     * Tests the {@link CarImporter#validate} method.
+     */
+    @Test
+    @DisplayName("Validate")
+    void testValidate() {
+        // Prepares the inputs
+        final Car validCar = new Car();
+        validCar.setRegistration("AB-123-CD");
+        validCar.setOwner("Owner");
+
+        final Car carWithoutRegistration = new Car();
+        carWithoutRegistration.setOwner("Owner");
+
+        final Car carWithoutOwner = new Car();
+        carWithoutOwner.setRegistration("AB-123-CD");
+        carWithoutOwner.setOwner("");
+
+        final Car carWithInterventions = new Car();
+        carWithInterventions.setRegistration("AB-123-CD");
+        carWithInterventions.setOwner("Owner");
+        carWithInterventions.getInterventions().add(new Intervention());
+
+        // Calls the method and checks the results
+        assertAll(
+            () -> assertNull(CarImporter.validate(validCar), "Valid car error unexpectedly present"),
+            () -> assertEquals("The registration is required", CarImporter.validate(carWithoutRegistration), "Registration error different from expected"),
+            () -> assertEquals("The owner is required", CarImporter.validate(carWithoutOwner), "Owner error different from expected"),
+            () -> assertEquals("The interventions cannot be written along with the car", CarImporter.validate(carWithInterventions),
+                "Interventions error different from expected")
+        );
+    }
+
+}
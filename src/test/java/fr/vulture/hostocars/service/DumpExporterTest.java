@@ -0,0 +1,153 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.entity.Operation;
+import fr.vulture.hostocars.entity.OperationLine;
+import fr.vulture.hostocars.repository.DumpRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for the {@link DumpExporter} class.
+ */
+@DisplayName("Dump exporter")
+@ExtendWith(MockitoExtension.class)
+class DumpExporterTest {
+
+    private static final byte[] PICTURE = "picture".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private DumpRepository repository;
+
+    private DumpExporter dumpExporter;
+
+    private String pictureHash;
+
+    /**
+     * Creates the exporter, the repository reading a car with a stored picture and a missing certificate, followed by one child of each type.
+     */
+    @BeforeEach
+    void setUp() {
+        final BlobStore blobStore = new BlobStore(this.directory.toString());
+        this.pictureHash = blobStore.store(PICTURE);
+
+        final Car car = new Car();
+        car.setId(1);
+        car.setRegistration("AB-123-CD");
+        car.setOwner("Owner");
+        car.setCertificateHash("missing");
+        car.setPictureHash(this.pictureHash);
+
+        final Intervention intervention = new Intervention();
+        intervention.setId(2);
+        intervention.setYear(2020);
+        intervention.setNumber(3);
+        intervention.setCreationDate("2020-01-02");
+        intervention.setStatus("DONE");
+        intervention.setAmount(12.5);
+
+        final Operation operation = new Operation();
+        operation.setId(4);
+        operation.setLabel("Label");
+
+        final OperationLine operationLine = new OperationLine();
+        operationLine.setId(5);
+        operationLine.setType("type");
+        operationLine.setDescription("Description");
+        operationLine.setDone(true);
+
+        doAnswer(invocation -> accept(invocation.getArgument(0), car, 1)).when(this.repository).scrollCars(any());
+        doAnswer(invocation -> accept(invocation.getArgument(0), intervention, 1)).when(this.repository).scrollInterventions(any());
+        doAnswer(invocation -> accept(invocation.getArgument(0), operation, 2)).when(this.repository).scrollOperations(any());
+        doAnswer(invocation -> accept(invocation.getArgument(0), operationLine, 4)).when(this.repository).scrollOperationLines(any());
+
+        this.dumpExporter = new DumpExporter(new ObjectMapper(), this.repository, blobStore);
+    }
+
+    /**
+     * Tests the {@link DumpExporter#export} method, the files being referenced.
+     */
+    @Test
+    @DisplayName("Export (referenced files)")
+    void testExportWithReferencedFiles() {
+        assertEquals(this.expectedDump("\"pictureHash\":\"" + this.pictureHash + "\""), this.export(BlobMode.REFERENCE), "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link DumpExporter#export} method, the files being included.
+     */
+    @Test
+    @DisplayName("Export (included files)")
+    void testExportWithIncludedFiles() {
+        assertEquals(this.expectedDump("\"picture\":\"" + Base64.getEncoder().encodeToString(PICTURE) + "\""), this.export(BlobMode.INCLUDE),
+            "Result different from expected");
+    }
+
+    /**
+     * Builds the expected dump, the missing certificate always being referenced.
+     *
+     * @param picture
+     *     The expected picture field
+     *
+     * @return the expected dump
+     */
+    private String expectedDump(final String picture) {
+        return "{\"record\":\"car\",\"id\":1,\"registration\":\"AB-123-CD\",\"owner\":\"Owner\",\"certificateHash\":\"missing\"," + picture + "}\n"
+            + "{\"record\":\"intervention\",\"id\":2,\"carId\":1,\"year\":2020,\"number\":3,\"creationDate\":\"2020-01-02\",\"status\":\"DONE\",\"amount\":12.5}\n"
+            + "{\"record\":\"operation\",\"id\":4,\"interventionId\":2,\"label\":\"Label\"}\n"
+            + "{\"record\":\"operationLine\",\"id\":5,\"operationId\":4,\"type\":\"type\",\"description\":\"Description\",\"done\":true}\n";
+    }
+
+    /**
+     * Exports the dump.
+     *
+     * @param blobMode
+     *     The way the files are written
+     *
+     * @return the dump
+     */
+    private String export(final BlobMode blobMode) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.dumpExporter.export(output, blobMode);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Passes an entity to a scrolling consumer.
+     *
+     * @param consumer
+     *     The scrolling consumer
+     * @param entity
+     *     The entity
+     * @param parentId
+     *     The ID of its parent
+     * @param <T>
+     *     The type of the entity
+     *
+     * @return {@code null}
+     */
+    private static <T> Object accept(final BiConsumer<T, Integer> consumer, final T entity, final Integer parentId) {
+        consumer.accept(entity, parentId);
+        return null;
+    }
+
+}
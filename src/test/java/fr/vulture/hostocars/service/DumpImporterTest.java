@@ -0,0 +1,157 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.dto.BulkResult;
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.dto.ImportReport;
+import fr.vulture.hostocars.entity.Car;
+import fr.vulture.hostocars.entity.Intervention;
+import fr.vulture.hostocars.repository.DumpRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Test class for the {@link DumpImporter} class.
+ */
+@DisplayName("Dump importer")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DumpImporterTest {
+
+    private static final byte[] PICTURE = "picture".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private DumpRepository repository;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    @Mock
+    private InterventionNumberAllocator numberAllocator;
+
+    @Mock
+    private RegistrationIndex registrationIndex;
+
+    @Mock
+    private CarCache carCache;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    private BlobStore blobStore;
+
+    private DumpImporter dumpImporter;
+
+    /**
+     * Creates the importer, by chunks of two records, the queue executing the writes directly and the repository inserting each record, except for the
+     * operation lines whose operation is unknown.
+     */
+    @BeforeEach
+    void setUp() {
+        final Answer<List<BulkResult>> inserted = invocation -> {
+            final List<?> entities = invocation.getArgument(0);
+            final List<BulkResult> results = new ArrayList<>();
+            for (int i = 0; i < entities.size(); i++) {
+                results.add(new BulkResult(i, i + 1, true, null));
+            }
+
+            return results;
+        };
+
+        when(this.writeQueue.submit(any(Callable.class))).thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(0)).call());
+        when(this.repository.saveCars(anyList(), eq(10))).thenAnswer(inserted);
+        when(this.repository.saveInterventions(anyList(), eq(10))).thenAnswer(inserted);
+        when(this.repository.saveOperations(anyList(), eq(10))).thenAnswer(inserted);
+        when(this.repository.saveOperationLines(anyList(), eq(10))).thenReturn(List.of(new BulkResult(0, null, null, "Unknown operation 1")));
+
+        this.blobStore = new BlobStore(this.directory.toString());
+        this.dumpImporter = new DumpImporter(new ObjectMapper(), this.repository, this.writeQueue, this.numberAllocator, this.blobStore, this.registrationIndex,
+            this.carCache, this.responseCache, 2, 10);
+    }
+
+    /**
+     * Tests the {@link DumpImporter#importDump} method.
+     */
+    @Test
+    @DisplayName("Import dump")
+    void testImportDump() {
+        // Prepares the inputs
+        final String content = "{\"record\":\"car\",\"id\":1,\"registration\":\"AB-123-CD\",\"owner\":\"Owner\",\"picture\":\""
+            + Base64.getEncoder().encodeToString(PICTURE) + "\"}\n"
+            + "{\"record\":\"car\",\"id\":2,\"registration\":\"EF-456-GH\"}\n"
+            + "{\"record\":\"car\",\"registration\":\"IJ-789-KL\",\"owner\":\"Owner\"}\n"
+            + "{\"record\":\"car\",\"id\":3,\"registration\":\"MN-012-OP\",\"owner\":\"Owner\",\"pictureHash\":\"hash\"}\n"
+            + "{\"record\":\"intervention\",\"id\":1,\"carId\":3,\"year\":2020,\"number\":3,\"status\":\"DONE\"}\n"
+            + "{\"record\":\"intervention\",\"id\":2,\"status\":\"DONE\"}\n"
+            + "{\"record\":\"operation\",\"id\":1,\"interventionId\":1,\"label\":\"Label\"}\n"
+            + "{\"record\":\"operationLine\",\"id\":1,\"operationId\":1,\"type\":\"type\",\"description\":\"Description\",\"done\":true}\n"
+            + "{\"record\":\"unknown\",\"id\":1}\n"
+            + "[1]\n"
+            + "{\"record\":\"car\",\"id\":4,";
+
+        // Calls the method
+        final ImportReport result = this.dumpImporter.importDump(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        // Checks the mocks calls
+        final ArgumentCaptor<List<Car>> cars = ArgumentCaptor.forClass(List.class);
+        final ArgumentCaptor<List<Intervention>> interventions = ArgumentCaptor.forClass(List.class);
+        verify(this.repository).saveCars(cars.capture(), eq(10));
+        verify(this.repository).saveInterventions(interventions.capture(), eq(10));
+        verify(this.numberAllocator).release();
+        verify(this.registrationIndex).put(new CarSuggestion(1, "AB-123-CD", null));
+        verify(this.registrationIndex).put(new CarSuggestion(3, "MN-012-OP", null));
+        verify(this.responseCache, times(4)).invalidateAll();
+        verify(this.carCache, times(4)).invalidateAll();
+
+        // Checks the results
+        final List<BulkResult> errors = result.getErrors();
+        final Intervention intervention = interventions.getValue().get(0);
+        assertAll(
+            () -> assertEquals(List.of(1, 3), cars.getValue().stream().map(Car::getId).collect(Collectors.toList()), "Imported car IDs different from expected"),
+            () -> assertEquals(this.blobStore.store(PICTURE), cars.getValue().get(0).getPictureHash(), "Included picture hash different from expected"),
+            () -> assertEquals("hash", cars.getValue().get(1).getPictureHash(), "Referenced picture hash different from expected"),
+            () -> assertEquals(List.of(1, 3, 2020, 3), List.of(intervention.getId(), intervention.getCar().getId(), intervention.getYear(), intervention.getNumber()),
+                "Imported intervention different from expected"),
+            () -> assertEquals(List.of(2L, 1L, 1L, 0L, 7L), List.of(result.getCarCount(), result.getInterventionCount(), result.getOperationCount(),
+                result.getOperationLineCount(), result.getErrorCount()), "Counts different from expected"),
+            () -> assertEquals(List.of(1, 2, 5, 8, 9, 10, 7), errors.stream().map(BulkResult::getIndex).collect(Collectors.toList()),
+                "Error indexes different from expected"),
+            () -> assertEquals(List.of("The owner is required", "The ID is required", "The carId is required", "Unknown record type unknown",
+                "A record must be a JSON object"), errors.subList(0, 5).stream().map(BulkResult::getError).collect(Collectors.toList()),
+                "Errors different from expected"),
+            () -> assertTrue(errors.get(5).getError().startsWith("Malformed JSON: "), "Malformed record error different from expected"),
+            () -> assertEquals("Unknown operation 1", errors.get(6).getError(), "Write error different from expected")
+        );
+    }
+
+}
@@ -0,0 +1,324 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.repository.InterventionSequenceRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link InterventionNumberAllocator} class.
+ */
+@DisplayName("Intervention number allocator")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InterventionNumberAllocatorTest {
+
+    private static final int BLOCK_SIZE = 10;
+
+    @Mock
+    private InterventionSequenceRepository repository;
+
+    @Mock
+    private WriteQueue writeQueue;
+
+    private InterventionNumberAllocator allocator;
+
+    private final Map<Integer, Integer> sequences = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the allocator, the repository reserving the numbers in memory and the queue executing the writes directly.
+     */
+    @BeforeEach
+    void setUp() {
+        when(this.repository.reserve(anyInt(), eq(BLOCK_SIZE))).thenAnswer(invocation -> this.sequences.merge(invocation.getArgument(0), BLOCK_SIZE, Integer::sum));
+        when(this.repository.release(anyInt(), anyInt(), anyInt())).thenReturn(true);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.writeQueue).submit(any(Runnable.class));
+
+        this.allocator = new InterventionNumberAllocator(this.repository, this.writeQueue, BLOCK_SIZE);
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#next} method with concurrent allocations, each number of each year being handed out exactly once.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Next (concurrent allocations)")
+    void testNextWithConcurrentAllocations() {
+        // Prepares the inputs
+        final int threadCount = 8;
+        final int allocationCount = 5000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // Calls the method
+        final List<Future<List<Integer>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final int year = 2020 + i % 2;
+                results.add(executor.submit(() -> IntStream.range(0, allocationCount).mapToObj(j -> year * 100_000 + this.allocator.next(year))
+                    .collect(Collectors.toList())));
+            }
+
+            // Checks the results
+            final List<Integer> numbers = new ArrayList<>();
+            for (final Future<List<Integer>> result : results) {
+                numbers.addAll(result.get());
+            }
+
+            final int yearCount = threadCount / 2 * allocationCount;
+            final List<Integer> expectedNumbers = IntStream.rangeClosed(1, yearCount).mapToObj(j -> 2020 * 100_000 + j).collect(Collectors.toList());
+            expectedNumbers.addAll(IntStream.rangeClosed(1, yearCount).mapToObj(j -> 2021 * 100_000 + j).collect(Collectors.toList()));
+            assertEquals(expectedNumbers, numbers.stream().sorted().collect(Collectors.toList()), "Numbers different from expected");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(this.repository, times(threadCount * allocationCount / BLOCK_SIZE)).reserve(anyInt(), eq(BLOCK_SIZE));
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#next} method with a rolled back reservation, the block being dropped.
+     */
+    @Test
+    @DisplayName("Next (rolled back reservation)")
+    void testNextWithRolledBackReservation() {
+        // Calls the method
+        final List<Integer> numbers = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            numbers.add(this.allocator.next(2020));
+            numbers.add(this.allocator.next(2020));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // The sequence is rolled back along with the transaction
+        this.sequences.clear();
+        numbers.add(this.allocator.next(2020));
+
+        // Checks the result
+        assertEquals(List.of(1, 2, 1), numbers, "Numbers different from expected");
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#next} method with a rolled back transaction, the numbers handed out from a committed block being given
+     * back.
+     */
+    @Test
+    @DisplayName("Next (rolled back transaction)")
+    void testNextWithRolledBackTransaction() {
+        // Calls the method
+        final List<Integer> numbers = new ArrayList<>();
+        numbers.add(this.allocator.next(2020));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            numbers.add(this.allocator.next(2020));
+            numbers.add(this.allocator.next(2020));
+        } finally {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        numbers.add(this.allocator.next(2020));
+        numbers.add(this.allocator.next(2020));
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(1, 2, 3, 2, 3), numbers, "Numbers different from expected"),
+            () -> verify(this.repository).reserve(2020, BLOCK_SIZE)
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#next} method with a rolled back transaction having exhausted a committed block, the numbers being given
+     * back to it as the new block is dropped.
+     */
+    @Test
+    @DisplayName("Next (rolled back transaction across blocks)")
+    void testNextWithRolledBackTransactionAcrossBlocks() {
+        // Calls the method
+        final List<Integer> numbers = new ArrayList<>();
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            this.allocator.next(2020);
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            numbers.add(this.allocator.next(2020));
+            numbers.add(this.allocator.next(2020));
+        } finally {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // The reservation of the second block is rolled back along with the transaction
+        this.sequences.put(2020, BLOCK_SIZE);
+        numbers.add(this.allocator.next(2020));
+        numbers.add(this.allocator.next(2020));
+
+        // Checks the result
+        assertEquals(List.of(BLOCK_SIZE, BLOCK_SIZE + 1, BLOCK_SIZE, BLOCK_SIZE + 1), numbers, "Numbers different from expected");
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#next} method with a rolled back transaction, another number of the block having been handed out outside
+     * of it meanwhile, which leaves a gap rather than handing out a number twice.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Next (rolled back transaction with a gap)")
+    void testNextWithRolledBackTransactionAndGap() {
+        // Calls the method
+        final List<Integer> numbers = new ArrayList<>();
+        numbers.add(this.allocator.next(2020));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            numbers.add(this.allocator.next(2020));
+            numbers.add(executor.submit(() -> this.allocator.next(2020)).get());
+        } finally {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+            executor.shutdownNow();
+        }
+
+        numbers.add(this.allocator.next(2020));
+
+        // Checks the result
+        assertEquals(List.of(1, 2, 3, 4), numbers, "Numbers different from expected");
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#release} method, the blocks being closed within the transaction and dropped once it is committed.
+     */
+    @Test
+    @DisplayName("Release")
+    void testRelease() {
+        // Prepares the inputs
+        this.allocator.next(2020);
+        this.allocator.next(2020);
+
+        // Calls the method
+        final int numberWithinTransaction;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.allocator.release();
+            numberWithinTransaction = this.allocator.next(2020);
+        } finally {
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        // Checks the mocks calls
+        verify(this.repository).release(2020, BLOCK_SIZE, 2);
+        verify(this.repository, times(2)).reserve(2020, BLOCK_SIZE);
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(BLOCK_SIZE + 1, numberWithinTransaction, "Number within the transaction different from expected"),
+            () -> assertEquals(BLOCK_SIZE + 2, this.allocator.next(2020), "Next number different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#release} method with a rolled back transaction, the blocks being opened again.
+     */
+    @Test
+    @DisplayName("Release (rolled back transaction)")
+    void testReleaseWithRolledBackTransaction() {
+        // Prepares the inputs
+        this.allocator.next(2020);
+        this.allocator.next(2020);
+
+        // Calls the method
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.allocator.release();
+        } finally {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(3, this.allocator.next(2020), "Next number different from expected"),
+            () -> verify(this.repository).reserve(2020, BLOCK_SIZE)
+        );
+    }
+
+    /**
+     * Tests the {@link InterventionNumberAllocator#shutdown} method, the unused numbers of each block being given back.
+     */
+    @Test
+    @DisplayName("Shutdown")
+    void testShutdown() {
+        // Prepares the inputs
+        this.allocator.next(2020);
+        this.allocator.next(2020);
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            this.allocator.next(2021);
+        }
+
+        // Calls the method
+        this.allocator.shutdown();
+        this.allocator.shutdown();
+
+        // Checks the mocks calls
+        verify(this.writeQueue).submit(any(Runnable.class));
+        verify(this.repository).release(2020, BLOCK_SIZE, 2);
+        verify(this.repository, never()).release(eq(2021), anyInt(), anyInt());
+
+        // Checks the result
+        assertAll(
+            () -> assertEquals(BLOCK_SIZE + 1, this.allocator.next(2020), "Next number different from expected"),
+            () -> verify(this.repository, times(2)).reserve(2020, BLOCK_SIZE)
+        );
+    }
+
+    /**
+     * Completes the current transaction, running its synchronizations.
+     *
+     * @param status
+     *     The completion status of the transaction
+     */
+    private static void complete(final int status) {
+        try {
+            final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link LatencyHistogram} class.
+ */
+@DisplayName("Latency histogram")
+class LatencyHistogramTest {
+
+    /**
+     * Tests the {@link LatencyHistogram#toIndex} and {@link LatencyHistogram#toHighestValue} methods.
+     */
+    @Test
+    @DisplayName("To index and highest value")
+    void testToIndexAndHighestValue() {
+        // Checks the buckets of growing durations, up to the last one
+        int previousIndex = 0;
+        for (long value = 1L; value < 1L << 41; value = value * 3 / 2 + 1) {
+            final int index = LatencyHistogram.toIndex(value);
+            final long highestValue = LatencyHistogram.toHighestValue(index);
+            final long checkedValue = Math.min(value, (1L << 40) - 1);
+
+            assertTrue(index >= previousIndex, "Index decreasing at " + value);
+            assertTrue(highestValue >= checkedValue, "Highest value below the duration at " + value);
+            assertTrue(highestValue - checkedValue <= checkedValue / 64, "Highest value too far from the duration at " + value);
+            previousIndex = index;
+        }
+
+        assertAll(
+            () -> assertEquals(0, LatencyHistogram.toIndex(-1L), "Index of a negative duration different from expected"),
+            () -> assertEquals(127, LatencyHistogram.toIndex(127L), "Index of an exact duration different from expected"),
+            () -> assertEquals(128, LatencyHistogram.toIndex(129L), "Index of the first rounded duration different from expected"),
+            () -> assertEquals(129L, LatencyHistogram.toHighestValue(128), "Highest value different from expected"),
+            () -> assertEquals(LatencyHistogram.toIndex(Long.MAX_VALUE), LatencyHistogram.toIndex((1L << 40) - 1), "Last index different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link LatencyHistogram#getValuesAtPercentiles} method.
+     */
+    @Test
+    @DisplayName("Get values at percentiles")
+    void testGetValuesAtPercentiles() {
+        // Prepares the histogram
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LatencyHistogram emptyHistogram = new LatencyHistogram();
+        for (long value = 1L; value <= 100L; value++) {
+            histogram.record(value * 1_000L);
+        }
+
+        // Calls the method
+        final long[] result = histogram.getValuesAtPercentiles(50, 90, 99, 100);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(50_000L, result[0], 50_000L / 64, "Median different from expected"),
+            () -> assertEquals(90_000L, result[1], 90_000L / 64, "90th percentile different from expected"),
+            () -> assertEquals(99_000L, result[2], 99_000L / 64, "99th percentile different from expected"),
+            () -> assertEquals(100_000L, result[3], "Maximum different from expected"),
+            () -> assertEquals(100_000L, histogram.getMax(), "Maximum different from expected"),
+            () -> assertArrayEquals(new long[] {0L, 0L}, emptyHistogram.getValuesAtPercentiles(50, 99), "Empty percentiles different from expected")
+        );
+    }
+
+}
@@ -0,0 +1,59 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import fr.vulture.hostocars.dto.MethodStatistics;
+import java.lang.reflect.Method;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link MetricsRegistry} class.
+ */
+@DisplayName("Metrics registry")
+class MetricsRegistryTest {
+
+    /**
+     * Tests the {@link MetricsRegistry#getRecorder} and {@link MetricsRegistry#getStatistics} methods.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Record calls")
+    void testRecordCalls() {
+        // Prepares the inputs
+        final MetricsRegistry registry = new MetricsRegistry();
+        final Method startMethod = MetricsRegistry.Recorder.class.getMethod("start");
+        final Method stopMethod = MetricsRegistry.Recorder.class.getMethod("stop", long.class, boolean.class);
+
+        // Records calls
+        final MetricsRegistry.Recorder recorder = registry.getRecorder(stopMethod);
+        final long duration = recorder.stop(recorder.start(), false);
+        recorder.stop(recorder.start(), true);
+        registry.getRecorder(startMethod).start();
+
+        // Calls the method
+        final List<MethodStatistics> result = registry.getStatistics();
+
+        // Checks the results
+        final MethodStatistics startStatistics = result.get(0);
+        final MethodStatistics stopStatistics = result.get(1);
+        assertAll(
+            () -> assertSame(recorder, registry.getRecorder(stopMethod), "Recorder different from expected"),
+            () -> assertEquals(2, result.size(), "Number of statistics different from expected"),
+            () -> assertEquals(new MethodStatistics("Recorder.start", 0L, 0L, 1L, 0L, 0L, 0L, 0L, 0L), startStatistics, "Statistics different from expected"),
+            () -> assertEquals("Recorder.stop", stopStatistics.getMethod(), "Method different from expected"),
+            () -> assertEquals(2L, stopStatistics.getCallCount(), "Call count different from expected"),
+            () -> assertEquals(1L, stopStatistics.getErrorCount(), "Error count different from expected"),
+            () -> assertEquals(0L, stopStatistics.getInFlightCount(), "In flight count different from expected"),
+            () -> assertTrue(stopStatistics.getTotalTime() >= duration, "Total time below the first duration"),
+            () -> assertTrue(stopStatistics.getP50() <= stopStatistics.getP99(), "Median above the 99th percentile"),
+            () -> assertTrue(stopStatistics.getP99() <= stopStatistics.getMax(), "99th percentile above the maximum")
+        );
+    }
+
+}
@@ -0,0 +1,181 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.repository.CarRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Benchmark of the build of the {@link RegistrationIndex} and of the latencies of its lookups, over generated registrations and serial numbers.
+ * <br/>
+ * <br/>
+ * The generation is seeded, so the measured inputs are the same from one run to the other.
+ * <br/>
+ * <br/>
+ * Its name does not match the default test patterns, so it is only run on demand: {@code mvn test -Dtest=RegistrationIndexBenchmark}.
+ */
+@Slf4j
+@DisplayName("Registration index benchmark")
+class RegistrationIndexBenchmark {
+
+    private static final int CAR_COUNT = 100_000;
+    private static final int BUILD_COUNT = 5;
+    private static final int LOOKUP_COUNT = 10_000;
+    private static final int LIMIT = 10;
+    private static final String LETTERS = "ABCDEFGHJKLMNPQRSTVWXYZ";
+    private static final String ALPHANUMERICS = LETTERS + "0123456789";
+
+    /**
+     * Measures the durations of the builds of the index, then the latencies of lookups of a kind, the inputs being drawn from the indexed values.
+     *
+     * @param lookup
+     *     The {@link Lookup} to measure
+     */
+    @ParameterizedTest
+    @EnumSource(Lookup.class)
+    @DisplayName("Build and find")
+    void benchmark(final Lookup lookup) {
+        final Random random = new Random(CAR_COUNT);
+        final List<CarSuggestion> suggestions = new ArrayList<>(CAR_COUNT);
+        for (int id = 1; id <= CAR_COUNT; id++) {
+            suggestions.add(new CarSuggestion(id, generateRegistration(random), generateSerialNumber(random)));
+        }
+
+        final CarRepository carRepository = mock(CarRepository.class);
+        when(carRepository.findAllSuggestions()).thenReturn(suggestions);
+        final RegistrationIndex registrationIndex = new RegistrationIndex(carRepository);
+
+        final long[] buildDurations = new long[BUILD_COUNT];
+        for (int i = 0; i < BUILD_COUNT; i++) {
+            final long start = System.nanoTime();
+            registrationIndex.build();
+            buildDurations[i] = System.nanoTime() - start;
+        }
+
+        final String[] inputs = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            final CarSuggestion suggestion = suggestions.get(random.nextInt(CAR_COUNT));
+            inputs[i] = lookup.draw(random.nextBoolean() ? suggestion.getRegistration() : suggestion.getSerialNumber(), random);
+        }
+
+        // The first pass warms the lookups up, the second one is measured
+        final long[] lookupDurations = new long[LOOKUP_COUNT];
+        int emptyCount = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            emptyCount = 0;
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                final long start = System.nanoTime();
+                if (registrationIndex.find(inputs[i], LIMIT).isEmpty()) {
+                    emptyCount++;
+                }
+
+                lookupDurations[i] = System.nanoTime() - start;
+            }
+        }
+
+        Arrays.sort(buildDurations);
+        Arrays.sort(lookupDurations);
+        log.info("{} cars: build median {} ms; {} lookups: p50 {} µs, p99 {} µs, max {} µs", CAR_COUNT, buildDurations[BUILD_COUNT / 2] / 1_000_000,
+            lookup.name().toLowerCase(), lookupDurations[LOOKUP_COUNT / 2] / 1_000, lookupDurations[LOOKUP_COUNT * 99 / 100] / 1_000,
+            lookupDurations[LOOKUP_COUNT - 1] / 1_000);
+        assertEquals(0, emptyCount, "Number of lookups of indexed values without suggestion different from expected");
+    }
+
+    /**
+     * Generates a registration in the current French format, such as {@code AB-123-CD}.
+     *
+     * @param random
+     *     The random generator
+     *
+     * @return the registration
+     */
+    private static String generateRegistration(final Random random) {
+        return String.format("%s-%03d-%s", draw(LETTERS, 2, random), random.nextInt(1000), draw(LETTERS, 2, random));
+    }
+
+    /**
+     * Generates a serial number shaped like a vehicle identification number, being a manufacturer code followed by 15 letters and digits.
+     *
+     * @param random
+     *     The random generator
+     *
+     * @return the serial number
+     */
+    private static String generateSerialNumber(final Random random) {
+        return "VF" + draw(ALPHANUMERICS, 15, random);
+    }
+
+    /**
+     * Draws random characters of an alphabet.
+     *
+     * @param alphabet
+     *     The alphabet
+     * @param length
+     *     The number of characters
+     * @param random
+     *     The random generator
+     *
+     * @return the drawn characters
+     */
+    private static String draw(final String alphabet, final int length, final Random random) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Kind of lookup of the index.
+     */
+    enum Lookup {
+
+        /**
+         * The first 2 to 5 characters of a value, as typed.
+         */
+        PREFIX {
+            @Override
+            String draw(final String value, final Random random) {
+                return value.substring(0, 2 + random.nextInt(4));
+            }
+        },
+
+        /**
+         * 3 or 4 letters and digits taken after the start of a value, such as the digits of a registration.
+         */
+        INFIX {
+            @Override
+            String draw(final String value, final Random random) {
+                final String normalizedValue = RegistrationIndex.normalize(value);
+                final int length = 3 + random.nextInt(2);
+                final int start = 1 + random.nextInt(normalizedValue.length() - length);
+                return normalizedValue.substring(start, start + length);
+            }
+        };
+
+        /**
+         * Draws an input of this kind from an indexed value.
+         *
+         * @param value
+         *     The indexed registration or serial number
+         * @param random
+         *     The random generator
+         *
+         * @return the input
+         */
+        abstract String draw(String value, Random random);
+
+    }
+
+}
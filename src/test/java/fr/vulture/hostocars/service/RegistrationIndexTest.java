@@ -0,0 +1,188 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import fr.vulture.hostocars.dto.CarSuggestion;
+import fr.vulture.hostocars.repository.CarRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link RegistrationIndex} class.
+ */
+@DisplayName("Registration index")
+@ExtendWith(MockitoExtension.class)
+class RegistrationIndexTest {
+
+    private static final int PLATE_COUNT = 100_000;
+
+    @Mock
+    private CarRepository carRepository;
+
+    @InjectMocks
+    private RegistrationIndex registrationIndex;
+
+    /**
+     * Tests the {@link RegistrationIndex#normalize} method.
+     */
+    @Test
+    @DisplayName("Normalize")
+    void testNormalize() {
+        assertAll(
+            () -> assertEquals("AB123CD", RegistrationIndex.normalize(" ab-123 cd "), "Result different from expected"),
+            () -> assertEquals("EE42", RegistrationIndex.normalize("éè_42"), "Result different from expected"),
+            () -> assertEquals("", RegistrationIndex.normalize(null), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link RegistrationIndex#find} method.
+     */
+    @Test
+    @DisplayName("Find")
+    void testFind() {
+        // Mocks the calls
+        when(this.carRepository.findAllSuggestions()).thenReturn(List.of(
+            new CarSuggestion(1, "AB-123-CD", "VF1AB000123456789"),
+            new CarSuggestion(2, "AB-456-EF", null),
+            new CarSuggestion(3, "XY-123-AB", null),
+            new CarSuggestion(4, null, "VF3XY000999999999")));
+
+        // Calls the methods
+        this.registrationIndex.build();
+        final List<Integer> prefixResult = findIds("ab", 10);
+        final List<Integer> infixResult = findIds("123", 10);
+        final List<Integer> mixedResult = findIds("123ab", 10);
+        final List<Integer> serialNumberResult = findIds("vf", 10);
+        final List<Integer> limitedResult = findIds("ab", 1);
+        final List<Integer> shortInfixResult = findIds("23", 10);
+        final List<Integer> emptyResult = findIds(" - ", 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(1, 2), prefixResult, "Prefix result different from expected"),
+            () -> assertEquals(List.of(1, 3), infixResult, "Infix result different from expected"),
+            () -> assertEquals(List.of(3), mixedResult, "Mixed result different from expected"),
+            () -> assertEquals(List.of(1, 4), serialNumberResult, "Serial number result different from expected"),
+            () -> assertEquals(List.of(1), limitedResult, "Limited result different from expected"),
+            () -> assertTrue(shortInfixResult.isEmpty(), "Short infix result unexpectedly not empty"),
+            () -> assertTrue(emptyResult.isEmpty(), "Empty result unexpectedly not empty")
+        );
+    }
+
+    /**
+     * Tests the {@link RegistrationIndex#put} and {@link RegistrationIndex#remove} methods.
+     */
+    @Test
+    @DisplayName("Put and remove")
+    void testPutAndRemove() {
+        // Mocks the calls
+        when(this.carRepository.findAllSuggestions()).thenReturn(List.of(new CarSuggestion(1, "AB-123-CD", null)));
+
+        // Calls the methods
+        this.registrationIndex.build();
+        this.registrationIndex.put(new CarSuggestion(1, "GH-789-IJ", null));
+        this.registrationIndex.put(new CarSuggestion(2, "AB-456-EF", null));
+        final List<Integer> updatedResult = findIds("ab", 10);
+        final List<Integer> renamedResult = findIds("789", 10);
+
+        this.registrationIndex.remove(2);
+        final List<Integer> removedResult = findIds("ab", 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(2), updatedResult, "Updated result different from expected"),
+            () -> assertEquals(List.of(1), renamedResult, "Renamed result different from expected"),
+            () -> assertTrue(removedResult.isEmpty(), "Removed result unexpectedly not empty")
+        );
+    }
+
+    /**
+     * Tests the {@link RegistrationIndex#put} method within a transaction, which is only applied once the transaction is committed.
+     */
+    @Test
+    @DisplayName("Put (within a transaction)")
+    void testPutWithinTransaction() {
+        // Mocks the calls
+        when(this.carRepository.findAllSuggestions()).thenReturn(new ArrayList<>());
+
+        // Calls the methods
+        this.registrationIndex.build();
+
+        final List<Integer> uncommittedResult;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.registrationIndex.put(new CarSuggestion(1, "AB-123-CD", null));
+            uncommittedResult = findIds("ab", 10);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final List<Integer> committedResult = findIds("ab", 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(uncommittedResult.isEmpty(), "Uncommitted result unexpectedly not empty"),
+            () -> assertEquals(List.of(1), committedResult, "Committed result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link RegistrationIndex#find} method with a hundred thousand plates.
+     */
+    @Test
+    @DisplayName("Find (hundred thousand plates)")
+    void testFindHundredThousandPlates() {
+        // Prepares the intermediary results
+        final List<CarSuggestion> suggestions = new ArrayList<>();
+        for (int id = 0; id < PLATE_COUNT; id++) {
+            suggestions.add(new CarSuggestion(id, String.format("%c%c-%03d-%c%c", 'A' + id % 26, 'A' + id / 26 % 26, id / 676 % 1000, 'A' + id / 13 % 26, 'A' + id / 7 % 26),
+                null));
+        }
+
+        // Mocks the calls
+        when(this.carRepository.findAllSuggestions()).thenReturn(suggestions);
+
+        // Calls the methods
+        this.registrationIndex.build();
+        final List<CarSuggestion> prefixResult = this.registrationIndex.find("kc-1", 10);
+        final List<CarSuggestion> infixResult = this.registrationIndex.find("147-", 10);
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(10, prefixResult.size(), "Number of prefix results different from expected"),
+            () -> assertTrue(prefixResult.stream().allMatch(suggestion -> suggestion.getRegistration().startsWith("KC-1")), "Prefix result different from expected"),
+            () -> assertEquals(10, infixResult.size(), "Number of infix results different from expected"),
+            () -> assertTrue(infixResult.stream().allMatch(suggestion -> suggestion.getRegistration().contains("-147-")), "Infix result different from expected")
+        );
+    }
+
+    /**
+     * Finds the IDs of the cars matching an input.
+     *
+     * @param input
+     *     The partial registration or serial number
+     * @param limit
+     *     The maximum number of suggestions
+     *
+     * @return the list of car IDs
+     */
+    private List<Integer> findIds(final String input, final int limit) {
+        return this.registrationIndex.find(input, limit).stream().map(CarSuggestion::getId).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,116 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import fr.vulture.hostocars.dto.CoalescingStatistics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link RequestCoalescer} class.
+ */
+@DisplayName("Request coalescer")
+class RequestCoalescerTest {
+
+    private static final int CALL_COUNT = 8;
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    /**
+     * Tests the {@link RequestCoalescer#execute} method with identical concurrent calls.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Execute (identical concurrent calls)")
+    void testExecuteWithConcurrentCalls() {
+        // Prepares the intermediary results
+        final Object sharedResult = new Object();
+        final AtomicInteger executionCount = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CALL_COUNT);
+
+        // Calls the method, the first call being held until all the others are waiting for it
+        final List<Future<Object>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> this.requestCoalescer.execute("/cars", () -> {
+                executionCount.incrementAndGet();
+                release.await();
+                return sharedResult;
+            })));
+
+            while (this.requestCoalescer.getStatistics().getInFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            for (int i = 1; i < CALL_COUNT; i++) {
+                results.add(executor.submit(() -> this.requestCoalescer.execute("/cars", Object::new)));
+            }
+
+            while (this.requestCoalescer.getStatistics().getCoalescedCount() < CALL_COUNT - 1) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+            for (final Future<Object> result : results) {
+                assertSame(sharedResult, result.get(10, TimeUnit.SECONDS), "Result different from expected");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(1, executionCount.get(), "Number of executions different from expected"),
+            () -> assertEquals(new CoalescingStatistics(1L, (long) CALL_COUNT - 1, 0), this.requestCoalescer.getStatistics(),
+                "Statistics different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link RequestCoalescer#execute} method with successive calls.
+     */
+    @Test
+    @DisplayName("Execute (successive calls)")
+    void testExecuteWithSuccessiveCalls() {
+        // Calls the methods
+        final Object firstResult = this.requestCoalescer.execute("/cars", Object::new);
+        final Object secondResult = this.requestCoalescer.execute("/cars", Object::new);
+
+        // Checks the results
+        assertAll(
+            () -> assertNotSame(firstResult, secondResult, "Results unexpectedly shared"),
+            () -> assertEquals(new CoalescingStatistics(2L, 0L, 0), this.requestCoalescer.getStatistics(), "Statistics different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link RequestCoalescer#execute} method in error.
+     */
+    @Test
+    @DisplayName("Execute (error case)")
+    void testExecuteInError() {
+        // Calls the method
+        assertThrows(ResponseStatusException.class, () -> this.requestCoalescer.execute("/cars", () -> {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }), "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(0, this.requestCoalescer.getStatistics().getInFlightCount(), "Number of calls in flight different from expected");
+    }
+
+}
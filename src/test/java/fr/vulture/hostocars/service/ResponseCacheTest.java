@@ -0,0 +1,139 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.vulture.hostocars.dto.CacheStatistics;
+import fr.vulture.hostocars.service.ResponseCache.CachedResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link ResponseCache} class.
+ */
+@DisplayName("Response cache")
+class ResponseCacheTest {
+
+    private final ResponseCache responseCache = new ResponseCache(2, new ObjectMapper());
+
+    /**
+     * Tests the {@link ResponseCache#toKey} method.
+     */
+    @Test
+    @DisplayName("To key")
+    void testToKey() {
+        // Prepares the inputs
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars");
+        final MockHttpServletRequest requestWithQuery = new MockHttpServletRequest("GET", "/cars");
+        requestWithQuery.setQueryString("sort=brand&expand=none");
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals("/cars", ResponseCache.toKey(request), "Result different from expected"),
+            () -> assertEquals("/cars?sort=brand&expand=none", ResponseCache.toKey(requestWithQuery), "Result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link ResponseCache#put} and {@link ResponseCache#find} methods.
+     */
+    @Test
+    @DisplayName("Put and find")
+    void testPutAndFind() {
+        // Calls the methods
+        final CachedResponse response = this.responseCache.put("/cars", this.responseCache.getStamp(), List.of("first"));
+        final CachedResponse otherResponse = this.responseCache.put("/cars?sort=brand", this.responseCache.getStamp(), List.of("second"));
+        final Optional<CachedResponse> result = this.responseCache.find("/cars");
+        final Optional<CachedResponse> unknownResult = this.responseCache.find("/cars/summaries");
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals("[\"first\"]", new String(response.getContent(), StandardCharsets.UTF_8), "Content different from expected"),
+            () -> assertTrue(response.getETag().matches("\"[0-9a-f]{32}\""), "ETag different from expected"),
+            () -> assertTrue(!response.getETag().equals(otherResponse.getETag()), "ETags unexpectedly equal"),
+            () -> assertSame(response, result.orElseThrow(), "Result different from expected"),
+            () -> assertTrue(unknownResult.isEmpty(), "Unknown result unexpectedly not empty"),
+            () -> assertEquals(new CacheStatistics("responses", 2, 2, 1L, 2L, 0L, 0L), this.responseCache.getStatistics(), "Statistics different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link ResponseCache#put} method beyond the maximum size.
+     */
+    @Test
+    @DisplayName("Put (beyond the maximum size)")
+    void testPutBeyondMaxSize() {
+        // Calls the methods
+        this.responseCache.put("/first", 0, List.of());
+        this.responseCache.put("/second", 0, List.of());
+        this.responseCache.find("/first");
+        this.responseCache.put("/third", 0, List.of());
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(this.responseCache.find("/first").isPresent(), "Recent result unexpectedly empty"),
+            () -> assertTrue(this.responseCache.find("/second").isEmpty(), "Evicted result unexpectedly not empty"),
+            () -> assertEquals(1L, this.responseCache.getStatistics().getEvictionCount(), "Number of evictions different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link ResponseCache#put} method with an outdated stamp.
+     */
+    @Test
+    @DisplayName("Put (with an outdated stamp)")
+    void testPutWithOutdatedStamp() {
+        // Prepares the inputs
+        final long stamp = this.responseCache.getStamp();
+
+        // Calls the methods
+        this.responseCache.invalidateAll();
+        this.responseCache.put("/cars", stamp, List.of("first"));
+
+        // Checks the result
+        assertTrue(this.responseCache.find("/cars").isEmpty(), "Result unexpectedly not empty");
+    }
+
+    /**
+     * Tests the {@link ResponseCache#invalidateAll} method within a transaction, a concurrent reader caching a response before the transaction is completed.
+     */
+    @Test
+    @DisplayName("Invalidate all (within a transaction)")
+    void testInvalidateAllWithinTransaction() {
+        // Prepares the inputs
+        this.responseCache.put("/cars", this.responseCache.getStamp(), List.of("first"));
+
+        // Calls the methods
+        final boolean invalidated;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            this.responseCache.invalidateAll();
+            invalidated = this.responseCache.find("/cars").isEmpty();
+
+            // A reader outside the transaction caches the response before the commit
+            this.responseCache.put("/cars", this.responseCache.getStamp(), List.of("first"));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Checks the results
+        assertAll(
+            () -> assertTrue(invalidated, "Response unexpectedly not invalidated at once"),
+            () -> assertTrue(this.responseCache.find("/cars").isEmpty(), "Response unexpectedly not invalidated after the transaction"),
+            () -> assertEquals(2L, this.responseCache.getStatistics().getInvalidationCount(), "Number of invalidations different from expected")
+        );
+    }
+
+}
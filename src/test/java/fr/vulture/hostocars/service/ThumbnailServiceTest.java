@@ -0,0 +1,173 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link ThumbnailService} class.
+ */
+@DisplayName("Thumbnail service")
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path folder;
+
+    private BlobStore blobStore;
+
+    private ThumbnailService thumbnailService;
+
+    /**
+     * Initialization method called before all tests.
+     */
+    @BeforeEach
+    void initialize() {
+        this.blobStore = new BlobStore(this.folder.resolve("blobs").toString());
+        this.thumbnailService = new ThumbnailService(this.blobStore, this.folder.resolve("thumbnails").toString(), new int[] {16, 64}, 1, 1);
+    }
+
+    /**
+     * Finalization method called after all tests.
+     */
+    @AfterEach
+    void finalizeTest() {
+        this.thumbnailService.shutdown();
+    }
+
+    /**
+     * Tests the {@link ThumbnailService#find} method.
+     */
+    @Test
+    @DisplayName("Find")
+    @SneakyThrows
+    void testFind() {
+        // Prepares the intermediary results
+        final String hash = this.blobStore.store(createPicture(200, 100));
+
+        // Calls the method
+        final Optional<Path> result = this.thumbnailService.find(hash, 64);
+
+        // Checks the result
+        assertTrue(result.isPresent(), "Result unexpectedly empty");
+        assertEquals(hash + "-64.jpg", result.get().getFileName().toString(), "Result file name different from expected");
+
+        final BufferedImage thumbnail = ImageIO.read(result.get().toFile());
+        assertNotNull(thumbnail, "Thumbnail unexpectedly unreadable");
+        assertEquals(64, thumbnail.getWidth(), "Thumbnail width different from expected");
+        assertEquals(32, thumbnail.getHeight(), "Thumbnail height different from expected");
+        assertTrue(Files.isRegularFile(this.folder.resolve("thumbnails").resolve(hash + "-16.jpg")), "Other thumbnail size unexpectedly not built");
+    }
+
+    /**
+     * Tests the {@link ThumbnailService#find} method with a picture which is not an image.
+     */
+    @Test
+    @DisplayName("Find (not an image)")
+    void testFindNotAnImage() {
+        // Prepares the intermediary results
+        final String hash = this.blobStore.store("not an image".getBytes(StandardCharsets.UTF_8));
+
+        // Calls the method
+        final Optional<Path> result = this.thumbnailService.find(hash, 64);
+
+        // Checks the result
+        assertEquals(this.blobStore.find(hash), result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link ThumbnailService#find} method with an unknown picture.
+     */
+    @Test
+    @DisplayName("Find (unknown picture)")
+    void testFindUnknownPicture() {
+        assertFalse(this.thumbnailService.find("unknown", 64).isPresent(), "Result unexpectedly present");
+    }
+
+    /**
+     * Tests the {@link ThumbnailService#find} method with an unsupported size.
+     */
+    @Test
+    @DisplayName("Find (unsupported size)")
+    void testFindUnsupportedSize() {
+        // Calls the method
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> this.thumbnailService.find("hash", 32),
+            "Expected exception not thrown");
+
+        // Checks the result
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus(), "Exception status different from expected");
+    }
+
+    /**
+     * Tests the {@link ThumbnailService#collectGarbage} method.
+     */
+    @Test
+    @DisplayName("Collect garbage")
+    void testCollectGarbage() {
+        // Prepares the intermediary results
+        final String referencedHash = this.blobStore.store(createPicture(10, 10));
+        final String unreferencedHash = this.blobStore.store(createPicture(20, 20));
+        final Path referencedThumbnail = this.thumbnailService.find(referencedHash, 16).orElseThrow(IllegalStateException::new);
+        final Path unreferencedThumbnail = this.thumbnailService.find(unreferencedHash, 16).orElseThrow(IllegalStateException::new);
+
+        // Calls the method
+        final int result = this.thumbnailService.collectGarbage(Collections.singleton(referencedHash), Long.MAX_VALUE);
+
+        // Checks the result
+        assertEquals(2, result, "Result different from expected");
+        assertTrue(Files.exists(referencedThumbnail), "Referenced thumbnail unexpectedly deleted");
+        assertFalse(Files.exists(unreferencedThumbnail), "Unreferenced thumbnail unexpectedly kept");
+    }
+
+    /**
+     * Tests the {@link ThumbnailService#scale} method.
+     */
+    @Test
+    @DisplayName("Scale")
+    void testScale() {
+        // Calls the method
+        final BufferedImage result = ThumbnailService.scale(new BufferedImage(1000, 10, BufferedImage.TYPE_INT_ARGB), 100);
+
+        // Checks the result
+        assertEquals(100, result.getWidth(), "Result width different from expected");
+        assertEquals(1, result.getHeight(), "Result height different from expected");
+        assertNotEquals(BufferedImage.TYPE_INT_ARGB, result.getType(), "Result type different from expected");
+    }
+
+    /**
+     * Creates a PNG picture.
+     *
+     * @param width
+     *     The picture width
+     * @param height
+     *     The picture height
+     *
+     * @return the picture content
+     */
+    @SneakyThrows
+    private static byte[] createPicture(final int width, final int height) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,96 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link TransactionCallbacks} class.
+ */
+@DisplayName("Transaction callbacks")
+class TransactionCallbacksTest {
+
+    /**
+     * Tests the {@link TransactionCallbacks} methods without transaction.
+     */
+    @Test
+    @DisplayName("Without transaction")
+    void testWithoutTransaction() {
+        // Prepares the inputs
+        final List<String> actions = new ArrayList<>();
+
+        // Calls the methods
+        TransactionCallbacks.afterCommit(() -> actions.add("commit"));
+        TransactionCallbacks.afterCompletion(() -> actions.add("completion"));
+        TransactionCallbacks.afterRollback(() -> actions.add("rollback"));
+
+        // Checks the result
+        assertEquals(List.of("commit"), actions, "Run actions different from expected");
+    }
+
+    /**
+     * Tests the {@link TransactionCallbacks} methods within a committed transaction.
+     */
+    @Test
+    @DisplayName("Committed transaction")
+    void testCommittedTransaction() {
+        // Prepares the inputs
+        final List<String> actions = new ArrayList<>();
+
+        // Calls the methods
+        final List<String> pendingActions;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionCallbacks.afterCommit(() -> actions.add("commit"));
+            TransactionCallbacks.afterCompletion(() -> actions.add("completion"));
+            TransactionCallbacks.afterRollback(() -> actions.add("rollback"));
+            pendingActions = List.copyOf(actions);
+
+            final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(List.of(), pendingActions, "Actions unexpectedly run before the end of the transaction"),
+            () -> assertEquals(List.of("commit", "completion"), actions, "Run actions different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link TransactionCallbacks} methods within a rolled back transaction.
+     */
+    @Test
+    @DisplayName("Rolled back transaction")
+    void testRolledBackTransaction() {
+        // Prepares the inputs
+        final List<String> actions = new ArrayList<>();
+
+        // Calls the methods
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionCallbacks.afterCommit(() -> actions.add("commit"));
+            TransactionCallbacks.afterCompletion(() -> actions.add("completion"));
+            TransactionCallbacks.afterRollback(() -> actions.add("rollback"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Checks the result
+        assertEquals(List.of("completion", "rollback"), actions, "Run actions different from expected");
+    }
+
+}
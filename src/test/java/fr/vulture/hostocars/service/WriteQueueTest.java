@@ -0,0 +1,207 @@
+package fr.vulture.hostocars.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link WriteQueue} class.
+ */
+@DisplayName("Write queue")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WriteQueueTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WriteQueue writeQueue;
+
+    /**
+     * Creates the queue, each transaction being a new one.
+     */
+    @BeforeEach
+    void setUp() {
+        when(this.transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        this.writeQueue = new WriteQueue(this.transactionManager, 8);
+    }
+
+    /**
+     * Stops the writer thread of the queue.
+     */
+    @AfterEach
+    void tearDown() {
+        this.writeQueue.shutdown();
+    }
+
+    /**
+     * Tests the {@link WriteQueue#submit} method with concurrent writes.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Submit (concurrent writes)")
+    void testSubmitWithConcurrentWrites() {
+        // Prepares the inputs
+        final List<Integer> writes = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Calls the method
+        final List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 20; i++) {
+                final int value = i;
+                results.add(executor.submit(() -> this.writeQueue.submit(() -> {
+                    writes.add(value);
+                    return value * 2;
+                })));
+            }
+
+            // Checks the results
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i * 2, results.get(i).get(), "Result different from expected");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(20, writes.size(), "Number of writes different from expected");
+    }
+
+    /**
+     * Tests the {@link WriteQueue#submit} method with a write without result.
+     */
+    @Test
+    @DisplayName("Submit (write without result)")
+    void testSubmitWithoutResult() {
+        // Prepares the inputs
+        final List<String> writes = new ArrayList<>();
+
+        // Calls the method
+        this.writeQueue.submit(() -> {
+            writes.add("write");
+        });
+
+        // Checks the mocks calls
+        verify(this.transactionManager).commit(any());
+
+        // Checks the result
+        assertEquals(List.of("write"), writes, "Writes different from expected");
+    }
+
+    /**
+     * Tests the {@link WriteQueue#submit} method with a failing write.
+     */
+    @Test
+    @DisplayName("Submit (failing write)")
+    void testSubmitWithFailingWrite() {
+        // Prepares the inputs
+        final IOException exception = new IOException("Failure");
+
+        // Calls the method
+        final IOException result = assertThrows(IOException.class, () -> this.writeQueue.submit(() -> {
+            throw exception;
+        }), "Expected exception not thrown");
+
+        // Checks the mocks calls
+        verify(this.transactionManager).rollback(any());
+
+        // Checks the result
+        assertSame(exception, result, "Result different from expected");
+    }
+
+    /**
+     * Tests the {@link WriteQueue#submit} method from within a transaction.
+     */
+    @Test
+    @DisplayName("Submit (within a transaction)")
+    void testSubmitWithinTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(IllegalStateException.class, () -> this.writeQueue.submit(() -> 0), "Expected exception not thrown");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    /**
+     * Tests the {@link WriteQueue#executeBatch} method with writes all succeeding.
+     */
+    @Test
+    @SneakyThrows
+    @DisplayName("Execute batch")
+    void testExecuteBatch() {
+        // Prepares the inputs
+        final WriteQueue.Write<Integer> first = new WriteQueue.Write<>(() -> 1);
+        final WriteQueue.Write<Integer> second = new WriteQueue.Write<>(() -> 2);
+
+        // Calls the method
+        this.writeQueue.executeBatch(List.of(first, second));
+
+        // Checks the mocks calls
+        verify(this.transactionManager, times(1)).getTransaction(any());
+        verify(this.transactionManager, times(1)).commit(any());
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(1, first.getResult().get(), "First result different from expected"),
+            () -> assertEquals(2, second.getResult().get(), "Second result different from expected")
+        );
+    }
+
+    /**
+     * Tests the {@link WriteQueue#executeBatch} method with a failing write, the other writes being executed again one by one.
+     */
+    @Test
+    @DisplayName("Execute batch (failing write)")
+    void testExecuteBatchWithFailingWrite() {
+        // Prepares the inputs
+        final IllegalArgumentException exception = new IllegalArgumentException("Failure");
+        final WriteQueue.Write<Integer> first = new WriteQueue.Write<>(() -> 1);
+        final WriteQueue.Write<Integer> failing = new WriteQueue.Write<>(() -> {
+            throw exception;
+        });
+        final WriteQueue.Write<Integer> third = new WriteQueue.Write<>(() -> 3);
+
+        // Calls the method
+        this.writeQueue.executeBatch(List.of(first, failing, third));
+
+        // Checks the mocks calls
+        verify(this.transactionManager, times(4)).getTransaction(any());
+        verify(this.transactionManager, times(2)).rollback(any());
+        verify(this.transactionManager, times(2)).commit(any());
+
+        // Checks the results
+        assertAll(
+            () -> assertEquals(1, first.getResult().get(), "First result different from expected"),
+            () -> assertSame(exception, assertThrows(Exception.class, () -> failing.getResult().join(), "Expected exception not thrown").getCause(), "Failure different from expected"),
+            () -> assertEquals(3, third.getResult().get(), "Third result different from expected")
+        );
+    }
+
+}